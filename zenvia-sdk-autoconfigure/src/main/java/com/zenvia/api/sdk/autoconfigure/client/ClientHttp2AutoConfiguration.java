@@ -0,0 +1,58 @@
+package com.zenvia.api.sdk.autoconfigure.client;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zenvia.api.sdk.JsonCodec;
+import com.zenvia.api.sdk.client.metrics.ClientMetrics;
+import com.zenvia.api.sdk.client.http2.Client;
+
+@Configuration
+@ConditionalOnClass(Client.class)
+@ConditionalOnProperty(value = "zenvia.api.sdk.client.transport", havingValue = "http2")
+@EnableConfigurationProperties(ClientProperties.class)
+public class ClientHttp2AutoConfiguration {
+
+	private final ClientProperties clientProperties;
+
+	public ClientHttp2AutoConfiguration(ClientProperties clientProperties) {
+		this.clientProperties = clientProperties;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty("zenvia.api.sdk.client.apiToken")
+	public Client createClient(ObjectProvider<ClientMetrics> clientMetrics) {
+		Client client = new Client(
+			this.clientProperties.getApiToken(),
+			this.clientProperties.getApiUrl(),
+			this.clientProperties.getMaxConnections(),
+			this.clientProperties.getConnectionTimeout(),
+			this.clientProperties.getSocketTimeout(),
+			this.clientProperties.getConnectionPoolTimeout()
+		);
+		client.setRateLimiter(this.clientProperties.getRateLimit().toRateLimiter());
+		client.setRetryPolicy(this.clientProperties.getRetry().toRetryPolicy());
+		client.setCircuitBreakerConfig(this.clientProperties.getCircuitBreaker().toCircuitBreakerConfig());
+		client.setSubscriptionCache(this.clientProperties.getSubscriptionCache().toSubscriptionCache());
+		client.setMetrics(clientMetrics.getIfAvailable());
+		client.setThreadMode(this.clientProperties.getThreadMode());
+		if (this.clientProperties.isJsonWarmUp()) {
+			JsonCodec.shared().warmUp();
+		}
+		return client;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty({"zenvia.api.sdk.client.apiToken", "zenvia.api.sdk.client.warmUp.enabled"})
+	public ClientWarmUp createClientWarmUp(Client client) {
+		return new ClientWarmUp(client, this.clientProperties.getWarmUp().getConnections());
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.zenvia.api.sdk.autoconfigure.client;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.zenvia.api.sdk.client.metrics.ClientMetrics;
+import com.zenvia.api.sdk.client.metrics.MicrometerClientMetrics;
+
+@Configuration
+@ConditionalOnClass({ MeterRegistry.class, MicrometerClientMetrics.class })
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(value = "zenvia.api.sdk.client.metrics.enabled", matchIfMissing = true)
+@AutoConfigureAfter(name = {
+	"org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+	"org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+})
+public class ClientMetricsAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public ClientMetrics createClientMetrics(MeterRegistry meterRegistry) {
+		return new MicrometerClientMetrics(meterRegistry);
+	}
+
+}
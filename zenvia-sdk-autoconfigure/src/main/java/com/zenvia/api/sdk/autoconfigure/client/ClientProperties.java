@@ -1,7 +1,20 @@
 package com.zenvia.api.sdk.autoconfigure.client;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import com.zenvia.api.sdk.ThreadMode;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.circuitbreaker.CircuitBreakerConfig;
+import com.zenvia.api.sdk.client.ratelimit.RateLimit;
+import com.zenvia.api.sdk.client.ratelimit.RateLimitMode;
+import com.zenvia.api.sdk.client.ratelimit.RateLimiter;
+import com.zenvia.api.sdk.client.retry.ExponentialBackoffRetryPolicy;
+import com.zenvia.api.sdk.client.retry.RetryPolicy;
+import com.zenvia.api.sdk.client.subscriptions.SubscriptionCache;
+
 @ConfigurationProperties(prefix = "zenvia.api.sdk.client")
 public class ClientProperties {
 
@@ -13,6 +26,15 @@ public class ClientProperties {
 	private Integer maxConnectionRetries;
 	private Integer connectionPoolTimeout;
 	private Integer inactivityTimeBeforeStaleCheck;
+	private boolean chunkedRequests;
+	private boolean jsonWarmUp;
+	private ThreadMode threadMode;
+	private ClientTransport transport;
+	private final RateLimitProperties rateLimit = new RateLimitProperties();
+	private final RetryProperties retry = new RetryProperties();
+	private final CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+	private final SubscriptionCacheProperties subscriptionCache = new SubscriptionCacheProperties();
+	private final WarmUpProperties warmUp = new WarmUpProperties();
 
 	public String getApiToken() {
 		return apiToken;
@@ -78,4 +100,318 @@ public class ClientProperties {
 		this.inactivityTimeBeforeStaleCheck = inactivityTimeBeforeStaleCheck;
 	}
 
+	public boolean isChunkedRequests() {
+		return chunkedRequests;
+	}
+
+	public void setChunkedRequests(boolean chunkedRequests) {
+		this.chunkedRequests = chunkedRequests;
+	}
+
+	public boolean isJsonWarmUp() {
+		return jsonWarmUp;
+	}
+
+	public void setJsonWarmUp(boolean jsonWarmUp) {
+		this.jsonWarmUp = jsonWarmUp;
+	}
+
+	public ThreadMode getThreadMode() {
+		return threadMode;
+	}
+
+	public void setThreadMode(ThreadMode threadMode) {
+		this.threadMode = threadMode;
+	}
+
+	public ClientTransport getTransport() {
+		return transport;
+	}
+
+	public void setTransport(ClientTransport transport) {
+		this.transport = transport;
+	}
+
+	public RateLimitProperties getRateLimit() {
+		return rateLimit;
+	}
+
+	public RetryProperties getRetry() {
+		return retry;
+	}
+
+	public CircuitBreakerProperties getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	public SubscriptionCacheProperties getSubscriptionCache() {
+		return subscriptionCache;
+	}
+
+	public WarmUpProperties getWarmUp() {
+		return warmUp;
+	}
+
+	public static class RateLimitProperties {
+
+		private RateLimitMode mode;
+		private Long maxWait;
+		private Map<ChannelType, LimitProperties> channels = new EnumMap<>(ChannelType.class);
+		private Map<ChannelType, LimitProperties> senders = new EnumMap<>(ChannelType.class);
+
+		public RateLimitMode getMode() {
+			return mode;
+		}
+
+		public void setMode(RateLimitMode mode) {
+			this.mode = mode;
+		}
+
+		public Long getMaxWait() {
+			return maxWait;
+		}
+
+		public void setMaxWait(Long maxWait) {
+			this.maxWait = maxWait;
+		}
+
+		public Map<ChannelType, LimitProperties> getChannels() {
+			return channels;
+		}
+
+		public void setChannels(Map<ChannelType, LimitProperties> channels) {
+			this.channels = channels;
+		}
+
+		public Map<ChannelType, LimitProperties> getSenders() {
+			return senders;
+		}
+
+		public void setSenders(Map<ChannelType, LimitProperties> senders) {
+			this.senders = senders;
+		}
+
+		public RateLimiter toRateLimiter() {
+			if (channels.isEmpty() && senders.isEmpty()) {
+				return null;
+			}
+			return new RateLimiter(mode, maxWait, toRateLimits(channels), toRateLimits(senders));
+		}
+
+		private static Map<ChannelType, RateLimit> toRateLimits(Map<ChannelType, LimitProperties> limits) {
+			Map<ChannelType, RateLimit> rateLimits = new EnumMap<>(ChannelType.class);
+			limits.forEach((channel, limit) -> rateLimits.put(channel, new RateLimit(limit.getPermitsPerSecond(), limit.getBurst())));
+			return rateLimits;
+		}
+
+	}
+
+	public static class RetryProperties {
+
+		private boolean enabled;
+		private Integer maxRetries;
+		private Long baseDelay;
+		private Long maxDelay;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Integer getMaxRetries() {
+			return maxRetries;
+		}
+
+		public void setMaxRetries(Integer maxRetries) {
+			this.maxRetries = maxRetries;
+		}
+
+		public Long getBaseDelay() {
+			return baseDelay;
+		}
+
+		public void setBaseDelay(Long baseDelay) {
+			this.baseDelay = baseDelay;
+		}
+
+		public Long getMaxDelay() {
+			return maxDelay;
+		}
+
+		public void setMaxDelay(Long maxDelay) {
+			this.maxDelay = maxDelay;
+		}
+
+		public RetryPolicy toRetryPolicy() {
+			if (!enabled) {
+				return null;
+			}
+			return new ExponentialBackoffRetryPolicy(maxRetries, baseDelay, maxDelay);
+		}
+
+	}
+
+	public static class CircuitBreakerProperties {
+
+		private boolean enabled;
+		private Integer failureRateThreshold;
+		private Integer slowCallRateThreshold;
+		private Long slowCallDuration;
+		private Integer slidingWindowSize;
+		private Integer minimumCalls;
+		private Long openDuration;
+		private Integer halfOpenCalls;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Integer getFailureRateThreshold() {
+			return failureRateThreshold;
+		}
+
+		public void setFailureRateThreshold(Integer failureRateThreshold) {
+			this.failureRateThreshold = failureRateThreshold;
+		}
+
+		public Integer getSlowCallRateThreshold() {
+			return slowCallRateThreshold;
+		}
+
+		public void setSlowCallRateThreshold(Integer slowCallRateThreshold) {
+			this.slowCallRateThreshold = slowCallRateThreshold;
+		}
+
+		public Long getSlowCallDuration() {
+			return slowCallDuration;
+		}
+
+		public void setSlowCallDuration(Long slowCallDuration) {
+			this.slowCallDuration = slowCallDuration;
+		}
+
+		public Integer getSlidingWindowSize() {
+			return slidingWindowSize;
+		}
+
+		public void setSlidingWindowSize(Integer slidingWindowSize) {
+			this.slidingWindowSize = slidingWindowSize;
+		}
+
+		public Integer getMinimumCalls() {
+			return minimumCalls;
+		}
+
+		public void setMinimumCalls(Integer minimumCalls) {
+			this.minimumCalls = minimumCalls;
+		}
+
+		public Long getOpenDuration() {
+			return openDuration;
+		}
+
+		public void setOpenDuration(Long openDuration) {
+			this.openDuration = openDuration;
+		}
+
+		public Integer getHalfOpenCalls() {
+			return halfOpenCalls;
+		}
+
+		public void setHalfOpenCalls(Integer halfOpenCalls) {
+			this.halfOpenCalls = halfOpenCalls;
+		}
+
+		public CircuitBreakerConfig toCircuitBreakerConfig() {
+			if (!enabled) {
+				return null;
+			}
+			return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDuration, slidingWindowSize, minimumCalls, openDuration, halfOpenCalls);
+		}
+
+	}
+
+	public static class SubscriptionCacheProperties {
+
+		private boolean enabled;
+		private Long ttl;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Long getTtl() {
+			return ttl;
+		}
+
+		public void setTtl(Long ttl) {
+			this.ttl = ttl;
+		}
+
+		public SubscriptionCache toSubscriptionCache() {
+			if (!enabled) {
+				return null;
+			}
+			return new SubscriptionCache(ttl);
+		}
+
+	}
+
+	public static class WarmUpProperties {
+
+		private boolean enabled;
+		private Integer connections;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Integer getConnections() {
+			return connections;
+		}
+
+		public void setConnections(Integer connections) {
+			this.connections = connections;
+		}
+
+	}
+
+	public static class LimitProperties {
+
+		private double permitsPerSecond;
+		private Integer burst;
+
+		public double getPermitsPerSecond() {
+			return permitsPerSecond;
+		}
+
+		public void setPermitsPerSecond(double permitsPerSecond) {
+			this.permitsPerSecond = permitsPerSecond;
+		}
+
+		public Integer getBurst() {
+			return burst;
+		}
+
+		public void setBurst(Integer burst) {
+			this.burst = burst;
+		}
+
+	}
+
 }
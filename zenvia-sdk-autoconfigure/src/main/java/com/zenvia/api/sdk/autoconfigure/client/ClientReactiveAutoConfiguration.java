@@ -0,0 +1,41 @@
+package com.zenvia.api.sdk.autoconfigure.client;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zenvia.api.sdk.JsonCodec;
+import com.zenvia.api.sdk.client.reactive.ReactiveClient;
+
+@Configuration
+@ConditionalOnClass(ReactiveClient.class)
+@EnableConfigurationProperties(ClientProperties.class)
+public class ClientReactiveAutoConfiguration {
+
+	private final ClientProperties clientProperties;
+
+	public ClientReactiveAutoConfiguration(ClientProperties clientProperties) {
+		this.clientProperties = clientProperties;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty("zenvia.api.sdk.client.apiToken")
+    public ReactiveClient createReactiveClient() {
+    	if (this.clientProperties.isJsonWarmUp()) {
+    		JsonCodec.shared().warmUp();
+    	}
+    	return new ReactiveClient(
+    		this.clientProperties.getApiToken(),
+    		this.clientProperties.getApiUrl(),
+    		this.clientProperties.getMaxConnections(),
+    		this.clientProperties.getConnectionTimeout(),
+    		this.clientProperties.getSocketTimeout(),
+    		this.clientProperties.getConnectionPoolTimeout()
+    	);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.zenvia.api.sdk.autoconfigure.client;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -7,10 +8,13 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.zenvia.api.sdk.JsonCodec;
+import com.zenvia.api.sdk.client.metrics.ClientMetrics;
 import com.zenvia.api.sdk.client.spring.Client;
 
 @Configuration
 @ConditionalOnClass(Client.class)
+@ConditionalOnProperty(value = "zenvia.api.sdk.client.transport", havingValue = "http1", matchIfMissing = true)
 @EnableConfigurationProperties(ClientProperties.class)
 public class ClientSpringAutoConfiguration {
 
@@ -23,8 +27,8 @@ public class ClientSpringAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	@ConditionalOnProperty("zenvia.api.sdk.client.apiToken")
-    public Client createClient() {
-    	return new Client(
+    public Client createClient(ObjectProvider<ClientMetrics> clientMetrics) {
+    	Client client = new Client(
     		this.clientProperties.getApiToken(),
     		this.clientProperties.getApiUrl(),
     		this.clientProperties.getMaxConnections(),
@@ -34,6 +38,23 @@ public class ClientSpringAutoConfiguration {
     		this.clientProperties.getConnectionPoolTimeout(),
     		this.clientProperties.getInactivityTimeBeforeStaleCheck()
     	);
+    	client.setRateLimiter(this.clientProperties.getRateLimit().toRateLimiter());
+    	client.setRetryPolicy(this.clientProperties.getRetry().toRetryPolicy());
+    	client.setCircuitBreakerConfig(this.clientProperties.getCircuitBreaker().toCircuitBreakerConfig());
+    	client.setSubscriptionCache(this.clientProperties.getSubscriptionCache().toSubscriptionCache());
+    	client.setMetrics(clientMetrics.getIfAvailable());
+    	client.setThreadMode(this.clientProperties.getThreadMode());
+    	if (this.clientProperties.isJsonWarmUp()) {
+    		JsonCodec.shared().warmUp();
+    	}
+    	return client;
     }
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty({"zenvia.api.sdk.client.apiToken", "zenvia.api.sdk.client.warmUp.enabled"})
+	public ClientWarmUp createClientWarmUp(Client client) {
+		return new ClientWarmUp(client, this.clientProperties.getWarmUp().getConnections());
+	}
+
 }
@@ -0,0 +1,20 @@
+package com.zenvia.api.sdk.autoconfigure.client;
+
+/** HTTP transport of the auto-configured client.
+ *
+ *  @since 1.2.0 */
+public enum ClientTransport {
+
+	/** HTTP/1.1 over a pool of connections, one request in flight per connection, as done by the
+	 *  Apache and Spring clients.
+	 *
+	 *  @since 1.2.0 */
+	HTTP1,
+
+	/** HTTP/2, multiplexing the requests in flight over a single connection, as done by the
+	 *  HTTP/2 client. Requires Java 11 or later.
+	 *
+	 *  @since 1.2.0 */
+	HTTP2
+
+}
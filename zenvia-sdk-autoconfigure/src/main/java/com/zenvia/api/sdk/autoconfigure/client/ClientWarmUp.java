@@ -0,0 +1,77 @@
+package com.zenvia.api.sdk.autoconfigure.client;
+
+import org.springframework.context.SmartLifecycle;
+
+import com.zenvia.api.sdk.client.AbstractClient;
+import com.zenvia.api.sdk.client.warmup.WarmUpSummary;
+
+/** Warms up the connection pool of the client when the application context starts, before the
+ *  web server takes traffic, so the first requests after a deploy find their connections open.
+ *
+ *  @since 1.2.0 */
+public class ClientWarmUp implements SmartLifecycle {
+
+	private final AbstractClient client;
+	private final int connections;
+	private volatile WarmUpSummary summary;
+	private volatile boolean running;
+
+	/** @param connections Amount of connections to open. When null, the maximum connections of
+	 *  the client are opened.
+	 *
+	 *  @since 1.2.0 */
+	public ClientWarmUp(AbstractClient client, Integer connections) {
+		this.client = client;
+		this.connections = connections == null ? client.getMaxConnections() : connections;
+	}
+
+	@Override
+	public void start() {
+		if (this.summary == null) {
+			this.summary = this.client.warmUp(this.connections);
+		}
+		this.running = true;
+	}
+
+	@Override
+	public void stop() {
+		this.running = false;
+	}
+
+	@Override
+	public void stop(Runnable callback) {
+		stop();
+		callback.run();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public boolean isAutoStartup() {
+		return true;
+	}
+
+	@Override
+	public int getPhase() {
+		return 0;
+	}
+
+	/** Whether the warm-up has finished. Connections that could not be opened are opened by the
+	 *  requests needing them, as without a warm-up.
+	 *
+	 *  @since 1.2.0 */
+	public boolean isReady() {
+		return this.summary != null;
+	}
+
+	/** Outcome of the warm-up, or null while it has not finished.
+	 *
+	 *  @since 1.2.0 */
+	public WarmUpSummary getSummary() {
+		return this.summary;
+	}
+
+}
@@ -5,19 +5,26 @@ import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import com.zenvia.api.sdk.JsonCodec;
 import com.zenvia.api.sdk.autoconfigure.client.ClientApacheAutoConfiguration;
 import com.zenvia.api.sdk.autoconfigure.client.ClientSpringAutoConfiguration;
 import com.zenvia.api.sdk.autoconfigure.webhook.conditions.OnEventCallbacksCondition;
 import com.zenvia.api.sdk.client.AbstractClient;
 import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.webhook.BatchMessageEventCallback;
+import com.zenvia.api.sdk.webhook.BatchMessageStatusEventCallback;
 import com.zenvia.api.sdk.webhook.MessageEventCallback;
 import com.zenvia.api.sdk.webhook.MessageStatusEventCallback;
+import com.zenvia.api.sdk.webhook.MessageStatusEventViewCallback;
+import com.zenvia.api.sdk.webhook.dispatch.EventDispatcher;
+import com.zenvia.api.sdk.webhook.dispatch.EventKeyExtractor;
 import com.zenvia.api.sdk.webhook.webmvc.WebhookController;
 
 @Configuration
@@ -35,13 +42,20 @@ public class WebhookControllerWebMvcAutoConfiguration {
 		RequestMappingHandlerMapping handlerMapping,
 		ObjectProvider<MessageEventCallback> messageEventHandler,
 		ObjectProvider<MessageStatusEventCallback> messageStatusEventHandler,
-		ObjectProvider<AbstractClient> client
+		ObjectProvider<BatchMessageEventCallback> batchMessageEventHandler,
+		ObjectProvider<BatchMessageStatusEventCallback> batchMessageStatusEventHandler,
+		ObjectProvider<MessageStatusEventViewCallback> messageStatusEventViewHandler,
+		ObjectProvider<AbstractClient> client,
+		ObjectProvider<EventDispatcher> eventDispatcher
 	) {
 		ChannelType channel = null;
 		if (webhookProperties.getChannel() != null) {
 			channel = ChannelType.parse(webhookProperties.getChannel());
 		}
-		return new WebhookController(
+		if (webhookProperties.isJsonWarmUp()) {
+			JsonCodec.shared().warmUp();
+		}
+		WebhookController controller = new WebhookController(
 			handlerMapping,
     		messageEventHandler.getIfAvailable(),
     		messageStatusEventHandler.getIfAvailable(),
@@ -50,6 +64,33 @@ public class WebhookControllerWebMvcAutoConfiguration {
     		webhookProperties.getUrl(),
     		channel
     	);
+		controller.setChannels(webhookProperties.toChannels());
+		controller.setEventDispatcher(eventDispatcher.getIfAvailable());
+		controller.setEventDeduplicator(webhookProperties.getDedup().toEventDeduplicator());
+		controller.setBatchMessageEventCallback(
+			batchMessageEventHandler.getIfAvailable(),
+			webhookProperties.getBatch().getMaxSize(),
+			webhookProperties.getBatch().getLingerTime()
+		);
+		controller.setBatchMessageStatusEventCallback(
+			batchMessageStatusEventHandler.getIfAvailable(),
+			webhookProperties.getBatch().getMaxSize(),
+			webhookProperties.getBatch().getLingerTime()
+		);
+		controller.setMessageStatusEventViewCallback(messageStatusEventViewHandler.getIfAvailable());
+		controller.setEventSpool(webhookProperties.getSpool().toEventSpool());
+		controller.start();
+		return controller;
+	}
+
+	@Bean(destroyMethod = "shutdown")
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = "zenvia.api.sdk.webhook.dispatch.async", havingValue = "true")
+	public EventDispatcher createEventDispatcher(
+		WebhookProperties webhookProperties,
+		ObjectProvider<EventKeyExtractor> keyExtractor
+	) {
+		return webhookProperties.getDispatch().toEventDispatcher(keyExtractor.getIfAvailable(() -> EventKeyExtractor.DEFAULT));
 	}
 
 }
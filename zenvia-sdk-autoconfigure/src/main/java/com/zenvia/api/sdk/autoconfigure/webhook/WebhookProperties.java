@@ -1,13 +1,35 @@
 package com.zenvia.api.sdk.autoconfigure.webhook;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import com.zenvia.api.sdk.ThreadMode;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.webhook.dispatch.EventDeduplicator;
+import com.zenvia.api.sdk.webhook.dispatch.EventDispatcher;
+import com.zenvia.api.sdk.webhook.dispatch.EventKeyExtractor;
+import com.zenvia.api.sdk.webhook.dispatch.RejectionPolicy;
+import com.zenvia.api.sdk.webhook.spool.EventSpool;
+
 @ConfigurationProperties(prefix = "zenvia.api.sdk.webhook")
 public class WebhookProperties {
 
 	private String path;
 	private String url;
 	private String channel;
+	private List<String> channels = new ArrayList<>();
+	private boolean jsonWarmUp;
+	private final DispatchProperties dispatch = new DispatchProperties();
+	private final BatchProperties batch = new BatchProperties();
+	private final DedupProperties dedup = new DedupProperties();
+	private final SpoolProperties spool = new SpoolProperties();
 
 	public String getPath() {
 		return path;
@@ -33,4 +55,212 @@ public class WebhookProperties {
 		this.channel = channel;
 	}
 
+	public List<String> getChannels() {
+		return channels;
+	}
+
+	public void setChannels(List<String> channels) {
+		this.channels = channels;
+	}
+
+	public Set<ChannelType> toChannels() {
+		Set<ChannelType> channelTypes = EnumSet.noneOf(ChannelType.class);
+		for (String channel : channels) {
+			channelTypes.add(ChannelType.parse(channel));
+		}
+		return channelTypes;
+	}
+
+	public boolean isJsonWarmUp() {
+		return jsonWarmUp;
+	}
+
+	public void setJsonWarmUp(boolean jsonWarmUp) {
+		this.jsonWarmUp = jsonWarmUp;
+	}
+
+	public DispatchProperties getDispatch() {
+		return dispatch;
+	}
+
+	public BatchProperties getBatch() {
+		return batch;
+	}
+
+	public DedupProperties getDedup() {
+		return dedup;
+	}
+
+	public SpoolProperties getSpool() {
+		return spool;
+	}
+
+	public static class DispatchProperties {
+
+		private boolean async;
+		private Integer workers;
+		private Integer queueCapacity;
+		private RejectionPolicy rejectionPolicy;
+		private boolean ordered;
+		private ThreadMode threadMode;
+
+		public boolean isAsync() {
+			return async;
+		}
+
+		public void setAsync(boolean async) {
+			this.async = async;
+		}
+
+		public Integer getWorkers() {
+			return workers;
+		}
+
+		public void setWorkers(Integer workers) {
+			this.workers = workers;
+		}
+
+		public Integer getQueueCapacity() {
+			return queueCapacity;
+		}
+
+		public void setQueueCapacity(Integer queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public RejectionPolicy getRejectionPolicy() {
+			return rejectionPolicy;
+		}
+
+		public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+			this.rejectionPolicy = rejectionPolicy;
+		}
+
+		public boolean isOrdered() {
+			return ordered;
+		}
+
+		public void setOrdered(boolean ordered) {
+			this.ordered = ordered;
+		}
+
+		public ThreadMode getThreadMode() {
+			return threadMode;
+		}
+
+		public void setThreadMode(ThreadMode threadMode) {
+			this.threadMode = threadMode;
+		}
+
+		public EventDispatcher toEventDispatcher(EventKeyExtractor keyExtractor) {
+			return new EventDispatcher(workers, queueCapacity, rejectionPolicy, ordered ? keyExtractor : null, threadMode);
+		}
+
+	}
+
+	public static class BatchProperties {
+
+		private Integer maxSize;
+		private Long lingerTime;
+
+		public Integer getMaxSize() {
+			return maxSize;
+		}
+
+		public void setMaxSize(Integer maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public Long getLingerTime() {
+			return lingerTime;
+		}
+
+		public void setLingerTime(Long lingerTime) {
+			this.lingerTime = lingerTime;
+		}
+
+	}
+
+	public static class DedupProperties {
+
+		private boolean enabled;
+		private Integer maxSize;
+		private Long timeToLive;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Integer getMaxSize() {
+			return maxSize;
+		}
+
+		public void setMaxSize(Integer maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public Long getTimeToLive() {
+			return timeToLive;
+		}
+
+		public void setTimeToLive(Long timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+		public EventDeduplicator toEventDeduplicator() {
+			if (!enabled) {
+				return null;
+			}
+			return new EventDeduplicator(maxSize, timeToLive);
+		}
+
+	}
+
+	public static class SpoolProperties {
+
+		private String directory;
+		private Integer segmentSize;
+		private Integer checkpointInterval;
+
+		public String getDirectory() {
+			return directory;
+		}
+
+		public void setDirectory(String directory) {
+			this.directory = directory;
+		}
+
+		public Integer getSegmentSize() {
+			return segmentSize;
+		}
+
+		public void setSegmentSize(Integer segmentSize) {
+			this.segmentSize = segmentSize;
+		}
+
+		public Integer getCheckpointInterval() {
+			return checkpointInterval;
+		}
+
+		public void setCheckpointInterval(Integer checkpointInterval) {
+			this.checkpointInterval = checkpointInterval;
+		}
+
+		public EventSpool toEventSpool() {
+			if (directory == null) {
+				return null;
+			}
+			try {
+				return new EventSpool(new File(directory), segmentSize, checkpointInterval);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+	}
+
 }
@@ -5,8 +5,11 @@ import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 
 import com.zenvia.api.sdk.autoconfigure.webhook.WebhookControllerJerseyAutoConfiguration;
+import com.zenvia.api.sdk.webhook.BatchMessageEventCallback;
+import com.zenvia.api.sdk.webhook.BatchMessageStatusEventCallback;
 import com.zenvia.api.sdk.webhook.MessageEventCallback;
 import com.zenvia.api.sdk.webhook.MessageStatusEventCallback;
+import com.zenvia.api.sdk.webhook.MessageStatusEventViewCallback;
 
 @AutoConfigureBefore(WebhookControllerJerseyAutoConfiguration.class)
 public class OnEventCallbacksCondition extends AnyNestedCondition {
@@ -21,4 +24,13 @@ public class OnEventCallbacksCondition extends AnyNestedCondition {
 	@ConditionalOnBean(MessageStatusEventCallback.class)
 	static class OnMessageStatusEventCallback {}
 
+	@ConditionalOnBean(BatchMessageEventCallback.class)
+	static class OnBatchMessageEventCallback {}
+
+	@ConditionalOnBean(BatchMessageStatusEventCallback.class)
+	static class OnBatchMessageStatusEventCallback {}
+
+	@ConditionalOnBean(MessageStatusEventViewCallback.class)
+	static class OnMessageStatusEventViewCallback {}
+
 }
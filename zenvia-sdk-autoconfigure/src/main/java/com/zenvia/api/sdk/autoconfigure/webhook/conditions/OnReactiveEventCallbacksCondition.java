@@ -0,0 +1,33 @@
+package com.zenvia.api.sdk.autoconfigure.webhook.conditions;
+
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+
+import com.zenvia.api.sdk.webhook.BatchMessageEventCallback;
+import com.zenvia.api.sdk.webhook.BatchMessageStatusEventCallback;
+import com.zenvia.api.sdk.webhook.MessageStatusEventViewCallback;
+import com.zenvia.api.sdk.webhook.webflux.ReactiveMessageEventCallback;
+import com.zenvia.api.sdk.webhook.webflux.ReactiveMessageStatusEventCallback;
+
+public class OnReactiveEventCallbacksCondition extends AnyNestedCondition {
+
+	public OnReactiveEventCallbacksCondition() {
+		super(ConfigurationPhase.REGISTER_BEAN);
+	}
+
+	@ConditionalOnBean(ReactiveMessageEventCallback.class)
+	static class OnReactiveMessageEventCallback {}
+
+	@ConditionalOnBean(ReactiveMessageStatusEventCallback.class)
+	static class OnReactiveMessageStatusEventCallback {}
+
+	@ConditionalOnBean(BatchMessageEventCallback.class)
+	static class OnBatchMessageEventCallback {}
+
+	@ConditionalOnBean(BatchMessageStatusEventCallback.class)
+	static class OnBatchMessageStatusEventCallback {}
+
+	@ConditionalOnBean(MessageStatusEventViewCallback.class)
+	static class OnMessageStatusEventViewCallback {}
+
+}
@@ -0,0 +1,83 @@
+package com.zenvia.api.sdk.autoconfigure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.zenvia.api.sdk.client.AbstractClient;
+import com.zenvia.api.sdk.client.http2.Client;
+import com.zenvia.api.sdk.client.retry.ExponentialBackoffRetryPolicy;
+
+public class ClientHttp2AutoConfigurationTest {
+
+	private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(
+				ClientApacheAutoConfiguration.class,
+				ClientHttp2AutoConfiguration.class,
+				ClientSpringAutoConfiguration.class
+			));
+
+	@Test
+	void testWhenTransportIsNotOnPropertiesTheHttp2ClientShouldNotBeCreated() {
+		this.contextRunner.withPropertyValues("zenvia.api.sdk.client.apiToken:foobar").run((context) -> {
+			assertThat(context).doesNotHaveBean(Client.class);
+			assertThat(context).hasSingleBean(AbstractClient.class);
+		});
+	}
+
+	@Test
+	void testWhenTransportIsHttp2OnPropertiesOnlyTheHttp2ClientShouldBeCreated() {
+		this.contextRunner.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.client.transport:HTTP2"
+			).run((context) -> {
+			assertThat(context).hasSingleBean(Client.class);
+			assertThat(context).doesNotHaveBean(com.zenvia.api.sdk.client.apache.Client.class);
+			assertThat(context).doesNotHaveBean(com.zenvia.api.sdk.client.spring.Client.class);
+			assertThat(context.getBean(ClientProperties.class).getTransport()).isEqualTo(ClientTransport.HTTP2);
+		});
+	}
+
+	@Test
+	void testWhenThereIsOnlyApiTokenOnPropertiesTheClientShouldBeCreatedWithDefaultValues() {
+		this.contextRunner.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.client.transport:http2"
+			).run((context) -> {
+			Client client = context.getBean(Client.class);
+			assertThat(client.getApiUrl()).isEqualTo("https://api.zenvia.com");
+			assertThat(client.getConnectionTimeout()).isEqualTo(25000);
+			assertThat(client.getSocketTimeout()).isEqualTo(60000);
+			assertThat(client.getMaxConnectionRetries()).isEqualTo(0);
+			assertThat(client.getMaxConnections()).isEqualTo(100);
+			assertThat(client.getConnectionPoolTimeout()).isEqualTo(0);
+			assertThat(client.getRateLimiter()).isNull();
+			assertThat(client.getRetryPolicy()).isNull();
+		});
+	}
+
+	@Test
+	void testWhenThereIsAllAvailableOnPropertiesTheClientShouldBeCreatedWithTheseValues() {
+		this.contextRunner.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.client.transport:http2",
+				"zenvia.api.sdk.client.apiUrl:http://localhost",
+				"zenvia.api.sdk.client.maxConnections:5",
+				"zenvia.api.sdk.client.connectionTimeout:5",
+				"zenvia.api.sdk.client.socketTimeout:5",
+				"zenvia.api.sdk.client.connectionPoolTimeout:5",
+				"zenvia.api.sdk.client.retry.enabled:true"
+			).run((context) -> {
+			Client client = context.getBean(Client.class);
+			assertThat(client.getApiUrl()).isEqualTo("http://localhost");
+			assertThat(client.getConnectionTimeout()).isEqualTo(5);
+			assertThat(client.getSocketTimeout()).isEqualTo(5);
+			assertThat(client.getMaxConnections()).isEqualTo(5);
+			assertThat(client.getConnectionPoolTimeout()).isEqualTo(5);
+			assertThat(client.getRetryPolicy()).isInstanceOf(ExponentialBackoffRetryPolicy.class);
+		});
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.zenvia.api.sdk.autoconfigure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.zenvia.api.sdk.client.apache.Client;
+import com.zenvia.api.sdk.client.metrics.ClientMetrics;
+import com.zenvia.api.sdk.client.metrics.MicrometerClientMetrics;
+
+public class ClientMetricsAutoConfigurationTest {
+
+	private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(ClientMetricsAutoConfiguration.class, ClientApacheAutoConfiguration.class))
+			.withPropertyValues("zenvia.api.sdk.client.apiToken:foobar");
+
+	@Test
+	void testWhenThereIsNoMeterRegistryTheClientShouldNotHaveMetrics() {
+		this.contextRunner.run((context) -> {
+			assertThat(context).doesNotHaveBean(ClientMetrics.class);
+			assertThat(context.getBean(Client.class).getMetrics()).isNull();
+		});
+	}
+
+	@Test
+	void testWhenThereIsMeterRegistryTheClientShouldHaveMetrics() {
+		this.contextRunner.withUserConfiguration(MeterRegistryConfiguration.class).run((context) -> {
+			Client client = context.getBean(Client.class);
+			assertThat(client.getMetrics()).isInstanceOf(MicrometerClientMetrics.class);
+			MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+			assertThat(meterRegistry.get(MicrometerClientMetrics.CONNECTIONS).tag("state", "max").gauge().value()).isEqualTo(100);
+		});
+	}
+
+	@Test
+	void testWhenMetricsAreDisabledOnPropertiesTheClientShouldNotHaveMetrics() {
+		this.contextRunner.withUserConfiguration(MeterRegistryConfiguration.class)
+			.withPropertyValues("zenvia.api.sdk.client.metrics.enabled:false")
+			.run((context) -> {
+			assertThat(context.getBean(Client.class).getMetrics()).isNull();
+		});
+	}
+
+	@Configuration
+	static class MeterRegistryConfiguration {
+
+		@Bean
+		public MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+	}
+
+}
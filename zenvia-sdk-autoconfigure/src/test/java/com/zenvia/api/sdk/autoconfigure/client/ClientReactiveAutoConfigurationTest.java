@@ -0,0 +1,71 @@
+package com.zenvia.api.sdk.autoconfigure.client;
+
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.zenvia.api.sdk.client.reactive.ReactiveClient;
+import com.zenvia.api.sdk.client.spring.Client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class ClientReactiveAutoConfigurationTest {
+
+	private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(ClientReactiveAutoConfiguration.class));
+
+	@Test
+	void testWhenThereIsNoApiTokenOnPropertiesTheClientShouldNotBeCreated() {
+		this.contextRunner.run((context) -> {
+			assertThat(catchThrowable(() -> { context.getBean(ReactiveClient.class); }))
+				.isInstanceOf(NoSuchBeanDefinitionException.class)
+				.hasMessageContaining("No qualifying bean of type 'com.zenvia.api.sdk.client.reactive.ReactiveClient' available");
+		});
+	}
+
+	@Test
+	void testWhenThereIsOnlyApiTokenOnPropertiesTheClientShouldBeCreatedWithDefaultValues() {
+		this.contextRunner.withPropertyValues("zenvia.api.sdk.client.apiToken:foobar").run((context) -> {
+			ReactiveClient client = context.getBean(ReactiveClient.class);
+			assertThat(client).isNotNull();
+			assertThat(client.getApiUrl()).isEqualTo("https://api.zenvia.com");
+			assertThat(client.getConnectionTimeout()).isEqualTo(25000);
+			assertThat(client.getSocketTimeout()).isEqualTo(60000);
+			assertThat(client.getMaxConnections()).isEqualTo(100);
+			assertThat(client.getConnectionPoolTimeout()).isEqualTo(0);
+		});
+	}
+
+	@Test
+	void testWhenThereIsAllAvailableOnPropertiesTheClientShouldBeCreatedWithTheseValues() {
+		this.contextRunner.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.client.apiUrl:http://localhost",
+				"zenvia.api.sdk.client.maxConnections:5",
+				"zenvia.api.sdk.client.connectionTimeout:5",
+				"zenvia.api.sdk.client.socketTimeout:5",
+				"zenvia.api.sdk.client.connectionPoolTimeout:5"
+			).run((context) -> {
+			ReactiveClient client = context.getBean(ReactiveClient.class);
+			assertThat(client.getApiUrl()).isEqualTo("http://localhost");
+			assertThat(client.getConnectionTimeout()).isEqualTo(5);
+			assertThat(client.getSocketTimeout()).isEqualTo(5);
+			assertThat(client.getMaxConnections()).isEqualTo(5);
+			assertThat(client.getConnectionPoolTimeout()).isEqualTo(5);
+		});
+	}
+
+	@Test
+	void testTheReactiveClientShouldBeCreatedAlongsideTheBlockingClient() {
+		this.contextRunner
+			.withConfiguration(AutoConfigurations.of(ClientSpringAutoConfiguration.class))
+			.withPropertyValues("zenvia.api.sdk.client.apiToken:foobar")
+			.run((context) -> {
+				assertThat(context).hasSingleBean(ReactiveClient.class);
+				assertThat(context).hasSingleBean(Client.class);
+			});
+	}
+
+}
@@ -1,9 +1,19 @@
 package com.zenvia.api.sdk.autoconfigure.client;
 
+import java.net.InetAddress;
+import java.net.ServerSocket;
+
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
+import com.zenvia.api.sdk.ThreadMode;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.circuitbreaker.CircuitBreakerConfig;
+import com.zenvia.api.sdk.client.ratelimit.RateLimitMode;
+import com.zenvia.api.sdk.client.ratelimit.RateLimiter;
+import com.zenvia.api.sdk.client.retry.ExponentialBackoffRetryPolicy;
+import com.zenvia.api.sdk.client.subscriptions.SubscriptionCache;
 import com.zenvia.api.sdk.client.spring.Client;
 
 import static org.assertj.core.api.Assertions.*;
@@ -63,4 +73,141 @@ public class ClientSpringAutoConfigurationTest {
 		});
 	}
 
+	@Test
+	void testWhenThereIsNoRateLimitOnPropertiesTheClientShouldNotHaveRateLimiter() {
+		this.contextRunner.withPropertyValues("zenvia.api.sdk.client.apiToken:foobar").run((context) -> {
+			Client client = context.getBean(Client.class);
+			assertThat(client.getRateLimiter()).isNull();
+		});
+	}
+
+	@Test
+	void testWhenThereIsRateLimitOnPropertiesTheClientShouldBeCreatedWithRateLimiter() {
+		this.contextRunner.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.client.rateLimit.mode:FAIL_FAST",
+				"zenvia.api.sdk.client.rateLimit.maxWait:100",
+				"zenvia.api.sdk.client.rateLimit.channels.whatsapp.permitsPerSecond:80",
+				"zenvia.api.sdk.client.rateLimit.channels.sms.permitsPerSecond:10",
+				"zenvia.api.sdk.client.rateLimit.channels.sms.burst:5",
+				"zenvia.api.sdk.client.rateLimit.senders.whatsapp.permitsPerSecond:20"
+			).run((context) -> {
+			Client client = context.getBean(Client.class);
+			RateLimiter rateLimiter = client.getRateLimiter();
+			assertThat(rateLimiter).isNotNull();
+			assertThat(rateLimiter.getMode()).isEqualTo(RateLimitMode.FAIL_FAST);
+			assertThat(rateLimiter.getChannelLimits().get(ChannelType.whatsapp).permitsPerSecond).isEqualTo(80);
+			assertThat(rateLimiter.getChannelLimits().get(ChannelType.whatsapp).burst).isEqualTo(80);
+			assertThat(rateLimiter.getChannelLimits().get(ChannelType.sms).burst).isEqualTo(5);
+			assertThat(rateLimiter.getSenderLimits().get(ChannelType.whatsapp).permitsPerSecond).isEqualTo(20);
+			assertThat(rateLimiter.getSenderLimits()).doesNotContainKey(ChannelType.sms);
+		});
+	}
+
+	@Test
+	void testWhenRetryIsNotEnabledOnPropertiesTheClientShouldNotHaveRetryPolicy() {
+		this.contextRunner.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.client.retry.maxRetries:5"
+			).run((context) -> {
+			Client client = context.getBean(Client.class);
+			assertThat(client.getRetryPolicy()).isNull();
+		});
+	}
+
+	@Test
+	void testWhenRetryIsEnabledOnPropertiesTheClientShouldBeCreatedWithRetryPolicy() {
+		this.contextRunner.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.client.retry.enabled:true",
+				"zenvia.api.sdk.client.retry.maxRetries:5",
+				"zenvia.api.sdk.client.retry.baseDelay:50"
+			).run((context) -> {
+			Client client = context.getBean(Client.class);
+			assertThat(client.getRetryPolicy()).isInstanceOf(ExponentialBackoffRetryPolicy.class);
+			ExponentialBackoffRetryPolicy retryPolicy = (ExponentialBackoffRetryPolicy) client.getRetryPolicy();
+			assertThat(retryPolicy.getMaxRetries()).isEqualTo(5);
+			assertThat(retryPolicy.getBaseDelay()).isEqualTo(50);
+			assertThat(retryPolicy.getMaxDelay()).isEqualTo(10000);
+		});
+	}
+
+	@Test
+	void testWhenCircuitBreakerIsNotEnabledOnPropertiesTheClientShouldNotHaveCircuitBreakers() {
+		this.contextRunner.withPropertyValues("zenvia.api.sdk.client.apiToken:foobar").run((context) -> {
+			Client client = context.getBean(Client.class);
+			assertThat(client.getCircuitBreakerConfig()).isNull();
+		});
+	}
+
+	@Test
+	void testWhenCircuitBreakerIsEnabledOnPropertiesTheClientShouldBeCreatedWithCircuitBreakers() {
+		this.contextRunner.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.client.circuitBreaker.enabled:true",
+				"zenvia.api.sdk.client.circuitBreaker.failureRateThreshold:25",
+				"zenvia.api.sdk.client.circuitBreaker.slowCallDuration:2000",
+				"zenvia.api.sdk.client.circuitBreaker.openDuration:5000"
+			).run((context) -> {
+			Client client = context.getBean(Client.class);
+			CircuitBreakerConfig config = client.getCircuitBreakerConfig();
+			assertThat(config).isNotNull();
+			assertThat(config.failureRateThreshold).isEqualTo(25);
+			assertThat(config.slowCallRateThreshold).isEqualTo(100);
+			assertThat(config.slowCallDuration).isEqualTo(2000);
+			assertThat(config.slidingWindowSize).isEqualTo(50);
+			assertThat(config.openDuration).isEqualTo(5000);
+		});
+	}
+
+	@Test
+	void testWhenThereIsThreadModeOnPropertiesTheClientShouldUseIt() {
+		this.contextRunner.withPropertyValues("zenvia.api.sdk.client.apiToken:foobar").run((context) -> {
+			assertThat(context.getBean(Client.class).getThreadMode()).isEqualTo(ThreadMode.PLATFORM);
+		});
+		this.contextRunner.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.client.threadMode:VIRTUAL"
+			).run((context) -> {
+			assertThat(context.getBean(Client.class).getThreadMode()).isEqualTo(ThreadMode.VIRTUAL.effective());
+		});
+	}
+
+	@Test
+	void testWhenSubscriptionCacheIsEnabledOnPropertiesTheClientShouldBeCreatedWithSubscriptionCache() {
+		this.contextRunner.withPropertyValues("zenvia.api.sdk.client.apiToken:foobar").run((context) -> {
+			assertThat(context.getBean(Client.class).getSubscriptionCache()).isNull();
+		});
+		this.contextRunner.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.client.subscriptionCache.enabled:true",
+				"zenvia.api.sdk.client.subscriptionCache.ttl:5000"
+			).run((context) -> {
+			SubscriptionCache subscriptionCache = context.getBean(Client.class).getSubscriptionCache();
+			assertThat(subscriptionCache).isNotNull();
+			assertThat(subscriptionCache.getTtl()).isEqualTo(5000);
+		});
+	}
+
+	@Test
+	void testWhenWarmUpIsEnabledOnPropertiesTheConnectionsShouldBeOpenedOnStart() throws Exception {
+		this.contextRunner.withPropertyValues("zenvia.api.sdk.client.apiToken:foobar").run((context) -> {
+			assertThat(context).doesNotHaveBean(ClientWarmUp.class);
+		});
+		try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+			this.contextRunner.withPropertyValues(
+					"zenvia.api.sdk.client.apiToken:foobar",
+					"zenvia.api.sdk.client.apiUrl:http://127.0.0.1:" + server.getLocalPort(),
+					"zenvia.api.sdk.client.warmUp.enabled:true",
+					"zenvia.api.sdk.client.warmUp.connections:2"
+				).run((context) -> {
+				ClientWarmUp warmUp = context.getBean(ClientWarmUp.class);
+				assertThat(warmUp.isRunning()).isTrue();
+				assertThat(warmUp.isReady()).isTrue();
+				assertThat(warmUp.getSummary().ready).isEqualTo(2);
+				assertThat(context.getBean(Client.class).getConnectionPoolStats().available).isEqualTo(2);
+			});
+		}
+	}
+
 }
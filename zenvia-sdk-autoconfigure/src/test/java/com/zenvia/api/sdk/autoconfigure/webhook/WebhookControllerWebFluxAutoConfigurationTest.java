@@ -0,0 +1,198 @@
+package com.zenvia.api.sdk.autoconfigure.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+import com.zenvia.api.sdk.autoconfigure.client.ClientApacheAutoConfiguration;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.webhook.AbstractWebhookController;
+import com.zenvia.api.sdk.webhook.BatchMessageStatusEventCallback;
+import com.zenvia.api.sdk.webhook.MessageEvent;
+import com.zenvia.api.sdk.webhook.MessageEventCallback;
+import com.zenvia.api.sdk.webhook.dispatch.EventDispatcher;
+import com.zenvia.api.sdk.webhook.webflux.ReactiveMessageEventCallback;
+import com.zenvia.api.sdk.webhook.webflux.ReactiveMessageStatusEventCallback;
+import com.zenvia.api.sdk.webhook.webflux.WebhookController;
+
+import reactor.core.publisher.Mono;
+
+public class WebhookControllerWebFluxAutoConfigurationTest {
+	
+	private final Field messageEventHandlerField;
+	private final Field messageStatusEventHandlerField;
+	private final Field pathField;
+	private final Field clientField;
+	private final Field urlField;
+	private final Field channelField;
+
+	private static ReactiveMessageEventCallback messageEventHandler = (message) -> Mono.empty();
+	
+	private static ReactiveMessageStatusEventCallback messageStatusEventHandler = (status) -> Mono.empty();
+
+	public WebhookControllerWebFluxAutoConfigurationTest() throws Exception {
+		messageEventHandlerField = WebhookController.class.getDeclaredField( "reactiveMessageEventHandler" );
+		messageEventHandlerField.setAccessible( true );
+		
+		messageStatusEventHandlerField = WebhookController.class.getDeclaredField( "reactiveMessageStatusEventHandler" );
+		messageStatusEventHandlerField.setAccessible( true );
+		
+		pathField = AbstractWebhookController.class.getDeclaredField( "path" );
+		pathField.setAccessible( true );
+		
+		clientField = AbstractWebhookController.class.getDeclaredField( "client" );
+		clientField.setAccessible( true );
+		
+		urlField = AbstractWebhookController.class.getDeclaredField( "url" );
+		urlField.setAccessible( true );
+		
+		channelField = AbstractWebhookController.class.getDeclaredField( "channel" );
+		channelField.setAccessible( true );
+	}
+
+	private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(ClientApacheAutoConfiguration.class, WebhookControllerWebFluxAutoConfiguration.class));
+
+	@Test
+	void testWhenThereIsNoEventCallbacksOnClasspathTheWebhookControllerShouldNotBeCreated() {
+		this.contextRunner.withUserConfiguration(RequestMappingHandlerMapping.class).run((context) -> {
+			assertThat(catchThrowable(() -> { context.getBean(WebhookController.class); }))
+				.isInstanceOf(NoSuchBeanDefinitionException.class)
+				.hasMessageContaining("No qualifying bean of type 'com.zenvia.api.sdk.webhook.webflux.WebhookController' available");
+		});
+	}
+
+	@Test
+	void testWhenThereAreOnlyBlockingEventCallbacksOnClasspathTheWebhookControllerShouldNotBeCreated() {
+		this.contextRunner.withUserConfiguration(RequestMappingHandlerMapping.class, BlockingMessageEventCallbackConfiguration.class).run((context) -> {
+			assertThat(context).doesNotHaveBean(WebhookController.class);
+		});
+	}
+
+	@Test
+	void testWhenThereIsNoRequestMappingOnClasspathTheAndWebhookControllerShouldNotBeCreated() {
+		this.contextRunner.withUserConfiguration(MessageEventCallbackConfiguration.class).run((context) -> {
+			assertThat(context).doesNotHaveBean(WebhookController.class);
+		});
+	}
+
+	@Test
+	void testWhenHasMessageEventCallbackOnClasspathTheWebhookControllerShouldBeCreated() {
+		this.contextRunner.withUserConfiguration(RequestMappingHandlerMapping.class, MessageEventCallbackConfiguration.class).run((context) -> {
+			WebhookController controller = context.getBean(WebhookController.class);
+			assertThat(controller).isNotNull();
+			assertThat(messageEventHandlerField.get(controller)).isEqualTo(messageEventHandler);
+			assertThat(pathField.get(controller)).isEqualTo(AbstractWebhookController.DEFAULT_PATH);
+			assertThat(messageStatusEventHandlerField.get(controller)).isNull();
+			assertThat(clientField.get(controller)).isNull();
+			assertThat(urlField.get(controller)).isNull();
+			assertThat(channelField.get(controller)).isNull();
+		});
+	}
+
+	@Test
+	void testWhenHasCallbacksOnClasspathTheWebhookControllerShouldBeCreated() {
+		this.contextRunner.withUserConfiguration(RequestMappingHandlerMapping.class, MessageEventCallbackConfiguration.class, MessageStatusEventCallbackConfiguration.class).run((context) -> {
+			WebhookController controller = context.getBean(WebhookController.class);
+			assertThat(controller).isNotNull();
+			assertThat(messageEventHandlerField.get(controller)).isEqualTo(messageEventHandler);
+			assertThat(messageStatusEventHandlerField.get(controller)).isEqualTo(messageStatusEventHandler);
+			assertThat(pathField.get(controller)).isEqualTo(AbstractWebhookController.DEFAULT_PATH);
+		});
+	}
+
+	@Test
+	void testWhenHasClientOnClasspathAndUrlAndChannelOnPropertiesTheWebhookControllerShouldBeCreated() {
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageStatusEventCallbackConfiguration.class
+			)
+			.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.webhook.url:http://some-webhook.com",
+				"zenvia.api.sdk.webhook.channel:sms",
+				"zenvia.api.sdk.webhook.path:/some-path"
+			)
+			.run((context) -> {
+				WebhookController controller = context.getBean(WebhookController.class);
+				assertThat(controller).isNotNull();
+				assertThat(messageStatusEventHandlerField.get(controller)).isEqualTo(messageStatusEventHandler);
+				assertThat(pathField.get(controller)).isEqualTo("/some-path");
+				assertThat(clientField.get(controller)).isNotNull();
+				assertThat(urlField.get(controller)).isEqualTo("http://some-webhook.com");
+				assertThat(channelField.get(controller)).isEqualTo(ChannelType.sms);
+				assertThat(messageEventHandlerField.get(controller)).isNull();
+			});
+	}
+
+	@Test
+	void testWhenAsyncDispatchIsEnabledOnPropertiesTheWebhookControllerShouldUseAnEventDispatcher() {
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageEventCallbackConfiguration.class
+			)
+			.withPropertyValues("zenvia.api.sdk.webhook.dispatch.async:true")
+			.run((context) -> {
+				EventDispatcher eventDispatcher = context.getBean(EventDispatcher.class);
+				assertThat(context.getBean(WebhookController.class).getEventDispatcher()).isSameAs(eventDispatcher);
+			});
+	}
+
+	@Test
+	void testWhenHasBatchMessageStatusEventCallbackOnClasspathTheWebhookControllerShouldBeCreated() {
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				BatchMessageStatusEventCallbackConfiguration.class
+			)
+			.run((context) -> {
+				WebhookController controller = context.getBean(WebhookController.class);
+				assertThat(messageStatusEventHandlerField.get(controller)).isNull();
+				assertThat(controller.getMessageStatusEventBatcher()).isNotNull();
+			});
+	}
+
+	@Configuration()
+	static class BatchMessageStatusEventCallbackConfiguration {
+		@Bean
+		BatchMessageStatusEventCallback createBatchMessageStatusEvent() {
+			return (statuses) -> {};
+		}
+	}
+
+	@Configuration()
+	static class BlockingMessageEventCallbackConfiguration {
+		@Bean
+		MessageEventCallback createMessageEvent() {
+			return (MessageEvent message) -> {};
+		}
+	}
+
+	@Configuration()
+	static class MessageEventCallbackConfiguration {
+		@Bean
+		ReactiveMessageEventCallback createMessageEvent() {
+			return messageEventHandler;
+		}
+	}
+
+	@Configuration()
+	static class MessageStatusEventCallbackConfiguration {
+		@Bean
+		ReactiveMessageStatusEventCallback createMessageStatusEvent() {
+			return messageStatusEventHandler;
+		}
+	}
+
+}
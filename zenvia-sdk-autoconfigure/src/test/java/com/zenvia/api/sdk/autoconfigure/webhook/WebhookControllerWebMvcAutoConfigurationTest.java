@@ -3,7 +3,9 @@ package com.zenvia.api.sdk.autoconfigure.webhook;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.io.File;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -13,13 +15,21 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import com.zenvia.api.sdk.ThreadMode;
 import com.zenvia.api.sdk.autoconfigure.client.ClientApacheAutoConfiguration;
 import com.zenvia.api.sdk.client.ChannelType;
 import com.zenvia.api.sdk.webhook.AbstractWebhookController;
+import com.zenvia.api.sdk.webhook.BatchMessageStatusEventCallback;
 import com.zenvia.api.sdk.webhook.MessageEvent;
 import com.zenvia.api.sdk.webhook.MessageEventCallback;
 import com.zenvia.api.sdk.webhook.MessageStatusEvent;
 import com.zenvia.api.sdk.webhook.MessageStatusEventCallback;
+import com.zenvia.api.sdk.webhook.MessageStatusEventViewCallback;
+import com.zenvia.api.sdk.webhook.dispatch.EventDeduplicator;
+import com.zenvia.api.sdk.webhook.dispatch.EventDispatcher;
+import com.zenvia.api.sdk.webhook.dispatch.EventKeyExtractor;
+import com.zenvia.api.sdk.webhook.dispatch.RejectionPolicy;
+import com.zenvia.api.sdk.webhook.spool.EventSpool;
 import com.zenvia.api.sdk.webhook.webmvc.WebhookController;
 
 public class WebhookControllerWebMvcAutoConfigurationTest {
@@ -39,6 +49,8 @@ public class WebhookControllerWebMvcAutoConfigurationTest {
 		public void onMessageStatusEvent(MessageStatusEvent status) {}
 	};
 
+	private static EventKeyExtractor keyExtractor = (event) -> event.channel;
+
 	public WebhookControllerWebMvcAutoConfigurationTest() throws Exception {
 		messageEventHandlerField = AbstractWebhookController.class.getDeclaredField( "messageEventHandler" );
 		messageEventHandlerField.setAccessible( true );
@@ -166,6 +178,26 @@ public class WebhookControllerWebMvcAutoConfigurationTest {
 			});
 	}
 
+	@Test
+	void testWhenHasChannelsOnPropertiesTheWebhookControllerShouldServeThemAll() {
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageEventCallbackConfiguration.class
+			)
+			.withPropertyValues(
+				"zenvia.api.sdk.client.apiToken:foobar",
+				"zenvia.api.sdk.webhook.url:http://some-webhook.com",
+				"zenvia.api.sdk.webhook.channel:whatsapp",
+				"zenvia.api.sdk.webhook.channels:sms,facebook"
+			)
+			.run((context) -> {
+				WebhookController controller = context.getBean(WebhookController.class);
+				assertThat(channelField.get(controller)).isEqualTo(ChannelType.whatsapp);
+				assertThat(controller.getChannels()).containsExactlyInAnyOrder(ChannelType.whatsapp, ChannelType.sms, ChannelType.facebook);
+			});
+	}
+
 	@Test
 	void testWhenHasPathOnPropertiesTheWebhookControllerShouldBeCreated() {
 		this.contextRunner
@@ -186,6 +218,196 @@ public class WebhookControllerWebMvcAutoConfigurationTest {
 			});
 	}
 
+	@Test
+	void testWhenAsyncDispatchIsEnabledOnPropertiesTheWebhookControllerShouldUseAnEventDispatcher() {
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageEventCallbackConfiguration.class
+			)
+			.run((context) -> {
+				assertThat(context).doesNotHaveBean(EventDispatcher.class);
+				assertThat(context.getBean(WebhookController.class).getEventDispatcher()).isNull();
+			});
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageEventCallbackConfiguration.class
+			)
+			.withPropertyValues(
+				"zenvia.api.sdk.webhook.dispatch.async:true",
+				"zenvia.api.sdk.webhook.dispatch.workers:2",
+				"zenvia.api.sdk.webhook.dispatch.queueCapacity:50",
+				"zenvia.api.sdk.webhook.dispatch.rejectionPolicy:REJECT"
+			)
+			.run((context) -> {
+				EventDispatcher eventDispatcher = context.getBean(EventDispatcher.class);
+				assertThat(context.getBean(WebhookController.class).getEventDispatcher()).isSameAs(eventDispatcher);
+				assertThat(eventDispatcher.getWorkers()).isEqualTo(2);
+				assertThat(eventDispatcher.getQueueCapacity()).isEqualTo(50);
+				assertThat(eventDispatcher.getRejectionPolicy()).isEqualTo(RejectionPolicy.REJECT);
+				assertThat(eventDispatcher.getKeyExtractor()).isNull();
+				assertThat(eventDispatcher.getThreadMode()).isEqualTo(ThreadMode.PLATFORM);
+			});
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageEventCallbackConfiguration.class
+			)
+			.withPropertyValues(
+				"zenvia.api.sdk.webhook.dispatch.async:true",
+				"zenvia.api.sdk.webhook.dispatch.threadMode:VIRTUAL"
+			)
+			.run((context) -> {
+				assertThat(context.getBean(EventDispatcher.class).getThreadMode()).isEqualTo(ThreadMode.VIRTUAL.effective());
+			});
+	}
+
+	@Test
+	void testWhenOrderedDispatchIsEnabledOnPropertiesTheEventDispatcherShouldUseTheKeyExtractor() {
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageEventCallbackConfiguration.class
+			)
+			.withPropertyValues(
+				"zenvia.api.sdk.webhook.dispatch.async:true",
+				"zenvia.api.sdk.webhook.dispatch.ordered:true"
+			)
+			.run((context) -> {
+				assertThat(context.getBean(EventDispatcher.class).getKeyExtractor()).isSameAs(EventKeyExtractor.DEFAULT);
+			});
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageEventCallbackConfiguration.class,
+				EventKeyExtractorConfiguration.class
+			)
+			.withPropertyValues(
+				"zenvia.api.sdk.webhook.dispatch.async:true",
+				"zenvia.api.sdk.webhook.dispatch.ordered:true"
+			)
+			.run((context) -> {
+				assertThat(context.getBean(EventDispatcher.class).getKeyExtractor()).isSameAs(keyExtractor);
+			});
+	}
+
+	@Test
+	void testWhenHasMessageStatusEventViewCallbackOnClasspathTheWebhookControllerShouldBeCreated() {
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageStatusEventViewCallbackConfiguration.class
+			)
+			.run((context) -> {
+				WebhookController controller = context.getBean(WebhookController.class);
+				assertThat(messageStatusEventHandlerField.get(controller)).isNull();
+				assertThat(controller.getMessageStatusEventViewCallback()).isNotNull();
+			});
+	}
+
+	@Test
+	void testWhenHasBatchMessageStatusEventCallbackOnClasspathTheWebhookControllerShouldBeCreated() {
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				BatchMessageStatusEventCallbackConfiguration.class
+			)
+			.withPropertyValues(
+				"zenvia.api.sdk.webhook.batch.maxSize:500",
+				"zenvia.api.sdk.webhook.batch.lingerTime:200"
+			)
+			.run((context) -> {
+				WebhookController controller = context.getBean(WebhookController.class);
+				assertThat(messageEventHandlerField.get(controller)).isNull();
+				assertThat(messageStatusEventHandlerField.get(controller)).isNull();
+				assertThat(controller.getMessageEventBatcher()).isNull();
+				assertThat(controller.getMessageStatusEventBatcher().getMaxBatchSize()).isEqualTo(500);
+				assertThat(controller.getMessageStatusEventBatcher().getLingerTime()).isEqualTo(200);
+			});
+	}
+
+	@Test
+	void testWhenDedupIsEnabledOnPropertiesTheWebhookControllerShouldUseAnEventDeduplicator() {
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageEventCallbackConfiguration.class
+			)
+			.run((context) -> {
+				assertThat(context.getBean(WebhookController.class).getEventDeduplicator()).isNull();
+			});
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageEventCallbackConfiguration.class
+			)
+			.withPropertyValues(
+				"zenvia.api.sdk.webhook.dedup.enabled:true",
+				"zenvia.api.sdk.webhook.dedup.maxSize:5000",
+				"zenvia.api.sdk.webhook.dedup.timeToLive:30000"
+			)
+			.run((context) -> {
+				EventDeduplicator eventDeduplicator = context.getBean(WebhookController.class).getEventDeduplicator();
+				assertThat(eventDeduplicator.getMaxSize()).isEqualTo(5000);
+				assertThat(eventDeduplicator.getTimeToLive()).isEqualTo(30000);
+			});
+	}
+
+	@Test
+	public void spool() throws Exception {
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageEventCallbackConfiguration.class
+			)
+			.run((context) -> {
+				assertThat(context.getBean(WebhookController.class).getEventSpool()).isNull();
+			});
+		File directory = Files.createTempDirectory("zenvia-webhook-spool").toFile();
+		this.contextRunner
+			.withUserConfiguration(
+				RequestMappingHandlerMapping.class,
+				MessageEventCallbackConfiguration.class
+			)
+			.withPropertyValues(
+				"zenvia.api.sdk.webhook.spool.directory:" + directory.getAbsolutePath(),
+				"zenvia.api.sdk.webhook.spool.segmentSize:65536"
+			)
+			.run((context) -> {
+				WebhookController controller = context.getBean(WebhookController.class);
+				EventSpool eventSpool = controller.getEventSpool();
+				assertThat(eventSpool.getDirectory()).isEqualTo(directory);
+				assertThat(eventSpool.getSegmentSize()).isEqualTo(65536);
+				// Started once configured, so the spool can no longer be replaced
+				assertThat(catchThrowable(() -> controller.setEventSpool(null))).isInstanceOf(IllegalStateException.class);
+			});
+	}
+
+	@Configuration()
+	static class BatchMessageStatusEventCallbackConfiguration {
+		@Bean
+		BatchMessageStatusEventCallback createBatchMessageStatusEvent() {
+			return (statuses) -> {};
+		}
+	}
+
+	@Configuration()
+	static class MessageStatusEventViewCallbackConfiguration {
+		@Bean
+		MessageStatusEventViewCallback createMessageStatusEventView() {
+			return (status) -> {};
+		}
+	}
+
+	@Configuration()
+	static class EventKeyExtractorConfiguration {
+		@Bean
+		EventKeyExtractor createEventKeyExtractor() {
+			return keyExtractor;
+		}
+	}
+
 	@Configuration()
 	static class MessageEventCallbackConfiguration {
 		@Bean
@@ -0,0 +1,83 @@
+package com.zenvia.api.sdk.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zenvia.api.sdk.ThreadMode;
+import com.zenvia.api.sdk.client.bulk.BulkOptions;
+import com.zenvia.api.sdk.client.bulk.BulkSender;
+import com.zenvia.api.sdk.client.bulk.BulkSummary;
+import com.zenvia.api.sdk.contents.TextContent;
+import com.zenvia.api.sdk.messages.Message;
+import com.zenvia.api.sdk.messages.MessageRequest;
+
+
+/** Throughput of a bulk send on platform and virtual threads, in requests per millisecond. Each
+ *  request blocks its thread for a fixed latency, standing for the wait on the API response, so
+ *  the score shows how many requests each mode keeps in flight.
+ *  <br><br>
+ *  On runtimes without virtual threads, {@link ThreadMode#VIRTUAL} falls back to platform
+ *  threads, and both modes score the same.
+ *
+ *  @since 1.2.0 */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class BulkSendBenchmark {
+	private static final int REQUESTS = 10000;
+
+	@Param( { "PLATFORM", "VIRTUAL" } )
+	public ThreadMode threadMode;
+
+	@Param( { "100", "1000" } )
+	public int maxInFlight;
+
+	@Param( { "1" } )
+	public long latency;
+
+	private List<MessageRequest> requests;
+
+
+	@Setup
+	public void setup() {
+		requests = Collections.nCopies( REQUESTS, new MessageRequest(
+			"5511999999999",
+			"5511988888888",
+			Collections.singletonList( new TextContent( "Your verification code is 123456" ) )
+		) );
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation( REQUESTS )
+	public BulkSummary send() {
+		return new BulkSender( this::blockingSend, maxInFlight, new BulkOptions(), threadMode ).send( requests.iterator() );
+	}
+
+
+	private Message blockingSend( MessageRequest request ) {
+		try {
+			Thread.sleep( latency );
+		} catch( InterruptedException exception ) {
+			Thread.currentThread().interrupt();
+		}
+		return null;
+	}
+}
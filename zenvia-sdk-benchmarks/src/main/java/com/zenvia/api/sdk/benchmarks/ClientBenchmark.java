@@ -0,0 +1,89 @@
+package com.zenvia.api.sdk.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zenvia.api.sdk.client.AbstractClient;
+import com.zenvia.api.sdk.client.Channel;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.contents.TextContent;
+import com.zenvia.api.sdk.messages.Message;
+
+
+/** Overhead of a message request on the apache and spring clients, sent to an in-process
+ *  {@link HttpStub} over loopback, so both clients go through the same network path.
+ *
+ *  @since 1.2.0 */
+@State( Scope.Benchmark )
+@BenchmarkMode( { Mode.Throughput, Mode.SampleTime } )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class ClientBenchmark {
+	private static final String MESSAGE_RESPONSE = "{\"id\":\"9f8e7d6c-5b4a-4392-8170-6f5e4d3c2b1a\",\"from\":\"5511999999999\",\"to\":\"5511988888888\",\"direction\":\"OUT\",\"channel\":\"sms\",\"contents\":[{\"type\":\"text\",\"text\":\"Your verification code is 123456\"}]}";
+
+	@Param( { "apache", "apache-chunked", "spring" } )
+	public String client;
+
+	private HttpStub stub;
+
+	private AbstractClient apiClient;
+
+	private Channel channel;
+
+	private TextContent content;
+
+
+	@Setup
+	public void setup() throws IOException {
+		stub = new HttpStub( MESSAGE_RESPONSE );
+		if( "apache".equals( client ) ) {
+			apiClient = new com.zenvia.api.sdk.client.apache.Client( "benchmark-token", stub.getUrl() );
+		} else if( "apache-chunked".equals( client ) ) {
+			com.zenvia.api.sdk.client.apache.Client apacheClient = new com.zenvia.api.sdk.client.apache.Client( "benchmark-token", stub.getUrl() );
+			apacheClient.setChunkedRequests( true );
+			apiClient = apacheClient;
+		} else if( "spring".equals( client ) ) {
+			apiClient = new com.zenvia.api.sdk.client.spring.Client( "benchmark-token", stub.getUrl() );
+		} else {
+			throw new IllegalArgumentException( "Unknown client " + client );
+		}
+		channel = apiClient.getChannel( ChannelType.sms );
+		content = new TextContent( "Your verification code is 123456" );
+	}
+
+
+	@TearDown
+	public void tearDown() {
+		apiClient.close();
+		stub.close();
+	}
+
+
+	@Benchmark
+	public Message sendMessage() {
+		return channel.sendMessage( "5511999999999", "5511988888888", content );
+	}
+
+
+	@Benchmark
+	@Threads( 8 )
+	public Message sendMessageConcurrently() {
+		return channel.sendMessage( "5511999999999", "5511988888888", content );
+	}
+}
@@ -0,0 +1,72 @@
+package com.zenvia.api.sdk.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenvia.api.sdk.webhook.Event;
+import com.zenvia.api.sdk.webhook.EventReader;
+import com.zenvia.api.sdk.webhook.MessageEvent;
+import com.zenvia.api.sdk.webhook.MessageStatusEvent;
+
+
+/** Polymorphic deserialization of the webhook {@link Event}, resolved by its <code>type</code>
+ *  property to either {@link MessageEvent} or {@link MessageStatusEvent}, compared to the
+ *  {@link EventReader} of the webhook controllers, which peeks at the <code>type</code> before
+ *  reading the concrete event.
+ *
+ *  @since 1.2.0 */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class EventDeserializationBenchmark {
+	@Param( { MessageEvent.TYPE, MessageStatusEvent.TYPE } )
+	public String type;
+
+	private final ObjectMapper jsonMapper = new ObjectMapper();
+
+	private byte[] json;
+
+	private Class<? extends Event> concreteType;
+
+
+	@Setup
+	public void setup() {
+		json = Events.json( type ).getBytes( StandardCharsets.UTF_8 );
+		concreteType = MessageEvent.TYPE.equals( type ) ? MessageEvent.class : MessageStatusEvent.class;
+	}
+
+
+	@Benchmark
+	public Event deserializeEvent() throws IOException {
+		return jsonMapper.readValue( json, Event.class );
+	}
+
+
+	@Benchmark
+	public Event deserializeConcreteEvent() throws IOException {
+		return jsonMapper.readValue( json, concreteType );
+	}
+
+
+	@Benchmark
+	public Event deserializeWithTypePeek() throws IOException {
+		return EventReader.shared().read( json );
+	}
+}
@@ -0,0 +1,28 @@
+package com.zenvia.api.sdk.benchmarks;
+
+import com.zenvia.api.sdk.webhook.MessageEvent;
+import com.zenvia.api.sdk.webhook.MessageStatusEvent;
+
+
+/** Sample webhook payloads shared by the benchmarks. */
+final class Events {
+	static final String MESSAGE_EVENT = "{\"id\":\"2a3b6f64-1c5d-4e8f-9a0b-7c6d5e4f3a2b\",\"timestamp\":\"2019-06-03T15:50:43.123-03:00\",\"type\":\"MESSAGE\",\"subscriptionId\":\"f1e2d3c4-b5a6-4978-8695-a4b3c2d1e0f9\",\"channel\":\"whatsapp\",\"direction\":\"IN\",\"message\":{\"id\":\"9f8e7d6c-5b4a-4392-8170-6f5e4d3c2b1a\",\"from\":\"5511988888888\",\"to\":\"5511999999999\",\"direction\":\"IN\",\"channel\":\"whatsapp\",\"contents\":[{\"type\":\"text\",\"text\":\"Hi, I would like to know the status of my order\"}]}}";
+
+	static final String MESSAGE_STATUS_EVENT = "{\"id\":\"3b4c7a75-2d6e-4f90-8b1c-8d7e6f5a4b3c\",\"timestamp\":\"2019-06-10T15:30:35.456-03:00\",\"type\":\"MESSAGE_STATUS\",\"subscriptionId\":\"f1e2d3c4-b5a6-4978-8695-a4b3c2d1e0f9\",\"channel\":\"whatsapp\",\"messageId\":\"9f8e7d6c-5b4a-4392-8170-6f5e4d3c2b1a\",\"contentIndex\":0,\"messageStatus\":{\"timestamp\":\"2019-06-10T15:30:35.456-03:00\",\"code\":\"DELIVERED\",\"description\":\"The message has been delivered to the recipient\"}}";
+
+
+	static String json( String type ) {
+		if( MessageEvent.TYPE.equals( type ) ) {
+			return MESSAGE_EVENT;
+		}
+		if( MessageStatusEvent.TYPE.equals( type ) ) {
+			return MESSAGE_STATUS_EVENT;
+		}
+		throw new IllegalArgumentException( "Unknown event type " + type );
+	}
+
+
+	private Events() {
+		super();
+	}
+}
@@ -0,0 +1,67 @@
+package com.zenvia.api.sdk.benchmarks;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+
+/** In-process HTTP server answering every request with the same JSON body, so the client
+ *  benchmarks measure the SDK overhead instead of the network and the API. */
+final class HttpStub implements Closeable {
+	static {
+		// Without it, Nagle's algorithm adds ~40 ms to each response over loopback.
+		System.setProperty( "sun.net.httpserver.nodelay", "true" );
+	}
+
+	private final HttpServer server;
+
+	private final ExecutorService executor;
+
+	private final byte[] response;
+
+
+	HttpStub( String response ) throws IOException {
+		this.response = response.getBytes( StandardCharsets.UTF_8 );
+		this.executor = Executors.newFixedThreadPool( Runtime.getRuntime().availableProcessors() );
+		this.server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+		this.server.createContext( "/", this::handle );
+		this.server.setExecutor( executor );
+		this.server.start();
+	}
+
+
+	String getUrl() {
+		return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+	}
+
+
+	private void handle( HttpExchange exchange ) throws IOException {
+		try( InputStream body = exchange.getRequestBody() ) {
+			byte[] buffer = new byte[ 4096 ];
+			while( body.read( buffer ) != -1 ) {
+				// Drains the request, so the connection can be reused.
+			}
+		}
+		exchange.getResponseHeaders().set( "Content-Type", "application/json" );
+		exchange.sendResponseHeaders( 200, response.length );
+		try( OutputStream body = exchange.getResponseBody() ) {
+			body.write( response );
+		}
+	}
+
+
+	@Override
+	public void close() {
+		server.stop( 0 );
+		executor.shutdownNow();
+	}
+}
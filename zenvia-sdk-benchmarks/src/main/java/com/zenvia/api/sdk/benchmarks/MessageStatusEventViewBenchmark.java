@@ -0,0 +1,59 @@
+package com.zenvia.api.sdk.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.zenvia.api.sdk.webhook.EventReader;
+import com.zenvia.api.sdk.webhook.MessageStatusEvent;
+import com.zenvia.api.sdk.webhook.MessageStatusEventView;
+
+
+/** A callback reading only the <code>messageId</code> and the status code of a
+ *  {@link MessageStatusEvent}, fully decoded by the {@link EventReader} or lazily decoded by a
+ *  {@link MessageStatusEventView}. Run with <code>-prof gc</code> to compare the allocation rates.
+ *
+ *  @since 1.2.0 */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class MessageStatusEventViewBenchmark {
+	private byte[] json;
+
+
+	@Setup
+	public void setup() {
+		json = Events.MESSAGE_STATUS_EVENT.getBytes( StandardCharsets.UTF_8 );
+	}
+
+
+	@Benchmark
+	public void fullEvent( Blackhole blackhole ) throws IOException {
+		MessageStatusEvent event = EventReader.shared().read( json ).ofMessageStatus();
+		blackhole.consume( event.messageId );
+		blackhole.consume( event.messageStatus.code );
+	}
+
+
+	@Benchmark
+	public void eventView( Blackhole blackhole ) throws IOException {
+		MessageStatusEventView view = MessageStatusEventView.of( json );
+		blackhole.consume( view.getMessageId() );
+		blackhole.consume( view.getMessageStatusCode() );
+	}
+}
@@ -0,0 +1,89 @@
+package com.zenvia.api.sdk.benchmarks;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenvia.api.sdk.contents.Content;
+import com.zenvia.api.sdk.contents.FileContent;
+import com.zenvia.api.sdk.contents.TemplateContent;
+import com.zenvia.api.sdk.contents.TextContent;
+import com.zenvia.api.sdk.messages.MessageRequest;
+
+
+/** Serialization of the {@link MessageRequest} sent on each message request, and
+ *  deserialization of the polymorphic {@link Content} list.
+ *
+ *  @since 1.2.0 */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class SerializationBenchmark {
+	private final ObjectMapper jsonMapper = new ObjectMapper();
+
+	private MessageRequest textRequest;
+
+	private MessageRequest mixedRequest;
+
+	private byte[] mixedRequestJson;
+
+
+	@Setup
+	public void setup() throws IOException {
+		textRequest = new MessageRequest(
+			"5511999999999",
+			"5511988888888",
+			Arrays.<Content>asList( new TextContent( "Your verification code is 123456" ) )
+		);
+
+		Map<String,String> fields = new LinkedHashMap<>();
+		fields.put( "name", "John Doe" );
+		fields.put( "orderId", "4815162342" );
+		fields.put( "deliveryDate", "2019-10-21" );
+		mixedRequest = new MessageRequest(
+			"5511999999999",
+			"5511988888888",
+			Arrays.<Content>asList(
+				new TextContent( "Your order has been shipped" ),
+				new FileContent( "https://example.com/invoice.pdf", "application/pdf", "Invoice" ),
+				new TemplateContent( "6b9a1d7c-2f8e-4c5b-9a3d-1e7f0c4b8a2d", fields )
+			)
+		);
+		mixedRequestJson = jsonMapper.writeValueAsBytes( mixedRequest );
+	}
+
+
+	@Benchmark
+	public byte[] serializeTextRequest() throws IOException {
+		return jsonMapper.writeValueAsBytes( textRequest );
+	}
+
+
+	@Benchmark
+	public byte[] serializeMixedRequest() throws IOException {
+		return jsonMapper.writeValueAsBytes( mixedRequest );
+	}
+
+
+	@Benchmark
+	public MessageRequest deserializeMixedRequest() throws IOException {
+		return jsonMapper.readValue( mixedRequestJson, MessageRequest.class );
+	}
+}
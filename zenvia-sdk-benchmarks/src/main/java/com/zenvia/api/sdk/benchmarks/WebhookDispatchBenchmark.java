@@ -0,0 +1,84 @@
+package com.zenvia.api.sdk.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.zenvia.api.sdk.webhook.MessageEventCallback;
+import com.zenvia.api.sdk.webhook.MessageStatusEventCallback;
+import com.zenvia.api.sdk.webhook.webmvc.WebhookController;
+
+
+/** Throughput of a webhook call, from the request body to the callback: event deserialization
+ *  followed by the dispatch done by the {@link WebhookController}.
+ *
+ *  @since 1.2.0 */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class WebhookDispatchBenchmark {
+	@Param( { "MESSAGE", "MESSAGE_STATUS" } )
+	public String type;
+
+	private byte[] json;
+
+	private BenchmarkWebhookController controller;
+
+
+	@Setup
+	public void setup( Blackhole blackhole ) {
+		json = Events.json( type ).getBytes( StandardCharsets.UTF_8 );
+		controller = new BenchmarkWebhookController(
+			event -> blackhole.consume( event.message ),
+			event -> blackhole.consume( event.messageStatus )
+		);
+	}
+
+
+	@Benchmark
+	public ResponseEntity<Void> dispatch() throws IOException {
+		return controller.call( json );
+	}
+
+
+	@Benchmark
+	@Threads( 8 )
+	public ResponseEntity<Void> dispatchConcurrently() throws IOException {
+		return controller.call( json );
+	}
+
+
+	private static class BenchmarkWebhookController extends WebhookController {
+		BenchmarkWebhookController(
+			MessageEventCallback messageEventHandler,
+			MessageStatusEventCallback messageStatusEventHandler
+		) {
+			super( new RequestMappingHandlerMapping(), messageEventHandler, messageStatusEventHandler );
+		}
+
+
+		ResponseEntity<Void> call( byte[] body ) throws IOException {
+			return apply( new ByteArrayInputStream( body ) );
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.zenvia.api.sdk.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.zenvia.api.sdk.IsoTimestampParser;
+import com.zenvia.api.sdk.ZonedDateTimeDeserializer;
+import com.zenvia.api.sdk.webhook.MessageStatus;
+
+
+/** Cost of the {@link ZonedDateTimeDeserializer}, measured through the smallest DTO that
+ *  uses it ({@link MessageStatus}) for each timestamp format sent by the API, and of the
+ *  {@link IsoTimestampParser} it uses compared to the pattern formatter it replaces.
+ *
+ *  @since 1.2.0 */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class ZonedDateTimeDeserializerBenchmark {
+	@Param( {
+		"2019-06-10T15:30:35-03:00",
+		"2019-06-10T15:30:35.456-03:00",
+		"2019-06-10T18:30:35.456Z"
+	} )
+	public String timestamp;
+
+	private static final DateTimeFormatter PATTERN = DateTimeFormatter.ofPattern( "yyyy-MM-dd'T'HH:mm:ss[.SSS]XXX" );
+
+	private static final ZoneId UTC = ZoneId.of( "UTC" );
+
+	private final ObjectReader reader = new ObjectMapper().readerFor( MessageStatus.class );
+
+	private char[] timestampCharacters;
+
+	private byte[] withTimestamp;
+
+	private byte[] withoutTimestamp;
+
+
+	@Setup
+	public void setup() {
+		withTimestamp = ( "{\"timestamp\":\"" + timestamp + "\",\"code\":\"DELIVERED\"}" ).getBytes( StandardCharsets.UTF_8 );
+		withoutTimestamp = "{\"code\":\"DELIVERED\"}".getBytes( StandardCharsets.UTF_8 );
+		timestampCharacters = timestamp.toCharArray();
+	}
+
+
+	@Benchmark
+	public MessageStatus deserializeWithTimestamp() throws IOException {
+		return reader.readValue( withTimestamp );
+	}
+
+
+	/** Baseline to be subtracted from {@link #deserializeWithTimestamp()}. */
+	@Benchmark
+	public MessageStatus deserializeWithoutTimestamp() throws IOException {
+		return reader.readValue( withoutTimestamp );
+	}
+
+
+	@Benchmark
+	public ZonedDateTime parseWithPattern() {
+		return ZonedDateTime.parse( timestamp, PATTERN ).withZoneSameInstant( UTC );
+	}
+
+
+	@Benchmark
+	public ZonedDateTime parseWithIsoTimestampParser() {
+		return IsoTimestampParser.parse( timestampCharacters, 0, timestampCharacters.length, UTC );
+	}
+}
@@ -1,7 +1,7 @@
 package com.zenvia.api.sdk.client.apache;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
@@ -10,8 +10,8 @@ import java.util.List;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpResponse;
@@ -27,6 +27,7 @@ import org.apache.http.entity.ContentType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zenvia.api.sdk.JsonCodec;
 import com.zenvia.api.sdk.client.AbstractClient;
 import com.zenvia.api.sdk.client.Channel;
 import com.zenvia.api.sdk.client.ChannelType;
@@ -37,6 +38,7 @@ import com.zenvia.api.sdk.client.exceptions.HttpIOException;
 import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
 import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
 import com.zenvia.api.sdk.client.exceptions.UnsupportedChannelException;
+import com.zenvia.api.sdk.client.retry.RetryAfter;
 import com.zenvia.api.sdk.client.subscriptions.PartialSubscription;
 import com.zenvia.api.sdk.client.subscriptions.Subscription;
 
@@ -59,7 +61,9 @@ import com.zenvia.api.sdk.client.subscriptions.Subscription;
 public class Client extends AbstractClient {
 	private static final Logger LOG = LoggerFactory.getLogger( Client.class );
 	
-	private final ObjectMapper jsonMapper = new ObjectMapper();
+	private final JsonCodec jsonCodec = JsonCodec.shared();
+
+	private volatile boolean chunkedRequests;
 
 
 	/** Initializes the connection pool using default configurations.
@@ -484,6 +488,22 @@ public class Client extends AbstractClient {
 	}
 
 
+	/** Sets if request bodies are sent using chunked transfer encoding, so they are serialized
+	 *  in a single pass straight into the connection. Otherwise, an extra serialization pass
+	 *  calculates the <i>Content-Length</i>. Disabled by default.
+	 *
+	 *  @since 1.2.0 */
+	public void setChunkedRequests( boolean chunkedRequests ) {
+		this.chunkedRequests = chunkedRequests;
+	}
+
+
+	/** @since 1.2.0 */
+	public boolean isChunkedRequests() {
+		return chunkedRequests;
+	}
+
+
 	@Override
 	protected <RESPONSE> RESPONSE list( String url, Class<RESPONSE> responseBodyType )
 		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
@@ -521,33 +541,37 @@ public class Client extends AbstractClient {
 
 	private <RESPONSE> RESPONSE executeRequest( HttpUriRequest httpMethod, Object requestBody, Class<RESPONSE> responseBodyType )
 		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
-		HttpResponse httpResponse = executeRequest( httpMethod, requestBody );
-		int httpStatus = httpResponse.getStatusLine().getStatusCode();
-		if ( httpStatus < 200 || httpStatus >= 300 ) {
-			throw logException( new UnsuccessfulRequestException(
-				httpMethod.getURI().toString(),
-				httpStatus,
-				deserialize( httpResponse.getEntity(), ErrorResponse.class,  httpMethod.getURI().toString(), httpStatus )
-			) );
+		httpMethod.setHeader( "X-API-Token", apiToken );
+		if( requestBody != null && httpMethod instanceof HttpEntityEnclosingRequest ) {
+			( (HttpEntityEnclosingRequest) httpMethod ).setEntity( entity( requestBody ) );
 		}
-		return deserialize( httpResponse.getEntity(), responseBodyType,  httpMethod.getURI().toString(), httpStatus );
+
+		String url = httpMethod.getURI().toString();
+		return executeWithRetries( httpMethod.getMethod(), url, () -> {
+			HttpResponse httpResponse = executeRequest( httpMethod, url );
+			int httpStatus = httpResponse.getStatusLine().getStatusCode();
+			if ( httpStatus < 200 || httpStatus >= 300 ) {
+				Header retryAfterHeader = httpResponse.getFirstHeader( RetryAfter.HEADER );
+				Long retryAfter = retryAfterHeader == null ? null : RetryAfter.parse( retryAfterHeader.getValue() );
+				throw logException( new UnsuccessfulRequestException(
+					url,
+					httpStatus,
+					deserialize( httpResponse.getEntity(), ErrorResponse.class, url, httpStatus, retryAfter ),
+					null,
+					retryAfter
+				) );
+			}
+			return deserialize( httpResponse.getEntity(), responseBodyType, url, httpStatus, null );
+		} );
 	}
 	
 
 
-	private HttpResponse executeRequest( HttpUriRequest httpMethod, Object requestBody )
+	private HttpResponse executeRequest( HttpUriRequest httpMethod, String url )
 		throws HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
 
 		HttpClientContext httpContext = new HttpClientContext();
 
-		httpMethod.addHeader( "X-API-Token", apiToken );
-		if( requestBody != null && httpMethod instanceof HttpEntityEnclosingRequest ) {
-			( (HttpEntityEnclosingRequest) httpMethod ).setEntity(
-				new ByteArrayEntity( serialize( requestBody ), ContentType.APPLICATION_JSON )
-			);
-		}
-
-		String url = httpMethod.getURI().toString();
 		try {
 			return httpClient.execute( httpMethod, httpContext );
 		} catch( SocketTimeoutException cause ) {
@@ -562,29 +586,44 @@ public class Client extends AbstractClient {
 	}
 
 
-	private <TYPE> TYPE deserialize( HttpEntity entity, Class<TYPE>type, String url, int httpStatus ) throws UnsuccessfulRequestException, HttpIOException {
+	private <TYPE> TYPE deserialize( HttpEntity entity, Class<TYPE>type, String url, int httpStatus, Long retryAfter ) throws UnsuccessfulRequestException, HttpIOException {
 		if( entity == null || entity.getContentLength() == 0 ) {
 			return null;
 		}
-		try {
-			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-			entity.writeTo( buffer );
-			byte[] data = buffer.toByteArray();
+		try( InputStream content = entity.getContent() ) {
 			if( LOG.isTraceEnabled() ) {
-				LOG.trace( "Response body: {}", new String( data, StandardCharsets.UTF_8 ) );
+				ResponseBuffer buffer = ResponseBuffer.acquire();
+				try {
+					buffer.readFrom( content );
+					LOG.trace( "Response body: {}", new String( buffer.array(), 0, buffer.size(), StandardCharsets.UTF_8 ) );
+					return jsonCodec.reader( type ).readValue( buffer.array(), 0, buffer.size() );
+				} finally {
+					buffer.release();
+				}
 			}
-			return jsonMapper.readValue( data, type );
+			return jsonCodec.reader( type ).readValue( content );
 		} catch( JsonMappingException | JsonParseException exception ) {
-			throw logException( new UnsuccessfulRequestException( url, httpStatus, exception ) );
+			throw logException( new UnsuccessfulRequestException( url, httpStatus, null, exception, retryAfter ) );
 		} catch( IOException exception ) {
 			throw logException( new HttpIOException( url, exception ) );
 		}
 	}
 
 
+	private HttpEntity entity( Object data ) throws IllegalArgumentException {
+		if( LOG.isTraceEnabled() ) {
+			return new ByteArrayEntity( serialize( data ), ContentType.APPLICATION_JSON );
+		}
+		HttpEntity entity = new JsonEntity( jsonCodec.writer(), data, chunkedRequests );
+		// When not chunked, the length is calculated up front, so a body that cannot be serialized fails before the request is sent
+		entity.getContentLength();
+		return entity;
+	}
+
+
 	private byte[] serialize( Object data ) throws IllegalArgumentException {
 		try {
-			byte[] serialized = jsonMapper.writeValueAsBytes( data );
+			byte[] serialized = jsonCodec.writer().writeValueAsBytes( data );
 			if( LOG.isTraceEnabled() ) {
 				LOG.trace( "Request body: {}", new String( serialized, StandardCharsets.UTF_8 ) );
 			}
@@ -0,0 +1,104 @@
+package com.zenvia.api.sdk.client.apache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+
+/** Request entity that serializes its value as JSON straight into the connection output
+ *  stream, instead of materializing the whole body in a <code>byte[]</code> first.
+ *  <br><br>
+ *  When chunked, the body is written in a single pass. Otherwise, the
+ *  <i>Content-Length</i> is calculated on a first pass that only counts the generated bytes.
+ *  The entity is repeatable, so it can be sent again on retries.
+ *
+ *  @since 1.2.0 */
+class JsonEntity extends AbstractHttpEntity {
+	private final ObjectWriter jsonWriter;
+
+	private final Object value;
+
+	private long contentLength = -1L;
+
+
+	/** @param jsonWriter Writer that must not close the target stream.
+	 *
+	 *  @param value The value to be serialized.
+	 *
+	 *  @param chunked If the body is sent using chunked transfer encoding.
+	 *
+	 *  @since 1.2.0 */
+	JsonEntity( ObjectWriter jsonWriter, Object value, boolean chunked ) {
+		this.jsonWriter = jsonWriter;
+		this.value = value;
+		setContentType( ContentType.APPLICATION_JSON.toString() );
+		setChunked( chunked );
+	}
+
+
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+
+	@Override
+	public long getContentLength() {
+		if( isChunked() ) {
+			return -1L;
+		}
+		if( contentLength < 0 ) {
+			CountingOutputStream counter = new CountingOutputStream();
+			try {
+				jsonWriter.writeValue( counter, value );
+			} catch( IOException exception ) {
+				throw new IllegalArgumentException( "Exception serializing request body", exception );
+			}
+			contentLength = counter.count;
+		}
+		return contentLength;
+	}
+
+
+	/** Not used by the HTTP client when sending the request, so it buffers the body. */
+	@Override
+	public InputStream getContent() throws IOException {
+		return new ByteArrayInputStream( jsonWriter.writeValueAsBytes( value ) );
+	}
+
+
+	@Override
+	public void writeTo( OutputStream outputStream ) throws IOException {
+		jsonWriter.writeValue( outputStream, value );
+		outputStream.flush();
+	}
+
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+
+	private static class CountingOutputStream extends OutputStream {
+		private long count;
+
+
+		@Override
+		public void write( int value ) {
+			count++;
+		}
+
+
+		@Override
+		public void write( byte[] buffer, int offset, int length ) {
+			count += length;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.zenvia.api.sdk.client.apache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+
+/** Growable byte buffer recycled per thread, used when a response body must be kept in
+ *  memory (to be logged) before being parsed, so its backing array is not reallocated on
+ *  every request. Buffers that grew beyond {@value #MAX_RETAINED_SIZE} bytes are not kept.
+ *
+ *  @since 1.2.0 */
+final class ResponseBuffer extends ByteArrayOutputStream {
+	private static final int INITIAL_SIZE = 8 * 1024;
+
+	private static final int MAX_RETAINED_SIZE = 1024 * 1024;
+
+	private static final ThreadLocal<ResponseBuffer> BUFFERS = ThreadLocal.withInitial( ResponseBuffer::new );
+
+
+	private ResponseBuffer() {
+		super( INITIAL_SIZE );
+	}
+
+
+	/** Returns the empty buffer of the current thread. It must be {@link #release() released}
+	 *  after use.
+	 *
+	 *  @since 1.2.0 */
+	static ResponseBuffer acquire() {
+		ResponseBuffer buffer = BUFFERS.get();
+		buffer.reset();
+		return buffer;
+	}
+
+
+	/** Reads the whole stream straight into the backing array.
+	 *
+	 *  @since 1.2.0 */
+	void readFrom( InputStream inputStream ) throws IOException {
+		while( true ) {
+			if( count == buf.length ) {
+				buf = Arrays.copyOf( buf, buf.length * 2 );
+			}
+			int read = inputStream.read( buf, count, buf.length - count );
+			if( read == -1 ) {
+				return;
+			}
+			count += read;
+		}
+	}
+
+
+	/** The backing array, valid from zero to {@link #size()}.
+	 *
+	 *  @since 1.2.0 */
+	byte[] array() {
+		return buf;
+	}
+
+
+	/** @since 1.2.0 */
+	void release() {
+		if( buf.length > MAX_RETAINED_SIZE ) {
+			BUFFERS.remove();
+		}
+	}
+}
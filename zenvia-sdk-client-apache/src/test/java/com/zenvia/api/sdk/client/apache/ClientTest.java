@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -27,6 +28,8 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.Before;
 import org.junit.FixMethodOrder;
@@ -42,10 +45,14 @@ import org.springframework.test.context.junit4.SpringRunner;
 import com.zenvia.api.sdk.client.AbstractClient;
 import com.zenvia.api.sdk.client.ChannelType;
 import com.zenvia.api.sdk.client.errors.ErrorResponse;
+import com.zenvia.api.sdk.client.circuitbreaker.CircuitBreakerConfig;
+import com.zenvia.api.sdk.client.circuitbreaker.CircuitState;
+import com.zenvia.api.sdk.client.exceptions.CircuitBreakerOpenException;
 import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
 import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
 import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
 import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+import com.zenvia.api.sdk.client.retry.ExponentialBackoffRetryPolicy;
 import com.zenvia.api.sdk.client.subscriptions.Criteria;
 import com.zenvia.api.sdk.client.subscriptions.EventType;
 import com.zenvia.api.sdk.client.subscriptions.MessageCriteria;
@@ -308,6 +315,8 @@ public class ClientTest {
 		assertEquals( 1, server.lastMessagePost.contents.size() );
 		assertEquals( ContentType.text, server.lastMessagePost.contents.get( 0 ).type );
 		assertEquals( "This is a test!", ( (TextContent) server.lastMessagePost.contents.get( 0 ) ).text );
+		assertNull( server.lastMessageTransferEncoding );
+		assertEquals( Long.valueOf( new ObjectMapper().writeValueAsBytes( request ).length ), server.lastMessageContentLength );
 
 		assertNotNull( message );
 		assertEquals( "12345", message.id );
@@ -324,6 +333,27 @@ public class ClientTest {
 	}
 
 
+	@Test
+	public void messageRequestWithChunkedTransfer() throws Exception {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		client.setChunkedRequests( true );
+		MessageRequest request = messageRequest();
+		Message message = client.getChannel( "whatsapp" )
+			.sendMessage( request.from, request.to, request.contents );
+
+		assertEquals( "chunked", server.lastMessageTransferEncoding );
+		assertNull( server.lastMessageContentLength );
+		assertNotNull( server.lastMessagePost );
+		assertEquals( "from", server.lastMessagePost.from );
+		assertEquals( "to", server.lastMessagePost.to );
+		assertEquals( "This is a test!", ( (TextContent) server.lastMessagePost.contents.get( 0 ) ).text );
+
+		assertNotNull( message );
+		assertEquals( "12345", message.id );
+		client.close();
+	}
+
+
 	@Test
 	public void messageRequestWithEmptyReply() {
 		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
@@ -368,7 +398,7 @@ public class ClientTest {
 			assertEquals( "This is a test!", ( (TextContent) server.lastMessagePost.contents.get( 0 ) ).text );
 
 			assertNull( exception.getBody() );
-			assertEquals( "Unrecognized token 'invalid': was expecting ('true', 'false' or 'null')\n at [Source: (byte[])\"invalid\"; line: 1, column: 15]", exception.getCause().getMessage() );
+			assertEquals( "Unrecognized token 'invalid': was expecting ('true', 'false' or 'null')\n at [Source: (org.apache.http.conn.EofSensorInputStream); line: 1, column: 15]", exception.getCause().getMessage() );
 		} catch( Exception exception ) {
 			fail();
 		}
@@ -433,6 +463,87 @@ public class ClientTest {
 	}
 
 
+	@Test
+	public void messageRequestRetriedOnServiceUnavailable() throws Exception {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort + "/flaky" );
+		client.setRetryPolicy( new ExponentialBackoffRetryPolicy( 3, 1L, 10L ) );
+		MessageRequest request = messageRequest();
+		Message message = client.getChannel( "whatsapp" )
+			.sendMessage( request.from, request.to, request.contents );
+
+		assertNotNull( message );
+		assertEquals( "12345", message.id );
+		assertEquals( 3, server.flakyAttempts );
+		assertEquals( 2, client.getRetryStatistics().getRetries() );
+		assertEquals( 1, client.getRetryStatistics().getRecovered() );
+		assertEquals( 0, client.getRetryStatistics().getExhausted() );
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestNotRetriedOnBadGateway() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort + "/flaky" );
+		client.setRetryPolicy( new ExponentialBackoffRetryPolicy( 3, 1L, 10L ) );
+		try {
+			MessageRequest request = messageRequest();
+			client.getChannel( "sms" )
+				.sendMessage( request.from, request.to, request.contents );
+			fail();
+		} catch( UnsuccessfulRequestException exception ) {
+			assertEquals( 502, exception.httpStatusCode );
+			assertEquals( 1, server.flakyAttempts );
+			assertEquals( 0, client.getRetryStatistics().getRetries() );
+		} catch( Exception exception ) {
+			fail();
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestFailsFastWhenCircuitIsOpen() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort + "/flaky" );
+		client.setCircuitBreakerConfig( new CircuitBreakerConfig( 50, null, null, 2, 2, 60000L, 1 ) );
+		MessageRequest request = messageRequest();
+		for( int i = 0; i < 2; i++ ) {
+			try {
+				client.getChannel( "sms" ).sendMessage( request.from, request.to, request.contents );
+				fail();
+			} catch( UnsuccessfulRequestException exception ) {
+				assertEquals( 502, exception.httpStatusCode );
+			}
+		}
+		try {
+			client.getChannel( "sms" ).sendMessage( request.from, request.to, request.contents );
+			fail();
+		} catch( CircuitBreakerOpenException exception ) {
+			assertEquals( ChannelType.sms.messagePath, exception.endpoint );
+		}
+		assertEquals( 2, server.flakyAttempts );
+		assertEquals( CircuitState.OPEN, client.getCircuitBreakers().get( ChannelType.sms.messagePath ).getState() );
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestRecordsMetrics() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort + "/flaky" );
+		List<String> records = new CopyOnWriteArrayList<>();
+		client.setMetrics( ( method, endpoint, channel, durationNanos, exception ) -> {
+			records.add( method + " " + endpoint + " " + channel + " " + exception.getClass().getSimpleName() );
+		} );
+		try {
+			MessageRequest request = messageRequest();
+			client.getChannel( "sms" ).sendMessage( request.from, request.to, request.contents );
+			fail();
+		} catch( UnsuccessfulRequestException exception ) {
+			assertEquals( Arrays.asList( "POST /v1/channels/sms/messages sms UnsuccessfulRequestException" ), records );
+		}
+		client.close();
+	}
+
+
 	@Test
 	public void messageSubscriptionSuccessfulCreation() throws Exception {
 		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
@@ -747,11 +858,14 @@ public class ClientTest {
 	@Before
 	public void reset() {
 		server.lastMessagePost = null;
+		server.lastMessageTransferEncoding = null;
+		server.lastMessageContentLength = null;
 		server.lastMessageSubscriptionPost = null;
 		server.lastMessageSubscriptionPatch = null;
 		server.lastMessageStatusSubscriptionPost = null;
 		server.lastMessageStatusSubscriptionPatch = null;
 		server.lastSubscriptionDelete = null;
+		server.flakyAttempts = 0;
 	}
 
 
@@ -760,6 +874,10 @@ public class ClientTest {
 	public static class TestServer extends ResourceConfig {
 		private MessageRequest lastMessagePost;
 
+		private String lastMessageTransferEncoding;
+
+		private Long lastMessageContentLength;
+
 		private MessageSubscription lastMessageSubscriptionPost;
 
 		private MessageSubscription lastMessageSubscriptionPatch;
@@ -770,6 +888,8 @@ public class ClientTest {
 
 		private String lastSubscriptionDelete;
 
+		private int flakyAttempts;
+
 
 		public TestServer() {
 			register( this );
@@ -947,9 +1067,13 @@ public class ClientTest {
 		@Produces( MediaType.APPLICATION_JSON )
 		public Response messageResource(
 			MessageRequest messageRequest,
-			@HeaderParam( "x-api-token" ) String token
+			@HeaderParam( "x-api-token" ) String token,
+			@HeaderParam( "transfer-encoding" ) String transferEncoding,
+			@HeaderParam( "content-length" ) Long contentLength
 		) {
 			this.lastMessagePost = messageRequest;
+			this.lastMessageTransferEncoding = transferEncoding;
+			this.lastMessageContentLength = contentLength;
 			if( token != null && token.equals( "API_TOKEN" ) ) {
 				return Response
 					.ok( "{\"id\":\"12345\",\"from\":\"123\",\"to\":\"456\",\"direction\":\"OUT\",\"channel\":\"whatsapp\",\"contents\":[{\"type\":\"text\",\"text\":\"This is a test!\"}]}" )
@@ -1016,5 +1140,38 @@ public class ClientTest {
 				.entity( "invalid" )
 				.build();
 		}
+
+
+		@POST
+		@Path( "/flaky/v1/channels/whatsapp/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response flakyResource( MessageRequest messageRequest ) {
+			this.lastMessagePost = messageRequest;
+			if( ++flakyAttempts < 3 ) {
+				return Response
+					.status( 503 )
+					.header( "Retry-After", "0" )
+					.entity( "{\"code\":\"UNAVAILABLE\",\"message\":\"Try again later\"}" )
+					.build();
+			}
+			return Response
+				.ok( "{\"id\":\"12345\",\"from\":\"123\",\"to\":\"456\",\"direction\":\"OUT\",\"channel\":\"whatsapp\",\"contents\":[{\"type\":\"text\",\"text\":\"This is a test!\"}]}" )
+				.build();
+		}
+
+
+		@POST
+		@Path( "/flaky/v1/channels/sms/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response badGatewayResource( MessageRequest messageRequest ) {
+			this.lastMessagePost = messageRequest;
+			flakyAttempts++;
+			return Response
+				.status( 502 )
+				.entity( "{\"code\":\"BAD_GATEWAY\",\"message\":\"Bad gateway\"}" )
+				.build();
+		}
 	}
 }
@@ -0,0 +1,51 @@
+package com.zenvia.api.sdk.client.apache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class ResponseBufferTest {
+	@Test
+	public void bufferIsRecycledPerThread() throws Exception {
+		ResponseBuffer buffer = ResponseBuffer.acquire();
+		buffer.readFrom( new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+		assertEquals( 3, buffer.size() );
+		buffer.release();
+
+		ResponseBuffer recycled = ResponseBuffer.acquire();
+		assertSame( buffer, recycled );
+		assertEquals( 0, recycled.size() );
+		recycled.release();
+	}
+
+
+	@Test
+	public void bufferGrowsToFitTheStream() throws Exception {
+		byte[] data = new byte[ 100_000 ];
+		Arrays.fill( data, (byte) 'x' );
+		ResponseBuffer buffer = ResponseBuffer.acquire();
+		buffer.readFrom( new ByteArrayInputStream( data ) );
+		assertEquals( data.length, buffer.size() );
+		assertArrayEquals( data, Arrays.copyOf( buffer.array(), buffer.size() ) );
+		buffer.release();
+	}
+
+
+	@Test
+	public void largeBufferIsNotRetained() throws Exception {
+		ResponseBuffer buffer = ResponseBuffer.acquire();
+		buffer.readFrom( new ByteArrayInputStream( new byte[ 2 * 1024 * 1024 ] ) );
+		buffer.release();
+		assertNotSame( buffer, ResponseBuffer.acquire() );
+	}
+}
@@ -0,0 +1,134 @@
+package com.zenvia.api.sdk.client.async;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.HttpIOException;
+import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+import com.zenvia.api.sdk.client.exceptions.UnsupportedContentException;
+import com.zenvia.api.sdk.client.subscriptions.MessageStatusSubscription;
+import com.zenvia.api.sdk.contents.Content;
+import com.zenvia.api.sdk.messages.Message;
+import com.zenvia.api.sdk.messages.MessageRequest;
+
+
+/** Non-blocking counterpart of {@link com.zenvia.api.sdk.client.Channel}, obtained from an
+ *  {@link AsyncClient}.
+ *
+ *  @since 1.2.0 */
+public class AsyncChannel {
+	/** @since 1.2.0 */
+	public final ChannelType type;
+
+	/** @since 1.2.0 */
+	public final String url;
+
+	protected final AsyncClient client;
+
+
+	protected AsyncChannel( ChannelType type, AsyncClient client ) {
+		this.type = type;
+		this.client = client;
+		this.url = client.getApiUrl() + type.messagePath;
+	}
+
+
+	/** Send one or more contents to a contact, without waiting for the server reply. On most
+	 *  channels, each content will be a message delivered to the receiver. In order to know if it
+	 *  has been delivered successfully to the receiver, it is necessary to create a
+	 *  {@link MessageStatusSubscription message status subscription} for this channel.
+	 *
+	 *  @param from Id of the sender of the message. Represents an integration on
+	 *  <a href="https://app.zenvia.com" target="_blank">https://app.zenvia.com</a>.
+	 *  The format of the value varies from channel to channel.
+	 *
+	 *  @param to Id of the receiver of the message. The format of the value varies from channel
+	 *  to channel. On channels which handles with phone numbers, it is the contact's phone number.
+	 *
+	 *  @param contents List of contents to be sent to the receiver.
+	 *
+	 *  @return Future completed with the message accepted by the server, or completed exceptionally with
+	 *  {@link UnsupportedContentException}, {@link UnsuccessfulRequestException}, {@link HttpSocketTimeoutException},
+	 *  {@link HttpConnectionTimeoutException}, {@link HttpConnectionFailException} or {@link HttpIOException}.
+	 *
+	 *  @since 1.2.0 */
+	public CompletableFuture<Message> sendMessageAsync( String from, String to, Content... contents ) {
+		return sendMessageAsync( new MessageRequest( from, to, contents == null ? null : Arrays.asList( contents ) ) );
+	}
+
+
+	/** Send one or more contents to a contact, without waiting for the server reply. On most
+	 *  channels, each content will be a message delivered to the receiver. In order to know if it
+	 *  has been delivered successfully to the receiver, it is necessary to create a
+	 *  {@link MessageStatusSubscription message status subscription} for this channel.
+	 *
+	 *  @param from Id of the sender of the message. Represents an integration on
+	 *  <a href="https://app.zenvia.com" target="_blank">https://app.zenvia.com</a>.
+	 *  The format of the value varies from channel to channel.
+	 *
+	 *  @param to Id of the receiver of the message. The format of the value varies from channel
+	 *  to channel. On channels which handles with phone numbers, it is the contact's phone number.
+	 *
+	 *  @param contents List of contents to be sent to the receiver.
+	 *
+	 *  @return Future completed with the message accepted by the server, or completed exceptionally with
+	 *  {@link UnsupportedContentException}, {@link UnsuccessfulRequestException}, {@link HttpSocketTimeoutException},
+	 *  {@link HttpConnectionTimeoutException}, {@link HttpConnectionFailException} or {@link HttpIOException}.
+	 *
+	 *  @since 1.2.0 */
+	public CompletableFuture<Message> sendMessageAsync( String from, String to, Collection<Content> contents ) {
+		return sendMessageAsync( new MessageRequest( from, to, contents == null ? null : new ArrayList<>( contents ) ) );
+	}
+
+
+	/** Send one or more contents to a contact, without waiting for the server reply. On most
+	 *  channels, each content will be a message delivered to the receiver. In order to know if it
+	 *  has been delivered successfully to the receiver, it is necessary to create a
+	 *  {@link MessageStatusSubscription message status subscription} for this channel.
+	 *
+	 *  @param from Id of the sender of the message. Represents an integration on
+	 *  <a href="https://app.zenvia.com" target="_blank">https://app.zenvia.com</a>.
+	 *  The format of the value varies from channel to channel.
+	 *
+	 *  @param to Id of the receiver of the message. The format of the value varies from channel
+	 *  to channel. On channels which handles with phone numbers, it is the contact's phone number.
+	 *
+	 *  @param contents List of contents to be sent to the receiver.
+	 *
+	 *  @return Future completed with the message accepted by the server, or completed exceptionally with
+	 *  {@link UnsupportedContentException}, {@link UnsuccessfulRequestException}, {@link HttpSocketTimeoutException},
+	 *  {@link HttpConnectionTimeoutException}, {@link HttpConnectionFailException} or {@link HttpIOException}.
+	 *
+	 *  @since 1.2.0 */
+	public CompletableFuture<Message> sendMessageAsync( String from, String to, List<Content> contents ) {
+		return sendMessageAsync( new MessageRequest( from, to, contents ) );
+	}
+
+
+	protected CompletableFuture<Message> sendMessageAsync( MessageRequest messageRequest ) {
+		for( Content content : messageRequest.contents ) {
+			if( !type.supportsContent( content.type ) ) {
+				CompletableFuture<Message> unsupported = new CompletableFuture<>();
+				unsupported.completeExceptionally( new UnsupportedContentException( content.type, type ) );
+				return unsupported;
+			}
+		}
+		return client.sendMessageAsync( this, messageRequest );
+	}
+
+
+	/** String containg the channel name.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public String toString() {
+		return type.name();
+	}
+}
@@ -0,0 +1,645 @@
+package com.zenvia.api.sdk.client.async;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zenvia.api.sdk.JsonCodec;
+import com.zenvia.api.sdk.client.AbstractClient;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.errors.ErrorResponse;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.HttpIOException;
+import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+import com.zenvia.api.sdk.client.exceptions.UnsupportedChannelException;
+import com.zenvia.api.sdk.client.subscriptions.MessageStatusSubscription;
+import com.zenvia.api.sdk.client.subscriptions.MessageSubscription;
+import com.zenvia.api.sdk.client.subscriptions.PartialSubscription;
+import com.zenvia.api.sdk.client.subscriptions.Subscription;
+import com.zenvia.api.sdk.messages.Message;
+import com.zenvia.api.sdk.messages.MessageRequest;
+
+
+/** Non-blocking API Client that is backed by
+ *  <a href="http://hc.apache.org/httpcomponents-asyncclient-4.1.x/" target="_blank">Apache HTTP Async Client</a>.
+ *  This class also relies on <a href="https://github.com/FasterXML/jackson" target="_blank">Jackson</a> for JSON handling.
+ *  <br><br>
+ *  Unlike the {@link AbstractClient blocking clients}, no method of this client waits for the
+ *  server reply. Each call returns a {@link CompletableFuture} right away, and a small number of
+ *  I/O threads multiplexes all in-flight requests, so thousands of messages can be in flight
+ *  without holding one thread each.
+ *  <br><br>
+ *  Failures complete the returned future exceptionally with the same exceptions thrown by the
+ *  blocking clients, like {@link UnsuccessfulRequestException} or {@link HttpConnectionFailException}.
+ *  Dependent stages attached with non-async methods, like {@link CompletableFuture#thenApply thenApply},
+ *  run on the I/O threads, so any slow processing should be attached with the async variants instead.
+ *  <br><br>
+ *  Sending WhatsApp text message example:
+ *  <br>
+ *  <pre>{@code
+ *    AsyncClient client = new AsyncClient( "API TOKEN" );
+ *    client.getChannel( "whatsapp" ).sendMessageAsync(
+ *      "WhatsApp-business-id", "receiver-phone-number", new TextContent( "Text to be sent!" )
+ *    ).thenAccept( message -> System.out.println( message.id ) );
+ *  }</pre>
+ *
+ *  @since 1.2.0 */
+public class AsyncClient implements Closeable {
+	private static final Logger LOG = LoggerFactory.getLogger( AsyncClient.class );
+
+	/** @since 1.2.0 */
+	public static final int DEFAULT_IO_THREADS = Runtime.getRuntime().availableProcessors();
+
+	protected final String apiToken;
+
+	protected final String apiUrl;
+
+	protected final String subscriptionApiUrl;
+
+	protected final CloseableHttpAsyncClient httpClient;
+
+	private final RequestConfig requestConfig;
+
+	private final IOReactorConfig ioReactorConfig;
+
+	private final PoolingNHttpClientConnectionManager connectionPool;
+
+	private final JsonCodec jsonCodec = JsonCodec.shared();
+
+
+	/** Initializes the connection pool using default configurations.
+	 * <br>
+	 * <ul>
+	 *    <li><b>Maximum connections:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS}</li>
+	 *    <li><b>Connection timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} ms</li>
+	 *    <li><b>Socket timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} ms</li>
+	 *    <li><b>Connection pool timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} ms</li>
+	 *    <li><b>I/O threads:</b> number of available processors</li>
+	 *  </ul>
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @since 1.2.0 */
+	public AsyncClient( String apiToken ) {
+		this( apiToken, null, null, null, null, null, null );
+	}
+
+
+	/** Initializes the connection pool using default configurations.
+	 * <br>
+	 * <ul>
+	 *    <li><b>Maximum connections:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS}</li>
+	 *    <li><b>Connection timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} ms</li>
+	 *    <li><b>Socket timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} ms</li>
+	 *    <li><b>Connection pool timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} ms</li>
+	 *    <li><b>I/O threads:</b> number of available processors</li>
+	 *  </ul>
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @param apiUrl
+	 *  The URL for the API service. Normally the value {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} is used, but can be
+	 *  useful for testing, and in rare cases, for custom integrations.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public AsyncClient( String apiToken, String apiUrl ) {
+		this( apiToken, apiUrl, null, null, null, null, null );
+	}
+
+
+	/** Initializes the connection pool using a mix of the given configurations
+	 * and below default configurations.
+	 * <br>
+	 * <ul>
+	 *    <li><b>Connection timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} ms</li>
+	 *    <li><b>Socket timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} ms</li>
+	 *    <li><b>Connection pool timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} ms</li>
+	 *    <li><b>I/O threads:</b> number of available processors</li>
+	 *  </ul>
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @param apiUrl
+	 *  The URL for the API service. Normally the value {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} is used, but can be
+	 *  useful for testing, and in rare cases, for custom integrations.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} will be used instead.
+	 *
+	 *  @param maxConnections
+	 *  The maximum number of connections in the pool. Requests beyond this limit wait for a free
+	 *  connection without holding any thread.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public AsyncClient( String apiToken, String apiUrl, Integer maxConnections ) {
+		this( apiToken, apiUrl, maxConnections, null, null, null, null );
+	}
+
+
+	/** Initializes the connection pool using a mix of the given configurations
+	 * and below default configurations.
+	 * <br>
+	 * <ul>
+	 *    <li><b>Connection pool timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} ms</li>
+	 *    <li><b>I/O threads:</b> number of available processors</li>
+	 *  </ul>
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @param apiUrl
+	 *  The URL for the API service. Normally the value {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} is used, but can be
+	 *  useful for testing, and in rare cases, for custom integrations.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} will be used instead.
+	 *
+	 *  @param maxConnections
+	 *  The maximum number of connections in the pool.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS} will be used instead.
+	 *
+	 *  @param connectionTimeout
+	 *  The amount of time in milliseconds for a connection attempt to timeout.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} will be used instead.
+	 *
+	 *  @param socketTimeout
+	 *  The amount of time in milliseconds for a server reply to timeout.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public AsyncClient(
+		String apiToken,
+		String apiUrl,
+		Integer maxConnections,
+		Integer connectionTimeout,
+		Integer socketTimeout
+	) {
+		this( apiToken, apiUrl, maxConnections, connectionTimeout, socketTimeout, null, null );
+	}
+
+
+	/** Initializes the connection pool using the given configurations.
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @param apiUrl
+	 *  The URL for the API service. Normally the value {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} is used, but can be
+	 *  useful for testing, and in rare cases, for custom integrations.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} will be used instead.
+	 *
+	 *  @param maxConnections
+	 *  The maximum number of connections in the pool.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS} will be used instead.
+	 *
+	 *  @param connectionTimeout
+	 *  The amount of time in milliseconds for a connection attempt to timeout.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} will be used instead.
+	 *
+	 *  @param socketTimeout
+	 *  The amount of time in milliseconds for a server reply to timeout.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} will be used instead.
+	 *
+	 *  @param connectionPoolTimeout
+	 *  The amount of time in milliseconds for a request to timeout when wait for a free connection
+	 *  from the pool. When zero, it means it will wait indefinitely for a connection.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} will be used instead.
+	 *
+	 *  @param ioThreads
+	 *  The number of I/O dispatcher threads shared by all requests.
+	 *  When null, the number of available processors will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public AsyncClient(
+		String apiToken,
+		String apiUrl,
+		Integer maxConnections,
+		Integer connectionTimeout,
+		Integer socketTimeout,
+		Integer connectionPoolTimeout,
+		Integer ioThreads
+	) {
+		this.apiToken = apiToken;
+		this.apiUrl = valueOrDefault( apiUrl, AbstractClient.DEFAULT_URL );
+		this.subscriptionApiUrl = this.apiUrl + "/v1/subscriptions";
+
+		this.requestConfig = RequestConfig.custom()
+			.setConnectionRequestTimeout( valueOrDefault( connectionPoolTimeout, AbstractClient.DEFAULT_CONNECTION_POOL_TIMEOUT ) )
+			.setConnectTimeout( valueOrDefault( connectionTimeout, AbstractClient.DEFAULT_CONNECTION_TIMEOUT ) )
+			.setSocketTimeout( valueOrDefault( socketTimeout, AbstractClient.DEFAULT_SOCKET_TIMEOUT ) )
+			.build();
+
+		this.ioReactorConfig = IOReactorConfig.custom()
+			.setIoThreadCount( valueOrDefault( ioThreads, DEFAULT_IO_THREADS ) )
+			.setConnectTimeout( requestConfig.getConnectTimeout() )
+			.setSoTimeout( requestConfig.getSocketTimeout() )
+			.build();
+
+		this.connectionPool = buildConnectionPool(
+			ioReactorConfig,
+			valueOrDefault( maxConnections, AbstractClient.DEFAULT_MAX_CONNECTIONS )
+		);
+
+		this.httpClient = HttpAsyncClients.custom()
+			.setConnectionManager( connectionPool )
+			.setDefaultRequestConfig( requestConfig )
+			.build();
+		this.httpClient.start();
+	}
+
+
+	/** Channel on which messages can be sent without blocking.
+	 *
+	 *  @param channelType The channel name.
+	 *
+	 *  @return The channel.
+	 *
+	 *  @throws UnsupportedChannelException
+	 *  If the given channel name is not supported.
+	 *
+	 *  @since 1.2.0 */
+	public AsyncChannel getChannel( String channelType ) throws UnsupportedChannelException {
+		return getChannel( ChannelType.parse( channelType ) );
+	}
+
+
+	/** Channel on which messages can be sent without blocking.
+	 *
+	 *  @param channelType The channel.
+	 *
+	 *  @return The channel.
+	 *
+	 *  @since 1.2.0 */
+	public AsyncChannel getChannel( ChannelType channelType ) throws UnsupportedChannelException {
+		return new AsyncChannel( channelType, this );
+	}
+
+
+	/** Gets all subscriptions, of all types and all channels. So the list may contain
+	 * {@link MessageSubscription} and {@link MessageStatusSubscription} mixed together.
+	 *
+	 *  @return Future completed with the existing subscriptions, or completed exceptionally with
+	 *  the same exceptions thrown by {@link AbstractClient#listSubscriptions()}.
+	 *
+	 *  @since 1.2.0 */
+	public CompletableFuture<List<Subscription>> listSubscriptionsAsync() {
+		return executeRequest( new HttpGet( subscriptionApiUrl ), null, Subscription[].class )
+			.thenApply( subscriptions -> subscriptions == null ? Collections.emptyList() : Arrays.asList( subscriptions ) );
+	}
+
+
+	/** Creates a subscription. Subscription must be either for
+	 *  {@link MessageSubscription messages} or for {@link MessageStatusSubscription message status},
+	 *  and also must be tied to a {@link ChannelType channel}.
+	 *
+	 *  @param subscription Subscription to be created.
+	 *
+	 *  @return Future completed with the subscription created, or completed exceptionally with
+	 *  the same exceptions thrown by {@link AbstractClient#createSubscription}.
+	 *
+	 *  @since 1.2.0 */
+	public <SUBSCRIPTION extends Subscription> CompletableFuture<SUBSCRIPTION> createSubscriptionAsync( SUBSCRIPTION subscription ) {
+		return cast( executeRequest( new HttpPost( subscriptionApiUrl ), subscription, Subscription.class ) );
+	}
+
+
+	/** Gets the subscription with given id.
+	 *
+	 *  @param id Id of the subscription to be fetched.
+	 *
+	 *  @return Future completed with the subscription, or completed exceptionally with
+	 *  the same exceptions thrown by {@link AbstractClient#getSubscription}.
+	 *
+	 *  @since 1.2.0 */
+	public <SUBSCRIPTION extends Subscription> CompletableFuture<SUBSCRIPTION> getSubscriptionAsync( String id ) {
+		return cast( executeRequest( new HttpGet( subscriptionApiUrl + "/" + id ), null, Subscription.class ) );
+	}
+
+
+	/** Updates subscription {@link com.zenvia.api.sdk.client.subscriptions.Webhook webhook}
+	 *  and {@link com.zenvia.api.sdk.client.subscriptions.SubscriptionStatus status}.
+	 *  Other attributes from subscription are not updatable.
+	 *
+	 *  @param subscription Subscription to be updated.
+	 *
+	 *  @return Future completed with the subscription updated, or completed exceptionally with
+	 *  the same exceptions thrown by {@link AbstractClient#updateSubscription(Subscription)}.
+	 *
+	 *  @since 1.2.0 */
+	public <SUBSCRIPTION extends Subscription> CompletableFuture<SUBSCRIPTION> updateSubscriptionAsync( SUBSCRIPTION subscription ) {
+		return updateSubscriptionAsync( subscription.id, new PartialSubscription( subscription ) );
+	}
+
+
+	/** Updates subscription {@link com.zenvia.api.sdk.client.subscriptions.Webhook webhook}
+	 *  and {@link com.zenvia.api.sdk.client.subscriptions.SubscriptionStatus status}.
+	 *  Other attributes from subscription are not updatable.
+	 *
+	 *  @param id Id of the subscription to be updated.
+	 *
+	 *  @param partialSubscription Object containing the new
+	 *  {@link com.zenvia.api.sdk.client.subscriptions.Webhook webhook}
+	 *  and {@link com.zenvia.api.sdk.client.subscriptions.SubscriptionStatus status}
+	 *  of the subscription.
+	 *
+	 *  @return Future completed with the subscription updated, or completed exceptionally with
+	 *  the same exceptions thrown by {@link AbstractClient#updateSubscription(String, PartialSubscription)}.
+	 *
+	 *  @since 1.2.0 */
+	public <SUBSCRIPTION extends Subscription> CompletableFuture<SUBSCRIPTION> updateSubscriptionAsync( String id, PartialSubscription partialSubscription ) {
+		return cast( executeRequest( new HttpPatch( subscriptionApiUrl + "/" + id ), partialSubscription, Subscription.class ) );
+	}
+
+
+	/** Deletes the subscription with the given id.
+	 *
+	 *  @param id Id of the subscription to be deleted.
+	 *
+	 *  @return Future completed when the subscription is deleted, or completed exceptionally with
+	 *  the same exceptions thrown by {@link AbstractClient#deleteSubscription}.
+	 *
+	 *  @since 1.2.0 */
+	public CompletableFuture<Void> deleteSubscriptionAsync( String id ) {
+		return executeRequest( new HttpDelete( subscriptionApiUrl + "/" + id ), null, Void.class );
+	}
+
+
+	protected CompletableFuture<Message> sendMessageAsync( AsyncChannel channel, MessageRequest messageRequest ) {
+		return executeRequest( new HttpPost( channel.url ), messageRequest, Message.class );
+	}
+
+
+	/** Returns the configured service URL. In most cases it will be {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL}.
+	 *
+	 *  @since 1.2.0 */
+	public String getApiUrl() {
+		return apiUrl;
+	}
+
+
+	/** Shuts down the I/O threads and the connection pool. Requests still in flight are aborted.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public void close() {
+		try {
+			httpClient.close();
+		} catch( IOException exception ) {
+			LOG.warn( "Error closing HTTP client", exception );
+		}
+	}
+
+
+	private <RESPONSE> CompletableFuture<RESPONSE> executeRequest( HttpRequestBase httpMethod, Object requestBody, Class<RESPONSE> responseBodyType ) {
+		CompletableFuture<RESPONSE> response = new CompletableFuture<>();
+		String url = httpMethod.getURI().toString();
+
+		try {
+			httpMethod.setHeader( "X-API-Token", apiToken );
+			if( requestBody != null && httpMethod instanceof HttpEntityEnclosingRequest ) {
+				( (HttpEntityEnclosingRequest) httpMethod ).setEntity(
+					new ByteArrayEntity( serialize( requestBody ), ContentType.APPLICATION_JSON )
+				);
+			}
+
+			Future<HttpResponse> execution = httpClient.execute( httpMethod, new FutureCallback<HttpResponse>() {
+				@Override
+				public void completed( HttpResponse httpResponse ) {
+					try {
+						response.complete( handleResponse( url, httpResponse, responseBodyType ) );
+					} catch( RuntimeException exception ) {
+						response.completeExceptionally( exception );
+					}
+				}
+
+				@Override
+				public void failed( Exception cause ) {
+					response.completeExceptionally( translateException( url, cause ) );
+				}
+
+				@Override
+				public void cancelled() {
+					response.cancel( false );
+				}
+			} );
+
+			response.whenComplete( ( result, exception ) -> {
+				if( exception instanceof CancellationException ) {
+					execution.cancel( true );
+				}
+			} );
+		} catch( RuntimeException exception ) {
+			response.completeExceptionally( exception );
+		}
+
+		return response;
+	}
+
+
+	private <RESPONSE> RESPONSE handleResponse( String url, HttpResponse httpResponse, Class<RESPONSE> responseBodyType )
+		throws UnsuccessfulRequestException, HttpIOException {
+		int httpStatus = httpResponse.getStatusLine().getStatusCode();
+		if ( httpStatus < 200 || httpStatus >= 300 ) {
+			throw logException( new UnsuccessfulRequestException(
+				url,
+				httpStatus,
+				deserialize( httpResponse.getEntity(), ErrorResponse.class, url, httpStatus )
+			) );
+		}
+		return deserialize( httpResponse.getEntity(), responseBodyType, url, httpStatus );
+	}
+
+
+	private Exception translateException( String url, Exception cause ) {
+		if( cause instanceof SocketTimeoutException ) {
+			return logException( new HttpSocketTimeoutException( url, cause ) );
+		} else if( cause instanceof ConnectTimeoutException ) {
+			return logException( new HttpConnectionTimeoutException( url, cause ) );
+		} else if( cause instanceof ConnectException ) {
+			return logException( new HttpConnectionFailException( url, cause ) );
+		} else if( cause instanceof IOException ) {
+			return logException( new HttpIOException( url, cause ) );
+		}
+		return logException( cause );
+	}
+
+
+	private <TYPE> TYPE deserialize( HttpEntity entity, Class<TYPE>type, String url, int httpStatus ) throws UnsuccessfulRequestException, HttpIOException {
+		if( entity == null || entity.getContentLength() == 0 || type == Void.class ) {
+			return null;
+		}
+		try {
+			if( LOG.isTraceEnabled() ) {
+				byte[] data = EntityUtils.toByteArray( entity );
+				LOG.trace( "Response body: {}", new String( data, StandardCharsets.UTF_8 ) );
+				return data.length == 0 ? null : jsonCodec.reader( type ).readValue( data );
+			}
+			// The response is already in memory, so it is parsed from the entity instead of copied
+			ObjectReader reader = jsonCodec.reader( type );
+			try( JsonParser parser = reader.getFactory().createParser( entity.getContent() ) ) {
+				return parser.nextToken() == null ? null : reader.readValue( parser );
+			}
+		} catch( JsonMappingException | JsonParseException exception ) {
+			throw logException( new UnsuccessfulRequestException( url, httpStatus, exception ) );
+		} catch( IOException exception ) {
+			throw logException( new HttpIOException( url, exception ) );
+		}
+	}
+
+
+	private byte[] serialize( Object data ) throws IllegalArgumentException {
+		try {
+			byte[] serialized = jsonCodec.writer().writeValueAsBytes( data );
+			if( LOG.isTraceEnabled() ) {
+				LOG.trace( "Request body: {}", new String( serialized, StandardCharsets.UTF_8 ) );
+			}
+			return serialized;
+		}
+		catch( JsonProcessingException exception ) {
+			LOG.error( "Exception serializing request body", exception );
+			throw new IllegalArgumentException( "Exception serializing request body", exception );
+		}
+	}
+
+
+	private <EXCEPTION extends Exception> EXCEPTION logException( EXCEPTION exception ) {
+		LOG.warn( exception.getMessage() );
+		LOG.debug( "Request error", exception );
+		return exception;
+	}
+
+
+	@SuppressWarnings( "unchecked" )
+	private static <SUBSCRIPTION extends Subscription> CompletableFuture<SUBSCRIPTION> cast( CompletableFuture<Subscription> future ) {
+		return (CompletableFuture<SUBSCRIPTION>) (CompletableFuture<?>) future;
+	}
+
+
+	private static final PoolingNHttpClientConnectionManager buildConnectionPool(
+		IOReactorConfig ioReactorConfig, int maxConnections
+	) {
+		try {
+			PoolingNHttpClientConnectionManager connectionPool = new PoolingNHttpClientConnectionManager(
+				new DefaultConnectingIOReactor( ioReactorConfig )
+			);
+			connectionPool.setMaxTotal( maxConnections );
+			connectionPool.setDefaultMaxPerRoute( maxConnections );
+
+			return connectionPool;
+		} catch( IOReactorException exception ) {
+			throw new IllegalStateException( "Could not start the I/O reactor", exception );
+		}
+	}
+
+
+	private static final <TYPE> TYPE valueOrDefault( TYPE value, TYPE defaultValue ) {
+		return value == null ? defaultValue : value;
+	}
+
+
+	/** The maximum connections the pool can have.
+	 *  <br><br>
+	 *  This is set by the client constructor.
+	 *
+	 *  @since 1.2.0 */
+	public int getMaxConnections() {
+		return connectionPool.getMaxTotal();
+	}
+
+
+	/** The amount of time in milliseconds for a request to timeout when wait for a free connection
+	 *  from the pool.
+	 *  <br><br>
+	 *  This is set by the client constructor.
+	 *
+	 *  @since 1.2.0 */
+	public int getConnectionPoolTimeout() {
+		return requestConfig.getConnectionRequestTimeout();
+	}
+
+
+	/** The amount of time in milliseconds for a connection attempt to timeout.
+	 *  <br><br>
+	 *  This is set by the client constructor.
+	 *
+	 *  @since 1.2.0 */
+	public int getConnectionTimeout() {
+		return requestConfig.getConnectTimeout();
+	}
+
+
+	/** The amount of time in milliseconds for a server reply to timeout.
+	 *  <br><br>
+	 *  This is set by the client constructor.
+	 *
+	 *  @since 1.2.0 */
+	public int getSocketTimeout() {
+		return requestConfig.getSocketTimeout();
+	}
+
+
+	/** The number of I/O dispatcher threads shared by all requests.
+	 *  <br><br>
+	 *  This is set by the client constructor.
+	 *
+	 *  @since 1.2.0 */
+	public int getIoThreads() {
+		return ioReactorConfig.getIoThreadCount();
+	}
+
+
+	/** Returns the configuration of this client, except for the token.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  apiUrl = [" + getApiUrl() + "]"
+			+ "\n  maxConnections = [" + getMaxConnections() + "]"
+			+ "\n  connectionTimeout = [" + getConnectionTimeout() + "]"
+			+ "\n  socketTimeout = [" + getSocketTimeout() + "]"
+			+ "\n  connectionPoolTimeout = [" + getConnectionPoolTimeout() + "]"
+			+ "\n  ioThreads = [" + getIoThreads() + "]"
+			+ "\n}";
+	}
+}
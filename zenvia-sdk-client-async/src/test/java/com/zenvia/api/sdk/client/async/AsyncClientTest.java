@@ -0,0 +1,531 @@
+package com.zenvia.api.sdk.client.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Field;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.PATCH;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.errors.ErrorResponse;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
+import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+import com.zenvia.api.sdk.client.exceptions.UnsupportedContentException;
+import com.zenvia.api.sdk.client.subscriptions.Criteria;
+import com.zenvia.api.sdk.client.subscriptions.MessageCriteria;
+import com.zenvia.api.sdk.client.subscriptions.MessageStatusSubscription;
+import com.zenvia.api.sdk.client.subscriptions.MessageSubscription;
+import com.zenvia.api.sdk.client.subscriptions.PartialSubscription;
+import com.zenvia.api.sdk.client.subscriptions.Subscription;
+import com.zenvia.api.sdk.client.subscriptions.SubscriptionStatus;
+import com.zenvia.api.sdk.client.subscriptions.Webhook;
+import com.zenvia.api.sdk.contents.ContentType;
+import com.zenvia.api.sdk.contents.FileContent;
+import com.zenvia.api.sdk.contents.TextContent;
+import com.zenvia.api.sdk.messages.Message;
+import com.zenvia.api.sdk.messages.MessageDirection;
+import com.zenvia.api.sdk.messages.MessageRequest;
+
+
+@RunWith( SpringRunner.class )
+@SpringBootTest( webEnvironment = WebEnvironment.RANDOM_PORT, properties = "spring.main.banner-mode=off" )
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class AsyncClientTest {
+	@LocalServerPort
+	private Integer serverPort;
+
+	@Inject
+	private TestServer server;
+
+	private final Field apiTokenField;
+
+
+	public AsyncClientTest() throws Exception {
+		apiTokenField = AsyncClient.class.getDeclaredField( "apiToken" );
+		apiTokenField.setAccessible( true );
+	}
+
+
+	@Test
+	public void constructor1() throws Exception {
+		AsyncClient client = new AsyncClient( "API_TOKEN" );
+		assertEquals( "https://api.zenvia.com", client.getApiUrl() );
+		assertEquals( "API_TOKEN", apiTokenField.get( client ) );
+		assertEquals( 25000, client.getConnectionTimeout() );
+		assertEquals( 60000, client.getSocketTimeout() );
+		assertEquals( 100, client.getMaxConnections() );
+		assertEquals( 0, client.getConnectionPoolTimeout() );
+		assertEquals( Runtime.getRuntime().availableProcessors(), client.getIoThreads() );
+		client.close();
+	}
+
+
+	@Test
+	public void constructor7() throws Exception {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://localhost", 11, 12, 13, 14, 2 );
+		assertEquals( "http://localhost", client.getApiUrl() );
+		assertEquals( "API_TOKEN", apiTokenField.get( client ) );
+		assertEquals( 11, client.getMaxConnections() );
+		assertEquals( 12, client.getConnectionTimeout() );
+		assertEquals( 13, client.getSocketTimeout() );
+		assertEquals( 14, client.getConnectionPoolTimeout() );
+		assertEquals( 2, client.getIoThreads() );
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestSuccessful() throws Exception {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageRequest request = messageRequest();
+		Message message = client.getChannel( "whatsapp" )
+			.sendMessageAsync( request.from, request.to, request.contents )
+			.get();
+
+		assertNotNull( server.lastMessagePost );
+		assertEquals( "from", server.lastMessagePost.from );
+		assertEquals( "to", server.lastMessagePost.to );
+		assertEquals( 1, server.lastMessagePost.contents.size() );
+		assertEquals( "This is a test!", ( (TextContent) server.lastMessagePost.contents.get( 0 ) ).text );
+
+		assertNotNull( message );
+		assertEquals( "12345", message.id );
+		assertEquals( MessageDirection.OUT, message.direction );
+		assertEquals( ChannelType.whatsapp, message.channel );
+		assertEquals( ContentType.text, message.contents.get( 0 ).type );
+
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestConcurrent() throws Exception {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort, 10, null, null, null, 1 );
+		MessageRequest request = messageRequest();
+		AsyncChannel channel = client.getChannel( ChannelType.whatsapp );
+		AtomicInteger completed = new AtomicInteger();
+
+		List<CompletableFuture<Message>> sends = new ArrayList<>();
+		for( int i = 0; i < 200; i++ ) {
+			sends.add( channel.sendMessageAsync( request.from, request.to, request.contents )
+				.whenComplete( ( message, exception ) -> completed.incrementAndGet() ) );
+		}
+		CompletableFuture.allOf( sends.toArray( new CompletableFuture[ sends.size() ] ) ).join();
+
+		assertEquals( 200, completed.get() );
+		for( CompletableFuture<Message> send : sends ) {
+			assertEquals( "12345", send.join().id );
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestUnsuccessful() {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageRequest request = messageRequest();
+		try {
+			client.getChannel( "sms" )
+				.sendMessageAsync( request.from, request.to, request.contents )
+				.join();
+			fail();
+		} catch( CompletionException exception ) {
+			assertTrue( exception.getCause() instanceof UnsuccessfulRequestException );
+			ErrorResponse errorResponse = ( (UnsuccessfulRequestException) exception.getCause() ).getBody();
+			assertEquals( 500, ( (UnsuccessfulRequestException) exception.getCause() ).getHttpStatusCode() );
+			assertNotNull( errorResponse );
+			assertEquals( "TEST", errorResponse.code );
+			assertEquals( "This is a test!", errorResponse.message );
+			assertEquals( 1, errorResponse.details.size() );
+			assertEquals( "INVALID", errorResponse.details.get( 0 ).code );
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestWithEmptyReply() {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageRequest request = messageRequest();
+		try {
+			client.getChannel( "facebook" )
+				.sendMessageAsync( request.from, request.to, request.contents )
+				.join();
+			fail();
+		} catch( CompletionException exception ) {
+			assertTrue( exception.getCause() instanceof UnsuccessfulRequestException );
+			assertNull( ( (UnsuccessfulRequestException) exception.getCause() ).getBody() );
+			assertNull( exception.getCause().getCause() );
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestWithUnsupportedContent() {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		try {
+			client.getChannel( "sms" )
+				.sendMessageAsync( "from", "to", new FileContent( "http://localhost/file.pdf", "application/pdf", null ) )
+				.join();
+			fail();
+		} catch( CompletionException exception ) {
+			assertTrue( exception.getCause() instanceof UnsupportedContentException );
+			assertNull( server.lastMessagePost );
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestWithConnectionRefused() {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:8" );
+		MessageRequest request = messageRequest();
+		try {
+			client.getChannel( "whatsapp" )
+				.sendMessageAsync( request.from, request.to, request.contents )
+				.join();
+			fail();
+		} catch( CompletionException exception ) {
+			assertTrue( exception.getCause() instanceof HttpConnectionFailException );
+			assertNull( server.lastMessagePost );
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestWithSocketTimeout() {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort + "/timeout", null, 1000, 1000 );
+		MessageRequest request = messageRequest();
+		try {
+			client.getChannel( "whatsapp" )
+				.sendMessageAsync( request.from, request.to, request.contents )
+				.join();
+			fail();
+		} catch( CompletionException exception ) {
+			assertTrue( exception.getCause() instanceof HttpSocketTimeoutException );
+			assertNotNull( server.lastMessagePost );
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionSuccessfulCreation() throws Exception {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageSubscription subscription = client.createSubscriptionAsync( messageSubscription() ).get();
+
+		assertNotNull( server.lastSubscriptionPost );
+		assertTrue( server.lastSubscriptionPost instanceof MessageSubscription );
+		assertEquals( "123", subscription.id );
+		assertEquals( MessageDirection.IN, subscription.criteria.direction );
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionSuccessfulGet() throws Exception {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageStatusSubscription subscription = client.<MessageStatusSubscription>getSubscriptionAsync( "456" ).get();
+
+		assertEquals( "456", subscription.id );
+		assertEquals( ChannelType.whatsapp, subscription.criteria.channel );
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionSuccessfulUpdate() throws Exception {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageSubscription subscription = client.<MessageSubscription>updateSubscriptionAsync(
+			"123", new PartialSubscription( new Webhook( "http://localhost/updated", null ), SubscriptionStatus.INACTIVE )
+		).get();
+
+		assertEquals( "123", subscription.id );
+		assertEquals( "http://localhost/updated", subscription.webhook.url );
+		assertEquals( SubscriptionStatus.INACTIVE, subscription.status );
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionSuccessfulDelete() throws Exception {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		client.deleteSubscriptionAsync( "123" ).get();
+
+		assertEquals( "123", server.lastSubscriptionDelete );
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionSuccessfulList() throws Exception {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		List<Subscription> subscriptions = client.listSubscriptionsAsync().get();
+
+		assertEquals( 2, subscriptions.size() );
+		assertTrue( subscriptions.get( 0 ) instanceof MessageSubscription );
+		assertTrue( subscriptions.get( 1 ) instanceof MessageStatusSubscription );
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionNotFoundGet() {
+		AsyncClient client = new AsyncClient( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		try {
+			client.getSubscriptionAsync( "789" ).join();
+			fail();
+		} catch( CompletionException exception ) {
+			assertTrue( exception.getCause() instanceof UnsuccessfulRequestException );
+			assertEquals( "NOT_FOUND", ( (UnsuccessfulRequestException) exception.getCause() ).getBody().code );
+		}
+		client.close();
+	}
+
+
+	private MessageRequest messageRequest() {
+		return new MessageRequest( "from", "to", Arrays.asList( new TextContent( "This is a test!" ) ) );
+	}
+
+
+	private static MessageSubscription messageSubscription() {
+		Map<String,String> headers = new HashMap<>();
+		headers.put( "name", "value" );
+		return new MessageSubscription(
+			"123",
+			new Webhook( "http://localhost", headers ),
+			new MessageCriteria( ChannelType.whatsapp, MessageDirection.IN ),
+			SubscriptionStatus.ACTIVE,
+			ZonedDateTime.of( 2019, 9, 24, 21, 1, 30, 500000000, ZoneId.of( "America/Sao_Paulo" ) ),
+			ZonedDateTime.of( 2019, 9, 24, 21, 8, 0, 100000000, ZoneId.of( "America/Sao_Paulo" ) )
+		);
+	}
+
+
+	private static MessageStatusSubscription messageStatusSubscription() {
+		Map<String,String> headers = new HashMap<>();
+		headers.put( "name", "value" );
+		return new MessageStatusSubscription(
+			"456",
+			new Webhook( "http://localhost", headers ),
+			new Criteria( ChannelType.whatsapp ),
+			SubscriptionStatus.ACTIVE,
+			ZonedDateTime.of( 2019, 9, 24, 21, 1, 30, 500000000, ZoneId.of( "America/Sao_Paulo" ) ),
+			ZonedDateTime.of( 2019, 9, 24, 21, 8, 0, 100000000, ZoneId.of( "America/Sao_Paulo" ) )
+		);
+	}
+
+
+	@Before
+	public void reset() {
+		server.lastMessagePost = null;
+		server.lastSubscriptionPost = null;
+		server.lastSubscriptionDelete = null;
+	}
+
+
+	@SpringBootApplication
+	@Path( "" )
+	public static class TestServer extends ResourceConfig {
+		private volatile MessageRequest lastMessagePost;
+
+		private volatile Subscription lastSubscriptionPost;
+
+		private volatile String lastSubscriptionDelete;
+
+
+		public TestServer() {
+			register( this );
+		}
+
+
+		@POST
+		@Path( "/v1/subscriptions" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response createSubscriptionResource( Subscription subscription, @HeaderParam( "x-api-token" ) String token ) {
+			this.lastSubscriptionPost = subscription;
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			return Response.ok( subscription ).build();
+		}
+
+
+		@PATCH
+		@Path( "/v1/subscriptions/{id}" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response updateSubscriptionResource(
+			PartialSubscription partialSubscription,
+			@HeaderParam( "x-api-token" ) String token,
+			@PathParam( "id" ) String id
+		) {
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			if ( id.equals( "123" ) ) {
+				return Response.ok( messageSubscription().apply( partialSubscription ) ).build();
+			}
+			return notFound( id );
+		}
+
+
+		@DELETE
+		@Path( "/v1/subscriptions/{id}" )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response deleteSubscriptionResource( @HeaderParam( "x-api-token" ) String token, @PathParam( "id" ) String id ) {
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			if ( id.equals( "123" ) || id.equals( "456" ) ) {
+				this.lastSubscriptionDelete = id;
+				return Response.status( 204 ).build();
+			}
+			return notFound( id );
+		}
+
+
+		@GET
+		@Path( "/v1/subscriptions/{id}" )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response getSubscriptionResource( @HeaderParam( "x-api-token" ) String token, @PathParam( "id" ) String id ) {
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			if ( id.equals( "123" ) ) {
+				return Response.ok( messageSubscription() ).build();
+			}
+			if ( id.equals( "456" ) ) {
+				return Response.ok( messageStatusSubscription() ).build();
+			}
+			return notFound( id );
+		}
+
+
+		@GET
+		@Path( "/v1/subscriptions" )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response listSubscriptionsResource( @HeaderParam( "x-api-token" ) String token ) {
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			return Response
+				.ok( new Subscription[] { messageSubscription(), messageStatusSubscription() } )
+				.build();
+		}
+
+
+		@POST
+		@Path( "/v1/channels/whatsapp/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response messageResource( MessageRequest messageRequest, @HeaderParam( "x-api-token" ) String token ) {
+			this.lastMessagePost = messageRequest;
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			return Response
+				.ok( "{\"id\":\"12345\",\"from\":\"123\",\"to\":\"456\",\"direction\":\"OUT\",\"channel\":\"whatsapp\",\"contents\":[{\"type\":\"text\",\"text\":\"This is a test!\"}]}" )
+				.build();
+		}
+
+
+		@POST
+		@Path( "/timeout/v1/channels/whatsapp/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response timeoutResource( MessageRequest messageRequest ) {
+			this.lastMessagePost = messageRequest;
+			try {
+				Thread.sleep( 5000 );
+			}
+			catch( InterruptedException exception ) {
+				throw new IllegalStateException( exception );
+			}
+			return null;
+		}
+
+
+		@POST
+		@Path( "/v1/channels/sms/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response errorResource( MessageRequest messageRequest ) {
+			this.lastMessagePost = messageRequest;
+			return Response
+				.status( 500 )
+				.entity( "{\"code\":\"TEST\",\"message\":\"This is a test!\",\"details\":[{\"code\":\"INVALID\",\"path\":\"id\",\"message\":\"Invalid id!\"}]}" )
+				.build();
+		}
+
+
+		@POST
+		@Path( "/v1/channels/facebook/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response emptyResource( MessageRequest messageRequest ) {
+			this.lastMessagePost = messageRequest;
+			return Response
+				.status( 500 )
+				.entity( "" )
+				.build();
+		}
+
+
+		private static Response unauthorized() {
+			return Response
+				.status( 401 )
+				.entity( "{\"code\":\"AUTHENTICATION_ERROR\",\"message\":\"No authorization token was found\"}" )
+				.build();
+		}
+
+
+		private static Response notFound( String id ) {
+			return Response
+				.status( 404 )
+				.entity( new ErrorResponse( "NOT_FOUND", "Subscription with id [" +id + "] not found", null ) )
+				.build();
+		}
+	}
+}
@@ -0,0 +1,460 @@
+package com.zenvia.api.sdk.client.http2;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zenvia.api.sdk.JsonCodec;
+import com.zenvia.api.sdk.client.AbstractClient;
+import com.zenvia.api.sdk.client.Channel;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.errors.ErrorResponse;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.HttpIOException;
+import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+import com.zenvia.api.sdk.client.exceptions.UnsupportedChannelException;
+import com.zenvia.api.sdk.client.metrics.ConnectionPoolStats;
+import com.zenvia.api.sdk.client.retry.RetryAfter;
+import com.zenvia.api.sdk.client.subscriptions.PartialSubscription;
+import com.zenvia.api.sdk.client.subscriptions.Subscription;
+import com.zenvia.api.sdk.client.warmup.WarmUpSummary;
+
+
+/** API Client that is backed by the
+ *  <a href="https://docs.oracle.com/en/java/javase/11/docs/api/java.net.http/java/net/http/HttpClient.html" target="_blank">Java HTTP Client</a>,
+ *  available from Java 11 on.
+ *  This class also relies on <a href="https://github.com/FasterXML/jackson" target="_blank">Jackson</a> for JSON handling.
+ *  <br><br>
+ *  Requests are sent over HTTP/2 whenever the server supports it, which the API does. Unlike
+ *  HTTP/1.1, where each request in flight holds a connection of its own, HTTP/2 multiplexes all
+ *  requests in flight as streams of a single connection, so a high concurrency of sends costs
+ *  neither a socket nor a TLS handshake per request. Servers without HTTP/2 are still reached
+ *  over HTTP/1.1.
+ *  <br><br>
+ *  The maximum connections bound the requests in flight instead, and the connection pool timeout
+ *  is how long a request waits for one of them to finish. The HTTP client does not retry failed
+ *  connections by itself, so {@link #getMaxConnectionRetries()} is always zero. Configure a
+ *  {@link #setRetryPolicy retry policy} instead.
+ *  <br><br>
+ *  Sending WhatsApp text message example:
+ *  <br>
+ *  <pre>{@code
+ *    Client client = new Client( "API TOKEN" );
+ *    client.getChannel( "whatsapp" ).sendMessage(
+ *      "WhatsApp-business-id", "receiver-phone-number", new TextContent( "Text to be sent!" )
+ *    );
+ *  }</pre>
+ *
+ *  @since 1.2.0 */
+public class Client extends AbstractClient {
+	private static final Logger LOG = LoggerFactory.getLogger( Client.class );
+
+	private final JsonCodec jsonCodec = JsonCodec.shared();
+
+	private final HttpClient http2Client;
+
+	private final Semaphore requestsInFlight;
+
+
+	/** Initializes the client using default configurations.
+	 * <br>
+	 * <ul>
+	 *    <li><b>Maximum requests in flight:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS}</li>
+	 *    <li><b>Connection timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} ms</li>
+	 *    <li><b>Socket timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} ms</li>
+	 *    <li><b>Connection pool timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} ms</li>
+	 *  </ul>
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @since 1.2.0 */
+	public Client( String apiToken ) {
+		this( apiToken, null, null, null, null, null );
+	}
+
+
+	/** Initializes the client using default configurations.
+	 * <br>
+	 * <ul>
+	 *    <li><b>Maximum requests in flight:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS}</li>
+	 *    <li><b>Connection timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} ms</li>
+	 *    <li><b>Socket timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} ms</li>
+	 *    <li><b>Connection pool timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} ms</li>
+	 *  </ul>
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @param apiUrl
+	 *  The URL for the API service. Normally the value {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} is used, but can be
+	 *  useful for testing, and in rare cases, for custom integrations.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public Client( String apiToken, String apiUrl ) {
+		this( apiToken, apiUrl, null, null, null, null );
+	}
+
+
+	/** Initializes the client using a mix of the given configurations
+	 * and below default configurations.
+	 * <br>
+	 * <ul>
+	 *    <li><b>Connection timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} ms</li>
+	 *    <li><b>Socket timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} ms</li>
+	 *    <li><b>Connection pool timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} ms</li>
+	 *  </ul>
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @param apiUrl
+	 *  The URL for the API service. Normally the value {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} is used, but can be
+	 *  useful for testing, and in rare cases, for custom integrations.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} will be used instead.
+	 *
+	 *  @param maxConnections
+	 *  The maximum number of requests in flight, multiplexed over the HTTP/2 connection.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public Client( String apiToken, String apiUrl, Integer maxConnections ) {
+		this( apiToken, apiUrl, maxConnections, null, null, null );
+	}
+
+
+	/** Initializes the client using the given configurations.
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @param apiUrl
+	 *  The URL for the API service. Normally the value {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} is used, but can be
+	 *  useful for testing, and in rare cases, for custom integrations.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} will be used instead.
+	 *
+	 *  @param maxConnections
+	 *  The maximum number of requests in flight, multiplexed over the HTTP/2 connection.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS} will be used instead.
+	 *
+	 *  @param connectionTimeout
+	 *  The amount of time in milliseconds for a connection attempt to timeout.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} will be used instead.
+	 *
+	 *  @param socketTimeout
+	 *  The amount of time in milliseconds for a server reply to timeout.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} will be used instead.
+	 *
+	 *  @param connectionPoolTimeout
+	 *  The amount of time in milliseconds for a request to timeout when waiting for another request
+	 *  in flight to finish. When zero, it means it will wait indefinitely.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public Client(
+		String apiToken,
+		String apiUrl,
+		Integer maxConnections,
+		Integer connectionTimeout,
+		Integer socketTimeout,
+		Integer connectionPoolTimeout
+	) {
+		super( apiToken, apiUrl, maxConnections, connectionTimeout, socketTimeout, 0, connectionPoolTimeout, null );
+		HttpClient.Builder builder = HttpClient.newBuilder()
+			.version( HttpClient.Version.HTTP_2 )
+			.followRedirects( HttpClient.Redirect.NEVER );
+		if( getConnectionTimeout() > 0 ) {
+			builder.connectTimeout( Duration.ofMillis( getConnectionTimeout() ) );
+		}
+		this.http2Client = builder.build();
+		this.requestsInFlight = new Semaphore( getMaxConnections(), true );
+	}
+
+
+	// Overriding so it also appears on the Client documentation
+	@Override
+	public Channel getChannel( String channelType ) throws UnsupportedChannelException {
+		return super.getChannel( channelType );
+	}
+
+
+	// Overriding so it also appears on the Client documentation
+	@Override
+	public Channel getChannel( ChannelType channelType ) throws UnsupportedChannelException {
+		return super.getChannel( channelType );
+	}
+
+
+	// Overriding so it also appears on the Client documentation
+	@Override
+	public List<Subscription> listSubscriptions()
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		return super.listSubscriptions();
+	}
+
+
+	// Overriding so it also appears on the Client documentation
+	@Override
+	public <SUBSCRIPTION extends Subscription> SUBSCRIPTION createSubscription( SUBSCRIPTION subscription )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		return super.createSubscription( subscription );
+	}
+
+
+	// Overriding so it also appears on the Client documentation
+	@Override
+	public <SUBSCRIPTION extends Subscription> SUBSCRIPTION getSubscription( String id )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		return super.getSubscription( id );
+	}
+
+
+	// Overriding so it also appears on the Client documentation
+	@Override
+	public <SUBSCRIPTION extends Subscription> SUBSCRIPTION updateSubscription( SUBSCRIPTION subscription )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		return super.updateSubscription( subscription );
+	}
+
+
+	// Overriding so it also appears on the Client documentation
+	@Override
+	public <SUBSCRIPTION extends Subscription> SUBSCRIPTION updateSubscription( String id, PartialSubscription partialSubscription )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		return super.updateSubscription( id, partialSubscription );
+	}
+
+
+	// Overriding so it also appears on the Client documentation
+	@Override
+	public void deleteSubscription( String id )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		super.deleteSubscription( id );
+	}
+
+
+	/** Opens the connection to the {@link #getApiUrl() API URL}, including the TLS handshake, with
+	 *  a <i>HEAD</i> request. Over HTTP/2, that single connection carries every request, so at
+	 *  most one connection is opened, whatever the amount given.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public WarmUpSummary warmUp( int connections ) {
+		if( connections <= 0 ) {
+			return new WarmUpSummary( 0, 0, 0L );
+		}
+		long start = System.nanoTime();
+		try {
+			http2Client.send( request( apiUrl ).method( "HEAD", HttpRequest.BodyPublishers.noBody() ).build(), HttpResponse.BodyHandlers.discarding() );
+			long elapsed = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start );
+			LOG.info( "Connection to {} ready after {} ms", apiUrl, elapsed );
+			return new WarmUpSummary( 1, 0, elapsed );
+		} catch( IOException exception ) {
+			LOG.warn( "Could not open connection to {} on warm-up", apiUrl, exception );
+		} catch( InterruptedException exception ) {
+			Thread.currentThread().interrupt();
+		}
+		return new WarmUpSummary( 0, 1, TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) );
+	}
+
+
+	/** Current state of the requests in flight, which take the place of connections as they
+	 *  share the HTTP/2 connection: <code>leased</code> are the requests in flight,
+	 *  <code>pending</code> the ones waiting for another to finish.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public ConnectionPoolStats getConnectionPoolStats() {
+		int available = requestsInFlight.availablePermits();
+		return new ConnectionPoolStats( getMaxConnections() - available, requestsInFlight.getQueueLength(), available, getMaxConnections() );
+	}
+
+
+	/** Shuts down the client. On Java 21 or newer, the connections of the HTTP client are also
+	 *  closed right away. Otherwise, they are closed once the client is garbage collected.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public void close() {
+		super.close();
+		if( http2Client instanceof AutoCloseable ) {
+			try {
+				( (AutoCloseable) http2Client ).close();
+			} catch( Exception exception ) {
+				LOG.debug( "Exception closing HTTP client", exception );
+			}
+		}
+	}
+
+
+	@Override
+	protected <RESPONSE> RESPONSE list( String url, Class<RESPONSE> responseBodyType )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		return executeRequest( "GET", url, null, responseBodyType );
+	}
+
+
+	@Override
+	protected <RESPONSE> RESPONSE get( String url, String id, Class<RESPONSE> responseBodyType )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		return executeRequest( "GET", url + "/" + id, null, responseBodyType );
+	}
+
+
+	@Override
+	protected <REQUEST,RESPONSE> RESPONSE post( String url, REQUEST requestBody, Class<RESPONSE> responseBodyType )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		return executeRequest( "POST", url, requestBody, responseBodyType );
+	}
+
+
+	@Override
+	protected <REQUEST,RESPONSE> RESPONSE patch( String url, String id, REQUEST requestBody, Class<RESPONSE> responseBodyType )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		return executeRequest( "PATCH", url + "/" + id, requestBody, responseBodyType );
+	}
+
+
+	@Override
+	protected void delete( String url, String id )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		executeRequest( "DELETE", url + "/" + id, null, null );
+	}
+
+
+	private <RESPONSE> RESPONSE executeRequest( String method, String url, Object requestBody, Class<RESPONSE> responseBodyType )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		HttpRequest.Builder builder = request( url ).header( "X-API-Token", apiToken );
+		if( requestBody == null ) {
+			builder.method( method, HttpRequest.BodyPublishers.noBody() );
+		} else {
+			builder.header( "Content-Type", "application/json" );
+			builder.method( method, HttpRequest.BodyPublishers.ofByteArray( serialize( requestBody ) ) );
+		}
+		HttpRequest httpRequest = builder.build();
+
+		return executeWithRetries( method, url, () -> {
+			HttpResponse<byte[]> httpResponse = executeRequest( httpRequest, url );
+			int httpStatus = httpResponse.statusCode();
+			if ( httpStatus < 200 || httpStatus >= 300 ) {
+				Long retryAfter = httpResponse.headers().firstValue( RetryAfter.HEADER ).map( RetryAfter::parse ).orElse( null );
+				throw logException( new UnsuccessfulRequestException(
+					url,
+					httpStatus,
+					deserialize( httpResponse.body(), ErrorResponse.class, url, httpStatus, retryAfter ),
+					null,
+					retryAfter
+				) );
+			}
+			return deserialize( httpResponse.body(), responseBodyType, url, httpStatus, null );
+		} );
+	}
+
+
+	private HttpResponse<byte[]> executeRequest( HttpRequest httpRequest, String url )
+		throws HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+
+		acquireRequestPermit( url );
+		try {
+			return http2Client.send( httpRequest, HttpResponse.BodyHandlers.ofByteArray() );
+		} catch( HttpConnectTimeoutException cause ) {
+			throw logException( new HttpConnectionTimeoutException( url, cause ) );
+		} catch( HttpTimeoutException cause ) {
+			throw logException( new HttpSocketTimeoutException( url, cause ) );
+		} catch( ConnectException cause ) {
+			throw logException( new HttpConnectionFailException( url, cause ) );
+		} catch( IOException cause ) {
+			throw logException( new HttpIOException( url, cause ) );
+		} catch( InterruptedException cause ) {
+			Thread.currentThread().interrupt();
+			throw logException( new HttpIOException( url, new InterruptedIOException( "Interrupted waiting for server reply" ) ) );
+		} finally {
+			requestsInFlight.release();
+		}
+	}
+
+
+	private void acquireRequestPermit( String url ) throws HttpConnectionTimeoutException, HttpIOException {
+		int poolTimeout = getConnectionPoolTimeout();
+		try {
+			if( poolTimeout <= 0 ) {
+				requestsInFlight.acquire();
+			} else if( !requestsInFlight.tryAcquire( poolTimeout, TimeUnit.MILLISECONDS ) ) {
+				throw logException( new HttpConnectionTimeoutException( url, new ConnectionPoolTimeoutException( "Timeout waiting for a request in flight to finish" ) ) );
+			}
+		} catch( InterruptedException exception ) {
+			Thread.currentThread().interrupt();
+			throw logException( new HttpIOException( url, new InterruptedIOException( "Interrupted waiting for a request in flight to finish" ) ) );
+		}
+	}
+
+
+	private HttpRequest.Builder request( String url ) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder( URI.create( url ) );
+		if( getSocketTimeout() > 0 ) {
+			builder.timeout( Duration.ofMillis( getSocketTimeout() ) );
+		}
+		return builder;
+	}
+
+
+	private <TYPE> TYPE deserialize( byte[] body, Class<TYPE> type, String url, int httpStatus, Long retryAfter ) throws UnsuccessfulRequestException, HttpIOException {
+		if( body == null || body.length == 0 || type == null ) {
+			return null;
+		}
+		if( LOG.isTraceEnabled() ) {
+			LOG.trace( "Response body: {}", new String( body, StandardCharsets.UTF_8 ) );
+		}
+		try {
+			return jsonCodec.reader( type ).readValue( body );
+		} catch( JsonMappingException | JsonParseException exception ) {
+			throw logException( new UnsuccessfulRequestException( url, httpStatus, null, exception, retryAfter ) );
+		} catch( IOException exception ) {
+			throw logException( new HttpIOException( url, exception ) );
+		}
+	}
+
+
+	private byte[] serialize( Object data ) throws IllegalArgumentException {
+		try {
+			byte[] serialized = jsonCodec.writer().writeValueAsBytes( data );
+			if( LOG.isTraceEnabled() ) {
+				LOG.trace( "Request body: {}", new String( serialized, StandardCharsets.UTF_8 ) );
+			}
+			return serialized;
+		}
+		catch( JsonProcessingException exception ) {
+			LOG.error( "Exception serializing request body", exception );
+			throw new IllegalArgumentException( "Exception serializing request body", exception );
+		}
+	}
+
+
+	private <EXCEPTION extends Exception> EXCEPTION logException( EXCEPTION exception ) {
+		LOG.warn( exception.getMessage() );
+		LOG.debug( "Request error", exception );
+		return exception;
+	}
+}
@@ -0,0 +1,535 @@
+package com.zenvia.api.sdk.client.http2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Field;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.PATCH;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.apache.coyote.Request;
+import org.apache.coyote.http2.Http2Protocol;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.zenvia.api.sdk.client.AbstractClient;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.bulk.BulkOptions;
+import com.zenvia.api.sdk.client.bulk.BulkSummary;
+import com.zenvia.api.sdk.client.errors.ErrorResponse;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
+import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+import com.zenvia.api.sdk.client.metrics.ConnectionPoolStats;
+import com.zenvia.api.sdk.client.subscriptions.Criteria;
+import com.zenvia.api.sdk.client.subscriptions.MessageCriteria;
+import com.zenvia.api.sdk.client.subscriptions.MessageStatusSubscription;
+import com.zenvia.api.sdk.client.subscriptions.MessageSubscription;
+import com.zenvia.api.sdk.client.subscriptions.PartialSubscription;
+import com.zenvia.api.sdk.client.subscriptions.Subscription;
+import com.zenvia.api.sdk.client.subscriptions.SubscriptionStatus;
+import com.zenvia.api.sdk.client.subscriptions.Webhook;
+import com.zenvia.api.sdk.client.warmup.WarmUpSummary;
+import com.zenvia.api.sdk.contents.ContentType;
+import com.zenvia.api.sdk.contents.TextContent;
+import com.zenvia.api.sdk.messages.Message;
+import com.zenvia.api.sdk.messages.MessageDirection;
+import com.zenvia.api.sdk.messages.MessageRequest;
+
+
+@RunWith( SpringRunner.class )
+@SpringBootTest( webEnvironment = WebEnvironment.RANDOM_PORT, properties = "spring.main.banner-mode=off" )
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class ClientTest {
+	@LocalServerPort
+	private Integer serverPort;
+
+	@Inject
+	private TestServer server;
+
+	private final Field apiTokenField;
+
+
+	public ClientTest() throws Exception {
+		apiTokenField = AbstractClient.class.getDeclaredField( "apiToken" );
+		apiTokenField.setAccessible( true );
+	}
+
+
+	@Test
+	public void constructor1() throws Exception {
+		Client client = new Client( "API_TOKEN" );
+		assertEquals( "https://api.zenvia.com", client.getApiUrl() );
+		assertEquals( "API_TOKEN", apiTokenField.get( client ) );
+		assertEquals( 25000, client.getConnectionTimeout() );
+		assertEquals( 60000, client.getSocketTimeout() );
+		assertEquals( 100, client.getMaxConnections() );
+		assertEquals( 0, client.getConnectionPoolTimeout() );
+		assertEquals( 0, client.getMaxConnectionRetries() );
+		client.close();
+	}
+
+
+	@Test
+	public void constructor6() throws Exception {
+		Client client = new Client( "API_TOKEN", "http://localhost", 11, 12, 13, 14 );
+		assertEquals( "http://localhost", client.getApiUrl() );
+		assertEquals( "API_TOKEN", apiTokenField.get( client ) );
+		assertEquals( 11, client.getMaxConnections() );
+		assertEquals( 12, client.getConnectionTimeout() );
+		assertEquals( 13, client.getSocketTimeout() );
+		assertEquals( 14, client.getConnectionPoolTimeout() );
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestSuccessful() throws Exception {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageRequest request = messageRequest();
+		Message message = client.getChannel( "whatsapp" ).sendMessage( request.from, request.to, request.contents );
+
+		assertNotNull( server.lastMessagePost );
+		assertEquals( "from", server.lastMessagePost.from );
+		assertEquals( "to", server.lastMessagePost.to );
+		assertEquals( 1, server.lastMessagePost.contents.size() );
+		assertEquals( "This is a test!", ( (TextContent) server.lastMessagePost.contents.get( 0 ) ).text );
+
+		assertNotNull( message );
+		assertEquals( "12345", message.id );
+		assertEquals( MessageDirection.OUT, message.direction );
+		assertEquals( ChannelType.whatsapp, message.channel );
+		assertEquals( ContentType.text, message.contents.get( 0 ).type );
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestMultiplexedOverHttp2() throws Exception {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort, 10 );
+		// Cleartext connections are upgraded to HTTP/2 by the first request
+		client.listSubscriptions();
+
+		BulkSummary summary = client.getChannel( ChannelType.whatsapp )
+			.sendAll( Collections.nCopies( 50, messageRequest() ), new BulkOptions() );
+		assertEquals( 50, summary.successful );
+		assertEquals( "HTTP/2.0", server.lastMessageProtocol );
+
+		ConnectionPoolStats stats = client.getConnectionPoolStats();
+		assertEquals( 0, stats.leased );
+		assertEquals( 10, stats.available );
+		assertEquals( 10, stats.max );
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestUnsuccessful() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageRequest request = messageRequest();
+		try {
+			client.getChannel( "sms" ).sendMessage( request.from, request.to, request.contents );
+			fail();
+		} catch( UnsuccessfulRequestException exception ) {
+			ErrorResponse errorResponse = exception.getBody();
+			assertEquals( 500, exception.getHttpStatusCode() );
+			assertNotNull( errorResponse );
+			assertEquals( "TEST", errorResponse.code );
+			assertEquals( "This is a test!", errorResponse.message );
+			assertEquals( 1, errorResponse.details.size() );
+			assertEquals( "INVALID", errorResponse.details.get( 0 ).code );
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestWithEmptyReply() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageRequest request = messageRequest();
+		try {
+			client.getChannel( "facebook" ).sendMessage( request.from, request.to, request.contents );
+			fail();
+		} catch( UnsuccessfulRequestException exception ) {
+			assertNotNull( server.lastMessagePost );
+			assertNull( exception.getBody() );
+			assertNull( exception.getCause() );
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestWithConnectionRefused() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:8" );
+		MessageRequest request = messageRequest();
+		try {
+			client.getChannel( "whatsapp" ).sendMessage( request.from, request.to, request.contents );
+			fail();
+		} catch( HttpConnectionFailException exception ) {
+			assertNull( server.lastMessagePost );
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestWithSocketTimeout() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort + "/timeout", null, 1000, 1000, null );
+		MessageRequest request = messageRequest();
+		try {
+			client.getChannel( "whatsapp" ).sendMessage( request.from, request.to, request.contents );
+			fail();
+		} catch( HttpSocketTimeoutException exception ) {
+			assertNotNull( server.lastMessagePost );
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionSuccessfulCreation() throws Exception {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageSubscription subscription = client.createSubscription( messageSubscription() );
+
+		assertNotNull( server.lastSubscriptionPost );
+		assertTrue( server.lastSubscriptionPost instanceof MessageSubscription );
+		assertEquals( "123", subscription.id );
+		assertEquals( MessageDirection.IN, subscription.criteria.direction );
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionSuccessfulGet() throws Exception {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageStatusSubscription subscription = client.getSubscription( "456" );
+
+		assertEquals( "456", subscription.id );
+		assertEquals( ChannelType.whatsapp, subscription.criteria.channel );
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionSuccessfulUpdate() throws Exception {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		MessageSubscription subscription = client.updateSubscription(
+			"123", new PartialSubscription( new Webhook( "http://localhost/updated", null ), SubscriptionStatus.INACTIVE )
+		);
+
+		assertEquals( "123", subscription.id );
+		assertEquals( "http://localhost/updated", subscription.webhook.url );
+		assertEquals( SubscriptionStatus.INACTIVE, subscription.status );
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionSuccessfulDelete() throws Exception {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		client.deleteSubscription( "123" );
+
+		assertEquals( "123", server.lastSubscriptionDelete );
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionSuccessfulList() throws Exception {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		List<Subscription> subscriptions = client.listSubscriptions();
+
+		assertEquals( 2, subscriptions.size() );
+		assertTrue( subscriptions.get( 0 ) instanceof MessageSubscription );
+		assertTrue( subscriptions.get( 1 ) instanceof MessageStatusSubscription );
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionNotFoundGet() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		try {
+			client.getSubscription( "789" );
+			fail();
+		} catch( UnsuccessfulRequestException exception ) {
+			assertEquals( 404, exception.getHttpStatusCode() );
+			assertEquals( "NOT_FOUND", exception.getBody().code );
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void warmUpOpensASingleConnection() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
+		WarmUpSummary summary = client.warmUp( 10 );
+		assertEquals( 1, summary.ready );
+		assertTrue( summary.isComplete() );
+		assertEquals( 0, client.warmUp( 0 ).requested );
+		client.close();
+
+		client = new Client( "API_TOKEN", "http://127.0.0.1:8" );
+		assertEquals( 1, client.warmUp( 10 ).failed );
+		client.close();
+	}
+
+
+	private MessageRequest messageRequest() {
+		return new MessageRequest( "from", "to", Arrays.asList( new TextContent( "This is a test!" ) ) );
+	}
+
+
+	private static MessageSubscription messageSubscription() {
+		Map<String,String> headers = new HashMap<>();
+		headers.put( "name", "value" );
+		return new MessageSubscription(
+			"123",
+			new Webhook( "http://localhost", headers ),
+			new MessageCriteria( ChannelType.whatsapp, MessageDirection.IN ),
+			SubscriptionStatus.ACTIVE,
+			ZonedDateTime.of( 2019, 9, 24, 21, 1, 30, 500000000, ZoneId.of( "America/Sao_Paulo" ) ),
+			ZonedDateTime.of( 2019, 9, 24, 21, 8, 0, 100000000, ZoneId.of( "America/Sao_Paulo" ) )
+		);
+	}
+
+
+	private static MessageStatusSubscription messageStatusSubscription() {
+		Map<String,String> headers = new HashMap<>();
+		headers.put( "name", "value" );
+		return new MessageStatusSubscription(
+			"456",
+			new Webhook( "http://localhost", headers ),
+			new Criteria( ChannelType.whatsapp ),
+			SubscriptionStatus.ACTIVE,
+			ZonedDateTime.of( 2019, 9, 24, 21, 1, 30, 500000000, ZoneId.of( "America/Sao_Paulo" ) ),
+			ZonedDateTime.of( 2019, 9, 24, 21, 8, 0, 100000000, ZoneId.of( "America/Sao_Paulo" ) )
+		);
+	}
+
+
+	@Before
+	public void reset() {
+		server.lastMessagePost = null;
+		server.lastMessageProtocol = null;
+		server.lastSubscriptionPost = null;
+		server.lastSubscriptionDelete = null;
+	}
+
+
+	@SpringBootApplication
+	@Path( "" )
+	public static class TestServer extends ResourceConfig {
+		private volatile MessageRequest lastMessagePost;
+
+		private volatile String lastMessageProtocol;
+
+		private volatile Subscription lastSubscriptionPost;
+
+		private volatile String lastSubscriptionDelete;
+
+
+		public TestServer() {
+			register( this );
+		}
+
+
+		@Bean
+		public WebServerFactoryCustomizer<TomcatServletWebServerFactory> h2cUpgrade() {
+			return ( factory ) -> factory.addConnectorCustomizers( ( connector ) -> connector.addUpgradeProtocol( new Http2Protocol() {
+				// This Tomcat version fails to upgrade requests with a body, so they are kept on HTTP/1.1
+				@Override
+				public boolean accept( Request request ) {
+					return request.getContentLengthLong() <= 0 && super.accept( request );
+				}
+			} ) );
+		}
+
+
+		@POST
+		@Path( "/v1/subscriptions" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response createSubscriptionResource( Subscription subscription, @HeaderParam( "x-api-token" ) String token ) {
+			this.lastSubscriptionPost = subscription;
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			return Response.ok( subscription ).build();
+		}
+
+
+		@PATCH
+		@Path( "/v1/subscriptions/{id}" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response updateSubscriptionResource(
+			PartialSubscription partialSubscription,
+			@HeaderParam( "x-api-token" ) String token,
+			@PathParam( "id" ) String id
+		) {
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			if ( id.equals( "123" ) ) {
+				return Response.ok( messageSubscription().apply( partialSubscription ) ).build();
+			}
+			return notFound( id );
+		}
+
+
+		@DELETE
+		@Path( "/v1/subscriptions/{id}" )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response deleteSubscriptionResource( @HeaderParam( "x-api-token" ) String token, @PathParam( "id" ) String id ) {
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			if ( id.equals( "123" ) || id.equals( "456" ) ) {
+				this.lastSubscriptionDelete = id;
+				return Response.status( 204 ).build();
+			}
+			return notFound( id );
+		}
+
+
+		@GET
+		@Path( "/v1/subscriptions/{id}" )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response getSubscriptionResource( @HeaderParam( "x-api-token" ) String token, @PathParam( "id" ) String id ) {
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			if ( id.equals( "123" ) ) {
+				return Response.ok( messageSubscription() ).build();
+			}
+			if ( id.equals( "456" ) ) {
+				return Response.ok( messageStatusSubscription() ).build();
+			}
+			return notFound( id );
+		}
+
+
+		@GET
+		@Path( "/v1/subscriptions" )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response listSubscriptionsResource( @HeaderParam( "x-api-token" ) String token ) {
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			return Response
+				.ok( new Subscription[] { messageSubscription(), messageStatusSubscription() } )
+				.build();
+		}
+
+
+		@POST
+		@Path( "/v1/channels/whatsapp/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response messageResource( MessageRequest messageRequest, @HeaderParam( "x-api-token" ) String token, @Context HttpServletRequest request ) {
+			this.lastMessagePost = messageRequest;
+			this.lastMessageProtocol = request.getProtocol();
+			if( !"API_TOKEN".equals( token ) ) {
+				return unauthorized();
+			}
+			return Response
+				.ok( "{\"id\":\"12345\",\"from\":\"123\",\"to\":\"456\",\"direction\":\"OUT\",\"channel\":\"whatsapp\",\"contents\":[{\"type\":\"text\",\"text\":\"This is a test!\"}]}" )
+				.build();
+		}
+
+
+		@POST
+		@Path( "/timeout/v1/channels/whatsapp/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response timeoutResource( MessageRequest messageRequest ) {
+			this.lastMessagePost = messageRequest;
+			try {
+				Thread.sleep( 5000 );
+			}
+			catch( InterruptedException exception ) {
+				throw new IllegalStateException( exception );
+			}
+			return null;
+		}
+
+
+		@POST
+		@Path( "/v1/channels/sms/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response errorResource( MessageRequest messageRequest ) {
+			this.lastMessagePost = messageRequest;
+			return Response
+				.status( 500 )
+				.entity( "{\"code\":\"TEST\",\"message\":\"This is a test!\",\"details\":[{\"code\":\"INVALID\",\"path\":\"id\",\"message\":\"Invalid id!\"}]}" )
+				.build();
+		}
+
+
+		@POST
+		@Path( "/v1/channels/facebook/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response emptyResource( MessageRequest messageRequest ) {
+			this.lastMessagePost = messageRequest;
+			return Response
+				.status( 500 )
+				.entity( "" )
+				.build();
+		}
+
+
+		private static Response unauthorized() {
+			return Response
+				.status( 401 )
+				.entity( "{\"code\":\"AUTHENTICATION_ERROR\",\"message\":\"No authorization token was found\"}" )
+				.build();
+		}
+
+
+		private static Response notFound( String id ) {
+			return Response
+				.status( 404 )
+				.entity( new ErrorResponse( "NOT_FOUND", "Subscription with id [" +id + "] not found", null ) )
+				.build();
+		}
+	}
+}
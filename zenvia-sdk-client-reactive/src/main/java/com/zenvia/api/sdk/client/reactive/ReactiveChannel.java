@@ -0,0 +1,186 @@
+package com.zenvia.api.sdk.client.reactive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.bulk.BulkResult;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.HttpIOException;
+import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+import com.zenvia.api.sdk.client.exceptions.UnsupportedContentException;
+import com.zenvia.api.sdk.client.subscriptions.MessageStatusSubscription;
+import com.zenvia.api.sdk.contents.Content;
+import com.zenvia.api.sdk.messages.Message;
+import com.zenvia.api.sdk.messages.MessageRequest;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+
+/** Reactive counterpart of {@link com.zenvia.api.sdk.client.Channel}, obtained from a
+ *  {@link ReactiveClient}.
+ *
+ *  @since 1.2.0 */
+public class ReactiveChannel {
+	/** @since 1.2.0 */
+	public final ChannelType type;
+
+	/** @since 1.2.0 */
+	public final String url;
+
+	protected final ReactiveClient client;
+
+
+	protected ReactiveChannel( ChannelType type, ReactiveClient client ) {
+		this.type = type;
+		this.client = client;
+		this.url = client.getApiUrl() + type.messagePath;
+	}
+
+
+	/** Send one or more contents to a contact when subscribed. On most channels, each content
+	 *  will be a message delivered to the receiver. In order to know if it has been delivered
+	 *  successfully to the receiver, it is necessary to create a
+	 *  {@link MessageStatusSubscription message status subscription} for this channel.
+	 *
+	 *  @param from Id of the sender of the message. Represents an integration on
+	 *  <a href="https://app.zenvia.com" target="_blank">https://app.zenvia.com</a>.
+	 *  The format of the value varies from channel to channel.
+	 *
+	 *  @param to Id of the receiver of the message. The format of the value varies from channel
+	 *  to channel. On channels which handles with phone numbers, it is the contact's phone number.
+	 *
+	 *  @param contents List of contents to be sent to the receiver.
+	 *
+	 *  @return Mono of the message accepted by the server, or terminated with
+	 *  {@link UnsupportedContentException}, {@link UnsuccessfulRequestException}, {@link HttpSocketTimeoutException},
+	 *  {@link HttpConnectionTimeoutException}, {@link HttpConnectionFailException} or {@link HttpIOException}.
+	 *
+	 *  @since 1.2.0 */
+	public Mono<Message> sendMessage( String from, String to, Content... contents ) {
+		return sendMessage( new MessageRequest( from, to, contents == null ? null : Arrays.asList( contents ) ) );
+	}
+
+
+	/** Send one or more contents to a contact when subscribed. On most channels, each content
+	 *  will be a message delivered to the receiver. In order to know if it has been delivered
+	 *  successfully to the receiver, it is necessary to create a
+	 *  {@link MessageStatusSubscription message status subscription} for this channel.
+	 *
+	 *  @param from Id of the sender of the message. Represents an integration on
+	 *  <a href="https://app.zenvia.com" target="_blank">https://app.zenvia.com</a>.
+	 *  The format of the value varies from channel to channel.
+	 *
+	 *  @param to Id of the receiver of the message. The format of the value varies from channel
+	 *  to channel. On channels which handles with phone numbers, it is the contact's phone number.
+	 *
+	 *  @param contents List of contents to be sent to the receiver.
+	 *
+	 *  @return Mono of the message accepted by the server, or terminated with
+	 *  {@link UnsupportedContentException}, {@link UnsuccessfulRequestException}, {@link HttpSocketTimeoutException},
+	 *  {@link HttpConnectionTimeoutException}, {@link HttpConnectionFailException} or {@link HttpIOException}.
+	 *
+	 *  @since 1.2.0 */
+	public Mono<Message> sendMessage( String from, String to, Collection<Content> contents ) {
+		return sendMessage( new MessageRequest( from, to, contents == null ? null : new ArrayList<>( contents ) ) );
+	}
+
+
+	/** Send one or more contents to a contact when subscribed. On most channels, each content
+	 *  will be a message delivered to the receiver. In order to know if it has been delivered
+	 *  successfully to the receiver, it is necessary to create a
+	 *  {@link MessageStatusSubscription message status subscription} for this channel.
+	 *
+	 *  @param from Id of the sender of the message. Represents an integration on
+	 *  <a href="https://app.zenvia.com" target="_blank">https://app.zenvia.com</a>.
+	 *  The format of the value varies from channel to channel.
+	 *
+	 *  @param to Id of the receiver of the message. The format of the value varies from channel
+	 *  to channel. On channels which handles with phone numbers, it is the contact's phone number.
+	 *
+	 *  @param contents List of contents to be sent to the receiver.
+	 *
+	 *  @return Mono of the message accepted by the server, or terminated with
+	 *  {@link UnsupportedContentException}, {@link UnsuccessfulRequestException}, {@link HttpSocketTimeoutException},
+	 *  {@link HttpConnectionTimeoutException}, {@link HttpConnectionFailException} or {@link HttpIOException}.
+	 *
+	 *  @since 1.2.0 */
+	public Mono<Message> sendMessage( String from, String to, List<Content> contents ) {
+		return sendMessage( new MessageRequest( from, to, contents ) );
+	}
+
+
+	/** Sends every request of the publisher, with up to {@link ReactiveClient#getMaxConnections()}
+	 *  requests in flight, emitting the results as they complete.
+	 *
+	 *  @see #sendAll(Publisher, Integer, boolean)
+	 *
+	 *  @since 1.2.0 */
+	public Flux<BulkResult> sendAll( Publisher<MessageRequest> requests ) {
+		return sendAll( requests, null, false );
+	}
+
+
+	/** Sends every request of the publisher, emitting one {@link BulkResult} per request.
+	 *  <br><br>
+	 *  The publisher is only requested as many requests as there are free slots, so a slow
+	 *  server or a slow subscriber holds the source back instead of buffering it. A failed
+	 *  request does not terminate the flux: its exception is carried by the result.
+	 *
+	 *  @param requests Requests to be sent. Each one is validated like on {@link #sendMessage(String, String, List)}.
+	 *
+	 *  @param maxInFlight Maximum number of requests waiting for the server reply at the same time.
+	 *  When null, {@link ReactiveClient#getMaxConnections()} is used instead.
+	 *
+	 *  @param ordered When true, results are emitted in the order of the requests, holding back
+	 *  the ones completed ahead of a slower request. Otherwise they are emitted as they complete.
+	 *
+	 *  @return Flux of the results, completed after the last request is replied, or terminated
+	 *  with the error of the publisher.
+	 *
+	 *  @since 1.2.0 */
+	public Flux<BulkResult> sendAll( Publisher<MessageRequest> requests, Integer maxInFlight, boolean ordered ) {
+		int concurrency = maxInFlight == null ? client.getMaxConnections() : maxInFlight;
+		if( concurrency < 1 ) {
+			throw new IllegalArgumentException( "Maximum in flight must be positive: " + concurrency );
+		}
+		Function<Tuple2<Long,MessageRequest>,Mono<BulkResult>> send = indexed -> sendMessage( indexed.getT2() )
+			.map( message -> new BulkResult( indexed.getT1(), indexed.getT2(), message, null ) )
+			.defaultIfEmpty( new BulkResult( indexed.getT1(), indexed.getT2(), null, null ) )
+			.onErrorResume( Exception.class, exception -> Mono.just( new BulkResult( indexed.getT1(), indexed.getT2(), null, exception ) ) );
+		Flux<Tuple2<Long,MessageRequest>> indexedRequests = Flux.from( requests ).index();
+		return ordered
+			? indexedRequests.flatMapSequential( send, concurrency )
+			: indexedRequests.flatMap( send, concurrency );
+	}
+
+
+	protected Mono<Message> sendMessage( MessageRequest messageRequest ) {
+		return Mono.defer( () -> {
+			for( Content content : messageRequest.contents ) {
+				if( !type.supportsContent( content.type ) ) {
+					return Mono.error( new UnsupportedContentException( content.type, type ) );
+				}
+			}
+			return client.sendMessage( this, messageRequest );
+		} );
+	}
+
+
+	/** String containg the channel name.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public String toString() {
+		return type.name();
+	}
+}
@@ -0,0 +1,559 @@
+package com.zenvia.api.sdk.client.reactive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.zenvia.api.sdk.JsonCodec;
+import com.zenvia.api.sdk.client.AbstractClient;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.errors.ErrorResponse;
+import com.zenvia.api.sdk.client.exceptions.ApiException;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.HttpIOException;
+import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+import com.zenvia.api.sdk.client.exceptions.UnsupportedChannelException;
+import com.zenvia.api.sdk.client.subscriptions.MessageStatusSubscription;
+import com.zenvia.api.sdk.client.subscriptions.MessageSubscription;
+import com.zenvia.api.sdk.client.subscriptions.PartialSubscription;
+import com.zenvia.api.sdk.client.subscriptions.Subscription;
+import com.zenvia.api.sdk.messages.Message;
+import com.zenvia.api.sdk.messages.MessageRequest;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+
+/** Reactive API Client that is backed by
+ *  <a href="https://docs.spring.io/spring/docs/current/spring-framework-reference/web-reactive.html#webflux-client" target="_blank">Spring WebClient</a>
+ *  over <a href="https://projectreactor.io/docs/netty/release/reference/" target="_blank">Reactor Netty</a>.
+ *  This class also relies on <a href="https://github.com/FasterXML/jackson" target="_blank">Jackson</a> for JSON handling.
+ *  <br><br>
+ *  Each call returns a cold {@link Mono} or {@link Flux}: nothing is sent until it is subscribed,
+ *  and each subscription sends a new request. The Netty event loops multiplex all in-flight
+ *  requests, so no thread is held while waiting for the server reply.
+ *  <br><br>
+ *  Failures are signaled with the same exceptions thrown by the
+ *  {@link AbstractClient blocking clients}, like {@link UnsuccessfulRequestException} or
+ *  {@link HttpConnectionFailException}. Operators are run on the event loops, so any slow
+ *  processing should be moved to another scheduler with {@link Mono#publishOn publishOn}.
+ *  <br><br>
+ *  Sending WhatsApp text message example:
+ *  <br>
+ *  <pre>{@code
+ *    ReactiveClient client = new ReactiveClient( "API TOKEN" );
+ *    client.getChannel( "whatsapp" ).sendMessage(
+ *      "WhatsApp-business-id", "receiver-phone-number", new TextContent( "Text to be sent!" )
+ *    ).subscribe( message -> System.out.println( message.id ) );
+ *  }</pre>
+ *
+ *  @since 1.2.0 */
+public class ReactiveClient implements Closeable {
+	private static final Logger LOG = LoggerFactory.getLogger( ReactiveClient.class );
+
+	/** Acquire timeout of the connection pool when the client must wait indefinitely for a connection. */
+	private static final long NO_CONNECTION_POOL_TIMEOUT = Integer.MAX_VALUE;
+
+	protected final String apiToken;
+
+	protected final String apiUrl;
+
+	protected final String subscriptionApiUrl;
+
+	protected final WebClient webClient;
+
+	private final ConnectionProvider connectionPool;
+
+	private final int maxConnections;
+
+	private final int connectionTimeout;
+
+	private final int socketTimeout;
+
+	private final int connectionPoolTimeout;
+
+	private final JsonCodec jsonCodec = JsonCodec.shared();
+
+
+	/** Initializes the connection pool using default configurations.
+	 * <br>
+	 * <ul>
+	 *    <li><b>Maximum connections:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS}</li>
+	 *    <li><b>Connection timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} ms</li>
+	 *    <li><b>Socket timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} ms</li>
+	 *    <li><b>Connection pool timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} ms</li>
+	 *  </ul>
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @since 1.2.0 */
+	public ReactiveClient( String apiToken ) {
+		this( apiToken, null, null, null, null, null );
+	}
+
+
+	/** Initializes the connection pool using default configurations.
+	 * <br>
+	 * <ul>
+	 *    <li><b>Maximum connections:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS}</li>
+	 *    <li><b>Connection timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} ms</li>
+	 *    <li><b>Socket timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} ms</li>
+	 *    <li><b>Connection pool timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} ms</li>
+	 *  </ul>
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @param apiUrl
+	 *  The URL for the API service. Normally the value {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} is used, but can be
+	 *  useful for testing, and in rare cases, for custom integrations.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public ReactiveClient( String apiToken, String apiUrl ) {
+		this( apiToken, apiUrl, null, null, null, null );
+	}
+
+
+	/** Initializes the connection pool using a mix of the given configurations
+	 * and below default configurations.
+	 * <br>
+	 * <ul>
+	 *    <li><b>Connection timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} ms</li>
+	 *    <li><b>Socket timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} ms</li>
+	 *    <li><b>Connection pool timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} ms</li>
+	 *  </ul>
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @param apiUrl
+	 *  The URL for the API service. Normally the value {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} is used, but can be
+	 *  useful for testing, and in rare cases, for custom integrations.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} will be used instead.
+	 *
+	 *  @param maxConnections
+	 *  The maximum number of connections in the pool. Requests beyond this limit wait for a free
+	 *  connection without holding any thread.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public ReactiveClient( String apiToken, String apiUrl, Integer maxConnections ) {
+		this( apiToken, apiUrl, maxConnections, null, null, null );
+	}
+
+
+	/** Initializes the connection pool using a mix of the given configurations
+	 * and below default configurations.
+	 * <br>
+	 * <ul>
+	 *    <li><b>Connection pool timeout:</b> {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} ms</li>
+	 *  </ul>
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @param apiUrl
+	 *  The URL for the API service. Normally the value {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} is used, but can be
+	 *  useful for testing, and in rare cases, for custom integrations.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} will be used instead.
+	 *
+	 *  @param maxConnections
+	 *  The maximum number of connections in the pool.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS} will be used instead.
+	 *
+	 *  @param connectionTimeout
+	 *  The amount of time in milliseconds for a connection attempt to timeout.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} will be used instead.
+	 *
+	 *  @param socketTimeout
+	 *  The amount of time in milliseconds for a server reply to timeout.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public ReactiveClient(
+		String apiToken,
+		String apiUrl,
+		Integer maxConnections,
+		Integer connectionTimeout,
+		Integer socketTimeout
+	) {
+		this( apiToken, apiUrl, maxConnections, connectionTimeout, socketTimeout, null );
+	}
+
+
+	/** Initializes the connection pool using the given configurations.
+	 *
+	 *  @param apiToken
+	 *  An API token generated on <a href="https://app.zenvia.com/home/api" target="_blank">Zenvia API console</a>.
+	 *
+	 *  @param apiUrl
+	 *  The URL for the API service. Normally the value {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} is used, but can be
+	 *  useful for testing, and in rare cases, for custom integrations.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL} will be used instead.
+	 *
+	 *  @param maxConnections
+	 *  The maximum number of connections in the pool.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_MAX_CONNECTIONS} will be used instead.
+	 *
+	 *  @param connectionTimeout
+	 *  The amount of time in milliseconds for a connection attempt to timeout.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_TIMEOUT} will be used instead.
+	 *
+	 *  @param socketTimeout
+	 *  The amount of time in milliseconds for a server reply to timeout.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_SOCKET_TIMEOUT} will be used instead.
+	 *
+	 *  @param connectionPoolTimeout
+	 *  The amount of time in milliseconds for a request to timeout when wait for a free connection
+	 *  from the pool. When zero, it means it will wait indefinitely for a connection.
+	 *  When null, the default {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_CONNECTION_POOL_TIMEOUT} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public ReactiveClient(
+		String apiToken,
+		String apiUrl,
+		Integer maxConnections,
+		Integer connectionTimeout,
+		Integer socketTimeout,
+		Integer connectionPoolTimeout
+	) {
+		this.apiToken = apiToken;
+		this.apiUrl = valueOrDefault( apiUrl, AbstractClient.DEFAULT_URL );
+		this.subscriptionApiUrl = this.apiUrl + "/v1/subscriptions";
+		this.maxConnections = valueOrDefault( maxConnections, AbstractClient.DEFAULT_MAX_CONNECTIONS );
+		this.connectionTimeout = valueOrDefault( connectionTimeout, AbstractClient.DEFAULT_CONNECTION_TIMEOUT );
+		this.socketTimeout = valueOrDefault( socketTimeout, AbstractClient.DEFAULT_SOCKET_TIMEOUT );
+		this.connectionPoolTimeout = valueOrDefault( connectionPoolTimeout, AbstractClient.DEFAULT_CONNECTION_POOL_TIMEOUT );
+
+		this.connectionPool = ConnectionProvider.fixed(
+			"zenvia-api",
+			this.maxConnections,
+			this.connectionPoolTimeout == 0 ? NO_CONNECTION_POOL_TIMEOUT : this.connectionPoolTimeout
+		);
+
+		HttpClient httpClient = HttpClient.create( connectionPool ).tcpConfiguration( tcpClient -> tcpClient
+			.option( ChannelOption.CONNECT_TIMEOUT_MILLIS, this.connectionTimeout )
+			.doOnConnected( connection -> connection.addHandlerLast(
+				new ReadTimeoutHandler( this.socketTimeout, TimeUnit.MILLISECONDS )
+			) )
+		);
+
+		this.webClient = WebClient.builder()
+			.clientConnector( new ReactorClientHttpConnector( httpClient ) )
+			.build();
+	}
+
+
+	/** Channel on which messages can be sent reactively.
+	 *
+	 *  @param channelType The channel name.
+	 *
+	 *  @return The channel.
+	 *
+	 *  @throws UnsupportedChannelException
+	 *  If the given channel name is not supported.
+	 *
+	 *  @since 1.2.0 */
+	public ReactiveChannel getChannel( String channelType ) throws UnsupportedChannelException {
+		return getChannel( ChannelType.parse( channelType ) );
+	}
+
+
+	/** Channel on which messages can be sent reactively.
+	 *
+	 *  @param channelType The channel.
+	 *
+	 *  @return The channel.
+	 *
+	 *  @since 1.2.0 */
+	public ReactiveChannel getChannel( ChannelType channelType ) throws UnsupportedChannelException {
+		return new ReactiveChannel( channelType, this );
+	}
+
+
+	/** Gets all subscriptions, of all types and all channels. So the flux may contain
+	 * {@link MessageSubscription} and {@link MessageStatusSubscription} mixed together.
+	 *
+	 *  @return Flux of the existing subscriptions, or terminated with the same exceptions thrown by
+	 *  {@link AbstractClient#listSubscriptions()}.
+	 *
+	 *  @since 1.2.0 */
+	public Flux<Subscription> listSubscriptions() {
+		return executeRequest( HttpMethod.GET, subscriptionApiUrl, null, Subscription[].class )
+			.flatMapIterable( Arrays::asList );
+	}
+
+
+	/** Creates a subscription. Subscription must be either for
+	 *  {@link MessageSubscription messages} or for {@link MessageStatusSubscription message status},
+	 *  and also must be tied to a {@link ChannelType channel}.
+	 *
+	 *  @param subscription Subscription to be created.
+	 *
+	 *  @return Mono of the subscription created, or terminated with the same exceptions thrown by
+	 *  {@link AbstractClient#createSubscription}.
+	 *
+	 *  @since 1.2.0 */
+	public <SUBSCRIPTION extends Subscription> Mono<SUBSCRIPTION> createSubscription( SUBSCRIPTION subscription ) {
+		return cast( executeRequest( HttpMethod.POST, subscriptionApiUrl, subscription, Subscription.class ) );
+	}
+
+
+	/** Gets the subscription with given id.
+	 *
+	 *  @param id Id of the subscription to be fetched.
+	 *
+	 *  @return Mono of the subscription, or terminated with the same exceptions thrown by
+	 *  {@link AbstractClient#getSubscription}.
+	 *
+	 *  @since 1.2.0 */
+	public <SUBSCRIPTION extends Subscription> Mono<SUBSCRIPTION> getSubscription( String id ) {
+		return cast( executeRequest( HttpMethod.GET, subscriptionApiUrl + "/" + id, null, Subscription.class ) );
+	}
+
+
+	/** Updates subscription {@link com.zenvia.api.sdk.client.subscriptions.Webhook webhook}
+	 *  and {@link com.zenvia.api.sdk.client.subscriptions.SubscriptionStatus status}.
+	 *  Other attributes from subscription are not updatable.
+	 *
+	 *  @param subscription Subscription to be updated.
+	 *
+	 *  @return Mono of the subscription updated, or terminated with the same exceptions thrown by
+	 *  {@link AbstractClient#updateSubscription(Subscription)}.
+	 *
+	 *  @since 1.2.0 */
+	public <SUBSCRIPTION extends Subscription> Mono<SUBSCRIPTION> updateSubscription( SUBSCRIPTION subscription ) {
+		return updateSubscription( subscription.id, new PartialSubscription( subscription ) );
+	}
+
+
+	/** Updates subscription {@link com.zenvia.api.sdk.client.subscriptions.Webhook webhook}
+	 *  and {@link com.zenvia.api.sdk.client.subscriptions.SubscriptionStatus status}.
+	 *  Other attributes from subscription are not updatable.
+	 *
+	 *  @param id Id of the subscription to be updated.
+	 *
+	 *  @param partialSubscription Object containing the new
+	 *  {@link com.zenvia.api.sdk.client.subscriptions.Webhook webhook}
+	 *  and {@link com.zenvia.api.sdk.client.subscriptions.SubscriptionStatus status}
+	 *  of the subscription.
+	 *
+	 *  @return Mono of the subscription updated, or terminated with the same exceptions thrown by
+	 *  {@link AbstractClient#updateSubscription(String, PartialSubscription)}.
+	 *
+	 *  @since 1.2.0 */
+	public <SUBSCRIPTION extends Subscription> Mono<SUBSCRIPTION> updateSubscription( String id, PartialSubscription partialSubscription ) {
+		return cast( executeRequest( HttpMethod.PATCH, subscriptionApiUrl + "/" + id, partialSubscription, Subscription.class ) );
+	}
+
+
+	/** Deletes the subscription with the given id.
+	 *
+	 *  @param id Id of the subscription to be deleted.
+	 *
+	 *  @return Mono completed when the subscription is deleted, or terminated with the same
+	 *  exceptions thrown by {@link AbstractClient#deleteSubscription}.
+	 *
+	 *  @since 1.2.0 */
+	public Mono<Void> deleteSubscription( String id ) {
+		return executeRequest( HttpMethod.DELETE, subscriptionApiUrl + "/" + id, null, Void.class );
+	}
+
+
+	protected Mono<Message> sendMessage( ReactiveChannel channel, MessageRequest messageRequest ) {
+		return executeRequest( HttpMethod.POST, channel.url, messageRequest, Message.class );
+	}
+
+
+	/** Returns the configured service URL. In most cases it will be {@value com.zenvia.api.sdk.client.AbstractClient#DEFAULT_URL}.
+	 *
+	 *  @since 1.2.0 */
+	public String getApiUrl() {
+		return apiUrl;
+	}
+
+
+	/** Closes the connections of the pool. The Netty event loops are shared, and are not shut down.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public void close() {
+		connectionPool.dispose();
+	}
+
+
+	private <RESPONSE> Mono<RESPONSE> executeRequest( HttpMethod method, String url, Object requestBody, Class<RESPONSE> responseBodyType ) {
+		return Mono.defer( () -> {
+			WebClient.RequestBodySpec request = webClient.method( method )
+				.uri( URI.create( url ) )
+				.header( "X-API-Token", apiToken );
+			if( requestBody != null ) {
+				request.contentType( MediaType.APPLICATION_JSON ).syncBody( serialize( requestBody ) );
+			}
+			return request.exchange().flatMap( response -> response.bodyToMono( byte[].class )
+				.defaultIfEmpty( new byte[ 0 ] )
+				.flatMap( body -> Mono.justOrEmpty( handleResponse( url, response.rawStatusCode(), body, responseBodyType ) ) )
+			);
+		} ).onErrorMap( cause -> translateException( url, cause ) );
+	}
+
+
+	private <RESPONSE> RESPONSE handleResponse( String url, int httpStatus, byte[] body, Class<RESPONSE> responseBodyType )
+		throws UnsuccessfulRequestException, HttpIOException {
+		if ( httpStatus < 200 || httpStatus >= 300 ) {
+			throw logException( new UnsuccessfulRequestException(
+				url,
+				httpStatus,
+				deserialize( body, ErrorResponse.class, url, httpStatus )
+			) );
+		}
+		return deserialize( body, responseBodyType, url, httpStatus );
+	}
+
+
+	private Throwable translateException( String url, Throwable cause ) {
+		if( cause instanceof ApiException || !( cause instanceof Exception ) ) {
+			return cause;
+		} else if( cause instanceof SocketTimeoutException || cause instanceof ReadTimeoutException ) {
+			return logException( new HttpSocketTimeoutException( url, (Exception) cause ) );
+		} else if( cause instanceof io.netty.channel.ConnectTimeoutException ) {
+			return logException( new HttpConnectionTimeoutException( url, (Exception) cause ) );
+		} else if( cause instanceof ConnectException ) {
+			return logException( new HttpConnectionFailException( url, (Exception) cause ) );
+		} else if( cause instanceof IOException ) {
+			return logException( new HttpIOException( url, (Exception) cause ) );
+		}
+		return logException( (Exception) cause );
+	}
+
+
+	private <TYPE> TYPE deserialize( byte[] body, Class<TYPE> type, String url, int httpStatus ) throws UnsuccessfulRequestException, HttpIOException {
+		if( body.length == 0 || type == Void.class ) {
+			return null;
+		}
+		if( LOG.isTraceEnabled() ) {
+			LOG.trace( "Response body: {}", new String( body, StandardCharsets.UTF_8 ) );
+		}
+		try {
+			return jsonCodec.reader( type ).readValue( body );
+		} catch( JsonMappingException | JsonParseException exception ) {
+			throw logException( new UnsuccessfulRequestException( url, httpStatus, exception ) );
+		} catch( IOException exception ) {
+			throw logException( new HttpIOException( url, exception ) );
+		}
+	}
+
+
+	private byte[] serialize( Object data ) throws IllegalArgumentException {
+		try {
+			byte[] serialized = jsonCodec.writer().writeValueAsBytes( data );
+			if( LOG.isTraceEnabled() ) {
+				LOG.trace( "Request body: {}", new String( serialized, StandardCharsets.UTF_8 ) );
+			}
+			return serialized;
+		}
+		catch( JsonProcessingException exception ) {
+			LOG.error( "Exception serializing request body", exception );
+			throw new IllegalArgumentException( "Exception serializing request body", exception );
+		}
+	}
+
+
+	private <EXCEPTION extends Exception> EXCEPTION logException( EXCEPTION exception ) {
+		LOG.warn( exception.getMessage() );
+		LOG.debug( "Request error", exception );
+		return exception;
+	}
+
+
+	@SuppressWarnings( "unchecked" )
+	private static <SUBSCRIPTION extends Subscription> Mono<SUBSCRIPTION> cast( Mono<Subscription> mono ) {
+		return (Mono<SUBSCRIPTION>) (Mono<?>) mono;
+	}
+
+
+	private static final <TYPE> TYPE valueOrDefault( TYPE value, TYPE defaultValue ) {
+		return value == null ? defaultValue : value;
+	}
+
+
+	/** The maximum connections the pool can have.
+	 *  <br><br>
+	 *  This is set by the client constructor.
+	 *
+	 *  @since 1.2.0 */
+	public int getMaxConnections() {
+		return maxConnections;
+	}
+
+
+	/** The amount of time in milliseconds for a request to timeout when wait for a free connection
+	 *  from the pool.
+	 *  <br><br>
+	 *  This is set by the client constructor.
+	 *
+	 *  @since 1.2.0 */
+	public int getConnectionPoolTimeout() {
+		return connectionPoolTimeout;
+	}
+
+
+	/** The amount of time in milliseconds for a connection attempt to timeout.
+	 *  <br><br>
+	 *  This is set by the client constructor.
+	 *
+	 *  @since 1.2.0 */
+	public int getConnectionTimeout() {
+		return connectionTimeout;
+	}
+
+
+	/** The amount of time in milliseconds for a server reply to timeout.
+	 *  <br><br>
+	 *  This is set by the client constructor.
+	 *
+	 *  @since 1.2.0 */
+	public int getSocketTimeout() {
+		return socketTimeout;
+	}
+
+
+	/** Returns the configuration of this client, except for the token.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  apiUrl = [" + getApiUrl() + "]"
+			+ "\n  maxConnections = [" + getMaxConnections() + "]"
+			+ "\n  connectionTimeout = [" + getConnectionTimeout() + "]"
+			+ "\n  socketTimeout = [" + getSocketTimeout() + "]"
+			+ "\n  connectionPoolTimeout = [" + getConnectionPoolTimeout() + "]"
+			+ "\n}";
+	}
+}
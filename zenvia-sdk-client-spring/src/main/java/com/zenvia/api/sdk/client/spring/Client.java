@@ -3,6 +3,7 @@ package com.zenvia.api.sdk.client.spring;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.http.conn.ConnectTimeoutException;
@@ -21,6 +22,7 @@ import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import com.zenvia.api.sdk.JsonCodec;
 import com.zenvia.api.sdk.client.AbstractClient;
 import com.zenvia.api.sdk.client.Channel;
 import com.zenvia.api.sdk.client.ChannelType;
@@ -31,6 +33,7 @@ import com.zenvia.api.sdk.client.exceptions.HttpIOException;
 import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
 import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
 import com.zenvia.api.sdk.client.exceptions.UnsupportedChannelException;
+import com.zenvia.api.sdk.client.retry.RetryAfter;
 import com.zenvia.api.sdk.client.subscriptions.PartialSubscription;
 import com.zenvia.api.sdk.client.subscriptions.Subscription;
 
@@ -527,25 +530,33 @@ public class Client extends AbstractClient {
 	private <RESPONSE> RESPONSE executeRequest( String url, HttpMethod httpMethod, Object requestBody, Class<RESPONSE> responseBodyType )
 		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException{
 		
-		try {
-			return restTemplate.exchange( url, httpMethod, new HttpEntity<>( requestBody ), responseBodyType ).getBody();
-		} catch( ResourceAccessException exception ) {
-			Throwable cause = exception.getCause();
-			if( cause instanceof ErrorResponseException ) {
-				ErrorResponseException errorResponseException = (ErrorResponseException) cause;
-				throw logException( new UnsuccessfulRequestException( url, errorResponseException.httpStatusCode, errorResponseException.body, errorResponseException.causedBy ) );
-			}
-			if( cause instanceof SocketTimeoutException ) {
-				throw logException( new HttpSocketTimeoutException( url, exception ) );
-			}
-			if( cause instanceof ConnectTimeoutException ) {
-				throw logException( new HttpConnectionTimeoutException( url, exception ) );
-			}
-			if( cause instanceof ConnectException ) {
-				throw logException( new HttpConnectionFailException( url, exception ) );
+		return executeWithRetries( httpMethod.name(), url, () -> {
+			try {
+				return restTemplate.exchange( url, httpMethod, new HttpEntity<>( requestBody ), responseBodyType ).getBody();
+			} catch( ResourceAccessException exception ) {
+				Throwable cause = exception.getCause();
+				if( cause instanceof ErrorResponseException ) {
+					ErrorResponseException errorResponseException = (ErrorResponseException) cause;
+					throw logException( new UnsuccessfulRequestException(
+						url,
+						errorResponseException.httpStatusCode,
+						errorResponseException.body,
+						errorResponseException.causedBy,
+						errorResponseException.retryAfter
+					) );
+				}
+				if( cause instanceof SocketTimeoutException ) {
+					throw logException( new HttpSocketTimeoutException( url, exception ) );
+				}
+				if( cause instanceof ConnectTimeoutException ) {
+					throw logException( new HttpConnectionTimeoutException( url, exception ) );
+				}
+				if( cause instanceof ConnectException ) {
+					throw logException( new HttpConnectionFailException( url, exception ) );
+				}
+				throw logException( new HttpIOException( url, exception ) );
 			}
-			throw logException( new HttpIOException( url, exception ) );
-		}
+		} );
 	}
 
 
@@ -558,6 +569,7 @@ public class Client extends AbstractClient {
 	
 	private RestTemplate buildRestTemplate() {
 		RestTemplate restTemplate = new RestTemplate( new HttpComponentsClientHttpRequestFactory( httpClient ) );
+		restTemplate.setMessageConverters( Collections.singletonList( new JsonCodecHttpMessageConverter( JsonCodec.shared() ) ) );
 		restTemplate.getInterceptors().add( new ClientHttpRequestInterceptor() {
 			@Override
 			public ClientHttpResponse intercept( HttpRequest request, byte[] body, ClientHttpRequestExecution execution ) throws IOException
@@ -577,11 +589,12 @@ public class Client extends AbstractClient {
 			@Override
 			protected void handleError( ClientHttpResponse response, HttpStatus statusCode ) throws IOException {
 				ErrorResponse errorResponse = null;
+				Long retryAfter = RetryAfter.parse( response.getHeaders().getFirst( RetryAfter.HEADER ) );
 				try {
 					errorResponse = (ErrorResponse) restTemplate.responseEntityExtractor( ErrorResponse.class ).extractData( response ).getBody();
-					throw new ErrorResponseException( statusCode.value(), errorResponse );
+					throw new ErrorResponseException( statusCode.value(), errorResponse, retryAfter );
 				} catch( RestClientException exception ) {
-					throw new ErrorResponseException( statusCode.value(), exception );
+					throw new ErrorResponseException( statusCode.value(), exception, retryAfter );
 				}
 				
 			}
@@ -598,19 +611,23 @@ public class Client extends AbstractClient {
 
 		private final Exception causedBy;
 
+		private final Long retryAfter;
+
 
-		private ErrorResponseException( int httpStatus, ErrorResponse errorResponse ) {
+		private ErrorResponseException( int httpStatus, ErrorResponse errorResponse, Long retryAfter ) {
 			this.httpStatusCode = httpStatus;
 			this.body = errorResponse;
 			this.causedBy = null;
+			this.retryAfter = retryAfter;
 		}
 
 
-		private ErrorResponseException( int httpStatus, Exception cause ) {
+		private ErrorResponseException( int httpStatus, Exception cause, Long retryAfter ) {
 			super( cause );
 			this.httpStatusCode = httpStatus;
 			this.body = null;
 			this.causedBy = cause;
+			this.retryAfter = retryAfter;
 		}
 	}
 }
@@ -0,0 +1,64 @@
+package com.zenvia.api.sdk.client.spring;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.zenvia.api.sdk.JsonCodec;
+
+
+/** Message converter backed by the shared {@link JsonCodec}, used instead of the RestTemplate
+ *  default converters, so the spring client shares the resolved (de)serializers with the rest
+ *  of the SDK. Errors are reported the same way as the standard Jackson converter.
+ *
+ *  @since 1.2.0 */
+class JsonCodecHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+	private final JsonCodec jsonCodec;
+
+
+	JsonCodecHttpMessageConverter( JsonCodec jsonCodec ) {
+		super( StandardCharsets.UTF_8, MediaType.APPLICATION_JSON, new MediaType( "application", "*+json" ) );
+		this.jsonCodec = jsonCodec;
+	}
+
+
+	@Override
+	protected boolean supports( Class<?> type ) {
+		return true;
+	}
+
+
+	@Override
+	protected Object readInternal( Class<? extends Object> type, HttpInputMessage inputMessage )
+		throws IOException, HttpMessageNotReadableException {
+		try {
+			return jsonCodec.reader( type ).readValue( inputMessage.getBody() );
+		} catch( InvalidDefinitionException exception ) {
+			throw new HttpMessageConversionException( "Type definition error: " + exception.getType(), exception );
+		} catch( JsonProcessingException exception ) {
+			throw new HttpMessageNotReadableException( "JSON parse error: " + exception.getOriginalMessage(), exception, inputMessage );
+		}
+	}
+
+
+	@Override
+	protected void writeInternal( Object value, HttpOutputMessage outputMessage )
+		throws IOException, HttpMessageNotWritableException {
+		try {
+			jsonCodec.writer().writeValue( outputMessage.getBody(), value );
+		} catch( InvalidDefinitionException exception ) {
+			throw new HttpMessageConversionException( "Type definition error: " + exception.getType(), exception );
+		} catch( JsonProcessingException exception ) {
+			throw new HttpMessageNotWritableException( "Could not write JSON: " + exception.getOriginalMessage(), exception );
+		}
+	}
+}
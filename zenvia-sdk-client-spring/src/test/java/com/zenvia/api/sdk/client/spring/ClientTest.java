@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -42,10 +43,14 @@ import org.springframework.test.context.junit4.SpringRunner;
 import com.zenvia.api.sdk.client.AbstractClient;
 import com.zenvia.api.sdk.client.ChannelType;
 import com.zenvia.api.sdk.client.errors.ErrorResponse;
+import com.zenvia.api.sdk.client.circuitbreaker.CircuitBreakerConfig;
+import com.zenvia.api.sdk.client.circuitbreaker.CircuitState;
+import com.zenvia.api.sdk.client.exceptions.CircuitBreakerOpenException;
 import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
 import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
 import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
 import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+import com.zenvia.api.sdk.client.retry.ExponentialBackoffRetryPolicy;
 import com.zenvia.api.sdk.client.subscriptions.Criteria;
 import com.zenvia.api.sdk.client.subscriptions.EventType;
 import com.zenvia.api.sdk.client.subscriptions.MessageCriteria;
@@ -432,6 +437,87 @@ public class ClientTest {
 	}
 
 
+	@Test
+	public void messageRequestRetriedOnServiceUnavailable() throws Exception {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort + "/flaky" );
+		client.setRetryPolicy( new ExponentialBackoffRetryPolicy( 3, 1L, 10L ) );
+		MessageRequest request = messageRequest();
+		Message message = client.getChannel( "whatsapp" )
+			.sendMessage( request.from, request.to, request.contents );
+
+		assertNotNull( message );
+		assertEquals( "12345", message.id );
+		assertEquals( 3, server.flakyAttempts );
+		assertEquals( 2, client.getRetryStatistics().getRetries() );
+		assertEquals( 1, client.getRetryStatistics().getRecovered() );
+		assertEquals( 0, client.getRetryStatistics().getExhausted() );
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestNotRetriedOnBadGateway() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort + "/flaky" );
+		client.setRetryPolicy( new ExponentialBackoffRetryPolicy( 3, 1L, 10L ) );
+		try {
+			MessageRequest request = messageRequest();
+			client.getChannel( "sms" )
+				.sendMessage( request.from, request.to, request.contents );
+			fail();
+		} catch( UnsuccessfulRequestException exception ) {
+			assertEquals( 502, exception.httpStatusCode );
+			assertEquals( 1, server.flakyAttempts );
+			assertEquals( 0, client.getRetryStatistics().getRetries() );
+		} catch( Exception exception ) {
+			fail();
+		}
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestFailsFastWhenCircuitIsOpen() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort + "/flaky" );
+		client.setCircuitBreakerConfig( new CircuitBreakerConfig( 50, null, null, 2, 2, 60000L, 1 ) );
+		MessageRequest request = messageRequest();
+		for( int i = 0; i < 2; i++ ) {
+			try {
+				client.getChannel( "sms" ).sendMessage( request.from, request.to, request.contents );
+				fail();
+			} catch( UnsuccessfulRequestException exception ) {
+				assertEquals( 502, exception.httpStatusCode );
+			}
+		}
+		try {
+			client.getChannel( "sms" ).sendMessage( request.from, request.to, request.contents );
+			fail();
+		} catch( CircuitBreakerOpenException exception ) {
+			assertEquals( ChannelType.sms.messagePath, exception.endpoint );
+		}
+		assertEquals( 2, server.flakyAttempts );
+		assertEquals( CircuitState.OPEN, client.getCircuitBreakers().get( ChannelType.sms.messagePath ).getState() );
+		client.close();
+	}
+
+
+	@Test
+	public void messageRequestRecordsMetrics() {
+		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort + "/flaky" );
+		List<String> records = new CopyOnWriteArrayList<>();
+		client.setMetrics( ( method, endpoint, channel, durationNanos, exception ) -> {
+			records.add( method + " " + endpoint + " " + channel + " " + exception.getClass().getSimpleName() );
+		} );
+		try {
+			MessageRequest request = messageRequest();
+			client.getChannel( "sms" ).sendMessage( request.from, request.to, request.contents );
+			fail();
+		} catch( UnsuccessfulRequestException exception ) {
+			assertEquals( Arrays.asList( "POST /v1/channels/sms/messages sms UnsuccessfulRequestException" ), records );
+		}
+		client.close();
+	}
+
+
 	@Test
 	public void messageSubscriptionSuccessfulCreation() throws Exception {
 		Client client = new Client( "API_TOKEN", "http://127.0.0.1:" + serverPort );
@@ -751,6 +837,7 @@ public class ClientTest {
 		server.lastMessageStatusSubscriptionPost = null;
 		server.lastMessageStatusSubscriptionPatch = null;
 		server.lastSubscriptionDelete = null;
+		server.flakyAttempts = 0;
 	}
 
 
@@ -769,6 +856,8 @@ public class ClientTest {
 
 		private String lastSubscriptionDelete;
 
+		private int flakyAttempts;
+
 
 		public TestServer() {
 			register( this );
@@ -1015,5 +1104,38 @@ public class ClientTest {
 				.entity( "invalid" )
 				.build();
 		}
+
+
+		@POST
+		@Path( "/flaky/v1/channels/whatsapp/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response flakyResource( MessageRequest messageRequest ) {
+			this.lastMessagePost = messageRequest;
+			if( ++flakyAttempts < 3 ) {
+				return Response
+					.status( 503 )
+					.header( "Retry-After", "0" )
+					.entity( "{\"code\":\"UNAVAILABLE\",\"message\":\"Try again later\"}" )
+					.build();
+			}
+			return Response
+				.ok( "{\"id\":\"12345\",\"from\":\"123\",\"to\":\"456\",\"direction\":\"OUT\",\"channel\":\"whatsapp\",\"contents\":[{\"type\":\"text\",\"text\":\"This is a test!\"}]}" )
+				.build();
+		}
+
+
+		@POST
+		@Path( "/flaky/v1/channels/sms/messages" )
+		@Consumes( MediaType.APPLICATION_JSON )
+		@Produces( MediaType.APPLICATION_JSON )
+		public Response badGatewayResource( MessageRequest messageRequest ) {
+			this.lastMessagePost = messageRequest;
+			flakyAttempts++;
+			return Response
+				.status( 502 )
+				.entity( "{\"code\":\"BAD_GATEWAY\",\"message\":\"Bad gateway\"}" )
+				.build();
+		}
 	}
 }
@@ -0,0 +1,138 @@
+package com.zenvia.api.sdk;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+
+/** Parser of the timestamps sent by the API, written by hand to avoid the cost of the
+ *  {@link java.time.format.DateTimeFormatter} on every event.
+ *  <br><br>
+ *  Only <code>yyyy-MM-ddTHH:mm:ss</code>, optionally followed by exactly three fraction digits,
+ *  and then by either <code>Z</code> or a <code>+HH:MM</code> offset, is accepted. Both the
+ *  ISO formatter and the <code>yyyy-MM-dd'T'HH:mm:ss[.SSS]XXX</code> pattern of the SDK
+ *  types parse these texts to the same values. Anything else is left to the formatter, so
+ *  callers must fall back to it when {@code null} is returned.
+ *
+ *  @since 1.2.0 */
+public final class IsoTimestampParser {
+	private static final int MAX_OFFSET_HOURS = 18;
+
+	private static final int QUARTER_HOUR = 15 * 60;
+
+	/** Offsets in quarter hours, from -18:00 to +18:00, shared to avoid the boxing and lookup
+	 *  of {@link ZoneOffset#ofTotalSeconds(int)}. */
+	private static final ZoneOffset[] OFFSETS = new ZoneOffset[ MAX_OFFSET_HOURS * 4 * 2 + 1 ];
+
+	static {
+		for( int i = 0; i < OFFSETS.length; i++ ) {
+			OFFSETS[ i ] = ZoneOffset.ofTotalSeconds( ( i - MAX_OFFSET_HOURS * 4 ) * QUARTER_HOUR );
+		}
+	}
+
+
+	private IsoTimestampParser() {
+		super();
+	}
+
+
+	/** Parses the timestamp in <code>text[offset, offset + length)</code>.
+	 *
+	 *  @param zone The zone of the returned value, adjusted to the same instant. When null, the
+	 *  zone is the parsed offset.
+	 *
+	 *  @return The timestamp, or null when the text is not in one of the accepted formats or is
+	 *  not a valid date and time.
+	 *
+	 *  @since 1.2.0 */
+	public static ZonedDateTime parse( char[] text, int offset, int length, ZoneId zone ) {
+		if( length < 20 ) {
+			return null;
+		}
+		int end = offset + length;
+		int year = digits( text, offset, 4 );
+		int month = digits( text, offset + 5, 2 );
+		int day = digits( text, offset + 8, 2 );
+		int hour = digits( text, offset + 11, 2 );
+		int minute = digits( text, offset + 14, 2 );
+		int second = digits( text, offset + 17, 2 );
+		if( ( year | month | day | hour | minute | second ) < 0
+			|| text[ offset + 4 ] != '-' || text[ offset + 7 ] != '-' || text[ offset + 10 ] != 'T'
+			|| text[ offset + 13 ] != ':' || text[ offset + 16 ] != ':' ) {
+			return null;
+		}
+
+		int position = offset + 19;
+		int nanos = 0;
+		if( text[ position ] == '.' ) {
+			int millis = end - position > 4 ? digits( text, position + 1, 3 ) : -1;
+			if( millis < 0 ) {
+				return null;
+			}
+			nanos = millis * 1_000_000;
+			position += 4;
+		}
+
+		ZoneOffset zoneOffset = offsetAt( text, position, end - position );
+		if( zoneOffset == null ) {
+			return null;
+		}
+		try {
+			LocalDateTime dateTime = LocalDateTime.of( year, month, day, hour, minute, second, nanos );
+			return zone == null ? ZonedDateTime.of( dateTime, zoneOffset ) : ZonedDateTime.ofInstant( dateTime, zoneOffset, zone );
+		} catch( DateTimeException exception ) {
+			return null;
+		}
+	}
+
+
+	/** Parses the timestamp in the whole text.
+	 *
+	 *  @see #parse(char[], int, int, ZoneId)
+	 *
+	 *  @since 1.2.0 */
+	public static ZonedDateTime parse( String text, ZoneId zone ) {
+		return parse( text.toCharArray(), 0, text.length(), zone );
+	}
+
+
+	private static ZoneOffset offsetAt( char[] text, int position, int length ) {
+		if( length == 1 && text[ position ] == 'Z' ) {
+			return ZoneOffset.UTC;
+		}
+		if( length != 6 || text[ position + 3 ] != ':' ) {
+			return null;
+		}
+		char sign = text[ position ];
+		int hours = digits( text, position + 1, 2 );
+		int minutes = digits( text, position + 4, 2 );
+		if( ( sign != '+' && sign != '-' ) || hours < 0 || minutes < 0 || minutes > 59
+			|| hours > MAX_OFFSET_HOURS || ( hours == MAX_OFFSET_HOURS && minutes > 0 ) ) {
+			return null;
+		}
+		int totalSeconds = hours * 3600 + minutes * 60;
+		if( sign == '-' ) {
+			totalSeconds = -totalSeconds;
+		}
+		if( totalSeconds % QUARTER_HOUR == 0 ) {
+			return OFFSETS[ totalSeconds / QUARTER_HOUR + MAX_OFFSET_HOURS * 4 ];
+		}
+		return ZoneOffset.ofTotalSeconds( totalSeconds );
+	}
+
+
+	/** @return The value of the decimal digits, or -1 if any character is not a digit. */
+	private static int digits( char[] text, int position, int count ) {
+		int value = 0;
+		for( int i = position; i < position + count; i++ ) {
+			int digit = text[ i ] - '0';
+			if( digit < 0 || digit > 9 ) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+}
@@ -0,0 +1,162 @@
+package com.zenvia.api.sdk;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.zenvia.api.sdk.client.errors.ErrorResponse;
+import com.zenvia.api.sdk.client.subscriptions.Subscription;
+import com.zenvia.api.sdk.messages.Message;
+import com.zenvia.api.sdk.messages.MessageRequest;
+import com.zenvia.api.sdk.webhook.Event;
+import com.zenvia.api.sdk.webhook.EventReader;
+
+
+/** JSON codec shared by the clients, the webhook controllers and the <code>toString</code>
+ *  methods of the DTO beans, so the serializers and deserializers of the SDK types, including
+ *  the polymorphic <code>Content</code>, <code>Event</code> and <code>Subscription</code>
+ *  hierarchies, are resolved only once per JVM.
+ *  <br><br>
+ *  The readers and writers are immutable and thread safe. The readers of the SDK types are
+ *  created up front, and {@link #warmUp()} also runs sample payloads of every subtype through
+ *  them, and through the {@link EventReader} of the webhook controllers, to avoid the latency
+ *  spike of the first request or webhook call.
+ *
+ *  @since 1.2.0 */
+public final class JsonCodec {
+	private static final Logger LOG = LoggerFactory.getLogger( JsonCodec.class );
+
+	private static final Class<?>[] SDK_TYPES = {
+		Message.class,
+		MessageRequest.class,
+		Subscription.class,
+		Subscription[].class,
+		ErrorResponse.class,
+		Event.class
+	};
+
+	static final Object[][] SAMPLES = {
+		{ Message.class, "{\"id\":\"1\",\"from\":\"from\",\"to\":\"to\",\"direction\":\"OUT\",\"channel\":\"whatsapp\",\"contents\":[{\"type\":\"text\",\"text\":\"text\"},{\"type\":\"file\",\"fileUrl\":\"http://localhost/file.pdf\",\"fileMimeType\":\"application/pdf\",\"fileCaption\":\"caption\"},{\"type\":\"template\",\"templateId\":\"1\",\"fields\":{\"name\":\"value\"}},{\"type\":\"json\",\"payload\":{\"name\":\"value\"}}]}" },
+		{ Subscription[].class, "[{\"eventType\":\"MESSAGE\",\"id\":\"1\",\"webhook\":{\"url\":\"http://localhost\",\"headers\":{\"name\":\"value\"}},\"criteria\":{\"channel\":\"whatsapp\",\"direction\":\"IN\"},\"status\":\"ACTIVE\",\"createdAt\":\"2019-09-24T21:01:30.500-03:00\",\"updatedAt\":\"2019-09-24T21:08:00.100-03:00\"},{\"eventType\":\"MESSAGE_STATUS\",\"id\":\"2\",\"webhook\":{\"url\":\"http://localhost\"},\"criteria\":{\"channel\":\"sms\"},\"status\":\"ACTIVE\",\"createdAt\":\"2019-09-24T21:01:30.000-03:00\",\"updatedAt\":\"2019-09-25T00:08:00.000Z\"}]" },
+		{ ErrorResponse.class, "{\"code\":\"VALIDATION_ERROR\",\"message\":\"message\",\"details\":[{\"code\":\"INVALID\",\"path\":\"id\",\"message\":\"message\"}]}" },
+		{ Event.class, "{\"id\":\"1\",\"timestamp\":\"2019-06-03T15:50:43-03:00\",\"type\":\"MESSAGE\",\"subscriptionId\":\"1\",\"channel\":\"whatsapp\",\"direction\":\"IN\",\"message\":{\"id\":\"1\",\"from\":\"from\",\"to\":\"to\",\"direction\":\"IN\",\"channel\":\"whatsapp\",\"contents\":[{\"type\":\"text\",\"text\":\"text\"}]}}" },
+		{ Event.class, "{\"id\":\"2\",\"timestamp\":\"2019-06-10T15:30:35.456Z\",\"type\":\"MESSAGE_STATUS\",\"subscriptionId\":\"1\",\"channel\":\"whatsapp\",\"messageId\":\"1\",\"contentIndex\":0,\"messageStatus\":{\"timestamp\":\"2019-06-10T15:30:35-03:00\",\"code\":\"REJECTED\",\"description\":\"description\",\"causes\":[{\"channelErrorCode\":\"500\",\"reason\":\"reason\"}]}}" }
+	};
+
+	// Must be created after the constants above
+	private static final JsonCodec SHARED = new JsonCodec();
+
+	// Fields added to the API must not break older SDK versions
+	private final ObjectMapper jsonMapper = new ObjectMapper()
+		.disable( DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES );
+
+	private final ConcurrentMap<Class<?>,ObjectReader> readers = new ConcurrentHashMap<>();
+
+	private final ObjectWriter writer;
+
+	private final ObjectWriter prettyWriter;
+
+	private final AtomicBoolean warmedUp = new AtomicBoolean();
+
+
+	private JsonCodec() {
+		writer = jsonMapper.writer().without( JsonGenerator.Feature.AUTO_CLOSE_TARGET );
+		prettyWriter = writer.with( SerializationFeature.INDENT_OUTPUT );
+		for( Class<?> type : SDK_TYPES ) {
+			readers.put( type, jsonMapper.readerFor( type ) );
+		}
+	}
+
+
+	/** The codec shared by the whole SDK.
+	 *
+	 *  @since 1.2.0 */
+	public static JsonCodec shared() {
+		return SHARED;
+	}
+
+
+	/** Returns the reader of the given type, created once and reused afterwards.
+	 *
+	 *  @since 1.2.0 */
+	public ObjectReader reader( Class<?> type ) {
+		ObjectReader reader = readers.get( type );
+		return reader != null ? reader : readers.computeIfAbsent( type, jsonMapper::readerFor );
+	}
+
+
+	/** Returns the writer used on request bodies. It does not close the target stream.
+	 *
+	 *  @since 1.2.0 */
+	public ObjectWriter writer() {
+		return writer;
+	}
+
+
+	/** Returns the writer of indented JSON.
+	 *
+	 *  @since 1.2.0 */
+	public ObjectWriter prettyWriter() {
+		return prettyWriter;
+	}
+
+
+	/** Resolves the serializers and deserializers of every SDK type and subtype by running
+	 *  sample payloads through them. Only the first call has any effect.
+	 *
+	 *  @since 1.2.0 */
+	public void warmUp() {
+		if( !warmedUp.compareAndSet( false, true ) ) {
+			return;
+		}
+		long start = System.nanoTime();
+		for( Object[] sample : SAMPLES ) {
+			try {
+				Object value = reader( (Class<?>) sample[ 0 ] ).readValue( (String) sample[ 1 ] );
+				if( sample[ 0 ] == Event.class ) {
+					EventReader.shared().read( ( (String) sample[ 1 ] ).getBytes( StandardCharsets.UTF_8 ) );
+				}
+				writer.writeValue( NullOutputStream.INSTANCE, value );
+				prettyWriter.writeValue( NullOutputStream.INSTANCE, value );
+			} catch( IOException exception ) {
+				LOG.warn( "Error warming up JSON codec for {}", sample[ 0 ], exception );
+			}
+		}
+		LOG.debug( "JSON codec warmed up in {} ms", ( System.nanoTime() - start ) / 1_000_000L );
+	}
+
+
+	/** If {@link #warmUp()} was called.
+	 *
+	 *  @since 1.2.0 */
+	public boolean isWarmedUp() {
+		return warmedUp.get();
+	}
+
+
+	private static class NullOutputStream extends OutputStream {
+		private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+
+		@Override
+		public void write( int value ) {
+		}
+
+
+		@Override
+		public void write( byte[] buffer, int offset, int length ) {
+		}
+	}
+}
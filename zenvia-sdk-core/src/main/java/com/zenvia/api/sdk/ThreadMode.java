@@ -0,0 +1,134 @@
+package com.zenvia.api.sdk;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/** Kind of threads the SDK creates to run blocking work, like the requests of a
+ *  {@link com.zenvia.api.sdk.client.Channel#sendAll bulk send} or the deliveries of a
+ *  {@link com.zenvia.api.sdk.webhook.dispatch.EventDispatcher}.
+ *  <br><br>
+ *  Virtual threads are only available from Java 21 on. As the SDK is built for Java 8, they
+ *  are looked up at runtime, and {@link #VIRTUAL} falls back to {@link #PLATFORM} threads, with
+ *  a warning, on older runtimes.
+ *
+ *  @since 1.2.0 */
+public enum ThreadMode {
+	/** Daemon platform threads, pooled and sized to the amount of work in flight.
+	 *
+	 *  @since 1.2.0 */
+	PLATFORM,
+
+	/** Virtual threads, one per task, so blocking work in flight costs no platform thread.
+	 *
+	 *  @since 1.2.0 */
+	VIRTUAL;
+
+	private static final Logger LOG = LoggerFactory.getLogger( ThreadMode.class );
+
+	private static final AtomicBoolean FALLBACK_LOGGED = new AtomicBoolean();
+
+	/** <code>Thread.ofVirtual()</code>, or null when virtual threads are not available. */
+	private static final Method OF_VIRTUAL;
+
+	/** <code>Thread.Builder.name(String, long)</code> */
+	private static final Method BUILDER_NAME;
+
+	/** <code>Thread.Builder.factory()</code> */
+	private static final Method BUILDER_FACTORY;
+
+	/** <code>Executors.newThreadPerTaskExecutor(ThreadFactory)</code> */
+	private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+	static {
+		Method ofVirtual = null;
+		Method builderName = null;
+		Method builderFactory = null;
+		Method newThreadPerTaskExecutor = null;
+		try {
+			Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+			ofVirtual = Thread.class.getMethod( "ofVirtual" );
+			builderName = builderClass.getMethod( "name", String.class, long.class );
+			builderFactory = builderClass.getMethod( "factory" );
+			newThreadPerTaskExecutor = Executors.class.getMethod( "newThreadPerTaskExecutor", ThreadFactory.class );
+			// Throws on Java 19 and 20 unless preview features are enabled
+			builderFactory.invoke( ofVirtual.invoke( null ) );
+		} catch( ReflectiveOperationException | LinkageError | RuntimeException exception ) {
+			ofVirtual = null;
+		}
+		OF_VIRTUAL = ofVirtual;
+		BUILDER_NAME = builderName;
+		BUILDER_FACTORY = builderFactory;
+		NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+	}
+
+
+	/** Whether the runtime supports virtual threads.
+	 *
+	 *  @since 1.2.0 */
+	public static boolean isVirtualSupported() {
+		return OF_VIRTUAL != null;
+	}
+
+
+	/** The mode actually used: {@link #PLATFORM} when this is {@link #VIRTUAL} but the runtime
+	 *  does not support virtual threads.
+	 *
+	 *  @since 1.2.0 */
+	public ThreadMode effective() {
+		if( this == VIRTUAL && !isVirtualSupported() ) {
+			if( FALLBACK_LOGGED.compareAndSet( false, true ) ) {
+				LOG.warn( "Virtual threads require Java 21 or newer, using platform threads instead" );
+			}
+			return PLATFORM;
+		}
+		return this;
+	}
+
+
+	/** Creates threads named by the given prefix followed by a sequence number. Platform threads
+	 *  are daemon threads, as virtual threads always are.
+	 *
+	 *  @since 1.2.0 */
+	public ThreadFactory threadFactory( String namePrefix ) {
+		if( effective() == VIRTUAL ) {
+			try {
+				return (ThreadFactory) BUILDER_FACTORY.invoke( BUILDER_NAME.invoke( OF_VIRTUAL.invoke( null ), namePrefix, 1L ) );
+			} catch( ReflectiveOperationException exception ) {
+				throw new IllegalStateException( "Could not create virtual thread factory", exception );
+			}
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		return ( runnable ) -> {
+			Thread thread = new Thread( runnable, namePrefix + threadCount.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		};
+	}
+
+
+	/** Creates an executor for up to <code>threads</code> concurrent tasks, which is a fixed
+	 *  pool on {@link #PLATFORM} mode, and starts a new thread for each task on
+	 *  {@link #VIRTUAL} mode, where pooling is pointless. Callers must bound the tasks in flight
+	 *  themselves on {@link #VIRTUAL} mode.
+	 *
+	 *  @since 1.2.0 */
+	public ExecutorService newExecutor( String namePrefix, int threads ) {
+		ThreadFactory threadFactory = threadFactory( namePrefix );
+		if( effective() == VIRTUAL ) {
+			try {
+				return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke( null, threadFactory );
+			} catch( ReflectiveOperationException exception ) {
+				throw new IllegalStateException( "Could not create virtual thread executor", exception );
+			}
+		}
+		return Executors.newFixedThreadPool( threads, threadFactory );
+	}
+}
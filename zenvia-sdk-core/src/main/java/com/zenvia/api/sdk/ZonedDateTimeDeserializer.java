@@ -1,18 +1,104 @@
 package com.zenvia.api.sdk;
 
+import java.io.IOException;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.TimeZone;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
 
 
 /** ZonedDateTime JSON deserializer, used on DTO with timestamps,
  *  just a wrapper for the standard JSR310 Jackson implementation.
+ *  <br><br>
+ *  Since 1.2.0, the timestamps in the formats sent by the API are parsed by the
+ *  {@link IsoTimestampParser}, and only the others by the standard implementation, configured
+ *  by the <code>@JsonFormat</code> of the property, if any.
  *
  *  @since 0.9.0 */
 @SuppressWarnings( "serial" )
 public class ZonedDateTimeDeserializer extends InstantDeserializer<ZonedDateTime> {
+	private static volatile ContextZone lastContextZone = new ContextZone( null );
+
+	private final JsonDeserializer<ZonedDateTime> fallback;
+
+
 	/** @since 0.9.0 */
 	public ZonedDateTimeDeserializer() {
 		super( InstantDeserializer.ZONED_DATE_TIME, true );
+		this.fallback = null;
+	}
+
+
+	private ZonedDateTimeDeserializer( JsonDeserializer<ZonedDateTime> fallback, Boolean adjustToContextTimezone ) {
+		super( InstantDeserializer.ZONED_DATE_TIME, adjustToContextTimezone );
+		this.fallback = fallback;
+	}
+
+
+	/** Keeps the fast path on properties with a <code>@JsonFormat</code>, which the standard
+	 *  implementation replaces by a plain {@link InstantDeserializer}, used as the fallback.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public JsonDeserializer<ZonedDateTime> createContextual( DeserializationContext context, BeanProperty property ) throws JsonMappingException {
+		JsonDeserializer<ZonedDateTime> contextual = super.createContextual( context, property );
+		if( contextual == this ) {
+			return this;
+		}
+		JsonFormat.Value format = findFormatOverrides( context, property, handledType() );
+		return new ZonedDateTimeDeserializer( contextual, format == null ? null : format.getFeature( JsonFormat.Feature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE ) );
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public ZonedDateTime deserialize( JsonParser parser, DeserializationContext context ) throws IOException {
+		if( parser.hasToken( JsonToken.VALUE_STRING ) ) {
+			boolean adjust = shouldAdjustToContextTimezone( context );
+			ZoneId zone = adjust ? zoneOf( context.getTimeZone() ) : null;
+			if( !adjust || zone != null ) {
+				ZonedDateTime value = IsoTimestampParser.parse( parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), zone );
+				if( value != null ) {
+					return value;
+				}
+			}
+		}
+		return fallback == null ? super.deserialize( parser, context ) : fallback.deserialize( parser, context );
+	}
+
+
+	/** Caches the zone of the last context time zone, which is the same instance for every
+	 *  call on a given mapper, as {@link TimeZone#toZoneId()} creates a new one on each call. */
+	private static ZoneId zoneOf( TimeZone timeZone ) {
+		if( timeZone == null ) {
+			return null;
+		}
+		ContextZone contextZone = lastContextZone;
+		if( contextZone.timeZone != timeZone ) {
+			contextZone = new ContextZone( timeZone );
+			lastContextZone = contextZone;
+		}
+		return contextZone.zone;
+	}
+
+
+	private static final class ContextZone {
+		private final TimeZone timeZone;
+
+		private final ZoneId zone;
+
+
+		private ContextZone( TimeZone timeZone ) {
+			this.timeZone = timeZone;
+			this.zone = timeZone == null ? null : timeZone.toZoneId();
+		}
 	}
 }
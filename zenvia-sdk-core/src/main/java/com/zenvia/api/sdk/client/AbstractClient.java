@@ -1,29 +1,70 @@
 package com.zenvia.api.sdk.client;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.apache.http.ConnectionReuseStrategy;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.utils.URIUtils;
 import org.apache.http.config.ConnectionConfig;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.UnsupportedSchemeException;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.impl.DefaultConnectionReuseStrategy;
 import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
-
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zenvia.api.sdk.ThreadMode;
+import com.zenvia.api.sdk.client.circuitbreaker.CircuitBreaker;
+import com.zenvia.api.sdk.client.circuitbreaker.CircuitBreakerConfig;
+import com.zenvia.api.sdk.client.exceptions.ApiException;
 import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
 import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
 import com.zenvia.api.sdk.client.exceptions.HttpIOException;
 import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.RateLimitExceededException;
 import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
 import com.zenvia.api.sdk.client.exceptions.UnsupportedChannelException;
+import com.zenvia.api.sdk.client.metrics.ClientMetrics;
+import com.zenvia.api.sdk.client.metrics.ConnectionPoolStats;
+import com.zenvia.api.sdk.client.ratelimit.RateLimiter;
+import com.zenvia.api.sdk.client.retry.RequestAttempt;
+import com.zenvia.api.sdk.client.retry.RetryPolicy;
+import com.zenvia.api.sdk.client.retry.RetryStatistics;
+import com.zenvia.api.sdk.client.subscriptions.EventType;
 import com.zenvia.api.sdk.client.subscriptions.MessageStatusSubscription;
 import com.zenvia.api.sdk.client.subscriptions.MessageSubscription;
 import com.zenvia.api.sdk.client.subscriptions.PartialSubscription;
 import com.zenvia.api.sdk.client.subscriptions.Subscription;
+import com.zenvia.api.sdk.client.subscriptions.SubscriptionCache;
+import com.zenvia.api.sdk.client.warmup.WarmUpSummary;
 import com.zenvia.api.sdk.messages.Message;
 import com.zenvia.api.sdk.messages.MessageRequest;
 
@@ -72,6 +113,10 @@ public abstract class AbstractClient implements Closeable {
 	/** {@value} */
 	public static final int DEFAULT_INACTIVITY_TIME_BEFORE_STALE_CHECK = 5000;
 
+	private static final Logger LOG = LoggerFactory.getLogger( AbstractClient.class );
+
+	private static final String SUBSCRIPTIONS_PATH = "/v1/subscriptions";
+
 	protected final String apiToken;
 
 	protected final String apiUrl;
@@ -90,6 +135,24 @@ public abstract class AbstractClient implements Closeable {
 
 	private final PoolingHttpClientConnectionManager connectionPool;
 
+	private volatile RateLimiter rateLimiter;
+
+	private volatile RetryPolicy retryPolicy;
+
+	private final RetryStatistics retryStatistics = new RetryStatistics();
+
+	private volatile CircuitBreakerConfig circuitBreakerConfig;
+
+	private final ConcurrentMap<String,CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+	private volatile ClientMetrics metrics;
+
+	private volatile SubscriptionCache subscriptionCache;
+
+	private volatile ThreadMode threadMode = ThreadMode.PLATFORM;
+
+	private volatile Semaphore connectionGate;
+
 
 	/** Initializes the connection pool using default configurations.
 	 * <br>
@@ -487,7 +550,7 @@ public abstract class AbstractClient implements Closeable {
 	) {
 		this.apiToken = apiToken;
 		this.apiUrl = valueOrDefault( apiUrl, DEFAULT_URL );
-		this.subscriptionApiUrl = this.apiUrl + "/v1/subscriptions";
+		this.subscriptionApiUrl = this.apiUrl + SUBSCRIPTIONS_PATH;
 		
 		this.connectionPool = connectionPool;
 		this.connectionConfig = defaultConnectionConfig;
@@ -537,7 +600,8 @@ public abstract class AbstractClient implements Closeable {
 	/** Gets all subscriptions, of all types and all {@link Channel channels}. So the list may contain
 	 * {@link MessageSubscription} and {@link MessageStatusSubscription} mixed together.
 	 *
-	 *  @return Existing subscriptions.
+	 *  @return Existing subscriptions. When the {@link #setSubscriptionCache subscription cache}
+	 *  is enabled, the list is unmodifiable and may be served by the cache.
 	 *
 	 *  @throws UnsuccessfulRequestException
 	 *  If the request failed, indicated by the
@@ -558,7 +622,58 @@ public abstract class AbstractClient implements Closeable {
 	 *  @since 0.9.0 */
 	public List<Subscription> listSubscriptions()
 		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
-		return Arrays.asList( list( subscriptionApiUrl, Subscription[].class ) );
+		SubscriptionCache subscriptionCache = this.subscriptionCache;
+		if( subscriptionCache != null ) {
+			return subscriptionCache.list( this::fetchSubscriptions );
+		}
+		return fetchSubscriptions();
+	}
+
+
+	/** Gets the subscriptions of a webhook URL, channel and event type, like the ones a
+	 *  webhook controller needs. When the {@link #setSubscriptionCache subscription cache} is
+	 *  enabled, this is a lookup on its index.
+	 *
+	 *  @param webhookUrl The exact {@link com.zenvia.api.sdk.client.subscriptions.Webhook#url webhook URL}.
+	 *
+	 *  @param channel The channel of the subscription criteria.
+	 *
+	 *  @param eventType The event type of the subscription.
+	 *
+	 *  @return Matching subscriptions, of any status.
+	 *
+	 *  @throws UnsuccessfulRequestException
+	 *  If the request failed, indicated by the
+	 *  {@link UnsuccessfulRequestException#httpStatusCode} from the server response.
+	 *
+	 *  @throws HttpSocketTimeoutException
+	 *  If the server response timed out. 
+	 *
+	 *  @throws HttpConnectionTimeoutException
+	 *  If the connection attempt timed out.
+	 *
+	 *  @throws HttpConnectionFailException
+	 *  If the connection attempt failed.
+	 *
+	 *  @throws HttpIOException
+	 *  If any other communication problem happens.
+	 *
+	 *  @since 1.2.0 */
+	public List<Subscription> findSubscriptions( String webhookUrl, ChannelType channel, EventType eventType )
+		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		SubscriptionCache subscriptionCache = this.subscriptionCache;
+		if( subscriptionCache != null ) {
+			return subscriptionCache.find( webhookUrl, channel, eventType, this::fetchSubscriptions );
+		}
+		List<Subscription> subscriptions = new ArrayList<>();
+		for( Subscription subscription : fetchSubscriptions() ) {
+			if( eventType == subscription.eventType
+				&& subscription.webhook != null && Objects.equals( webhookUrl, subscription.webhook.url )
+				&& subscription.criteria != null && channel == subscription.criteria.channel ) {
+				subscriptions.add( subscription );
+			}
+		}
+		return subscriptions;
 	}
 
 
@@ -590,7 +705,17 @@ public abstract class AbstractClient implements Closeable {
 	@SuppressWarnings( "unchecked" )
 	public <SUBSCRIPTION extends Subscription> SUBSCRIPTION createSubscription( SUBSCRIPTION subscription )
 		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
-		return (SUBSCRIPTION) post( subscriptionApiUrl, subscription, Subscription.class );
+		SubscriptionCache subscriptionCache = this.subscriptionCache;
+		Subscription created = null;
+		try {
+			created = post( subscriptionApiUrl, subscription, Subscription.class );
+		} finally {
+			if( subscriptionCache != null ) {
+				subscriptionCache.invalidate( null );
+				subscriptionCache.put( created );
+			}
+		}
+		return (SUBSCRIPTION) created;
 	}
 
 
@@ -621,7 +746,11 @@ public abstract class AbstractClient implements Closeable {
 	@SuppressWarnings( "unchecked" )
 	public <SUBSCRIPTION extends Subscription> SUBSCRIPTION getSubscription( String id )
 		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
-		return (SUBSCRIPTION) get( subscriptionApiUrl, id, Subscription.class );
+		SubscriptionCache subscriptionCache = this.subscriptionCache;
+		if( subscriptionCache != null ) {
+			return (SUBSCRIPTION) subscriptionCache.get( id, this::fetchSubscription );
+		}
+		return (SUBSCRIPTION) fetchSubscription( id );
 	}
 
 
@@ -691,7 +820,17 @@ public abstract class AbstractClient implements Closeable {
 	@SuppressWarnings( "unchecked" )
 	public <SUBSCRIPTION extends Subscription> SUBSCRIPTION updateSubscription( String id, PartialSubscription partialSubscription )
 		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
-		return (SUBSCRIPTION) patch( subscriptionApiUrl, id, partialSubscription, Subscription.class );
+		SubscriptionCache subscriptionCache = this.subscriptionCache;
+		Subscription updated = null;
+		try {
+			updated = patch( subscriptionApiUrl, id, partialSubscription, Subscription.class );
+		} finally {
+			if( subscriptionCache != null ) {
+				subscriptionCache.invalidate( id );
+				subscriptionCache.put( updated );
+			}
+		}
+		return (SUBSCRIPTION) updated;
 	}
 
 
@@ -719,16 +858,178 @@ public abstract class AbstractClient implements Closeable {
 	 *  @since 0.9.0 */
 	public void deleteSubscription( String id )
 		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
-		delete( subscriptionApiUrl, id );
+		SubscriptionCache subscriptionCache = this.subscriptionCache;
+		try {
+			delete( subscriptionApiUrl, id );
+		} finally {
+			if( subscriptionCache != null ) {
+				subscriptionCache.invalidate( id );
+			}
+		}
+	}
+
+
+	private List<Subscription> fetchSubscriptions() {
+		return Arrays.asList( list( subscriptionApiUrl, Subscription[].class ) );
+	}
+
+
+	private Subscription fetchSubscription( String id ) {
+		return get( subscriptionApiUrl, id, Subscription.class );
 	}
 
 
 	protected Message sendMessage( Channel channel, MessageRequest messageRequest )
-		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		throws RateLimitExceededException, UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		RateLimiter rateLimiter = this.rateLimiter;
+		if( rateLimiter != null ) {
+			rateLimiter.acquire( channel.type, messageRequest.from );
+		}
 		return post( channel.url, messageRequest, Message.class );
 	}
 
 
+	/** Executes a request, attempting it again while the {@link #setRetryPolicy retry policy}
+	 *  allows it, guarding each attempt with the circuit breaker of its endpoint group
+	 *  when {@link #setCircuitBreakerConfig enabled}, and measuring it when
+	 *  {@link #setMetrics metrics} are set. Concrete clients must route every request
+	 *  through this method.
+	 *
+	 *  @param method HTTP method of the request.
+	 *
+	 *  @param url URL of the request.
+	 *
+	 *  @param execution Single attempt of the request.
+	 *
+	 *  @return Result of the first successful attempt.
+	 *
+	 *  @since 1.2.0 */
+	protected <RESULT> RESULT executeWithRetries( String method, String url, Supplier<RESULT> execution )
+		throws ApiException {
+		String endpoint = endpoint( url );
+		CircuitBreaker circuitBreaker = circuitBreaker( endpoint );
+		for( int attempt = 1; ; attempt++ ) {
+			try {
+				RESULT result = measure( method, endpoint, () -> executeGated( url, () -> executeAttempt( circuitBreaker, execution ) ) );
+				if( attempt > 1 ) {
+					retryStatistics.recovered();
+				}
+				return result;
+			} catch( ApiException exception ) {
+				RetryPolicy retryPolicy = this.retryPolicy;
+				long delay = retryPolicy == null
+					? RetryPolicy.NO_RETRY
+					: retryPolicy.nextDelay( new RequestAttempt( method, url, attempt, exception ) );
+				if( delay < 0 ) {
+					if( attempt > 1 ) {
+						retryStatistics.exhausted();
+					}
+					throw exception;
+				}
+				try {
+					TimeUnit.MILLISECONDS.sleep( delay );
+				} catch( InterruptedException interruption ) {
+					Thread.currentThread().interrupt();
+					throw exception;
+				}
+				retryStatistics.retried();
+			}
+		}
+	}
+
+
+	private static <RESULT> RESULT executeAttempt( CircuitBreaker circuitBreaker, Supplier<RESULT> execution ) {
+		if( circuitBreaker == null ) {
+			return execution.get();
+		}
+		circuitBreaker.acquirePermission();
+		long start = System.nanoTime();
+		try {
+			RESULT result = execution.get();
+			circuitBreaker.onSuccess( System.nanoTime() - start );
+			return result;
+		} catch( RuntimeException exception ) {
+			circuitBreaker.onError( exception, System.nanoTime() - start );
+			throw exception;
+		} catch( Error error ) {
+			// Not a failure of the API, but the permission must be settled, or a half-open trial is lost
+			circuitBreaker.onError( new ExecutionException( error ), System.nanoTime() - start );
+			throw error;
+		}
+	}
+
+
+	/** On {@link ThreadMode#VIRTUAL} mode, waits for a free connection before the attempt, since
+	 *  the connection pool waits for one while holding a monitor, which would pin the carrier
+	 *  thread of a virtual thread. The gate has as many permits as the pool has connections, so
+	 *  the pool itself never waits. */
+	private <RESULT> RESULT executeGated( String url, Supplier<RESULT> execution ) {
+		Semaphore connectionGate = this.connectionGate;
+		if( connectionGate == null ) {
+			return execution.get();
+		}
+		int poolTimeout = getConnectionPoolTimeout();
+		try {
+			if( poolTimeout <= 0 ) {
+				connectionGate.acquire();
+			} else if( !connectionGate.tryAcquire( poolTimeout, TimeUnit.MILLISECONDS ) ) {
+				throw new HttpConnectionTimeoutException( url, new ConnectionPoolTimeoutException( "Timeout waiting for connection from pool" ) );
+			}
+		} catch( InterruptedException exception ) {
+			Thread.currentThread().interrupt();
+			throw new HttpIOException( url, new InterruptedIOException( "Interrupted waiting for connection from pool" ) );
+		}
+		try {
+			return execution.get();
+		} finally {
+			connectionGate.release();
+		}
+	}
+
+
+	private <RESULT> RESULT measure( String method, String endpoint, Supplier<RESULT> execution ) {
+		ClientMetrics metrics = this.metrics;
+		if( metrics == null ) {
+			return execution.get();
+		}
+		long start = System.nanoTime();
+		try {
+			RESULT result = execution.get();
+			metrics.recordRequest( method, endpoint, channel( endpoint ), System.nanoTime() - start, null );
+			return result;
+		} catch( RuntimeException exception ) {
+			metrics.recordRequest( method, endpoint, channel( endpoint ), System.nanoTime() - start, exception );
+			throw exception;
+		}
+	}
+
+
+	private CircuitBreaker circuitBreaker( String endpoint ) {
+		CircuitBreakerConfig config = this.circuitBreakerConfig;
+		if( config == null ) {
+			return null;
+		}
+		CircuitBreaker circuitBreaker = circuitBreakers.get( endpoint );
+		return circuitBreaker != null ? circuitBreaker : circuitBreakers.computeIfAbsent( endpoint, ( name ) -> new CircuitBreaker( name, config ) );
+	}
+
+
+	private String endpoint( String url ) {
+		String endpoint = url.startsWith( apiUrl ) ? url.substring( apiUrl.length() ) : url;
+		return endpoint.startsWith( SUBSCRIPTIONS_PATH ) ? SUBSCRIPTIONS_PATH : endpoint;
+	}
+
+
+	private static ChannelType channel( String endpoint ) {
+		for( ChannelType channelType : ChannelType.values() ) {
+			if( channelType.messagePath.equals( endpoint ) ) {
+				return channelType;
+			}
+		}
+		return null;
+	}
+
+
 	protected abstract <RESPONSE> RESPONSE list( String url, Class<RESPONSE> responseBodyType )
 		throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException;
 
@@ -857,6 +1158,274 @@ public abstract class AbstractClient implements Closeable {
 	}
 
 
+	/** Sets the client-side rate limiter applied before each message request.
+	 *  When null, which is the default, no rate limit is applied.
+	 *
+	 *  @param rateLimiter The rate limiter, or null to disable it.
+	 *
+	 *  @since 1.2.0 */
+	public void setRateLimiter( RateLimiter rateLimiter ) {
+		this.rateLimiter = rateLimiter;
+	}
+
+
+	/** The client-side rate limiter applied before each message request. Null when disabled.
+	 *
+	 *  @since 1.2.0 */
+	public RateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+
+	/** Sets the policy deciding whether failed requests are attempted again.
+	 *  When null, which is the default, requests are not retried beyond the
+	 *  {@link #getMaxConnectionRetries() connection retries} made by the HTTP client.
+	 *
+	 *  @param retryPolicy The retry policy, or null to disable it.
+	 *
+	 *  @since 1.2.0 */
+	public void setRetryPolicy( RetryPolicy retryPolicy ) {
+		this.retryPolicy = retryPolicy;
+	}
+
+
+	/** The policy deciding whether failed requests are attempted again. Null when disabled.
+	 *
+	 *  @since 1.2.0 */
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+
+	/** Counters of the retries made by this client.
+	 *
+	 *  @since 1.2.0 */
+	public RetryStatistics getRetryStatistics() {
+		return retryStatistics;
+	}
+
+
+	/** Enables a circuit breaker per endpoint group, one for the messages of each channel and
+	 *  one for the subscriptions, so requests fail fast with
+	 *  {@link com.zenvia.api.sdk.client.exceptions.CircuitBreakerOpenException} while the API
+	 *  is degraded. When null, which is the default, no circuit breaker is used.
+	 *  <br><br>
+	 *  Setting a new configuration discards the state of the current circuit breakers.
+	 *
+	 *  @param circuitBreakerConfig The circuit breaker configuration, or null to disable them.
+	 *
+	 *  @since 1.2.0 */
+	public void setCircuitBreakerConfig( CircuitBreakerConfig circuitBreakerConfig ) {
+		this.circuitBreakerConfig = circuitBreakerConfig;
+		this.circuitBreakers.clear();
+	}
+
+
+	/** The circuit breaker configuration. Null when disabled.
+	 *
+	 *  @since 1.2.0 */
+	public CircuitBreakerConfig getCircuitBreakerConfig() {
+		return circuitBreakerConfig;
+	}
+
+
+	/** The circuit breakers created so far, by endpoint group, like <code>/v1/subscriptions</code>
+	 *  or <code>/v1/channels/whatsapp/messages</code>.
+	 *
+	 *  @since 1.2.0 */
+	public Map<String,CircuitBreaker> getCircuitBreakers() {
+		return Collections.unmodifiableMap( circuitBreakers );
+	}
+
+
+	/** Sets the metrics receiving measurements of every request made by this client, and binds
+	 *  them to the connection pool. When null, which is the default, nothing is measured.
+	 *
+	 *  @param metrics The client metrics, or null to disable them.
+	 *
+	 *  @since 1.2.0 */
+	public void setMetrics( ClientMetrics metrics ) {
+		if( metrics != null ) {
+			metrics.bindConnectionPool( this::getConnectionPoolStats );
+		}
+		this.metrics = metrics;
+	}
+
+
+	/** The metrics receiving measurements of every request made by this client. Null when disabled.
+	 *
+	 *  @since 1.2.0 */
+	public ClientMetrics getMetrics() {
+		return metrics;
+	}
+
+
+	/** Sets the cache serving the subscription reads, which are {@link #listSubscriptions()},
+	 *  {@link #findSubscriptions findSubscriptions} and {@link #getSubscription getSubscription}.
+	 *  The subscription changes made by this client invalidate it. When null, which is the
+	 *  default, every read is a request.
+	 *
+	 *  @param subscriptionCache The subscription cache, or null to disable it.
+	 *
+	 *  @since 1.2.0 */
+	public void setSubscriptionCache( SubscriptionCache subscriptionCache ) {
+		this.subscriptionCache = subscriptionCache;
+	}
+
+
+	/** The cache serving the subscription reads. Null when disabled.
+	 *
+	 *  @since 1.2.0 */
+	public SubscriptionCache getSubscriptionCache() {
+		return subscriptionCache;
+	}
+
+
+	/** Sets the kind of threads running the requests of {@link Channel#sendAll bulk sends} that
+	 *  have no executor of their own. On {@link ThreadMode#VIRTUAL} mode, requests also wait for
+	 *  a free connection before reaching the connection pool, so virtual threads are never
+	 *  pinned while the pool is exhausted. The default is {@link ThreadMode#PLATFORM}.
+	 *  <br><br>
+	 *  On runtimes older than Java 21, {@link ThreadMode#VIRTUAL} behaves like
+	 *  {@link ThreadMode#PLATFORM}.
+	 *
+	 *  @param threadMode The thread mode. When null, {@link ThreadMode#PLATFORM} is used.
+	 *
+	 *  @since 1.2.0 */
+	public void setThreadMode( ThreadMode threadMode ) {
+		ThreadMode effective = threadMode == null ? ThreadMode.PLATFORM : threadMode.effective();
+		this.connectionGate = effective == ThreadMode.VIRTUAL ? new Semaphore( getMaxConnections(), true ) : null;
+		this.threadMode = effective;
+	}
+
+
+	/** The kind of threads running the requests of bulk sends. It is {@link ThreadMode#PLATFORM}
+	 *  when {@link ThreadMode#VIRTUAL} was set on a runtime without virtual threads.
+	 *
+	 *  @since 1.2.0 */
+	public ThreadMode getThreadMode() {
+		return threadMode;
+	}
+
+
+	/** Current state of the connection pool.
+	 *
+	 *  @since 1.2.0 */
+	public ConnectionPoolStats getConnectionPoolStats() {
+		PoolStats stats = connectionPool.getTotalStats();
+		return new ConnectionPoolStats( stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax() );
+	}
+
+
+	/** Opens connections to the {@link #getApiUrl() API URL} in parallel, including the TLS
+	 *  handshake, and leaves them idle on the connection pool, so the first requests after
+	 *  startup find them ready instead of paying for the handshakes. Connections already idle on
+	 *  the pool are counted as ready and not opened again.
+	 *  <br><br>
+	 *  Idle connections are closed by the server after a while, and replaced by later requests
+	 *  as usual, so this is meant to be called right before the traffic starts. Connections that
+	 *  could not be opened are logged and counted on the summary, not thrown.
+	 *
+	 *  @param connections Amount of connections to make ready, capped to
+	 *  {@link #getMaxConnections()}.
+	 *
+	 *  @since 1.2.0 */
+	public WarmUpSummary warmUp( int connections ) {
+		long start = System.nanoTime();
+		int amount = Math.min( connections, getMaxConnections() );
+		if( amount <= 0 ) {
+			return new WarmUpSummary( 0, 0, 0L );
+		}
+
+		HttpRoute route;
+		try {
+			route = apiRoute();
+		} catch( UnsupportedSchemeException | IllegalArgumentException exception ) {
+			LOG.warn( "Could not warm up connections to {}", apiUrl, exception );
+			return new WarmUpSummary( 0, amount, elapsedMillis( start ) );
+		}
+
+		List<HttpClientConnection> opened = new ArrayList<>( amount );
+		Throwable failure = null;
+		boolean interrupted = false;
+		ExecutorService executor = threadMode.newExecutor( "zenvia-warmup-", amount );
+		try {
+			List<Future<HttpClientConnection>> opening = new ArrayList<>( amount );
+			for( int i = 0; i < amount; i++ ) {
+				opening.add( executor.submit( () -> openConnection( route ) ) );
+			}
+			// Connections are only released once all are open, otherwise an idle one would be leased again
+			for( Future<HttpClientConnection> future : opening ) {
+				while( true ) {
+					try {
+						opened.add( future.get() );
+						break;
+					} catch( InterruptedException exception ) {
+						interrupted = true;
+					} catch( ExecutionException exception ) {
+						if( failure == null ) {
+							failure = exception.getCause();
+						}
+						break;
+					}
+				}
+			}
+		} finally {
+			executor.shutdown();
+			for( HttpClientConnection connection : opened ) {
+				connectionPool.releaseConnection( connection, null, 0, TimeUnit.MILLISECONDS );
+			}
+			if( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		WarmUpSummary summary = new WarmUpSummary( opened.size(), amount - opened.size(), elapsedMillis( start ) );
+		if( failure != null ) {
+			LOG.warn( "Could not open {} of {} connections to {} on warm-up", summary.failed, amount, apiUrl, failure );
+		} else {
+			LOG.info( "{} connections to {} ready after {} ms", summary.ready, apiUrl, summary.elapsed );
+		}
+		return summary;
+	}
+
+
+	/** The route the HTTP client takes to the API URL, so warmed up connections are pooled
+	 *  where requests look for them. */
+	private HttpRoute apiRoute() throws UnsupportedSchemeException {
+		HttpHost host = URIUtils.extractHost( URI.create( apiUrl ) );
+		if( host == null ) {
+			throw new IllegalArgumentException( "Invalid API URL: " + apiUrl );
+		}
+		HttpHost target = new HttpHost( host.getHostName(), DefaultSchemePortResolver.INSTANCE.resolve( host ), host.getSchemeName() );
+		return new HttpRoute( target, null, "https".equalsIgnoreCase( target.getSchemeName() ) );
+	}
+
+
+	private HttpClientConnection openConnection( HttpRoute route ) throws Exception {
+		ConnectionRequest request = connectionPool.requestConnection( route, null );
+		int timeout = getConnectionPoolTimeout() > 0 ? getConnectionPoolTimeout() : getConnectionTimeout();
+		HttpClientConnection connection = request.get( timeout, TimeUnit.MILLISECONDS );
+		if( !connection.isOpen() ) {
+			try {
+				HttpClientContext context = HttpClientContext.create();
+				connectionPool.connect( connection, route, getConnectionTimeout(), context );
+				connectionPool.routeComplete( connection, route, context );
+			} catch( IOException | RuntimeException exception ) {
+				connection.shutdown();
+				connectionPool.releaseConnection( connection, null, 0, TimeUnit.MILLISECONDS );
+				throw exception;
+			}
+		}
+		return connection;
+	}
+
+
+	private static long elapsedMillis( long start ) {
+		return TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start );
+	}
+
+
 	/** Returns the configuration of this client, except for the token.
 	 *
 	 *  @since 0.9.0 */
@@ -870,6 +1439,7 @@ public abstract class AbstractClient implements Closeable {
 			+ "\n  connectionPoolTimeout = [" + getConnectionPoolTimeout() + "]"
 			+ "\n  maxConnectionRetries = [" + getMaxConnectionRetries() + "]"
 			+ "\n  inactivityTimeBeforeStaleCheck = [" + getInactivityTimeBeforeStaleCheck() + "]"
+			+ "\n  threadMode = [" + getThreadMode() + "]"
 			+ "\n}";
 	}
 }
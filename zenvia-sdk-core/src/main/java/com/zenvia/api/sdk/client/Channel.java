@@ -4,11 +4,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import com.zenvia.api.sdk.client.bulk.BulkOptions;
+import com.zenvia.api.sdk.client.bulk.BulkResultHandler;
+import com.zenvia.api.sdk.client.bulk.BulkSender;
+import com.zenvia.api.sdk.client.bulk.BulkSummary;
 import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
 import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
 import com.zenvia.api.sdk.client.exceptions.HttpIOException;
 import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.RateLimitExceededException;
 import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
 import com.zenvia.api.sdk.client.exceptions.UnsupportedContentException;
 import com.zenvia.api.sdk.client.subscriptions.MessageStatusSubscription;
@@ -56,6 +62,9 @@ public class Channel {
 	 *  @throws UnsupportedContentException
 	 *  If this channel does not support any of contents passed.
 	 *
+	 *  @throws RateLimitExceededException
+	 *  If the {@link AbstractClient#setRateLimiter client rate limiter} refused the request.
+	 *
 	 *  @throws UnsuccessfulRequestException
 	 *  If the deletion failed, indicated by the
 	 *  {@link UnsuccessfulRequestException#httpStatusCode} from the server response.
@@ -75,7 +84,7 @@ public class Channel {
 	 *
 	 *  @since 0.9.0 */
 	public Message sendMessage( String from, String to, Content... contents )
-		throws UnsupportedContentException, UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		throws UnsupportedContentException, RateLimitExceededException, UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
 		return sendMessage( new MessageRequest( from, to, contents == null ? null : Arrays.asList( contents ) ) );
 	}
 
@@ -99,6 +108,9 @@ public class Channel {
 	 *  @throws UnsupportedContentException
 	 *  If this channel does not support any of contents passed.
 	 *
+	 *  @throws RateLimitExceededException
+	 *  If the {@link AbstractClient#setRateLimiter client rate limiter} refused the request.
+	 *
 	 *  @throws UnsuccessfulRequestException
 	 *  If the deletion failed, indicated by the
 	 *  {@link UnsuccessfulRequestException#httpStatusCode} from the server response.
@@ -118,7 +130,7 @@ public class Channel {
 	 *
 	 *  @since 0.9.0 */
 	public Message sendMessage( String from, String to, Collection<Content> contents )
-		throws UnsupportedContentException, UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		throws UnsupportedContentException, RateLimitExceededException, UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
 		return sendMessage( new MessageRequest( from, to, contents == null ? null : new ArrayList<>( contents ) ) );
 	}
 
@@ -142,6 +154,9 @@ public class Channel {
 	 *  @throws UnsupportedContentException
 	 *  If this channel does not support any of contents passed.
 	 *
+	 *  @throws RateLimitExceededException
+	 *  If the {@link AbstractClient#setRateLimiter client rate limiter} refused the request.
+	 *
 	 *  @throws UnsuccessfulRequestException
 	 *  If the deletion failed, indicated by the
 	 *  {@link UnsuccessfulRequestException#httpStatusCode} from the server response.
@@ -161,13 +176,73 @@ public class Channel {
 	 *
 	 *  @since 0.9.0 */
 	public Message sendMessage( String from, String to, List<Content> contents )
-		throws UnsupportedContentException, UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		throws UnsupportedContentException, RateLimitExceededException, UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
 		return sendMessage( new MessageRequest( from, to, contents ) );
 	}
 
 
+	/** Sends all the message requests, keeping up to
+	 *  {@link AbstractClient#getMaxConnections() maximum connections} of them in flight at once,
+	 *  so throughput is bounded by the connection pool instead of by the latency of each request.
+	 *  Failed requests do not interrupt the others.
+	 *
+	 *  @param requests Message requests to be sent. The stream is consumed lazily, and closed once
+	 *  all the requests are sent.
+	 *
+	 *  @return Counters of successful and failed requests.
+	 *
+	 *  @since 1.2.0 */
+	public BulkSummary sendAll( Stream<MessageRequest> requests ) {
+		return sendAll( requests, new BulkOptions() );
+	}
+
+
+	/** Sends all the message requests, keeping up to {@link BulkOptions#maxInFlight} of them in
+	 *  flight at once. The result of each request, either the {@link Message} or the exception
+	 *  thrown by {@link #sendMessage(String, String, List) sendMessage}, is delivered to the
+	 *  {@link BulkResultHandler} given on the options.
+	 *
+	 *  @param requests Message requests to be sent. The stream is consumed lazily, and closed once
+	 *  all the requests are sent.
+	 *
+	 *  @param options Bulk configuration.
+	 *
+	 *  @return Counters of successful and failed requests.
+	 *
+	 *  @since 1.2.0 */
+	public BulkSummary sendAll( Stream<MessageRequest> requests, BulkOptions options ) {
+		// Streams backed by I/O, such as Files.lines, hold their resource until closed
+		try( Stream<MessageRequest> stream = requests ) {
+			return bulkSender( options ).send( stream.iterator() );
+		}
+	}
+
+
+	/** Sends all the message requests, keeping up to {@link BulkOptions#maxInFlight} of them in
+	 *  flight at once. The result of each request, either the {@link Message} or the exception
+	 *  thrown by {@link #sendMessage(String, String, List) sendMessage}, is delivered to the
+	 *  {@link BulkResultHandler} given on the options.
+	 *
+	 *  @param requests Message requests to be sent. The iterable is consumed lazily.
+	 *
+	 *  @param options Bulk configuration.
+	 *
+	 *  @return Counters of successful and failed requests.
+	 *
+	 *  @since 1.2.0 */
+	public BulkSummary sendAll( Iterable<MessageRequest> requests, BulkOptions options ) {
+		return bulkSender( options ).send( requests.iterator() );
+	}
+
+
+	private BulkSender bulkSender( BulkOptions options ) {
+		int maxInFlight = options.maxInFlight == null ? client.getMaxConnections() : options.maxInFlight;
+		return new BulkSender( this::sendMessage, maxInFlight, options, client.getThreadMode() );
+	}
+
+
 	protected Message sendMessage( MessageRequest messageRequest )
-		throws UnsupportedContentException, UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		throws UnsupportedContentException, RateLimitExceededException, UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
 		messageRequest.contents.forEach( ( content ) -> contentSupportValidation( content ) );
 		return client.sendMessage( this, messageRequest );
 	}
@@ -0,0 +1,90 @@
+package com.zenvia.api.sdk.client.bulk;
+
+import java.util.concurrent.Executor;
+
+
+/** Configuration of a {@link com.zenvia.api.sdk.client.Channel#sendAll bulk send}.
+ *
+ *  @since 1.2.0 */
+public class BulkOptions {
+	/** Maximum amount of message requests in flight. When null, the client
+	 *  {@link com.zenvia.api.sdk.client.AbstractClient#getMaxConnections() maximum connections}
+	 *  is used, so the window matches the connection pool.
+	 *
+	 *  @since 1.2.0 */
+	public final Integer maxInFlight;
+
+	/** When true, results are delivered to the {@link #handler} in the same order the requests
+	 *  were taken from the source, holding back results that complete early. Otherwise, results
+	 *  are delivered as soon as they complete.
+	 *
+	 *  @since 1.2.0 */
+	public final boolean ordered;
+
+	/** Receives the result of each message request. May be null.
+	 *
+	 *  @since 1.2.0 */
+	public final BulkResultHandler handler;
+
+	/** Executor used to run the blocking requests. When null, a dedicated thread pool sized by
+	 *  {@link #maxInFlight} is created for the call and shut down when it returns, or one virtual
+	 *  thread per request when the client {@link com.zenvia.api.sdk.client.AbstractClient#setThreadMode thread mode}
+	 *  is {@link com.zenvia.api.sdk.ThreadMode#VIRTUAL}.
+	 *
+	 *  @since 1.2.0 */
+	public final Executor executor;
+
+
+	/** Unordered delivery, no result handler and a window matching the connection pool.
+	 *
+	 *  @since 1.2.0 */
+	public BulkOptions() {
+		this( null, false, null, null );
+	}
+
+
+	/** @param maxInFlight Maximum amount of message requests in flight.
+	 *  When null, the client maximum connections is used instead.
+	 *
+	 *  @param ordered Whether results must be delivered in the source order.
+	 *
+	 *  @param handler Receives the result of each message request. May be null.
+	 *
+	 *  @since 1.2.0 */
+	public BulkOptions( Integer maxInFlight, boolean ordered, BulkResultHandler handler ) {
+		this( maxInFlight, ordered, handler, null );
+	}
+
+
+	/** @param maxInFlight Maximum amount of message requests in flight.
+	 *  When null, the client maximum connections is used instead.
+	 *
+	 *  @param ordered Whether results must be delivered in the source order.
+	 *
+	 *  @param handler Receives the result of each message request. May be null.
+	 *
+	 *  @param executor Executor used to run the blocking requests.
+	 *  When null, a dedicated thread pool is used instead.
+	 *
+	 *  @since 1.2.0 */
+	public BulkOptions( Integer maxInFlight, boolean ordered, BulkResultHandler handler, Executor executor ) {
+		if( maxInFlight != null && maxInFlight < 1 ) {
+			throw new IllegalArgumentException( "maxInFlight must be positive: " + maxInFlight );
+		}
+		this.maxInFlight = maxInFlight;
+		this.ordered = ordered;
+		this.handler = handler;
+		this.executor = executor;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  maxInFlight = [" + maxInFlight + "]"
+			+ "\n  ordered = [" + ordered + "]"
+			+ "\n  executor = [" + executor + "]"
+			+ "\n}";
+	}
+}
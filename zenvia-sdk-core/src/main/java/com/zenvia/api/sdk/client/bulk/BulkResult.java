@@ -0,0 +1,64 @@
+package com.zenvia.api.sdk.client.bulk;
+
+import com.zenvia.api.sdk.messages.Message;
+import com.zenvia.api.sdk.messages.MessageRequest;
+
+
+/** Outcome of a single message request sent by {@link com.zenvia.api.sdk.client.Channel#sendAll}.
+ *
+ *  @since 1.2.0 */
+public class BulkResult {
+	/** Position of the request in the source stream, starting from zero.
+	 *
+	 *  @since 1.2.0 */
+	public final long index;
+
+	/** @since 1.2.0 */
+	public final MessageRequest request;
+
+	/** Message returned by the API. Null if the request failed.
+	 *
+	 *  @since 1.2.0 */
+	public final Message message;
+
+	/** Exception thrown while sending the request, or an
+	 *  {@link java.util.concurrent.ExecutionException} wrapping the {@link Error} thrown instead.
+	 *  Null if the request succeeded.
+	 *
+	 *  @since 1.2.0 */
+	public final Exception exception;
+
+
+	/** @param index Position of the request in the source stream.
+	 *
+	 *  @param request Request sent.
+	 *
+	 *  @param message Message returned by the API.
+	 *
+	 *  @param exception Exception thrown while sending the request.
+	 *
+	 *  @since 1.2.0 */
+	public BulkResult( long index, MessageRequest request, Message message, Exception exception ) {
+		this.index = index;
+		this.request = request;
+		this.message = message;
+		this.exception = exception;
+	}
+
+
+	/** @since 1.2.0 */
+	public boolean isSuccessful() {
+		return exception == null;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  index = [" + index + "]"
+			+ "\n  successful = [" + isSuccessful() + "]"
+			+ ( isSuccessful() ? "\n  messageId = [" + ( message == null ? null : message.id ) + "]" : "\n  exception = [" + exception + "]" )
+			+ "\n}";
+	}
+}
@@ -0,0 +1,15 @@
+package com.zenvia.api.sdk.client.bulk;
+
+
+/** Sink of the per request results of {@link com.zenvia.api.sdk.client.Channel#sendAll}.
+ *  <br><br>
+ *  Calls are never concurrent, so implementations do not need to be thread safe.
+ *
+ *  @since 1.2.0 */
+@FunctionalInterface
+public interface BulkResultHandler {
+	/** @param result The outcome of one message request.
+	 *
+	 *  @since 1.2.0 */
+	void onResult( BulkResult result );
+}
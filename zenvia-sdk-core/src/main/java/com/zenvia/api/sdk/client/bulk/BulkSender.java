@@ -0,0 +1,194 @@
+package com.zenvia.api.sdk.client.bulk;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zenvia.api.sdk.ThreadMode;
+import com.zenvia.api.sdk.messages.Message;
+import com.zenvia.api.sdk.messages.MessageRequest;
+
+
+/** Internally used by {@link com.zenvia.api.sdk.client.Channel#sendAll} to pipeline message
+ *  requests over the client connection pool.
+ *  <br><br>
+ *  A semaphore bounds the amount of requests in flight. A permit is taken before each request
+ *  is handed to the executor and given back once its result is delivered, so in ordered mode the
+ *  results held back waiting for a slower predecessor also count against the window, keeping the
+ *  reorder buffer bounded. The same window bounds the threads started on
+ *  {@link ThreadMode#VIRTUAL} mode, which starts one per request instead of pooling them.
+ *  <br><br>
+ *  Each instance handles a single bulk send.
+ *
+ *  @since 1.2.0 */
+public class BulkSender {
+	private static final Logger LOG = LoggerFactory.getLogger( BulkSender.class );
+
+	private static final AtomicInteger BULK_COUNT = new AtomicInteger();
+
+	private final Function<MessageRequest,Message> sender;
+
+	private final int maxInFlight;
+
+	private final BulkOptions options;
+
+	private final ThreadMode threadMode;
+
+	private final Semaphore window;
+
+	private final ReentrantLock deliveryLock = new ReentrantLock();
+
+	private final Map<Long,BulkResult> pending = new HashMap<>();
+
+	private long nextIndex;
+
+	private long successful;
+
+	private long failed;
+
+
+	/** @param sender Sends a single message request, throwing the client exceptions on failure.
+	 *
+	 *  @param maxInFlight Maximum amount of message requests in flight.
+	 *
+	 *  @param options Bulk configuration. Its {@link BulkOptions#maxInFlight} is ignored in favor
+	 *  of the resolved <code>maxInFlight</code>.
+	 *
+	 *  @since 1.2.0 */
+	public BulkSender( Function<MessageRequest,Message> sender, int maxInFlight, BulkOptions options ) {
+		this( sender, maxInFlight, options, ThreadMode.PLATFORM );
+	}
+
+
+	/** @param sender Sends a single message request, throwing the client exceptions on failure.
+	 *
+	 *  @param maxInFlight Maximum amount of message requests in flight.
+	 *
+	 *  @param options Bulk configuration. Its {@link BulkOptions#maxInFlight} is ignored in favor
+	 *  of the resolved <code>maxInFlight</code>.
+	 *
+	 *  @param threadMode Kind of threads running the requests when the options have no
+	 *  {@link BulkOptions#executor executor}.
+	 *
+	 *  @since 1.2.0 */
+	public BulkSender( Function<MessageRequest,Message> sender, int maxInFlight, BulkOptions options, ThreadMode threadMode ) {
+		this.sender = sender;
+		this.maxInFlight = Math.max( 1, maxInFlight );
+		this.options = options;
+		this.threadMode = threadMode == null ? ThreadMode.PLATFORM : threadMode;
+		this.window = new Semaphore( this.maxInFlight );
+	}
+
+
+	/** Sends all the message requests, returning once all of them completed and had their
+	 *  results delivered.
+	 *  <br><br>
+	 *  If the calling thread is interrupted, no further requests are taken from the source, the
+	 *  ones in flight are awaited, and the interrupt flag is restored before returning.
+	 *
+	 *  @param requests Source of message requests. It is consumed lazily, one request per free
+	 *  slot in the window.
+	 *
+	 *  @return Counters of the requests sent.
+	 *
+	 *  @since 1.2.0 */
+	public BulkSummary send( Iterator<MessageRequest> requests ) {
+		ExecutorService ownExecutor = options.executor == null ? threadMode.newExecutor( "zenvia-bulk-" + BULK_COUNT.incrementAndGet() + "-", maxInFlight ) : null;
+		Executor executor = ownExecutor == null ? options.executor : ownExecutor;
+		try {
+			long index = 0;
+			while( requests.hasNext() ) {
+				MessageRequest request = requests.next();
+				try {
+					window.acquire();
+				} catch( InterruptedException exception ) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+				long current = index++;
+				try {
+					executor.execute( () -> complete( execute( current, request ) ) );
+				} catch( RejectedExecutionException exception ) {
+					complete( new BulkResult( current, request, null, exception ) );
+				}
+			}
+		} finally {
+			window.acquireUninterruptibly( maxInFlight );
+			window.release( maxInFlight );
+			if( ownExecutor != null ) {
+				ownExecutor.shutdown();
+			}
+		}
+
+		deliveryLock.lock();
+		try {
+			return new BulkSummary( successful, failed );
+		} finally {
+			deliveryLock.unlock();
+		}
+	}
+
+
+	private BulkResult execute( long index, MessageRequest request ) {
+		try {
+			return new BulkResult( index, request, sender.apply( request ), null );
+		} catch( RuntimeException exception ) {
+			return new BulkResult( index, request, null, exception );
+		} catch( Error error ) {
+			// Still a result, otherwise its window slot would never be released and send() would hang
+			LOG.error( "Bulk request #{} failed with an error", index, error );
+			return new BulkResult( index, request, null, new ExecutionException( error ) );
+		}
+	}
+
+
+	private void complete( BulkResult result ) {
+		deliveryLock.lock();
+		try {
+			if( !options.ordered ) {
+				deliver( result );
+				window.release();
+				return;
+			}
+			pending.put( result.index, result );
+			BulkResult next;
+			while( ( next = pending.remove( nextIndex ) ) != null ) {
+				deliver( next );
+				nextIndex++;
+				window.release();
+			}
+		} finally {
+			deliveryLock.unlock();
+		}
+	}
+
+
+	private void deliver( BulkResult result ) {
+		if( result.isSuccessful() ) {
+			successful++;
+		} else {
+			failed++;
+		}
+		if( options.handler == null ) {
+			return;
+		}
+		try {
+			options.handler.onResult( result );
+		} catch( RuntimeException | Error exception ) {
+			// Errors included, otherwise the window slots of this and of the reordered results would leak
+			LOG.warn( "Bulk result handler failed for request #{}", result.index, exception );
+		}
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.zenvia.api.sdk.client.bulk;
+
+
+/** Counters of a finished {@link com.zenvia.api.sdk.client.Channel#sendAll} call.
+ *
+ *  @since 1.2.0 */
+public class BulkSummary {
+	/** Amount of message requests sent.
+	 *
+	 *  @since 1.2.0 */
+	public final long total;
+
+	/** Amount of message requests accepted by the API.
+	 *
+	 *  @since 1.2.0 */
+	public final long successful;
+
+	/** Amount of message requests that failed.
+	 *
+	 *  @since 1.2.0 */
+	public final long failed;
+
+
+	/** @param successful Amount of message requests accepted by the API.
+	 *
+	 *  @param failed Amount of message requests that failed.
+	 *
+	 *  @since 1.2.0 */
+	public BulkSummary( long successful, long failed ) {
+		this.total = successful + failed;
+		this.successful = successful;
+		this.failed = failed;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  total = [" + total + "]"
+			+ "\n  successful = [" + successful + "]"
+			+ "\n  failed = [" + failed + "]"
+			+ "\n}";
+	}
+}
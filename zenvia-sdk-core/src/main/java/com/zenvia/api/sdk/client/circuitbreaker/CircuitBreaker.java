@@ -0,0 +1,240 @@
+package com.zenvia.api.sdk.client.circuitbreaker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import com.zenvia.api.sdk.client.exceptions.CircuitBreakerOpenException;
+import com.zenvia.api.sdk.client.exceptions.HttpRequestException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+
+
+/** Circuit breaker of an endpoint group, like the messages of a channel or the subscriptions,
+ *  used by {@link com.zenvia.api.sdk.client.AbstractClient} so requests fail fast while the
+ *  API is degraded, instead of waiting for timeouts.
+ *  <br><br>
+ *  The outcomes of the most recent calls are kept on a sliding window. When the percentage of
+ *  failed calls, or of slow calls, reaches its threshold, the circuit opens and requests fail
+ *  with {@link CircuitBreakerOpenException}. After the open duration, a few trial calls are
+ *  allowed: if they are healthy the circuit closes, otherwise it opens again.
+ *  <br><br>
+ *  Communication failures and HTTP status 5xx count as failures. Other unsuccessful responses,
+ *  like 4xx, mean the API is responding, so they count as successes.
+ *  <br><br>
+ *  The state is guarded by a {@link ReentrantLock} instead of a monitor, so virtual threads
+ *  contending for it are not pinned to their carrier threads.
+ *
+ *  @since 1.2.0 */
+public class CircuitBreaker {
+	private final String name;
+
+	private final CircuitBreakerConfig config;
+
+	private final LongSupplier nanoClock;
+
+	private final long slowCallNanos;
+
+	private final long openNanos;
+
+	private final boolean[] failures;
+
+	private final boolean[] slowCalls;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private int windowIndex;
+
+	private int windowCalls;
+
+	private int windowFailures;
+
+	private int windowSlowCalls;
+
+	private CircuitState state = CircuitState.CLOSED;
+
+	private long openedAt;
+
+	private int trialPermits;
+
+	private int trialCalls;
+
+	private int trialFailures;
+
+	private int trialSlowCalls;
+
+
+	/** @param name Name of the endpoint group protected by this circuit breaker.
+	 *
+	 *  @param config Thresholds and durations of this circuit breaker.
+	 *
+	 *  @since 1.2.0 */
+	public CircuitBreaker( String name, CircuitBreakerConfig config ) {
+		this( name, config, System::nanoTime );
+	}
+
+
+	CircuitBreaker( String name, CircuitBreakerConfig config, LongSupplier nanoClock ) {
+		this.name = name;
+		this.config = config;
+		this.nanoClock = nanoClock;
+		this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos( config.slowCallDuration );
+		this.openNanos = TimeUnit.MILLISECONDS.toNanos( config.openDuration );
+		this.failures = new boolean[config.slidingWindowSize];
+		this.slowCalls = new boolean[config.slidingWindowSize];
+	}
+
+
+	/** Checks whether a call is allowed. Every allowed call must have its outcome recorded
+	 *  afterwards with {@link #onSuccess} or {@link #onError}.
+	 *
+	 *  @throws CircuitBreakerOpenException If the circuit is open, or if it is half-open and all
+	 *  trial calls are already in progress.
+	 *
+	 *  @since 1.2.0 */
+	public void acquirePermission() throws CircuitBreakerOpenException {
+		lock.lock();
+		try {
+			if( state == CircuitState.CLOSED ) {
+				return;
+			}
+			if( state == CircuitState.OPEN ) {
+				long remaining = openedAt + openNanos - nanoClock.getAsLong();
+				if( remaining > 0 ) {
+					throw new CircuitBreakerOpenException( name, TimeUnit.NANOSECONDS.toMillis( remaining + 999_999L ) );
+				}
+				transitionTo( CircuitState.HALF_OPEN );
+			}
+			if( trialPermits >= config.halfOpenCalls ) {
+				throw new CircuitBreakerOpenException( name, 0L );
+			}
+			trialPermits++;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+
+	/** Records a call that completed successfully.
+	 *
+	 *  @param durationNanos How long the call took, in nanoseconds.
+	 *
+	 *  @since 1.2.0 */
+	public void onSuccess( long durationNanos ) {
+		record( false, durationNanos >= slowCallNanos );
+	}
+
+
+	/** Records a call that threw an exception.
+	 *
+	 *  @param exception Exception thrown by the call.
+	 *
+	 *  @param durationNanos How long the call took, in nanoseconds.
+	 *
+	 *  @since 1.2.0 */
+	public void onError( Exception exception, long durationNanos ) {
+		record( isFailure( exception ), durationNanos >= slowCallNanos );
+	}
+
+
+	/** Current state of the circuit. An open circuit whose open duration has elapsed is still
+	 *  reported as open until the next call is attempted.
+	 *
+	 *  @since 1.2.0 */
+	public CircuitState getState() {
+		lock.lock();
+		try {
+			return state;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+
+	/** Name of the endpoint group protected by this circuit breaker.
+	 *
+	 *  @since 1.2.0 */
+	public String getName() {
+		return name;
+	}
+
+
+	/** @since 1.2.0 */
+	public CircuitBreakerConfig getConfig() {
+		return config;
+	}
+
+
+	private void record( boolean failure, boolean slow ) {
+		lock.lock();
+		try {
+			switch( state ) {
+				case CLOSED:
+					if( windowCalls == failures.length ) {
+						windowFailures -= failures[windowIndex] ? 1 : 0;
+						windowSlowCalls -= slowCalls[windowIndex] ? 1 : 0;
+					} else {
+						windowCalls++;
+					}
+					failures[windowIndex] = failure;
+					slowCalls[windowIndex] = slow;
+					windowFailures += failure ? 1 : 0;
+					windowSlowCalls += slow ? 1 : 0;
+					windowIndex = ( windowIndex + 1 ) % failures.length;
+					if( windowCalls >= config.minimumCalls && exceedsThresholds( windowCalls, windowFailures, windowSlowCalls ) ) {
+						transitionTo( CircuitState.OPEN );
+					}
+					break;
+				case HALF_OPEN:
+					trialCalls++;
+					trialFailures += failure ? 1 : 0;
+					trialSlowCalls += slow ? 1 : 0;
+					if( trialCalls >= config.halfOpenCalls ) {
+						transitionTo( exceedsThresholds( trialCalls, trialFailures, trialSlowCalls ) ? CircuitState.OPEN : CircuitState.CLOSED );
+					}
+					break;
+				default:
+					// Calls allowed before the circuit opened are not relevant anymore
+					break;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+
+	private boolean exceedsThresholds( int calls, int failedCalls, int slowCalls ) {
+		return failedCalls * 100 >= config.failureRateThreshold * calls
+			|| slowCalls * 100 >= config.slowCallRateThreshold * calls;
+	}
+
+
+	private void transitionTo( CircuitState state ) {
+		this.state = state;
+		this.windowIndex = 0;
+		this.windowCalls = 0;
+		this.windowFailures = 0;
+		this.windowSlowCalls = 0;
+		this.trialPermits = 0;
+		this.trialCalls = 0;
+		this.trialFailures = 0;
+		this.trialSlowCalls = 0;
+		if( state == CircuitState.OPEN ) {
+			this.openedAt = nanoClock.getAsLong();
+		}
+	}
+
+
+	private static boolean isFailure( Exception exception ) {
+		if( exception instanceof UnsuccessfulRequestException ) {
+			return ( (UnsuccessfulRequestException) exception ).httpStatusCode >= 500;
+		}
+		return exception instanceof HttpRequestException;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return "{name = [" + name + "], state = [" + getState() + "]}";
+	}
+}
@@ -0,0 +1,160 @@
+package com.zenvia.api.sdk.client.circuitbreaker;
+
+
+/** Configuration shared by the {@link CircuitBreaker circuit breakers} of a client.
+ *  <br><br>
+ *  By default, the following configuration is used:
+ *  <br>
+ *  <ul>
+ *    <li><b>Failure rate threshold:</b> {@value #DEFAULT_FAILURE_RATE_THRESHOLD}%</li>
+ *    <li><b>Slow call rate threshold:</b> {@value #DEFAULT_SLOW_CALL_RATE_THRESHOLD}%</li>
+ *    <li><b>Slow call duration:</b> {@value #DEFAULT_SLOW_CALL_DURATION} ms</li>
+ *    <li><b>Sliding window size:</b> {@value #DEFAULT_SLIDING_WINDOW_SIZE} calls</li>
+ *    <li><b>Minimum calls:</b> {@value #DEFAULT_MINIMUM_CALLS} calls</li>
+ *    <li><b>Open duration:</b> {@value #DEFAULT_OPEN_DURATION} ms</li>
+ *    <li><b>Half-open calls:</b> {@value #DEFAULT_HALF_OPEN_CALLS} calls</li>
+ *  </ul>
+ *
+ *  @since 1.2.0 */
+public class CircuitBreakerConfig {
+	/** {@value} */
+	public static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+
+	/** {@value} */
+	public static final int DEFAULT_SLOW_CALL_RATE_THRESHOLD = 100;
+
+	/** {@value} */
+	public static final long DEFAULT_SLOW_CALL_DURATION = 10000L;
+
+	/** {@value} */
+	public static final int DEFAULT_SLIDING_WINDOW_SIZE = 50;
+
+	/** {@value} */
+	public static final int DEFAULT_MINIMUM_CALLS = 10;
+
+	/** {@value} */
+	public static final long DEFAULT_OPEN_DURATION = 30000L;
+
+	/** {@value} */
+	public static final int DEFAULT_HALF_OPEN_CALLS = 5;
+
+	/** Percentage of failed calls on the sliding window that opens the circuit.
+	 *
+	 *  @since 1.2.0 */
+	public final int failureRateThreshold;
+
+	/** Percentage of slow calls on the sliding window that opens the circuit.
+	 *
+	 *  @since 1.2.0 */
+	public final int slowCallRateThreshold;
+
+	/** Amount of milliseconds after which a call is considered slow.
+	 *
+	 *  @since 1.2.0 */
+	public final long slowCallDuration;
+
+	/** Amount of most recent calls whose outcomes are considered.
+	 *
+	 *  @since 1.2.0 */
+	public final int slidingWindowSize;
+
+	/** Minimum amount of calls on the sliding window before the rates are evaluated.
+	 *
+	 *  @since 1.2.0 */
+	public final int minimumCalls;
+
+	/** Amount of milliseconds the circuit stays open before allowing trial calls.
+	 *
+	 *  @since 1.2.0 */
+	public final long openDuration;
+
+	/** Amount of trial calls allowed while the circuit is half-open.
+	 *
+	 *  @since 1.2.0 */
+	public final int halfOpenCalls;
+
+
+	/** Creates the configuration using default values.
+	 *
+	 *  @since 1.2.0 */
+	public CircuitBreakerConfig() {
+		this( null, null, null, null, null, null, null );
+	}
+
+
+	/** @param failureRateThreshold Percentage of failed calls on the sliding window that opens the circuit.
+	 *  When null, the default {@value #DEFAULT_FAILURE_RATE_THRESHOLD} will be used instead.
+	 *
+	 *  @param slowCallRateThreshold Percentage of slow calls on the sliding window that opens the circuit.
+	 *  When null, the default {@value #DEFAULT_SLOW_CALL_RATE_THRESHOLD} will be used instead.
+	 *
+	 *  @param slowCallDuration Amount of milliseconds after which a call is considered slow.
+	 *  When null, the default {@value #DEFAULT_SLOW_CALL_DURATION} will be used instead.
+	 *
+	 *  @param slidingWindowSize Amount of most recent calls whose outcomes are considered.
+	 *  When null, the default {@value #DEFAULT_SLIDING_WINDOW_SIZE} will be used instead.
+	 *
+	 *  @param minimumCalls Minimum amount of calls on the sliding window before the rates are evaluated.
+	 *  When null, the default {@value #DEFAULT_MINIMUM_CALLS} will be used instead.
+	 *
+	 *  @param openDuration Amount of milliseconds the circuit stays open before allowing trial calls.
+	 *  When null, the default {@value #DEFAULT_OPEN_DURATION} will be used instead.
+	 *
+	 *  @param halfOpenCalls Amount of trial calls allowed while the circuit is half-open.
+	 *  When null, the default {@value #DEFAULT_HALF_OPEN_CALLS} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public CircuitBreakerConfig(
+		Integer failureRateThreshold,
+		Integer slowCallRateThreshold,
+		Long slowCallDuration,
+		Integer slidingWindowSize,
+		Integer minimumCalls,
+		Long openDuration,
+		Integer halfOpenCalls
+	) {
+		this.failureRateThreshold = percentage( "failureRateThreshold", valueOrDefault( failureRateThreshold, DEFAULT_FAILURE_RATE_THRESHOLD ) );
+		this.slowCallRateThreshold = percentage( "slowCallRateThreshold", valueOrDefault( slowCallRateThreshold, DEFAULT_SLOW_CALL_RATE_THRESHOLD ) );
+		this.slowCallDuration = positive( "slowCallDuration", valueOrDefault( slowCallDuration, DEFAULT_SLOW_CALL_DURATION ) );
+		this.slidingWindowSize = (int) positive( "slidingWindowSize", valueOrDefault( slidingWindowSize, DEFAULT_SLIDING_WINDOW_SIZE ) );
+		this.minimumCalls = (int) positive( "minimumCalls", Math.min( this.slidingWindowSize, valueOrDefault( minimumCalls, DEFAULT_MINIMUM_CALLS ) ) );
+		this.openDuration = positive( "openDuration", valueOrDefault( openDuration, DEFAULT_OPEN_DURATION ) );
+		this.halfOpenCalls = (int) positive( "halfOpenCalls", valueOrDefault( halfOpenCalls, DEFAULT_HALF_OPEN_CALLS ) );
+	}
+
+
+	private static int percentage( String name, int value ) {
+		if( value < 1 || value > 100 ) {
+			throw new IllegalArgumentException( name + " must be between 1 and 100: " + value );
+		}
+		return value;
+	}
+
+
+	private static long positive( String name, long value ) {
+		if( value < 1 ) {
+			throw new IllegalArgumentException( name + " must be positive: " + value );
+		}
+		return value;
+	}
+
+
+	private static <TYPE> TYPE valueOrDefault( TYPE value, TYPE defaultValue ) {
+		return value == null ? defaultValue : value;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  failureRateThreshold = [" + failureRateThreshold + "]"
+			+ "\n  slowCallRateThreshold = [" + slowCallRateThreshold + "]"
+			+ "\n  slowCallDuration = [" + slowCallDuration + "]"
+			+ "\n  slidingWindowSize = [" + slidingWindowSize + "]"
+			+ "\n  minimumCalls = [" + minimumCalls + "]"
+			+ "\n  openDuration = [" + openDuration + "]"
+			+ "\n  halfOpenCalls = [" + halfOpenCalls + "]"
+			+ "\n}";
+	}
+}
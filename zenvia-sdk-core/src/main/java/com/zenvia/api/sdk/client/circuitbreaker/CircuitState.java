@@ -0,0 +1,23 @@
+package com.zenvia.api.sdk.client.circuitbreaker;
+
+
+/** State of a {@link CircuitBreaker}.
+ *
+ *  @since 1.2.0 */
+public enum CircuitState {
+	/** Requests are allowed, and their outcomes are recorded on the sliding window.
+	 *
+	 *  @since 1.2.0 */
+	CLOSED,
+
+	/** Requests fail fast with a
+	 *  {@link com.zenvia.api.sdk.client.exceptions.CircuitBreakerOpenException}.
+	 *
+	 *  @since 1.2.0 */
+	OPEN,
+
+	/** A limited amount of trial requests is allowed to check whether the API has recovered.
+	 *
+	 *  @since 1.2.0 */
+	HALF_OPEN
+}
@@ -0,0 +1,33 @@
+package com.zenvia.api.sdk.client.exceptions;
+
+
+/** Exception generated when a request is refused by an open
+ *  {@link com.zenvia.api.sdk.client.circuitbreaker.CircuitBreaker circuit breaker}, before
+ *  reaching the API.
+ *
+ *  @since 1.2.0 */
+@SuppressWarnings( "serial" )
+public class CircuitBreakerOpenException extends ApiException {
+	/** Endpoint group whose circuit is open, like <code>/v1/subscriptions</code> or
+	 *  <code>/v1/channels/whatsapp/messages</code>.
+	 *
+	 *  @since 1.2.0 */
+	public final String endpoint;
+
+	/** Amount of milliseconds after which trial requests will be allowed.
+	 *
+	 *  @since 1.2.0 */
+	public final long retryAfter;
+
+
+	/** @param endpoint Endpoint group whose circuit is open.
+	 *
+	 *  @param retryAfter Amount of milliseconds after which trial requests will be allowed.
+	 *
+	 *  @since 1.2.0 */
+	public CircuitBreakerOpenException( String endpoint, long retryAfter ) {
+		super( "Circuit breaker open for " + endpoint + ", retry after " + retryAfter + " ms" );
+		this.endpoint = endpoint;
+		this.retryAfter = retryAfter;
+	}
+}
@@ -0,0 +1,42 @@
+package com.zenvia.api.sdk.client.exceptions;
+
+import com.zenvia.api.sdk.client.ChannelType;
+
+
+/** Exception generated when a message request is refused by the client-side
+ *  {@link com.zenvia.api.sdk.client.ratelimit.RateLimiter rate limiter}, before reaching the API.
+ *
+ *  @since 1.2.0 */
+@SuppressWarnings( "serial" )
+public class RateLimitExceededException extends ApiException {
+	/** Channel of the refused message request.
+	 *
+	 *  @since 1.2.0 */
+	public final ChannelType channel;
+
+	/** Sender of the refused message request, when the sender limit was the one exceeded.
+	 *  Otherwise null.
+	 *
+	 *  @since 1.2.0 */
+	public final String from;
+
+	/** Amount of milliseconds after which the request would have been allowed.
+	 *
+	 *  @since 1.2.0 */
+	public final long retryAfter;
+
+
+	/** @param channel Channel of the refused message request.
+	 *
+	 *  @param from Sender of the refused message request, when the sender limit was exceeded.
+	 *
+	 *  @param retryAfter Amount of milliseconds after which the request would have been allowed.
+	 *
+	 *  @since 1.2.0 */
+	public RateLimitExceededException( ChannelType channel, String from, long retryAfter ) {
+		super( "Rate limit exceeded for " + channel + " channel" + ( from == null ? "" : " and sender " + from ) + ", retry after " + retryAfter + " ms" );
+		this.channel = channel;
+		this.from = from;
+		this.retryAfter = retryAfter;
+	}
+}
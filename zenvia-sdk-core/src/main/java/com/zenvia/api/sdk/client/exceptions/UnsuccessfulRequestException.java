@@ -22,6 +22,13 @@ public class UnsuccessfulRequestException extends ApiException {
 	 *  @since 0.9.0 */
 	public final ErrorResponse body;
 
+	/** Amount of milliseconds the server asked to wait before retrying, taken from the
+	 *  <code>Retry-After</code> response header. Null if the header was absent.
+	 *  Same as {@link #getRetryAfter}.
+	 *
+	 *  @since 1.2.0 */
+	public final Long retryAfter;
+
 
 	/** @param url URL where the request was made.
 	 *
@@ -53,9 +60,26 @@ public class UnsuccessfulRequestException extends ApiException {
 	 *
 	 *  @since 0.9.0 */
 	public UnsuccessfulRequestException( String url, int httpStatusCode, ErrorResponse body, Exception cause ) {
+		this( url, httpStatusCode, body, cause, null );
+	}
+
+
+	/** @param url URL where the connection was attempted.
+	 *
+	 *  @param httpStatusCode HTTP status code received from the URL request.
+	 *
+	 *  @param body Error response from the URL request.
+	 *
+	 *  @param cause Exception that triggered this exception.
+	 *
+	 *  @param retryAfter Amount of milliseconds the server asked to wait before retrying.
+	 *
+	 *  @since 1.2.0 */
+	public UnsuccessfulRequestException( String url, int httpStatusCode, ErrorResponse body, Exception cause, Long retryAfter ) {
 		super( "Unsuccessful request on: " + url, cause );
 		this.httpStatusCode = httpStatusCode;
 		this.body = body;
+		this.retryAfter = retryAfter;
 	}
 
 
@@ -73,4 +97,12 @@ public class UnsuccessfulRequestException extends ApiException {
 	public ErrorResponse getBody() {
 		return body;
 	}
+
+
+	/** Amount of milliseconds the server asked to wait before retrying. Same as {@link #retryAfter}.
+	 *
+	 *  @since 1.2.0 */
+	public Long getRetryAfter() {
+		return retryAfter;
+	}
 }
@@ -0,0 +1,42 @@
+package com.zenvia.api.sdk.client.metrics;
+
+import java.util.function.Supplier;
+
+import com.zenvia.api.sdk.client.ChannelType;
+
+
+/** Receives measurements of the requests made by a
+ *  {@link com.zenvia.api.sdk.client.AbstractClient client}.
+ *  <br><br>
+ *  Implementations must be thread safe and cheap, since they are called on every request.
+ *  See {@link MicrometerClientMetrics} for an implementation backed by
+ *  <a href="https://micrometer.io" target="_blank">Micrometer</a>.
+ *
+ *  @since 1.2.0 */
+public interface ClientMetrics {
+	/** Records a request attempt. Each retry is recorded as a separate attempt.
+	 *
+	 *  @param method HTTP method of the request.
+	 *
+	 *  @param endpoint Endpoint group of the request, like <code>/v1/subscriptions</code>
+	 *  or <code>/v1/channels/whatsapp/messages</code>.
+	 *
+	 *  @param channel Channel of the request, or null if it is not a message request.
+	 *
+	 *  @param durationNanos How long the attempt took, in nanoseconds.
+	 *
+	 *  @param exception Exception thrown by the attempt, or null if it was successful.
+	 *
+	 *  @since 1.2.0 */
+	void recordRequest( String method, String endpoint, ChannelType channel, long durationNanos, Exception exception );
+
+
+	/** Called once the metrics are set on a client, so the state of its connection pool can be
+	 *  observed. Does nothing by default.
+	 *
+	 *  @param connectionPoolStats Supplier of the current connection pool state.
+	 *
+	 *  @since 1.2.0 */
+	default void bindConnectionPool( Supplier<ConnectionPoolStats> connectionPoolStats ) {
+	}
+}
@@ -0,0 +1,51 @@
+package com.zenvia.api.sdk.client.metrics;
+
+
+/** Snapshot of the state of a client connection pool.
+ *
+ *  @since 1.2.0 */
+public class ConnectionPoolStats {
+	/** Amount of connections in use.
+	 *
+	 *  @since 1.2.0 */
+	public final int leased;
+
+	/** Amount of requests waiting for a connection.
+	 *
+	 *  @since 1.2.0 */
+	public final int pending;
+
+	/** Amount of idle connections.
+	 *
+	 *  @since 1.2.0 */
+	public final int available;
+
+	/** Maximum amount of connections.
+	 *
+	 *  @since 1.2.0 */
+	public final int max;
+
+
+	/** @param leased Amount of connections in use.
+	 *
+	 *  @param pending Amount of requests waiting for a connection.
+	 *
+	 *  @param available Amount of idle connections.
+	 *
+	 *  @param max Maximum amount of connections.
+	 *
+	 *  @since 1.2.0 */
+	public ConnectionPoolStats( int leased, int pending, int available, int max ) {
+		this.leased = leased;
+		this.pending = pending;
+		this.available = available;
+		this.max = max;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return "{leased = [" + leased + "], pending = [" + pending + "], available = [" + available + "], max = [" + max + "]}";
+	}
+}
@@ -0,0 +1,127 @@
+package com.zenvia.api.sdk.client.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+
+
+/** Client metrics backed by <a href="https://micrometer.io" target="_blank">Micrometer</a>.
+ *  It requires the optional <code>io.micrometer:micrometer-core</code> dependency.
+ *  <br><br>
+ *  The following meters are registered:
+ *  <br>
+ *  <ul>
+ *    <li><b>{@value #REQUESTS}:</b> timer of the request attempts, tagged by <code>method</code>,
+ *    <code>endpoint</code>, <code>channel</code> and <code>status</code>. The status is the HTTP
+ *    status code of unsuccessful responses, <code>2xx</code> for successful ones, and
+ *    <code>NONE</code> when no response was received.</li>
+ *    <li><b>{@value #ERRORS}:</b> counter of the failed attempts, tagged by <code>method</code>,
+ *    <code>endpoint</code>, <code>channel</code> and <code>exception</code>, the simple name of
+ *    the exception class.</li>
+ *    <li><b>{@value #CONNECTIONS}:</b> gauge of the connection pool, tagged by <code>state</code>:
+ *    <code>leased</code>, <code>pending</code>, <code>available</code> or <code>max</code>.</li>
+ *  </ul>
+ *  <br>
+ *  Example:
+ *  <br>
+ *  <pre>{@code
+ *    client.setMetrics( new MicrometerClientMetrics( meterRegistry ) );
+ *  }</pre>
+ *
+ *  @since 1.2.0 */
+public class MicrometerClientMetrics implements ClientMetrics {
+	/** {@value} */
+	public static final String REQUESTS = "zenvia.api.client.requests";
+
+	/** {@value} */
+	public static final String ERRORS = "zenvia.api.client.errors";
+
+	/** {@value} */
+	public static final String CONNECTIONS = "zenvia.api.client.connections";
+
+	private final MeterRegistry meterRegistry;
+
+	private final Tags tags;
+
+
+	/** @param meterRegistry Registry where the meters are registered.
+	 *
+	 *  @since 1.2.0 */
+	public MicrometerClientMetrics( MeterRegistry meterRegistry ) {
+		this( meterRegistry, Tags.empty() );
+	}
+
+
+	/** @param meterRegistry Registry where the meters are registered.
+	 *
+	 *  @param tags Tags added to all meters, useful to tell apart multiple clients.
+	 *
+	 *  @since 1.2.0 */
+	public MicrometerClientMetrics( MeterRegistry meterRegistry, Iterable<Tag> tags ) {
+		this.meterRegistry = meterRegistry;
+		this.tags = Tags.of( tags );
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public void recordRequest( String method, String endpoint, ChannelType channel, long durationNanos, Exception exception ) {
+		Tags requestTags = tags.and(
+			"method", method,
+			"endpoint", endpoint,
+			"channel", channel == null ? "none" : channel.name()
+		);
+		Timer.builder( REQUESTS )
+			.tags( requestTags )
+			.tag( "status", status( exception ) )
+			.register( meterRegistry )
+			.record( durationNanos, TimeUnit.NANOSECONDS );
+		if( exception != null ) {
+			Counter.builder( ERRORS )
+				.tags( requestTags )
+				.tag( "exception", exception.getClass().getSimpleName() )
+				.register( meterRegistry )
+				.increment();
+		}
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public void bindConnectionPool( Supplier<ConnectionPoolStats> connectionPoolStats ) {
+		connectionGauge( connectionPoolStats, "leased", ( stats ) -> stats.leased );
+		connectionGauge( connectionPoolStats, "pending", ( stats ) -> stats.pending );
+		connectionGauge( connectionPoolStats, "available", ( stats ) -> stats.available );
+		connectionGauge( connectionPoolStats, "max", ( stats ) -> stats.max );
+	}
+
+
+	private void connectionGauge( Supplier<ConnectionPoolStats> connectionPoolStats, String state, ToIntFunction<ConnectionPoolStats> value ) {
+		Gauge.builder( CONNECTIONS, connectionPoolStats, ( supplier ) -> value.applyAsInt( supplier.get() ) )
+			.tags( tags )
+			.tag( "state", state )
+			.strongReference( true )
+			.register( meterRegistry );
+	}
+
+
+	private static String status( Exception exception ) {
+		if( exception == null ) {
+			return "2xx";
+		}
+		if( exception instanceof UnsuccessfulRequestException ) {
+			return String.valueOf( ( (UnsuccessfulRequestException) exception ).httpStatusCode );
+		}
+		return "NONE";
+	}
+}
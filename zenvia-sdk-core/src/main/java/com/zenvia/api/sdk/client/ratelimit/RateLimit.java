@@ -0,0 +1,42 @@
+package com.zenvia.api.sdk.client.ratelimit;
+
+
+/** Refill rate and capacity of a {@link TokenBucket}.
+ *
+ *  @since 1.2.0 */
+public class RateLimit {
+	/** Sustained amount of requests allowed per second.
+	 *
+	 *  @since 1.2.0 */
+	public final double permitsPerSecond;
+
+	/** Maximum amount of requests allowed at once, after a period of inactivity.
+	 *
+	 *  @since 1.2.0 */
+	public final int burst;
+
+
+	/** @param permitsPerSecond Sustained amount of requests allowed per second.
+	 *
+	 *  @param burst Maximum amount of requests allowed at once.
+	 *  When null, one second worth of permits is used instead.
+	 *
+	 *  @since 1.2.0 */
+	public RateLimit( double permitsPerSecond, Integer burst ) {
+		if( !( permitsPerSecond > 0 ) ) {
+			throw new IllegalArgumentException( "permitsPerSecond must be positive: " + permitsPerSecond );
+		}
+		if( burst != null && burst < 1 ) {
+			throw new IllegalArgumentException( "burst must be positive: " + burst );
+		}
+		this.permitsPerSecond = permitsPerSecond;
+		this.burst = burst == null ? (int) Math.max( 1, Math.ceil( permitsPerSecond ) ) : burst;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return "{permitsPerSecond = [" + permitsPerSecond + "], burst = [" + burst + "]}";
+	}
+}
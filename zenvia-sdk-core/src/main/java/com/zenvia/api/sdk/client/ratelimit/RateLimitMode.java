@@ -0,0 +1,18 @@
+package com.zenvia.api.sdk.client.ratelimit;
+
+
+/** How a {@link RateLimiter} reacts when no token is available.
+ *
+ *  @since 1.2.0 */
+public enum RateLimitMode {
+	/** The calling thread waits until a token is available.
+	 *
+	 *  @since 1.2.0 */
+	BLOCK,
+
+	/** A {@link com.zenvia.api.sdk.client.exceptions.RateLimitExceededException} is thrown
+	 *  right away.
+	 *
+	 *  @since 1.2.0 */
+	FAIL_FAST
+}
@@ -0,0 +1,200 @@
+package com.zenvia.api.sdk.client.ratelimit;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.exceptions.RateLimitExceededException;
+
+
+/** Client-side rate limiter applied by {@link com.zenvia.api.sdk.client.AbstractClient} before
+ *  each message request, so the contracted throughput can be used without triggering
+ *  server-side throttling.
+ *  <br><br>
+ *  There may be one {@link TokenBucket} per {@link ChannelType}, shared by all senders of the
+ *  channel, and one per sender (the <code>from</code> of the message) of each channel. A message
+ *  request must take a token from both buckets that apply to it.
+ *  <br><br>
+ *  Example allowing 80 WhatsApp messages per second, but at most 20 per second per sender:
+ *  <br>
+ *  <pre>{@code
+ *    client.setRateLimiter( new RateLimiter(
+ *      RateLimitMode.BLOCK, null,
+ *      Collections.singletonMap( ChannelType.whatsapp, new RateLimit( 80, null ) ),
+ *      Collections.singletonMap( ChannelType.whatsapp, new RateLimit( 20, null ) )
+ *    ) );
+ *  }</pre>
+ *
+ *  @since 1.2.0 */
+public class RateLimiter {
+	private final RateLimitMode mode;
+
+	private final long maxWaitNanos;
+
+	private final Map<ChannelType,TokenBucket> channelBuckets = new EnumMap<>( ChannelType.class );
+
+	private final Map<ChannelType,RateLimit> senderLimits = new EnumMap<>( ChannelType.class );
+
+	private final Map<ChannelType,ConcurrentMap<String,TokenBucket>> senderBuckets = new EnumMap<>( ChannelType.class );
+
+	private final LongSupplier nanoClock;
+
+
+	/** @param mode How to react when no token is available. When null, {@link RateLimitMode#BLOCK} is used.
+	 *
+	 *  @param maxWait On {@link RateLimitMode#BLOCK} mode, the maximum amount of milliseconds to wait
+	 *  for a token before failing with {@link RateLimitExceededException}. When zero or null, it
+	 *  waits indefinitely.
+	 *
+	 *  @param channelLimits Limits shared by all senders of each channel. May be null.
+	 *
+	 *  @param senderLimits Limits applied to each sender of each channel. May be null.
+	 *
+	 *  @since 1.2.0 */
+	public RateLimiter(
+		RateLimitMode mode,
+		Long maxWait,
+		Map<ChannelType,RateLimit> channelLimits,
+		Map<ChannelType,RateLimit> senderLimits
+	) {
+		this( mode, maxWait, channelLimits, senderLimits, System::nanoTime );
+	}
+
+
+	RateLimiter(
+		RateLimitMode mode,
+		Long maxWait,
+		Map<ChannelType,RateLimit> channelLimits,
+		Map<ChannelType,RateLimit> senderLimits,
+		LongSupplier nanoClock
+	) {
+		this.mode = mode == null ? RateLimitMode.BLOCK : mode;
+		this.maxWaitNanos = maxWait == null ? 0L : TimeUnit.MILLISECONDS.toNanos( maxWait );
+		this.nanoClock = nanoClock;
+		valueOrEmpty( channelLimits ).forEach( ( channel, limit ) -> channelBuckets.put( channel, new TokenBucket( limit, nanoClock ) ) );
+		valueOrEmpty( senderLimits ).forEach( ( channel, limit ) -> {
+			this.senderLimits.put( channel, limit );
+			this.senderBuckets.put( channel, new ConcurrentHashMap<>() );
+		} );
+	}
+
+
+	/** Takes the tokens needed to send a message, waiting for them or failing according to the
+	 *  {@link RateLimitMode mode}.
+	 *
+	 *  @param channel Channel of the message.
+	 *
+	 *  @param from Sender of the message.
+	 *
+	 *  @throws RateLimitExceededException
+	 *  If a token is not available on {@link RateLimitMode#FAIL_FAST} mode, if the wait would exceed
+	 *  the maximum wait on {@link RateLimitMode#BLOCK} mode, or if the thread is interrupted while
+	 *  waiting. The tokens are given back in all cases.
+	 *
+	 *  @since 1.2.0 */
+	public void acquire( ChannelType channel, String from ) throws RateLimitExceededException {
+		TokenBucket channelBucket = channelBuckets.get( channel );
+		TokenBucket senderBucket = senderBucket( channel, from );
+		if( channelBucket == null && senderBucket == null ) {
+			return;
+		}
+
+		if( mode == RateLimitMode.FAIL_FAST ) {
+			if( senderBucket != null && !senderBucket.tryAcquire() ) {
+				throw exceeded( channel, from, senderBucket.nanosUntilAvailable() );
+			}
+			if( channelBucket != null && !channelBucket.tryAcquire() ) {
+				refund( senderBucket );
+				throw exceeded( channel, null, channelBucket.nanosUntilAvailable() );
+			}
+			return;
+		}
+
+		long senderWait = senderBucket == null ? 0L : senderBucket.reserve();
+		long channelWait = channelBucket == null ? 0L : channelBucket.reserve();
+		long wait = Math.max( senderWait, channelWait );
+		if( maxWaitNanos > 0 && wait > maxWaitNanos ) {
+			refund( senderBucket );
+			refund( channelBucket );
+			throw exceeded( channel, senderWait >= channelWait ? from : null, wait );
+		}
+		if( wait > 0 ) {
+			try {
+				TimeUnit.NANOSECONDS.sleep( wait );
+			} catch( InterruptedException exception ) {
+				Thread.currentThread().interrupt();
+				refund( senderBucket );
+				refund( channelBucket );
+				throw exceeded( channel, null, wait );
+			}
+		}
+	}
+
+
+	/** @since 1.2.0 */
+	public RateLimitMode getMode() {
+		return mode;
+	}
+
+
+	/** Limits shared by all senders of each channel.
+	 *
+	 *  @since 1.2.0 */
+	public Map<ChannelType,RateLimit> getChannelLimits() {
+		Map<ChannelType,RateLimit> limits = new EnumMap<>( ChannelType.class );
+		channelBuckets.forEach( ( channel, bucket ) -> limits.put( channel, bucket.getLimit() ) );
+		return Collections.unmodifiableMap( limits );
+	}
+
+
+	/** Limits applied to each sender of each channel.
+	 *
+	 *  @since 1.2.0 */
+	public Map<ChannelType,RateLimit> getSenderLimits() {
+		return Collections.unmodifiableMap( senderLimits );
+	}
+
+
+	private TokenBucket senderBucket( ChannelType channel, String from ) {
+		ConcurrentMap<String,TokenBucket> buckets = senderBuckets.get( channel );
+		if( buckets == null || from == null ) {
+			return null;
+		}
+		TokenBucket bucket = buckets.get( from );
+		return bucket != null ? bucket : buckets.computeIfAbsent( from, ( key ) -> new TokenBucket( senderLimits.get( channel ), nanoClock ) );
+	}
+
+
+	private static void refund( TokenBucket bucket ) {
+		if( bucket != null ) {
+			bucket.refund();
+		}
+	}
+
+
+	private static RateLimitExceededException exceeded( ChannelType channel, String from, long waitNanos ) {
+		return new RateLimitExceededException( channel, from, TimeUnit.NANOSECONDS.toMillis( waitNanos + 999_999L ) );
+	}
+
+
+	private static Map<ChannelType,RateLimit> valueOrEmpty( Map<ChannelType,RateLimit> limits ) {
+		return limits == null ? Collections.emptyMap() : limits;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  mode = [" + mode + "]"
+			+ "\n  maxWait = [" + TimeUnit.NANOSECONDS.toMillis( maxWaitNanos ) + "]"
+			+ "\n  channelLimits = [" + getChannelLimits() + "]"
+			+ "\n  senderLimits = [" + senderLimits + "]"
+			+ "\n}";
+	}
+}
@@ -0,0 +1,115 @@
+package com.zenvia.api.sdk.client.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+
+/** Lock-free token bucket.
+ *  <br><br>
+ *  Instead of a token counter refilled by a timer, the bucket keeps a single timestamp: the
+ *  instant at which it would be full again if no more tokens were taken. Taking a token pushes
+ *  that instant one refill interval forward, and a token is available while it stays within
+ *  <code>burst</code> intervals from now. Refill is therefore implicit in the passage of time,
+ *  and every operation is a single compare-and-set on an {@link AtomicLong}.
+ *
+ *  @since 1.2.0 */
+public class TokenBucket {
+	private final RateLimit limit;
+
+	private final long refillIntervalNanos;
+
+	private final long burstNanos;
+
+	private final LongSupplier nanoClock;
+
+	private final AtomicLong fullAt;
+
+
+	/** Creates a full bucket.
+	 *
+	 *  @param limit Refill rate and capacity of the bucket.
+	 *
+	 *  @since 1.2.0 */
+	public TokenBucket( RateLimit limit ) {
+		this( limit, System::nanoTime );
+	}
+
+
+	TokenBucket( RateLimit limit, LongSupplier nanoClock ) {
+		this.limit = limit;
+		this.refillIntervalNanos = Math.max( 1L, (long) ( 1_000_000_000d / limit.permitsPerSecond ) );
+		this.burstNanos = refillIntervalNanos * limit.burst;
+		this.nanoClock = nanoClock;
+		this.fullAt = new AtomicLong( nanoClock.getAsLong() );
+	}
+
+
+	/** Takes a token if one is available right now.
+	 *
+	 *  @return Whether a token was taken.
+	 *
+	 *  @since 1.2.0 */
+	public boolean tryAcquire() {
+		while( true ) {
+			long now = nanoClock.getAsLong();
+			long current = fullAt.get();
+			long next = Math.max( current, now ) + refillIntervalNanos;
+			if( next - now > burstNanos ) {
+				return false;
+			}
+			if( fullAt.compareAndSet( current, next ) ) {
+				return true;
+			}
+		}
+	}
+
+
+	/** Takes a token unconditionally, possibly borrowing it from the future.
+	 *
+	 *  @return The amount of nanoseconds the caller must wait before using the token.
+	 *  Zero when a token was available right now.
+	 *
+	 *  @since 1.2.0 */
+	public long reserve() {
+		while( true ) {
+			long now = nanoClock.getAsLong();
+			long current = fullAt.get();
+			long next = Math.max( current, now ) + refillIntervalNanos;
+			if( fullAt.compareAndSet( current, next ) ) {
+				return Math.max( 0L, next - now - burstNanos );
+			}
+		}
+	}
+
+
+	/** Gives back a token previously taken by {@link #tryAcquire()} or {@link #reserve()} that
+	 *  ended up not being used.
+	 *
+	 *  @since 1.2.0 */
+	public void refund() {
+		fullAt.addAndGet( -refillIntervalNanos );
+	}
+
+
+	/** The amount of nanoseconds until the next token is available. Zero when there is one
+	 *  available right now.
+	 *
+	 *  @since 1.2.0 */
+	public long nanosUntilAvailable() {
+		long now = nanoClock.getAsLong();
+		return Math.max( 0L, Math.max( fullAt.get(), now ) + refillIntervalNanos - now - burstNanos );
+	}
+
+
+	/** @since 1.2.0 */
+	public RateLimit getLimit() {
+		return limit;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + limit;
+	}
+}
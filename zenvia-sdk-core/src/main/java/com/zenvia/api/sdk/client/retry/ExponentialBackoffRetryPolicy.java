@@ -0,0 +1,171 @@
+package com.zenvia.api.sdk.client.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.HttpRequestException;
+
+
+/** Retry policy using exponential backoff with full jitter: the delay before the attempt
+ *  <code>n + 1</code> is a random value between zero and
+ *  <code>min( maxDelay, baseDelay * 2<sup>n - 1</sup> )</code>, which spreads the retries of
+ *  concurrent clients instead of hitting the API all at once.
+ *  <br><br>
+ *  When the server sends a <code>Retry-After</code> header, its value is used as the delay instead.
+ *  If it is longer than the maximum delay, the request is not retried.
+ *  <br><br>
+ *  Only transient failures are retried: HTTP status 429, 502, 503 and 504, and communication
+ *  failures. Since a <code>POST</code> (like sending a message) is not idempotent, it is only
+ *  retried when it is known the server did not process it: connection failures, connection
+ *  timeouts, and HTTP status 429 and 503. Otherwise the message could be sent twice.
+ *  <br><br>
+ *  By default, the following configuration is used:
+ *  <br>
+ *  <ul>
+ *    <li><b>Maximum retries:</b> {@value #DEFAULT_MAX_RETRIES}</li>
+ *    <li><b>Base delay:</b> {@value #DEFAULT_BASE_DELAY} ms</li>
+ *    <li><b>Maximum delay:</b> {@value #DEFAULT_MAX_DELAY} ms</li>
+ *  </ul>
+ *
+ *  @since 1.2.0 */
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+	/** {@value} */
+	public static final int DEFAULT_MAX_RETRIES = 3;
+
+	/** {@value} */
+	public static final long DEFAULT_BASE_DELAY = 200L;
+
+	/** {@value} */
+	public static final long DEFAULT_MAX_DELAY = 10000L;
+
+	private final int maxRetries;
+
+	private final long baseDelay;
+
+	private final long maxDelay;
+
+	private final DoubleSupplier random;
+
+
+	/** Creates the policy using default configurations.
+	 *
+	 *  @since 1.2.0 */
+	public ExponentialBackoffRetryPolicy() {
+		this( null, null, null );
+	}
+
+
+	/** @param maxRetries Maximum amount of retries of a request.
+	 *  When null, the default {@value #DEFAULT_MAX_RETRIES} will be used instead.
+	 *
+	 *  @param baseDelay Amount of milliseconds the delay cap starts with, doubled on each retry.
+	 *  When null, the default {@value #DEFAULT_BASE_DELAY} will be used instead.
+	 *
+	 *  @param maxDelay Maximum amount of milliseconds to wait before a retry.
+	 *  When null, the default {@value #DEFAULT_MAX_DELAY} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public ExponentialBackoffRetryPolicy( Integer maxRetries, Long baseDelay, Long maxDelay ) {
+		this( maxRetries, baseDelay, maxDelay, () -> ThreadLocalRandom.current().nextDouble() );
+	}
+
+
+	ExponentialBackoffRetryPolicy( Integer maxRetries, Long baseDelay, Long maxDelay, DoubleSupplier random ) {
+		this.maxRetries = maxRetries == null ? DEFAULT_MAX_RETRIES : maxRetries;
+		this.baseDelay = baseDelay == null ? DEFAULT_BASE_DELAY : baseDelay;
+		this.maxDelay = maxDelay == null ? DEFAULT_MAX_DELAY : maxDelay;
+		if( this.maxRetries < 0 ) {
+			throw new IllegalArgumentException( "maxRetries must not be negative: " + this.maxRetries );
+		}
+		if( this.baseDelay < 0 || this.maxDelay < 0 ) {
+			throw new IllegalArgumentException( "delays must not be negative: " + this.baseDelay + ", " + this.maxDelay );
+		}
+		this.random = random;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public long nextDelay( RequestAttempt attempt ) {
+		if( attempt.attempt > maxRetries || !isRetryable( attempt ) ) {
+			return NO_RETRY;
+		}
+
+		Long retryAfter = attempt.getRetryAfter();
+		if( retryAfter != null ) {
+			return retryAfter <= maxDelay ? retryAfter : NO_RETRY;
+		}
+
+		int shift = Math.min( attempt.attempt - 1, 30 );
+		long cap = Math.min( maxDelay, baseDelay << shift );
+		if( cap < 0 ) {
+			cap = maxDelay;
+		}
+		return (long) ( random.getAsDouble() * ( cap + 1 ) );
+	}
+
+
+	/** Whether the failure is transient and the request is safe to be attempted again.
+	 *
+	 *  @param attempt The attempt that just failed.
+	 *
+	 *  @since 1.2.0 */
+	protected boolean isRetryable( RequestAttempt attempt ) {
+		Integer httpStatusCode = attempt.getHttpStatusCode();
+		boolean idempotent = !"POST".equalsIgnoreCase( attempt.method );
+		if( httpStatusCode != null ) {
+			switch( httpStatusCode ) {
+				case 429:
+				case 503:
+					return true;
+				case 502:
+				case 504:
+					return idempotent;
+				default:
+					return false;
+			}
+		}
+		if( attempt.exception instanceof HttpConnectionFailException
+			|| attempt.exception instanceof HttpConnectionTimeoutException ) {
+			return true;
+		}
+		return idempotent && attempt.exception instanceof HttpRequestException;
+	}
+
+
+	/** Maximum amount of retries of a request.
+	 *
+	 *  @since 1.2.0 */
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+
+	/** Amount of milliseconds the delay cap starts with, doubled on each retry.
+	 *
+	 *  @since 1.2.0 */
+	public long getBaseDelay() {
+		return baseDelay;
+	}
+
+
+	/** Maximum amount of milliseconds to wait before a retry.
+	 *
+	 *  @since 1.2.0 */
+	public long getMaxDelay() {
+		return maxDelay;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  maxRetries = [" + maxRetries + "]"
+			+ "\n  baseDelay = [" + baseDelay + "]"
+			+ "\n  maxDelay = [" + maxDelay + "]"
+			+ "\n}";
+	}
+}
@@ -0,0 +1,75 @@
+package com.zenvia.api.sdk.client.retry;
+
+import com.zenvia.api.sdk.client.exceptions.ApiException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+
+
+/** Failed attempt of an API request, given to a {@link RetryPolicy}.
+ *
+ *  @since 1.2.0 */
+public class RequestAttempt {
+	/** HTTP method of the request, like <code>GET</code> or <code>POST</code>.
+	 *
+	 *  @since 1.2.0 */
+	public final String method;
+
+	/** URL of the request.
+	 *
+	 *  @since 1.2.0 */
+	public final String url;
+
+	/** Number of the attempt that failed, starting from 1.
+	 *
+	 *  @since 1.2.0 */
+	public final int attempt;
+
+	/** Exception thrown by the attempt.
+	 *
+	 *  @since 1.2.0 */
+	public final ApiException exception;
+
+
+	/** @param method HTTP method of the request.
+	 *
+	 *  @param url URL of the request.
+	 *
+	 *  @param attempt Number of the attempt that failed, starting from 1.
+	 *
+	 *  @param exception Exception thrown by the attempt.
+	 *
+	 *  @since 1.2.0 */
+	public RequestAttempt( String method, String url, int attempt, ApiException exception ) {
+		this.method = method;
+		this.url = url;
+		this.attempt = attempt;
+		this.exception = exception;
+	}
+
+
+	/** HTTP status code of the response, or null if no response was received.
+	 *
+	 *  @since 1.2.0 */
+	public Integer getHttpStatusCode() {
+		return exception instanceof UnsuccessfulRequestException
+			? ( (UnsuccessfulRequestException) exception ).httpStatusCode
+			: null;
+	}
+
+
+	/** Amount of milliseconds the server asked to wait before retrying,
+	 *  or null if it did not say so.
+	 *
+	 *  @since 1.2.0 */
+	public Long getRetryAfter() {
+		return exception instanceof UnsuccessfulRequestException
+			? ( (UnsuccessfulRequestException) exception ).retryAfter
+			: null;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return method + " " + url + " (attempt " + attempt + "): " + exception;
+	}
+}
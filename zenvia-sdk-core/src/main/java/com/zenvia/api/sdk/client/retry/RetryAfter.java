@@ -0,0 +1,57 @@
+package com.zenvia.api.sdk.client.retry;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+
+/** Parser of the <code>Retry-After</code> HTTP response header.
+ *
+ *  @since 1.2.0 */
+public final class RetryAfter {
+	/** Response header name.
+	 *
+	 *  @since 1.2.0 */
+	public static final String HEADER = "Retry-After";
+
+
+	private RetryAfter() {}
+
+
+	/** Parses a <code>Retry-After</code> header value, which may be either an amount of
+	 *  seconds or an HTTP date.
+	 *
+	 *  @param value Header value. May be null.
+	 *
+	 *  @param now Current time in milliseconds since epoch, used when the value is a date.
+	 *
+	 *  @return Amount of milliseconds to wait, never negative, or null if the value is absent
+	 *  or invalid.
+	 *
+	 *  @since 1.2.0 */
+	public static Long parse( String value, long now ) {
+		if( value == null || value.trim().isEmpty() ) {
+			return null;
+		}
+		value = value.trim();
+		try {
+			return Math.max( 0L, Long.parseLong( value ) * 1000L );
+		} catch( NumberFormatException exception ) {
+			// Not an amount of seconds, so it should be a date
+		}
+		try {
+			long date = ZonedDateTime.parse( value, DateTimeFormatter.RFC_1123_DATE_TIME ).toInstant().toEpochMilli();
+			return Math.max( 0L, date - now );
+		} catch( DateTimeParseException exception ) {
+			return null;
+		}
+	}
+
+
+	/** Same as {@link #parse(String, long)} using the current time.
+	 *
+	 *  @since 1.2.0 */
+	public static Long parse( String value ) {
+		return parse( value, System.currentTimeMillis() );
+	}
+}
@@ -0,0 +1,25 @@
+package com.zenvia.api.sdk.client.retry;
+
+
+/** Decides whether a failed API request should be attempted again, and after how long.
+ *  <br><br>
+ *  It is applied by {@link com.zenvia.api.sdk.client.AbstractClient} to every request made
+ *  by the client. See {@link ExponentialBackoffRetryPolicy} for the default implementation.
+ *
+ *  @since 1.2.0 */
+@FunctionalInterface
+public interface RetryPolicy {
+	/** Value returned by {@link #nextDelay} when the request must not be attempted again.
+	 *
+	 *  @since 1.2.0 */
+	long NO_RETRY = -1L;
+
+
+	/** @param attempt The attempt that just failed.
+	 *
+	 *  @return Amount of milliseconds to wait before the next attempt,
+	 *  or {@link #NO_RETRY} to give up and propagate the failure.
+	 *
+	 *  @since 1.2.0 */
+	long nextDelay( RequestAttempt attempt );
+}
@@ -0,0 +1,70 @@
+package com.zenvia.api.sdk.client.retry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/** Counters of the retries made by a client.
+ *
+ *  @since 1.2.0 */
+public class RetryStatistics {
+	private final LongAdder retries = new LongAdder();
+
+	private final LongAdder recovered = new LongAdder();
+
+	private final LongAdder exhausted = new LongAdder();
+
+
+	/** Records that a failed attempt is going to be attempted again.
+	 *
+	 *  @since 1.2.0 */
+	public void retried() {
+		retries.increment();
+	}
+
+
+	/** Records that a request succeeded after one or more retries.
+	 *
+	 *  @since 1.2.0 */
+	public void recovered() {
+		recovered.increment();
+	}
+
+
+	/** Records that a request failed after one or more retries.
+	 *
+	 *  @since 1.2.0 */
+	public void exhausted() {
+		exhausted.increment();
+	}
+
+
+	/** Total amount of retries made.
+	 *
+	 *  @since 1.2.0 */
+	public long getRetries() {
+		return retries.sum();
+	}
+
+
+	/** Amount of requests that succeeded after one or more retries.
+	 *
+	 *  @since 1.2.0 */
+	public long getRecovered() {
+		return recovered.sum();
+	}
+
+
+	/** Amount of requests that failed even after one or more retries.
+	 *
+	 *  @since 1.2.0 */
+	public long getExhausted() {
+		return exhausted.sum();
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return "{retries = [" + getRetries() + "], recovered = [" + getRecovered() + "], exhausted = [" + getExhausted() + "]}";
+	}
+}
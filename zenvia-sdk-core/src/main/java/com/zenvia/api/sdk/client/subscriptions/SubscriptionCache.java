@@ -0,0 +1,324 @@
+package com.zenvia.api.sdk.client.subscriptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.zenvia.api.sdk.client.ChannelType;
+
+
+/** Read-through cache of subscriptions, used by {@link com.zenvia.api.sdk.client.AbstractClient}
+ *  when {@link com.zenvia.api.sdk.client.AbstractClient#setSubscriptionCache enabled}, so
+ *  subscription reads become local lookups.
+ *  <br><br>
+ *  The listed subscriptions are kept as a snapshot, indexed by id and by webhook URL, channel
+ *  and event type. Subscriptions fetched by id that are not on a snapshot are kept on their own.
+ *  Both expire once the time to live has passed since they were fetched.
+ *  <br><br>
+ *  Creating, updating or deleting a subscription through the client drops the snapshot and the
+ *  entry of that subscription, keeping the subscription returned by the API instead, if any.
+ *  A read started before such a change is not kept, so a stale value never outlives the change
+ *  that made it stale. Changes made elsewhere, like by another application, are only seen after
+ *  the time to live.
+ *  <br><br>
+ *  By default, the following configuration is used:
+ *  <br>
+ *  <ul>
+ *    <li><b>Time to live:</b> {@value #DEFAULT_TTL} ms</li>
+ *  </ul>
+ *
+ *  @since 1.2.0 */
+public class SubscriptionCache {
+	/** {@value} */
+	public static final long DEFAULT_TTL = 60000L;
+
+	private final long ttl;
+
+	private final long ttlNanos;
+
+	private final LongSupplier nanoClock;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final ConcurrentMap<String,Entry> entries = new ConcurrentHashMap<>();
+
+	private volatile Snapshot snapshot;
+
+	/** Incremented on every invalidation, guarded by the lock. */
+	private volatile long generation;
+
+
+	/** Creates the cache using default configurations.
+	 *
+	 *  @since 1.2.0 */
+	public SubscriptionCache() {
+		this( null );
+	}
+
+
+	/** @param ttl Amount of milliseconds subscriptions are kept after being fetched.
+	 *  When null, the default {@value #DEFAULT_TTL} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public SubscriptionCache( Long ttl ) {
+		this( ttl, System::nanoTime );
+	}
+
+
+	SubscriptionCache( Long ttl, LongSupplier nanoClock ) {
+		this.ttl = ttl == null ? DEFAULT_TTL : ttl;
+		if( this.ttl < 0 ) {
+			throw new IllegalArgumentException( "ttl must not be negative: " + this.ttl );
+		}
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos( this.ttl );
+		this.nanoClock = nanoClock;
+	}
+
+
+	/** All subscriptions, fetched by the loader when there is no fresh snapshot.
+	 *
+	 *  @return An unmodifiable list.
+	 *
+	 *  @since 1.2.0 */
+	public List<Subscription> list( Supplier<List<Subscription>> loader ) {
+		return snapshot( loader ).subscriptions;
+	}
+
+
+	/** The subscriptions of a webhook URL, channel and event type, fetched by the loader when
+	 *  there is no fresh snapshot.
+	 *
+	 *  @param webhookUrl The exact {@link Webhook#url webhook URL}.
+	 *
+	 *  @param channel The {@link Criteria#channel channel} of the criteria.
+	 *
+	 *  @param eventType The event type.
+	 *
+	 *  @return An unmodifiable list, empty when no subscription matches.
+	 *
+	 *  @since 1.2.0 */
+	public List<Subscription> find( String webhookUrl, ChannelType channel, EventType eventType, Supplier<List<Subscription>> loader ) {
+		List<Subscription> subscriptions = snapshot( loader ).byKey.get( new Key( webhookUrl, channel, eventType ) );
+		return subscriptions == null ? Collections.emptyList() : subscriptions;
+	}
+
+
+	/** The subscription with the given id, fetched by the loader when it is neither on a fresh
+	 *  snapshot nor cached on its own. Failures of the loader are not cached.
+	 *
+	 *  @since 1.2.0 */
+	public Subscription get( String id, Function<String,Subscription> loader ) {
+		long now = nanoClock.getAsLong();
+		Snapshot snapshot = this.snapshot;
+		if( snapshot != null && snapshot.isFresh( now ) ) {
+			Subscription subscription = snapshot.byId.get( id );
+			if( subscription != null ) {
+				return subscription;
+			}
+		}
+		Entry entry = entries.get( id );
+		if( entry != null && entry.isFresh( now ) ) {
+			return entry.subscription;
+		}
+
+		long loadGeneration = generation;
+		Subscription subscription = loader.apply( id );
+		if( subscription != null ) {
+			lock.lock();
+			try {
+				if( generation == loadGeneration ) {
+					entries.put( id, new Entry( subscription, now + ttlNanos ) );
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		return subscription;
+	}
+
+
+	/** Keeps a subscription just returned by the API, like the result of a creation or update.
+	 *
+	 *  @since 1.2.0 */
+	public void put( Subscription subscription ) {
+		if( subscription == null || subscription.id == null ) {
+			return;
+		}
+		long now = nanoClock.getAsLong();
+		lock.lock();
+		try {
+			entries.put( subscription.id, new Entry( subscription, now + ttlNanos ) );
+		} finally {
+			lock.unlock();
+		}
+	}
+
+
+	/** Drops the snapshot, which the change of any subscription makes stale, and the subscription
+	 *  with the given id.
+	 *
+	 *  @param id Id of the changed subscription. When null, only the snapshot is dropped.
+	 *
+	 *  @since 1.2.0 */
+	public void invalidate( String id ) {
+		lock.lock();
+		try {
+			generation++;
+			snapshot = null;
+			if( id != null ) {
+				entries.remove( id );
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+
+	/** Drops every cached subscription.
+	 *
+	 *  @since 1.2.0 */
+	public void invalidateAll() {
+		lock.lock();
+		try {
+			generation++;
+			snapshot = null;
+			entries.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+
+	/** @since 1.2.0 */
+	public long getTtl() {
+		return ttl;
+	}
+
+
+	private Snapshot snapshot( Supplier<List<Subscription>> loader ) {
+		long now = nanoClock.getAsLong();
+		Snapshot snapshot = this.snapshot;
+		if( snapshot != null && snapshot.isFresh( now ) ) {
+			return snapshot;
+		}
+
+		long loadGeneration = generation;
+		snapshot = new Snapshot( loader.get(), now + ttlNanos );
+		lock.lock();
+		try {
+			if( generation == loadGeneration ) {
+				this.snapshot = snapshot;
+			}
+		} finally {
+			lock.unlock();
+		}
+		return snapshot;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  ttl = [" + ttl + "]"
+			+ "\n}";
+	}
+
+
+	private static final class Snapshot {
+		private final List<Subscription> subscriptions;
+
+		private final Map<String,Subscription> byId = new HashMap<>();
+
+		private final Map<Key,List<Subscription>> byKey = new HashMap<>();
+
+		private final long expiresAt;
+
+
+		private Snapshot( List<Subscription> subscriptions, long expiresAt ) {
+			this.subscriptions = Collections.unmodifiableList( new ArrayList<>( subscriptions ) );
+			this.expiresAt = expiresAt;
+			for( Subscription subscription : this.subscriptions ) {
+				if( subscription.id != null ) {
+					byId.put( subscription.id, subscription );
+				}
+				byKey.computeIfAbsent( Key.of( subscription ), key -> new ArrayList<>( 1 ) ).add( subscription );
+			}
+			byKey.replaceAll( ( key, list ) -> Collections.unmodifiableList( list ) );
+		}
+
+
+		private boolean isFresh( long now ) {
+			return now - expiresAt < 0;
+		}
+	}
+
+
+	private static final class Entry {
+		private final Subscription subscription;
+
+		private final long expiresAt;
+
+
+		private Entry( Subscription subscription, long expiresAt ) {
+			this.subscription = subscription;
+			this.expiresAt = expiresAt;
+		}
+
+
+		private boolean isFresh( long now ) {
+			return now - expiresAt < 0;
+		}
+	}
+
+
+	private static final class Key {
+		private final String webhookUrl;
+
+		private final ChannelType channel;
+
+		private final EventType eventType;
+
+
+		private Key( String webhookUrl, ChannelType channel, EventType eventType ) {
+			this.webhookUrl = webhookUrl;
+			this.channel = channel;
+			this.eventType = eventType;
+		}
+
+
+		private static Key of( Subscription subscription ) {
+			return new Key(
+				subscription.webhook == null ? null : subscription.webhook.url,
+				subscription.criteria == null ? null : subscription.criteria.channel,
+				subscription.eventType
+			);
+		}
+
+
+		@Override
+		public boolean equals( Object other ) {
+			if( !( other instanceof Key ) ) {
+				return false;
+			}
+			Key key = (Key) other;
+			return channel == key.channel && eventType == key.eventType && Objects.equals( webhookUrl, key.webhookUrl );
+		}
+
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( webhookUrl, channel, eventType );
+		}
+	}
+}
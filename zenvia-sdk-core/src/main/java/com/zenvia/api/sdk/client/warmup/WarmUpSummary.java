@@ -0,0 +1,63 @@
+package com.zenvia.api.sdk.client.warmup;
+
+
+/** Outcome of a {@link com.zenvia.api.sdk.client.AbstractClient#warmUp connection pool warm-up}.
+ *
+ *  @since 1.2.0 */
+public class WarmUpSummary {
+	/** Amount of connections the warm-up tried to make ready.
+	 *
+	 *  @since 1.2.0 */
+	public final int requested;
+
+	/** Amount of connections left open and idle on the pool, including those that were already
+	 *  open before the warm-up.
+	 *
+	 *  @since 1.2.0 */
+	public final int ready;
+
+	/** Amount of connections that could not be opened.
+	 *
+	 *  @since 1.2.0 */
+	public final int failed;
+
+	/** Amount of milliseconds the warm-up took.
+	 *
+	 *  @since 1.2.0 */
+	public final long elapsed;
+
+
+	/** @param ready Amount of connections left open and idle on the pool.
+	 *
+	 *  @param failed Amount of connections that could not be opened.
+	 *
+	 *  @param elapsed Amount of milliseconds the warm-up took.
+	 *
+	 *  @since 1.2.0 */
+	public WarmUpSummary( int ready, int failed, long elapsed ) {
+		this.requested = ready + failed;
+		this.ready = ready;
+		this.failed = failed;
+		this.elapsed = elapsed;
+	}
+
+
+	/** Whether every requested connection is ready.
+	 *
+	 *  @since 1.2.0 */
+	public boolean isComplete() {
+		return failed == 0;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  requested = [" + requested + "]"
+			+ "\n  ready = [" + ready + "]"
+			+ "\n  failed = [" + failed + "]"
+			+ "\n  elapsed = [" + elapsed + "]"
+			+ "\n}";
+	}
+}
@@ -1,6 +1,18 @@
 package com.zenvia.api.sdk.webhook;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +28,10 @@ import com.zenvia.api.sdk.client.subscriptions.Subscription;
 import com.zenvia.api.sdk.client.subscriptions.SubscriptionStatus;
 import com.zenvia.api.sdk.client.subscriptions.Webhook;
 import com.zenvia.api.sdk.messages.MessageDirection;
+import com.zenvia.api.sdk.webhook.dispatch.EventBatcher;
+import com.zenvia.api.sdk.webhook.dispatch.EventDeduplicator;
+import com.zenvia.api.sdk.webhook.dispatch.EventDispatcher;
+import com.zenvia.api.sdk.webhook.spool.EventSpool;
 
 public abstract class AbstractWebhookController {
 	
@@ -24,6 +40,8 @@ public abstract class AbstractWebhookController {
 	/** {@value} */
 	public static final String DEFAULT_PATH = "/";
 
+	private static final EventReader EVENT_READER = EventReader.shared();
+
 	protected final MessageEventCallback messageEventHandler;
 	
 	protected final MessageStatusEventCallback messageStatusEventHandler;
@@ -35,6 +53,23 @@ public abstract class AbstractWebhookController {
 	protected final String url;
 
 	protected final ChannelType channel;
+
+	// Read by the threads handling webhook calls and by the spool replay thread
+	private volatile Set<ChannelType> channels;
+
+	private volatile EventDispatcher eventDispatcher;
+
+	private volatile EventDeduplicator eventDeduplicator;
+
+	private volatile EventSpool eventSpool;
+
+	private volatile EventBatcher<MessageEvent> messageEventBatcher;
+
+	private volatile EventBatcher<MessageStatusEvent> messageStatusEventBatcher;
+
+	private volatile MessageStatusEventViewCallback messageStatusEventViewCallback;
+
+	private boolean started;
 	
 	public AbstractWebhookController(MessageEventCallback messageEventHandler) {
 		this(messageEventHandler, null, null);
@@ -112,10 +147,12 @@ public abstract class AbstractWebhookController {
 		this.channel = channel;
 	}
 
-	/** Initializes the webhook controller.
+	/** Initializes the webhook controller: {@link #start() starts} the delivery of events and
+	 *  creates the missing subscriptions.
 	 * 
 	 *  @since 1.1.0 */
 	public void init() {
+		start();
 		try {
 			this.createSubscriptions();
 		} catch (Exception e) {
@@ -125,46 +162,454 @@ public abstract class AbstractWebhookController {
 	}
 	
 	private void createSubscriptions() {
-		if (client == null || url == null || channel == null || (messageEventHandler == null && messageStatusEventHandler == null)) {
+		boolean hasMessageCallback = messageEventHandler != null || messageEventBatcher != null;
+		boolean hasMessageStatusCallback = messageStatusEventHandler != null || messageStatusEventBatcher != null || messageStatusEventViewCallback != null;
+		Set<ChannelType> channels = getChannels();
+		if (client == null || url == null || channels.isEmpty() || (!hasMessageCallback && !hasMessageStatusCallback)) {
 			return;
 		}
 
-		LOG.debug("Verifying subscriptions before create them if not exist");
-		List<Subscription> subscriptions = client.listSubscriptions();
-		boolean shouldCreateMessageSubscription = true;
-		boolean shouldCreateMessageStatusSubscription = true;
-		
-		for (Subscription subscription : subscriptions) {
+		LOG.debug("Verifying subscriptions of channels {} before create them if not exist", channels);
+		Map<EventType, Set<ChannelType>> subscribed = new EnumMap<>(EventType.class);
+		for (EventType eventType : EventType.values()) {
+			subscribed.put(eventType, EnumSet.noneOf(ChannelType.class));
+		}
+		for (Subscription subscription : client.listSubscriptions()) {
 			if (
-				SubscriptionStatus.ACTIVE.equals(subscription.status) && 
-				url.equalsIgnoreCase(subscription.webhook.url) && 
-				channel.equals(subscription.criteria.channel)
+				SubscriptionStatus.ACTIVE.equals(subscription.status) &&
+				subscription.eventType != null &&
+				subscription.webhook != null && url.equalsIgnoreCase(subscription.webhook.url) &&
+				subscription.criteria != null && subscription.criteria.channel != null
 			) {
-				if (EventType.MESSAGE.equals(subscription.eventType)) {
-					LOG.debug("It wont be necessary to create subscription for MESSAGE event");
-					shouldCreateMessageSubscription = false;
-				} else if(EventType.MESSAGE_STATUS.equals(subscription.eventType)) {
-					shouldCreateMessageStatusSubscription = false;
-					LOG.debug("It wont be necessary to create subscription for MESSAGE_STAUS event");
+				subscribed.get(subscription.eventType).add(subscription.criteria.channel);
+			}
+		}
+
+		Webhook webhook = new Webhook(url);
+		List<Subscription> missing = new ArrayList<>();
+		for (ChannelType channel : channels) {
+			if (hasMessageCallback) {
+				if (subscribed.get(EventType.MESSAGE).contains(channel)) {
+					LOG.debug("It wont be necessary to create subscription for MESSAGE event of channel {}", channel);
+				} else {
+					missing.add(new MessageSubscription(webhook, new MessageCriteria(channel, MessageDirection.IN)));
+				}
+			}
+			if (hasMessageStatusCallback) {
+				if (subscribed.get(EventType.MESSAGE_STATUS).contains(channel)) {
+					LOG.debug("It wont be necessary to create subscription for MESSAGE_STATUS event of channel {}", channel);
+				} else {
+					missing.add(new MessageStatusSubscription(webhook, new Criteria(channel)));
+				}
+			}
+		}
+		createSubscriptions(missing);
+	}
+
+	/** Creates the missing subscriptions at the same time, up to the maximum connections of the
+	 *  client, on threads of the client {@link AbstractClient#getThreadMode() thread mode}. */
+	private void createSubscriptions(List<Subscription> missing) {
+		if (missing.size() <= 1) {
+			missing.forEach(this::createSubscription);
+			return;
+		}
+
+		int threads = Math.max(1, Math.min(missing.size(), client.getMaxConnections()));
+		ExecutorService executor = client.getThreadMode().newExecutor("zenvia-subscriptions-", threads);
+		try {
+			List<Future<?>> creations = new ArrayList<>(missing.size());
+			for (Subscription subscription : missing) {
+				creations.add(executor.submit(() -> createSubscription(subscription)));
+			}
+			RuntimeException failure = null;
+			for (Future<?> creation : creations) {
+				try {
+					creation.get();
+				} catch (ExecutionException e) {
+					RuntimeException cause = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+					if (failure == null) {
+						failure = cause;
+					} else {
+						failure.addSuppressed(cause);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while creating subscriptions", e);
 				}
 			}
+			if (failure != null) {
+				throw failure;
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private void createSubscription(Subscription subscription) {
+		LOG.debug("Trying to create subscription for {} event of channel {}", subscription.eventType, subscription.criteria.channel);
+		client.createSubscription(subscription);
+	}
+
+	/** The channels whose subscriptions are created on {@link #init()}: the channel given on
+	 *  construction, if any, and the ones {@link #setChannels set} afterwards.
+	 *
+	 *  @since 1.2.0 */
+	public Set<ChannelType> getChannels() {
+		Set<ChannelType> channels = EnumSet.noneOf(ChannelType.class);
+		if (channel != null) {
+			channels.add(channel);
+		}
+		if (this.channels != null) {
+			channels.addAll(this.channels);
+		}
+		return Collections.unmodifiableSet(channels);
+	}
+
+	/** Makes {@link #init()} also create the subscriptions of the given channels, besides the one
+	 *  given on construction, so a single controller serves several channels. The existing
+	 *  subscriptions of every channel are checked with a single list request, and the missing
+	 *  ones are created at the same time.
+	 *
+	 *  @param channels Additional channels. When null or empty, only the channel given on
+	 *  construction is subscribed, which is the default.
+	 *
+	 *  @since 1.2.0 */
+	public void setChannels(Collection<ChannelType> channels) {
+		this.channels = channels == null || channels.isEmpty() ? null : EnumSet.copyOf(channels);
+	}
+
+	/** Reads the event sent on a webhook call using the shared {@link EventReader}.
+	 *
+	 *  @param body The request body.
+	 *
+	 *  @throws com.fasterxml.jackson.core.JsonProcessingException If the body is not a valid event.
+	 *
+	 *  @since 1.2.0 */
+	protected Event readEvent( InputStream body ) throws IOException {
+		return EVENT_READER.read( body );
+	}
+
+	/** Reads the event sent on a webhook call and hands it over for delivery. When an
+	 *  {@link EventSpool} is set, the body is only validated and appended to the spool, and the
+	 *  event is delivered later by the spool replay. When a {@link MessageStatusEventViewCallback}
+	 *  is set, {@link EventType#MESSAGE_STATUS} events are only decoded as views.
+	 *
+	 *  @param body The request body.
+	 *
+	 *  @return false if the event was refused, in which case the webhook call should be answered
+	 *  with <i>503 Service Unavailable</i>.
+	 *
+	 *  @throws com.fasterxml.jackson.core.JsonProcessingException If the body is not a valid event.
+	 *
+	 *  @since 1.2.0 */
+	protected boolean receive( InputStream body ) throws IOException {
+		EventSpool eventSpool = this.eventSpool;
+		if (eventSpool == null && messageStatusEventViewCallback == null) {
+			return submit(readEvent(body));
+		}
+		byte[] bytes = EventReader.toBytes(body);
+		MessageStatusEventView view = readView(bytes);
+		if (eventSpool == null) {
+			return view != null ? submit(view) : submit(EVENT_READER.read(bytes));
+		}
+		if (view == null) {
+			EVENT_READER.read(bytes);
+		}
+		eventSpool.append(bytes);
+		return true;
+	}
+
+	private MessageStatusEventView readView(byte[] body) throws IOException {
+		if (messageStatusEventViewCallback == null || !MessageStatusEvent.TYPE.equals(EVENT_READER.peekType(body))) {
+			return null;
+		}
+		return MessageStatusEventView.of(body);
+	}
+
+	/** Delivers the event to the callback of its type, if any, or adds it to the batch of its
+	 *  type when a batch callback is set. Exceptions thrown by the callbacks are logged and ignored.
+	 *
+	 *  @since 1.2.0 */
+	protected void dispatch(Event event) {
+		switch (event.type) {
+		case MESSAGE:
+			if (messageEventBatcher != null) {
+				messageEventBatcher.add(event.ofMessage());
+			} else if (messageEventHandler != null) {
+				try {
+					messageEventHandler.onMessageEvent(event.ofMessage());
+				} catch (Exception e) {
+					LOG.warn("Error on handling MESSAGE event", e);
+				}
+			}
+			break;
+
+		case MESSAGE_STATUS:
+			if (messageStatusEventBatcher != null) {
+				messageStatusEventBatcher.add(event.ofMessageStatus());
+			} else if (messageStatusEventHandler != null) {
+				try {
+					messageStatusEventHandler.onMessageStatusEvent(event.ofMessageStatus());
+				} catch( Exception e) {
+					LOG.warn("Error on handling MESSAGE_STATUS event", e);
+				}
+			}
+			break;
+	
+		default:
+			break;
+		}
+	}
+	
+	/** Delivers the event to its callback, either right away or through the
+	 *  {@link EventDispatcher} when one is set. When an {@link EventDeduplicator} is set, events
+	 *  already received are ignored.
+	 *
+	 *  @return false if the dispatcher refused the event, in which case the webhook call should
+	 *  be answered with <i>503 Service Unavailable</i>.
+	 *
+	 *  @since 1.2.0 */
+	protected boolean submit(Event event) {
+		EventDeduplicator eventDeduplicator = this.eventDeduplicator;
+		if (eventDeduplicator != null && event.id != null && !eventDeduplicator.firstSeen(event.id)) {
+			LOG.debug("Ignoring duplicate {} event {}", event.type, event.id);
+			return true;
+		}
+		EventDispatcher eventDispatcher = this.eventDispatcher;
+		if (eventDispatcher == null) {
+			dispatch(event);
+			return true;
+		}
+		if (!eventDispatcher.submit(event, () -> dispatch(event))) {
+			LOG.warn("{} event refused by the dispatcher", event.type);
+			if (eventDeduplicator != null && event.id != null) {
+				eventDeduplicator.forget(event.id);
+			}
+			return false;
+		}
+		return true;
+	}
+
+	private boolean submit(MessageStatusEventView view) {
+		EventDeduplicator eventDeduplicator = this.eventDeduplicator;
+		String id = eventDeduplicator == null ? null : view.getId();
+		if (id != null && !eventDeduplicator.firstSeen(id)) {
+			LOG.debug("Ignoring duplicate MESSAGE_STATUS event {}", id);
+			return true;
+		}
+		EventDispatcher eventDispatcher = this.eventDispatcher;
+		if (eventDispatcher == null) {
+			dispatch(view);
+			return true;
+		}
+		if (!eventDispatcher.submit(view, () -> dispatch(view))) {
+			LOG.warn("MESSAGE_STATUS event refused by the dispatcher");
+			if (id != null) {
+				eventDeduplicator.forget(id);
+			}
+			return false;
+		}
+		return true;
+	}
+
+	private void dispatch(MessageStatusEventView view) {
+		try {
+			messageStatusEventViewCallback.onMessageStatusEvent(view);
+		} catch (Exception e) {
+			LOG.warn("Error on handling MESSAGE_STATUS event", e);
+		}
+	}
+
+	/** @since 1.2.0 */
+	public EventDispatcher getEventDispatcher() {
+		return eventDispatcher;
+	}
+
+	/** Makes the webhook calls be acknowledged right away, with the callbacks invoked by the
+	 *  workers of the given dispatcher. When null, the callbacks are invoked by the thread
+	 *  handling the webhook call, which is the default.
+	 *
+	 *  @since 1.2.0 */
+	public void setEventDispatcher(EventDispatcher eventDispatcher) {
+		this.eventDispatcher = eventDispatcher;
+	}
+	
+	/** @since 1.2.0 */
+	public EventDeduplicator getEventDeduplicator() {
+		return eventDeduplicator;
+	}
+
+	/** Makes the events already received, according to their id, be acknowledged without
+	 *  reaching the callbacks. When null, every event is delivered, which is the default.
+	 *
+	 *  @since 1.2.0 */
+	public void setEventDeduplicator(EventDeduplicator eventDeduplicator) {
+		this.eventDeduplicator = eventDeduplicator;
+	}
+
+	/** @since 1.2.0 */
+	public EventSpool getEventSpool() {
+		return eventSpool;
+	}
+
+	/** Makes the webhook calls be acknowledged once their events are durably stored in the given
+	 *  spool. The spool replay, started by {@link #start()}, delivers the events to the callbacks
+	 *  one at a time and in order, at least once. The {@link EventDispatcher} is not used for
+	 *  spooled events.
+	 *
+	 *  @throws IllegalStateException If the controller was already started.
+	 *
+	 *  @since 1.2.0 */
+	public synchronized void setEventSpool(EventSpool eventSpool) {
+		if (started) {
+			throw new IllegalStateException("The event spool must be set before the controller is started");
 		}
-		
-		if (shouldCreateMessageSubscription || shouldCreateMessageStatusSubscription) {
-			Webhook webhook = new Webhook(url);
-			
-			if (messageEventHandler != null && shouldCreateMessageSubscription) {
-				MessageCriteria criteria = new MessageCriteria(channel, MessageDirection.IN);
-				LOG.debug("Trying to create subscription for MESSAGE event of channel {}", channel);
-				client.createSubscription(new MessageSubscription(webhook, criteria));
+		this.eventSpool = eventSpool;
+	}
+
+	/** Starts the delivery of events, which is the replay of the {@link EventSpool}, when one is
+	 *  set. Must be called once the callbacks and options are set, so the spooled events left by
+	 *  a previous run are delivered as configured. Called by {@link #init()}, and does nothing if
+	 *  already started.
+	 *
+	 *  @since 1.2.0 */
+	public synchronized void start() {
+		if (started) {
+			return;
+		}
+		started = true;
+		if (eventSpool != null) {
+			eventSpool.replay(this::replay, this::flushBatches);
+		}
+	}
+
+	private void replay(byte[] body) {
+		Event event;
+		try {
+			MessageStatusEventView view = readView(body);
+			if (view != null) {
+				replay(view);
+				return;
 			}
-			
-			if (messageStatusEventHandler != null && shouldCreateMessageStatusSubscription) {
-				Criteria criteria = new Criteria(channel);
-				LOG.debug("Trying to create subscription for MESSAGE_STATUS event of channel {}", channel);
-				client.createSubscription(new MessageStatusSubscription(webhook, criteria));
+			event = EVENT_READER.read(body);
+		} catch (IOException e) {
+			LOG.warn("Ignoring invalid spooled event: {}", e.getMessage());
+			return;
+		}
+		EventDeduplicator eventDeduplicator = this.eventDeduplicator;
+		if (eventDeduplicator != null && event.id != null && !eventDeduplicator.firstSeen(event.id)) {
+			LOG.debug("Ignoring duplicate {} event {}", event.type, event.id);
+			return;
+		}
+		dispatch(event);
+	}
+
+	private void replay(MessageStatusEventView view) {
+		EventDeduplicator eventDeduplicator = this.eventDeduplicator;
+		String id = eventDeduplicator == null ? null : view.getId();
+		if (id != null && !eventDeduplicator.firstSeen(id)) {
+			LOG.debug("Ignoring duplicate MESSAGE_STATUS event {}", id);
+			return;
+		}
+		dispatch(view);
+	}
+
+	private void flushBatches() {
+		if (messageEventBatcher != null) {
+			messageEventBatcher.flush();
+		}
+		if (messageStatusEventBatcher != null) {
+			messageStatusEventBatcher.flush();
+		}
+	}
+
+	/** @since 1.2.0 */
+	public EventBatcher<MessageEvent> getMessageEventBatcher() {
+		return messageEventBatcher;
+	}
+
+	/** Makes {@link EventType#MESSAGE} events be delivered in batches to the given callback,
+	 *  instead of one by one to the {@link MessageEventCallback}.
+	 *
+	 *  @param batchCallback The callback receiving the batches. When null, batching is disabled.
+	 *
+	 *  @param maxBatchSize Amount of events that triggers the delivery of a batch. When null,
+	 *  {@value com.zenvia.api.sdk.webhook.dispatch.EventBatcher#DEFAULT_MAX_BATCH_SIZE} is used.
+	 *
+	 *  @param lingerTime Maximum amount of milliseconds an event waits for its batch to be
+	 *  delivered. When null, {@value com.zenvia.api.sdk.webhook.dispatch.EventBatcher#DEFAULT_LINGER_TIME} is used.
+	 *
+	 *  @since 1.2.0 */
+	public void setBatchMessageEventCallback(BatchMessageEventCallback batchCallback, Integer maxBatchSize, Long lingerTime) {
+		EventBatcher<MessageEvent> previous = messageEventBatcher;
+		messageEventBatcher = batchCallback == null ? null : new EventBatcher<>(batchCallback::onMessageEvents, maxBatchSize, lingerTime);
+		if (previous != null) {
+			previous.close();
+		}
+	}
+
+	/** @since 1.2.0 */
+	public EventBatcher<MessageStatusEvent> getMessageStatusEventBatcher() {
+		return messageStatusEventBatcher;
+	}
+
+	/** Makes {@link EventType#MESSAGE_STATUS} events be delivered in batches to the given callback,
+	 *  instead of one by one to the {@link MessageStatusEventCallback}.
+	 *
+	 *  @param batchCallback The callback receiving the batches. When null, batching is disabled.
+	 *
+	 *  @param maxBatchSize Amount of events that triggers the delivery of a batch. When null,
+	 *  {@value com.zenvia.api.sdk.webhook.dispatch.EventBatcher#DEFAULT_MAX_BATCH_SIZE} is used.
+	 *
+	 *  @param lingerTime Maximum amount of milliseconds an event waits for its batch to be
+	 *  delivered. When null, {@value com.zenvia.api.sdk.webhook.dispatch.EventBatcher#DEFAULT_LINGER_TIME} is used.
+	 *
+	 *  @since 1.2.0 */
+	public void setBatchMessageStatusEventCallback(BatchMessageStatusEventCallback batchCallback, Integer maxBatchSize, Long lingerTime) {
+		EventBatcher<MessageStatusEvent> previous = messageStatusEventBatcher;
+		messageStatusEventBatcher = batchCallback == null ? null : new EventBatcher<>(batchCallback::onMessageStatusEvents, maxBatchSize, lingerTime);
+		if (previous != null) {
+			previous.close();
+		}
+	}
+
+	/** @since 1.2.0 */
+	public MessageStatusEventViewCallback getMessageStatusEventViewCallback() {
+		return messageStatusEventViewCallback;
+	}
+
+	/** Makes {@link EventType#MESSAGE_STATUS} events be delivered to the given callback as lazily
+	 *  decoded {@link MessageStatusEventView views}, instead of being fully decoded for the
+	 *  {@link MessageStatusEventCallback} or the {@link BatchMessageStatusEventCallback}. When null,
+	 *  status events are fully decoded, which is the default.
+	 *
+	 *  @since 1.2.0 */
+	public void setMessageStatusEventViewCallback(MessageStatusEventViewCallback viewCallback) {
+		this.messageStatusEventViewCallback = viewCallback;
+	}
+
+	/** Stops the delivery of events: closes the event spool, if any, letting its replay catch up,
+	 *  shuts down the event dispatcher, if any, delivering its queued events, and then delivers
+	 *  the pending batches.
+	 *
+	 *  @since 1.2.0 */
+	public void shutdown() {
+		if (eventSpool != null) {
+			try {
+				eventSpool.close();
+			} catch (IOException e) {
+				LOG.warn("Error on closing the event spool", e);
 			}
 		}
+		if (eventDispatcher != null) {
+			eventDispatcher.shutdown();
+		}
+		if (messageEventBatcher != null) {
+			messageEventBatcher.close();
+		}
+		if (messageStatusEventBatcher != null) {
+			messageStatusEventBatcher.close();
+		}
 	}
 	
 	private static final <TYPE> TYPE valueOrDefault( TYPE value, TYPE defaultValue ) {
@@ -183,6 +628,12 @@ public abstract class AbstractWebhookController {
 			+ "\n  url = [" + url + "]"
 			+ "\n  channel = [" + channel + "]"
 			+ "\n  client = [" + client + "]"
+			+ "\n  eventDispatcher = [" + eventDispatcher + "]"
+			+ "\n  eventDeduplicator = [" + eventDeduplicator + "]"
+			+ "\n  eventSpool = [" + eventSpool + "]"
+			+ "\n  messageEventBatcher = [" + messageEventBatcher + "]"
+			+ "\n  messageStatusEventBatcher = [" + messageStatusEventBatcher + "]"
+			+ "\n  messageStatusEventViewCallback = [" + messageStatusEventViewCallback + "]"
 			+ "\n}";
 	}
 
@@ -0,0 +1,16 @@
+package com.zenvia.api.sdk.webhook;
+
+import java.util.List;
+
+import com.zenvia.api.sdk.client.subscriptions.EventType;
+
+/** The <code>BatchMessageStatusEventCallback</code> interface should be implemented by any
+ * class whose instances are intended to handle {@link EventType#MESSAGE_STATUS} events in batches,
+ * as an alternative to {@link MessageStatusEventCallback}. The batches are collected by an
+ * {@link com.zenvia.api.sdk.webhook.dispatch.EventBatcher EventBatcher}.
+ * 
+ * @since 1.2.0 */
+@FunctionalInterface
+public interface BatchMessageStatusEventCallback {
+	public void onMessageStatusEvents(List<MessageStatusEvent> statuses);
+}
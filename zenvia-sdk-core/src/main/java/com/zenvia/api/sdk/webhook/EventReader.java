@@ -0,0 +1,125 @@
+package com.zenvia.api.sdk.webhook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.zenvia.api.sdk.JsonCodec;
+
+
+/** Reads the webhook {@link Event} straight from the request body.
+ *  <br><br>
+ *  The polymorphic reader of {@link Event} has to buffer every property preceding
+ *  <code>type</code> before it knows which subtype to create, and the API does not send it
+ *  first. This reader instead peeks at the top level <code>type</code> property with the
+ *  streaming parser and then reads the body with the reader of {@link MessageEvent} or
+ *  {@link MessageStatusEvent}, which does no type handling at all. Bodies of unknown types
+ *  fall back to the polymorphic reader of the shared {@link JsonCodec}.
+ *
+ *  @since 1.2.0 */
+public final class EventReader {
+	private static final EventReader SHARED = new EventReader();
+
+	private final JsonFactory jsonFactory;
+
+	private final ObjectReader eventReader = JsonCodec.shared().reader( Event.class );
+
+	private final ObjectReader messageEventReader;
+
+	private final ObjectReader messageStatusEventReader;
+
+
+	private EventReader() {
+		ObjectMapper jsonMapper = new ObjectMapper()
+			.disable( DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES )
+			.addMixIn( Event.class, UntypedEvent.class );
+		jsonFactory = jsonMapper.getFactory();
+		messageEventReader = jsonMapper.readerFor( MessageEvent.class );
+		messageStatusEventReader = jsonMapper.readerFor( MessageStatusEvent.class );
+	}
+
+
+	/** The reader shared by the webhook controllers.
+	 *
+	 *  @since 1.2.0 */
+	public static EventReader shared() {
+		return SHARED;
+	}
+
+
+	/** Reads the whole body and then the event in it.
+	 *
+	 *  @throws com.fasterxml.jackson.core.JsonProcessingException If the body is not a valid event.
+	 *
+	 *  @since 1.2.0 */
+	public Event read( InputStream body ) throws IOException {
+		return read( toBytes( body ) );
+	}
+
+
+	/** Reads the event in the body.
+	 *
+	 *  @throws com.fasterxml.jackson.core.JsonProcessingException If the body is not a valid event.
+	 *
+	 *  @since 1.2.0 */
+	public Event read( byte[] body ) throws IOException {
+		String type = peekType( body );
+		if( MessageStatusEvent.TYPE.equals( type ) ) {
+			return messageStatusEventReader.readValue( body );
+		}
+		if( MessageEvent.TYPE.equals( type ) ) {
+			return messageEventReader.readValue( body );
+		}
+		return eventReader.readValue( body );
+	}
+
+
+	/** Returns the value of the top level <code>type</code> property, or null when it is
+	 *  missing or not a string. Only the properties preceding it are tokenized.
+	 *
+	 *  @throws com.fasterxml.jackson.core.JsonProcessingException If the body is not valid JSON.
+	 *
+	 *  @since 1.2.0 */
+	public String peekType( byte[] body ) throws IOException {
+		try( JsonParser parser = jsonFactory.createParser( body ) ) {
+			if( parser.nextToken() != JsonToken.START_OBJECT ) {
+				return null;
+			}
+			while( parser.nextToken() == JsonToken.FIELD_NAME ) {
+				String name = parser.getCurrentName();
+				JsonToken value = parser.nextToken();
+				if( "type".equals( name ) ) {
+					return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+				}
+				parser.skipChildren();
+			}
+			return null;
+		}
+	}
+
+
+	static byte[] toBytes( InputStream body ) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		byte[] chunk = new byte[ 4096 ];
+		for( int read; ( read = body.read( chunk ) ) != -1; ) {
+			buffer.write( chunk, 0, read );
+		}
+		return buffer.toByteArray();
+	}
+
+
+	/** Removes the type handling of {@link Event} from the readers of its subtypes. The
+	 *  <code>type</code> property is ignored because each subtype sets its own. */
+	@JsonTypeInfo( use = JsonTypeInfo.Id.NONE )
+	@JsonIgnoreProperties( value = "type", ignoreUnknown = true )
+	private abstract static class UntypedEvent {
+	}
+}
@@ -0,0 +1,297 @@
+package com.zenvia.api.sdk.webhook;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.zenvia.api.sdk.IsoTimestampParser;
+import com.zenvia.api.sdk.JsonCodec;
+import com.zenvia.api.sdk.client.ChannelType;
+
+
+/** Read-only view of a {@link MessageStatusEvent} over the request body, delivered to a
+ *  {@link MessageStatusEventViewCallback}.
+ *  <br><br>
+ *  Creating the view only tokenizes the body once, to validate it and to record where each
+ *  property starts. Nothing else is decoded until it is accessed: each getter parses its own
+ *  value from the retained body on the first call, so the timestamps and the
+ *  {@link MessageStatus#causes causes} of the status cost nothing when a callback only reads
+ *  {@link #getMessageId()} and {@link #getMessageStatusCode()}.
+ *  <br><br>
+ *  The decoded values are cached, and may be decoded more than once when the same view is read
+ *  by several threads at the same time.
+ *
+ *  @since 1.2.0 */
+public final class MessageStatusEventView {
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private static final ObjectReader MESSAGE_STATUS_READER = JsonCodec.shared().reader( MessageStatus.class );
+
+	private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern( "yyyy-MM-dd'T'HH:mm:ss[.SSS]XXX" );
+
+	private static final ZoneId UTC = ZoneId.of( "UTC" );
+
+	private static final int ABSENT = -1;
+
+	private final byte[] body;
+
+	private int idOffset = ABSENT;
+
+	private int timestampOffset = ABSENT;
+
+	private int subscriptionIdOffset = ABSENT;
+
+	private int channelOffset = ABSENT;
+
+	private int messageIdOffset = ABSENT;
+
+	private int messageStatusOffset = ABSENT;
+
+	private int messageStatusCodeOffset = ABSENT;
+
+	private String id;
+
+	private ZonedDateTime timestamp;
+
+	private String subscriptionId;
+
+	private ChannelType channel;
+
+	private String messageId;
+
+	private Integer contentIndex;
+
+	private MessageStatusCode messageStatusCode;
+
+	private MessageStatus messageStatus;
+
+
+	private MessageStatusEventView( byte[] body ) {
+		this.body = body;
+	}
+
+
+	/** Creates the view of a {@link MessageStatusEvent} body. The body is kept, not copied, and
+	 *  must not be changed afterwards.
+	 *
+	 *  @throws com.fasterxml.jackson.core.JsonProcessingException If the body is not valid JSON or
+	 *  not a {@link MessageStatusEvent#TYPE} event.
+	 *
+	 *  @since 1.2.0 */
+	public static MessageStatusEventView of( byte[] body ) throws IOException {
+		MessageStatusEventView view = new MessageStatusEventView( body );
+		view.scan();
+		return view;
+	}
+
+
+	/** @since 1.2.0 */
+	public String getId() {
+		if( id == null ) {
+			id = text( idOffset );
+		}
+		return id;
+	}
+
+
+	/** @since 1.2.0 */
+	public ZonedDateTime getTimestamp() {
+		if( timestamp == null && timestampOffset != ABSENT ) {
+			try( JsonParser parser = parserAt( timestampOffset ) ) {
+				if( parser.currentToken() == JsonToken.VALUE_STRING ) {
+					ZonedDateTime value = IsoTimestampParser.parse( parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), UTC );
+					timestamp = value != null ? value : ZonedDateTime.parse( parser.getText(), TIMESTAMP_FORMATTER ).withZoneSameInstant( UTC );
+				}
+			} catch( IOException exception ) {
+				throw new UncheckedIOException( exception );
+			}
+		}
+		return timestamp;
+	}
+
+
+	/** @since 1.2.0 */
+	public String getSubscriptionId() {
+		if( subscriptionId == null ) {
+			subscriptionId = text( subscriptionIdOffset );
+		}
+		return subscriptionId;
+	}
+
+
+	/** @since 1.2.0 */
+	public ChannelType getChannel() {
+		if( channel == null ) {
+			String text = text( channelOffset );
+			channel = text == null ? null : ChannelType.valueOf( text );
+		}
+		return channel;
+	}
+
+
+	/** @since 1.2.0 */
+	public String getMessageId() {
+		if( messageId == null ) {
+			messageId = text( messageIdOffset );
+		}
+		return messageId;
+	}
+
+
+	/** Decoded along with the validation of the body, as it takes no allocation.
+	 *
+	 *  @since 1.2.0 */
+	public Integer getContentIndex() {
+		return contentIndex;
+	}
+
+
+	/** The code of the status, decoded without the rest of the {@link MessageStatus}.
+	 *
+	 *  @since 1.2.0 */
+	public MessageStatusCode getMessageStatusCode() {
+		if( messageStatusCode == null ) {
+			String text = text( messageStatusCodeOffset );
+			messageStatusCode = text == null ? null : MessageStatusCode.valueOf( text );
+		}
+		return messageStatusCode;
+	}
+
+
+	/** The whole status, including its timestamp and causes.
+	 *
+	 *  @since 1.2.0 */
+	public MessageStatus getMessageStatus() {
+		if( messageStatus == null && messageStatusOffset != ABSENT ) {
+			try( JsonParser parser = parserAt( messageStatusOffset ) ) {
+				messageStatus = MESSAGE_STATUS_READER.readValue( parser );
+			} catch( IOException exception ) {
+				throw new UncheckedIOException( exception );
+			}
+		}
+		return messageStatus;
+	}
+
+
+	/** The request body this view reads from. It must not be changed.
+	 *
+	 *  @since 1.2.0 */
+	public byte[] getBody() {
+		return body;
+	}
+
+
+	/** Decodes the whole event.
+	 *
+	 *  @since 1.2.0 */
+	public MessageStatusEvent toEvent() {
+		try {
+			return EventReader.shared().read( body ).ofMessageStatus();
+		} catch( IOException exception ) {
+			throw new UncheckedIOException( exception );
+		}
+	}
+
+
+	private void scan() throws IOException {
+		boolean typeFound = false;
+		try( JsonParser parser = JSON_FACTORY.createParser( body ) ) {
+			if( parser.nextToken() != JsonToken.START_OBJECT ) {
+				throw new JsonParseException( parser, "Event must be a JSON object" );
+			}
+			while( parser.nextToken() == JsonToken.FIELD_NAME ) {
+				String name = parser.getCurrentName();
+				parser.nextToken();
+				int offset = (int) parser.getTokenLocation().getByteOffset();
+				switch( name ) {
+				case "type":
+					if( !MessageStatusEvent.TYPE.equals( parser.getValueAsString() ) ) {
+						throw new JsonParseException( parser, "Event type must be " + MessageStatusEvent.TYPE );
+					}
+					typeFound = true;
+					break;
+				case "id":
+					idOffset = offset;
+					break;
+				case "timestamp":
+					timestampOffset = offset;
+					break;
+				case "subscriptionId":
+					subscriptionIdOffset = offset;
+					break;
+				case "channel":
+					channelOffset = offset;
+					break;
+				case "messageId":
+					messageIdOffset = offset;
+					break;
+				case "contentIndex":
+					contentIndex = parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+					break;
+				case "messageStatus":
+					messageStatusOffset = offset;
+					scanMessageStatus( parser );
+					break;
+				default:
+					break;
+				}
+				parser.skipChildren();
+			}
+			if( !typeFound ) {
+				throw new JsonParseException( parser, "Event type must be " + MessageStatusEvent.TYPE );
+			}
+		}
+	}
+
+
+	private void scanMessageStatus( JsonParser parser ) throws IOException {
+		if( parser.currentToken() != JsonToken.START_OBJECT ) {
+			return;
+		}
+		while( parser.nextToken() == JsonToken.FIELD_NAME ) {
+			String name = parser.getCurrentName();
+			parser.nextToken();
+			if( "code".equals( name ) ) {
+				messageStatusCodeOffset = (int) parser.getTokenLocation().getByteOffset();
+			}
+			parser.skipChildren();
+		}
+	}
+
+
+	private JsonParser parserAt( int offset ) throws IOException {
+		JsonParser parser = JSON_FACTORY.createParser( body, offset, body.length - offset );
+		parser.nextToken();
+		return parser;
+	}
+
+
+	private String text( int offset ) {
+		if( offset == ABSENT ) {
+			return null;
+		}
+		try( JsonParser parser = parserAt( offset ) ) {
+			return parser.getValueAsString();
+		} catch( IOException exception ) {
+			throw new UncheckedIOException( exception );
+		}
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  id = [" + getId() + "]"
+			+ "\n  messageId = [" + getMessageId() + "]"
+			+ "\n  messageStatusCode = [" + getMessageStatusCode() + "]"
+			+ "\n}";
+	}
+}
@@ -0,0 +1,14 @@
+package com.zenvia.api.sdk.webhook;
+
+import com.zenvia.api.sdk.client.subscriptions.EventType;
+
+/** The <code>MessageStatusEventViewCallback</code> interface should be implemented by any
+ * class whose instances are intended to handle {@link EventType#MESSAGE_STATUS} events as
+ * lazily decoded {@link MessageStatusEventView views}, as an alternative to
+ * {@link MessageStatusEventCallback} when most events only need a few of their properties.
+ * 
+ * @since 1.2.0 */
+@FunctionalInterface
+public interface MessageStatusEventViewCallback {
+	public void onMessageStatusEvent(MessageStatusEventView status);
+}
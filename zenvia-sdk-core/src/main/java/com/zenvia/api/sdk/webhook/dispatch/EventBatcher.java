@@ -0,0 +1,214 @@
+package com.zenvia.api.sdk.webhook.dispatch;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/** Collects webhook events into batches, delivered to a batch callback such as
+ *  {@link com.zenvia.api.sdk.webhook.BatchMessageStatusEventCallback}.
+ *  <br><br>
+ *  A batch is closed as soon as it reaches the maximum batch size, and delivered by the thread
+ *  adding the last event, or when its first event has been waiting for the linger time, by the
+ *  batcher timer thread. Batches are delivered one at a time, in the order the events were
+ *  added, so a thread closing a batch while another one is delivered waits for its turn, and
+ *  may find it delivered by that other thread.
+ *  <br><br>
+ *  {@link #close()} must be called to deliver the pending events before the application stops.
+ *  After that, each added event is delivered right away as a batch of its own.
+ *
+ *  @param <EVENT> Type of the batched events.
+ *
+ *  @since 1.2.0 */
+public class EventBatcher<EVENT> implements AutoCloseable {
+	private static final Logger LOG = LoggerFactory.getLogger( EventBatcher.class );
+
+	/** {@value}
+	 *
+	 *  @since 1.2.0 */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+	/** {@value}
+	 *
+	 *  @since 1.2.0 */
+	public static final long DEFAULT_LINGER_TIME = 1000L;
+
+	private static final AtomicInteger BATCHER_COUNT = new AtomicInteger();
+
+	private final Consumer<List<EVENT>> batchCallback;
+
+	private final int maxBatchSize;
+
+	private final long lingerTime;
+
+	private final ScheduledExecutorService timer;
+
+	private final ReentrantLock deliveryLock = new ReentrantLock();
+
+	private List<EVENT> pending;
+
+	/** Closed batches waiting for delivery, in order. */
+	private final Queue<List<EVENT>> ready = new ArrayDeque<>();
+
+	private ScheduledFuture<?> lingerFlush;
+
+	private boolean closed;
+
+
+	/** @param batchCallback Receives each batch, such as
+	 *  {@link com.zenvia.api.sdk.webhook.BatchMessageStatusEventCallback#onMessageStatusEvents}.
+	 *  Exceptions thrown by it are logged and ignored.
+	 *
+	 *  @param maxBatchSize Amount of events that triggers the delivery of a batch. When null,
+	 *  {@value #DEFAULT_MAX_BATCH_SIZE} is used.
+	 *
+	 *  @param lingerTime Maximum amount of milliseconds an event waits for its batch to be
+	 *  delivered. When null, {@value #DEFAULT_LINGER_TIME} is used.
+	 *
+	 *  @since 1.2.0 */
+	public EventBatcher( Consumer<List<EVENT>> batchCallback, Integer maxBatchSize, Long lingerTime ) {
+		this.batchCallback = batchCallback;
+		this.maxBatchSize = maxBatchSize == null ? DEFAULT_MAX_BATCH_SIZE : maxBatchSize;
+		this.lingerTime = lingerTime == null ? DEFAULT_LINGER_TIME : lingerTime;
+		if( this.maxBatchSize < 1 ) {
+			throw new IllegalArgumentException( "maxBatchSize must be greater than zero" );
+		}
+		if( this.lingerTime < 1 ) {
+			throw new IllegalArgumentException( "lingerTime must be greater than zero" );
+		}
+		this.pending = new ArrayList<>( this.maxBatchSize );
+		String threadName = "zenvia-webhook-batcher-" + BATCHER_COUNT.incrementAndGet();
+		this.timer = Executors.newSingleThreadScheduledExecutor( ( runnable ) -> {
+			Thread thread = new Thread( runnable, threadName );
+			thread.setDaemon( true );
+			return thread;
+		} );
+	}
+
+
+	/** Adds an event to the current batch, delivering the batch if it is full.
+	 *
+	 *  @since 1.2.0 */
+	public void add( EVENT event ) {
+		boolean full = false;
+		boolean wasClosed;
+		synchronized( this ) {
+			wasClosed = closed;
+			if( !wasClosed ) {
+				pending.add( event );
+				full = pending.size() >= maxBatchSize;
+				if( full ) {
+					// Closed right away, so the events added while it waits go to the next batch
+					closePending();
+				} else if( pending.size() == 1 ) {
+					lingerFlush = timer.schedule( this::flush, lingerTime, TimeUnit.MILLISECONDS );
+				}
+			}
+		}
+		if( wasClosed ) {
+			deliver( Collections.singletonList( event ) );
+		} else if( full ) {
+			deliverReady();
+		}
+	}
+
+
+	/** Delivers the pending events right away, if any.
+	 *
+	 *  @since 1.2.0 */
+	public void flush() {
+		deliveryLock.lock();
+		try {
+			closePending();
+			deliverReady();
+		} finally {
+			deliveryLock.unlock();
+		}
+	}
+
+
+	/** Delivers the pending events and stops the timer.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public void close() {
+		synchronized( this ) {
+			closed = true;
+		}
+		flush();
+		timer.shutdownNow();
+	}
+
+
+	/** @since 1.2.0 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+
+	/** @since 1.2.0 */
+	public long getLingerTime() {
+		return lingerTime;
+	}
+
+
+	private synchronized void closePending() {
+		if( lingerFlush != null ) {
+			lingerFlush.cancel( false );
+			lingerFlush = null;
+		}
+		if( !pending.isEmpty() ) {
+			ready.add( pending );
+			pending = new ArrayList<>( maxBatchSize );
+		}
+	}
+
+
+	private synchronized List<EVENT> nextReady() {
+		return ready.poll();
+	}
+
+
+	private void deliverReady() {
+		deliveryLock.lock();
+		try {
+			List<EVENT> batch;
+			while( ( batch = nextReady() ) != null ) {
+				deliver( batch );
+			}
+		} finally {
+			deliveryLock.unlock();
+		}
+	}
+
+
+	private void deliver( List<EVENT> batch ) {
+		try {
+			batchCallback.accept( Collections.unmodifiableList( batch ) );
+		} catch( Exception exception ) {
+			LOG.warn( "Error on handling a batch of {} events", batch.size(), exception );
+		}
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  maxBatchSize = [" + maxBatchSize + "]"
+			+ "\n  lingerTime = [" + lingerTime + "]"
+			+ "\n}";
+	}
+}
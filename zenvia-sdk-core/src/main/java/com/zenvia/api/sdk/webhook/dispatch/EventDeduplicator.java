@@ -0,0 +1,194 @@
+package com.zenvia.api.sdk.webhook.dispatch;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+
+/** Remembers the ids of the recently received webhook events, so the events delivered again by
+ *  the API, usually after a webhook call timed out, can be acknowledged without reaching the
+ *  callbacks.
+ *  <br><br>
+ *  The ids are kept for a limited time and up to a maximum amount, split among lock-striped
+ *  segments in insertion order: when a segment is full, its oldest id is forgotten first.
+ *
+ *  @since 1.2.0 */
+public class EventDeduplicator {
+	/** {@value}
+	 *
+	 *  @since 1.2.0 */
+	public static final int DEFAULT_MAX_SIZE = 100000;
+
+	/** {@value}
+	 *
+	 *  @since 1.2.0 */
+	public static final long DEFAULT_TIME_TO_LIVE = 600000L;
+
+	private static final int STRIPES = 16;
+
+	private final int maxSize;
+
+	private final long timeToLive;
+
+	private final long timeToLiveNanos;
+
+	private final Stripe[] stripes = new Stripe[ STRIPES ];
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongSupplier nanoClock;
+
+
+	/** @param maxSize Maximum amount of ids remembered. When null, {@value #DEFAULT_MAX_SIZE} is used.
+	 *
+	 *  @param timeToLive Amount of milliseconds an id is remembered. When null,
+	 *  {@value #DEFAULT_TIME_TO_LIVE} is used.
+	 *
+	 *  @since 1.2.0 */
+	public EventDeduplicator( Integer maxSize, Long timeToLive ) {
+		this( maxSize, timeToLive, System::nanoTime );
+	}
+
+
+	EventDeduplicator( Integer maxSize, Long timeToLive, LongSupplier nanoClock ) {
+		this.maxSize = maxSize == null ? DEFAULT_MAX_SIZE : maxSize;
+		this.timeToLive = timeToLive == null ? DEFAULT_TIME_TO_LIVE : timeToLive;
+		if( this.maxSize < STRIPES ) {
+			throw new IllegalArgumentException( "maxSize must be at least " + STRIPES );
+		}
+		if( this.timeToLive < 1 ) {
+			throw new IllegalArgumentException( "timeToLive must be greater than zero" );
+		}
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( this.timeToLive );
+		this.nanoClock = nanoClock;
+		for( int i = 0; i < STRIPES; i++ ) {
+			stripes[ i ] = new Stripe( this.maxSize / STRIPES );
+		}
+	}
+
+
+	/** Records the id of a received event.
+	 *
+	 *  @return true if the id was not seen within the time to live, meaning the event must be
+	 *  delivered; false if it is a duplicate.
+	 *
+	 *  @since 1.2.0 */
+	public boolean firstSeen( String id ) {
+		long now = nanoClock.getAsLong();
+		Stripe stripe = stripeOf( id );
+		boolean first;
+		synchronized( stripe ) {
+			stripe.expire( now, timeToLiveNanos );
+			Long seenAt = stripe.get( id );
+			first = seenAt == null;
+			if( first ) {
+				stripe.put( id, now );
+			}
+		}
+		( first ? misses : hits ).increment();
+		return first;
+	}
+
+
+	/** Forgets the id of an event, so it is delivered if received again. Used when the event
+	 *  could not be delivered.
+	 *
+	 *  @since 1.2.0 */
+	public void forget( String id ) {
+		Stripe stripe = stripeOf( id );
+		synchronized( stripe ) {
+			stripe.remove( id );
+		}
+	}
+
+
+	/** Amount of duplicate events detected.
+	 *
+	 *  @since 1.2.0 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+
+	/** Amount of events seen for the first time.
+	 *
+	 *  @since 1.2.0 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+
+	/** Amount of ids currently remembered, including the expired ones not yet removed.
+	 *
+	 *  @since 1.2.0 */
+	public int size() {
+		int size = 0;
+		for( Stripe stripe : stripes ) {
+			synchronized( stripe ) {
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+
+	/** @since 1.2.0 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+
+	/** @since 1.2.0 */
+	public long getTimeToLive() {
+		return timeToLive;
+	}
+
+
+	private Stripe stripeOf( String id ) {
+		int hash = id.hashCode();
+		return stripes[ ( hash ^ ( hash >>> 16 ) ) & ( STRIPES - 1 ) ];
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  maxSize = [" + maxSize + "]"
+			+ "\n  timeToLive = [" + timeToLive + "]"
+			+ "\n  hits = [" + getHits() + "]"
+			+ "\n  misses = [" + getMisses() + "]"
+			+ "\n}";
+	}
+
+
+	@SuppressWarnings( "serial" )
+	private static class Stripe extends LinkedHashMap<String,Long> {
+		private final int capacity;
+
+
+		Stripe( int capacity ) {
+			super( 16, 0.75f, false );
+			this.capacity = capacity;
+		}
+
+
+		void expire( long now, long timeToLiveNanos ) {
+			Iterator<Long> iterator = values().iterator();
+			while( iterator.hasNext() && now - iterator.next() >= timeToLiveNanos ) {
+				iterator.remove();
+			}
+		}
+
+
+		@Override
+		protected boolean removeEldestEntry( Map.Entry<String,Long> eldest ) {
+			return size() > capacity;
+		}
+	}
+}
@@ -0,0 +1,366 @@
+package com.zenvia.api.sdk.webhook.dispatch;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zenvia.api.sdk.ThreadMode;
+import com.zenvia.api.sdk.webhook.Event;
+import com.zenvia.api.sdk.webhook.MessageStatusEventView;
+
+
+/** Delivers webhook events to the callbacks asynchronously, so the webhook call can be
+ *  acknowledged right away instead of waiting for the callbacks to finish.
+ *  <br><br>
+ *  Events are kept in a bounded queue drained by a fixed pool of worker threads. When the
+ *  queue is full, the {@link RejectionPolicy} decides what happens to the new event.
+ *  <br><br>
+ *  When created with an {@link EventKeyExtractor}, the dispatcher is <i>ordered</i>: each worker
+ *  becomes a lane with its own share of the queue capacity, and events are assigned to a lane by
+ *  the hash of their key. Events with equal keys are then delivered one at a time, in the order
+ *  they were submitted, while events with different keys are delivered in parallel.
+ *  <br><br>
+ *  The worker threads are daemon threads: {@link #shutdown()} must be called to deliver the
+ *  queued events before the application stops. On {@link ThreadMode#VIRTUAL} mode they are
+ *  virtual threads, so callbacks blocking on I/O cost no platform thread, and many more
+ *  workers can be afforded.
+ *
+ *  @since 1.2.0 */
+public class EventDispatcher {
+	private static final Logger LOG = LoggerFactory.getLogger( EventDispatcher.class );
+
+	/** {@value}
+	 *
+	 *  @since 1.2.0 */
+	public static final int DEFAULT_WORKERS = 4;
+
+	/** {@value}
+	 *
+	 *  @since 1.2.0 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+	/** {@value}
+	 *
+	 *  @since 1.2.0 */
+	public static final long DEFAULT_SHUTDOWN_TIMEOUT = 10000L;
+
+	private static final AtomicInteger DISPATCHER_COUNT = new AtomicInteger();
+
+	private final int workers;
+
+	private final int queueCapacity;
+
+	private final RejectionPolicy rejectionPolicy;
+
+	private final EventKeyExtractor keyExtractor;
+
+	private final ThreadMode threadMode;
+
+	private final ThreadPoolExecutor[] lanes;
+
+	private final AtomicInteger unkeyedCount = new AtomicInteger();
+
+
+	/** Creates an unordered dispatcher.
+	 *
+	 *  @param workers Amount of threads delivering events. When null, {@value #DEFAULT_WORKERS} is used.
+	 *
+	 *  @param queueCapacity Maximum amount of events waiting for a worker. When null,
+	 *  {@value #DEFAULT_QUEUE_CAPACITY} is used.
+	 *
+	 *  @param rejectionPolicy How to react when the queue is full. When null,
+	 *  {@link RejectionPolicy#BLOCK} is used.
+	 *
+	 *  @since 1.2.0 */
+	public EventDispatcher( Integer workers, Integer queueCapacity, RejectionPolicy rejectionPolicy ) {
+		this( workers, queueCapacity, rejectionPolicy, null );
+	}
+
+
+	/** Creates a dispatcher that, when given a key extractor, preserves the order of the events
+	 *  sharing a key.
+	 *
+	 *  @param workers Amount of threads delivering events, which is also the amount of lanes when
+	 *  ordered. When null, {@value #DEFAULT_WORKERS} is used.
+	 *
+	 *  @param queueCapacity Maximum amount of events waiting for a worker, split evenly among the
+	 *  lanes when ordered. When null, {@value #DEFAULT_QUEUE_CAPACITY} is used.
+	 *
+	 *  @param rejectionPolicy How to react when the queue is full. When null,
+	 *  {@link RejectionPolicy#BLOCK} is used. When ordered, {@link RejectionPolicy#CALLER_RUNS}
+	 *  behaves like {@link RejectionPolicy#BLOCK}, since running the delivery on the calling thread
+	 *  would overtake the events already queued for the same key.
+	 *
+	 *  @param keyExtractor Extracts the ordering key of each event, usually
+	 *  {@link EventKeyExtractor#DEFAULT}. When null, the dispatcher is unordered.
+	 *
+	 *  @since 1.2.0 */
+	public EventDispatcher( Integer workers, Integer queueCapacity, RejectionPolicy rejectionPolicy, EventKeyExtractor keyExtractor ) {
+		this( workers, queueCapacity, rejectionPolicy, keyExtractor, null );
+	}
+
+
+	/** Creates a dispatcher that, when given a key extractor, preserves the order of the events
+	 *  sharing a key, with workers of the given kind of threads.
+	 *
+	 *  @param workers Amount of threads delivering events, which is also the amount of lanes when
+	 *  ordered. When null, {@value #DEFAULT_WORKERS} is used.
+	 *
+	 *  @param queueCapacity Maximum amount of events waiting for a worker, split evenly among the
+	 *  lanes when ordered. When null, {@value #DEFAULT_QUEUE_CAPACITY} is used.
+	 *
+	 *  @param rejectionPolicy How to react when the queue is full. When null,
+	 *  {@link RejectionPolicy#BLOCK} is used.
+	 *
+	 *  @param keyExtractor Extracts the ordering key of each event. When null, the dispatcher is unordered.
+	 *
+	 *  @param threadMode Kind of the worker threads. When null, {@link ThreadMode#PLATFORM} is used.
+	 *
+	 *  @since 1.2.0 */
+	public EventDispatcher( Integer workers, Integer queueCapacity, RejectionPolicy rejectionPolicy, EventKeyExtractor keyExtractor, ThreadMode threadMode ) {
+		this.workers = valueOrDefault( workers, DEFAULT_WORKERS );
+		this.queueCapacity = valueOrDefault( queueCapacity, DEFAULT_QUEUE_CAPACITY );
+		this.rejectionPolicy = rejectionPolicy == null ? RejectionPolicy.BLOCK : rejectionPolicy;
+		this.keyExtractor = keyExtractor;
+		this.threadMode = threadMode == null ? ThreadMode.PLATFORM : threadMode.effective();
+		if( this.workers < 1 ) {
+			throw new IllegalArgumentException( "workers must be greater than zero" );
+		}
+		if( this.queueCapacity < 1 ) {
+			throw new IllegalArgumentException( "queueCapacity must be greater than zero" );
+		}
+
+		ThreadFactory threadFactory = this.threadMode.threadFactory( "zenvia-webhook-" + DISPATCHER_COUNT.incrementAndGet() + "-" );
+		if( keyExtractor == null ) {
+			this.lanes = new ThreadPoolExecutor[] {
+				executor( this.workers, this.queueCapacity, threadFactory, this.rejectionPolicy )
+			};
+		} else {
+			RejectionPolicy lanePolicy = this.rejectionPolicy == RejectionPolicy.CALLER_RUNS ? RejectionPolicy.BLOCK : this.rejectionPolicy;
+			int laneCapacity = Math.max( 1, ( this.queueCapacity + this.workers - 1 ) / this.workers );
+			this.lanes = new ThreadPoolExecutor[ this.workers ];
+			for( int i = 0; i < this.workers; i++ ) {
+				this.lanes[ i ] = executor( 1, laneCapacity, threadFactory, lanePolicy );
+			}
+		}
+	}
+
+
+	/** Hands a delivery over to the workers, with no ordering guarantee.
+	 *
+	 *  @return false if the delivery was refused, which only happens on {@link RejectionPolicy#REJECT}
+	 *  policy when the queue is full, or after {@link #shutdown()}.
+	 *
+	 *  @since 1.2.0 */
+	public boolean submit( Runnable delivery ) {
+		return submit( lanes.length == 1 ? lanes[ 0 ] : lanes[ unkeyedLane() ], delivery );
+	}
+
+
+	/** Hands the delivery of an event over to the workers. When ordered, the delivery is queued
+	 *  on the lane of the event key.
+	 *
+	 *  @return false if the delivery was refused, which only happens on {@link RejectionPolicy#REJECT}
+	 *  policy when the queue is full, or after {@link #shutdown()}.
+	 *
+	 *  @since 1.2.0 */
+	public boolean submit( Event event, Runnable delivery ) {
+		if( keyExtractor == null ) {
+			return submit( delivery );
+		}
+		Object key = keyExtractor.keyOf( event );
+		return submit( lanes[ key == null ? unkeyedLane() : laneOf( key ) ], delivery );
+	}
+
+
+	/** Hands the delivery of a lazily decoded status event over to the workers. When ordered,
+	 *  the delivery is queued on the lane of the event key.
+	 *
+	 *  @return false if the delivery was refused, which only happens on {@link RejectionPolicy#REJECT}
+	 *  policy when the queue is full, or after {@link #shutdown()}.
+	 *
+	 *  @since 1.2.0 */
+	public boolean submit( MessageStatusEventView view, Runnable delivery ) {
+		if( keyExtractor == null ) {
+			return submit( delivery );
+		}
+		Object key = keyExtractor.keyOfView( view );
+		return submit( lanes[ key == null ? unkeyedLane() : laneOf( key ) ], delivery );
+	}
+
+
+	/** Stops accepting events and waits up to {@value #DEFAULT_SHUTDOWN_TIMEOUT} milliseconds for
+	 *  the queued ones to be delivered.
+	 *
+	 *  @since 1.2.0 */
+	public void shutdown() {
+		shutdown( DEFAULT_SHUTDOWN_TIMEOUT );
+	}
+
+
+	/** Stops accepting events and waits for the queued ones to be delivered.
+	 *
+	 *  @param timeout Maximum amount of milliseconds to wait. Events not delivered by then are dropped.
+	 *
+	 *  @since 1.2.0 */
+	public void shutdown( long timeout ) {
+		for( ThreadPoolExecutor lane : lanes ) {
+			lane.shutdown();
+		}
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( timeout );
+		int dropped = 0;
+		try {
+			for( ThreadPoolExecutor lane : lanes ) {
+				if( !lane.awaitTermination( deadline - System.nanoTime(), TimeUnit.NANOSECONDS ) ) {
+					dropped += lane.shutdownNow().size();
+				}
+			}
+		} catch( InterruptedException exception ) {
+			Thread.currentThread().interrupt();
+			for( ThreadPoolExecutor lane : lanes ) {
+				lane.shutdownNow();
+			}
+		}
+		if( dropped > 0 ) {
+			LOG.warn( "Dropping {} webhook events not delivered after {} ms", dropped, timeout );
+		}
+	}
+
+
+	/** @since 1.2.0 */
+	public int getWorkers() {
+		return workers;
+	}
+
+
+	/** @since 1.2.0 */
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+
+	/** @since 1.2.0 */
+	public RejectionPolicy getRejectionPolicy() {
+		return rejectionPolicy;
+	}
+
+
+	/** The key extractor of an ordered dispatcher. Null when unordered.
+	 *
+	 *  @since 1.2.0 */
+	public EventKeyExtractor getKeyExtractor() {
+		return keyExtractor;
+	}
+
+
+	/** The kind of the worker threads. It is {@link ThreadMode#PLATFORM} when
+	 *  {@link ThreadMode#VIRTUAL} was requested on a runtime without virtual threads.
+	 *
+	 *  @since 1.2.0 */
+	public ThreadMode getThreadMode() {
+		return threadMode;
+	}
+
+
+	/** Amount of events waiting for a worker.
+	 *
+	 *  @since 1.2.0 */
+	public int getQueueSize() {
+		int size = 0;
+		for( ThreadPoolExecutor lane : lanes ) {
+			size += lane.getQueue().size();
+		}
+		return size;
+	}
+
+
+	private int laneOf( Object key ) {
+		int hash = key.hashCode();
+		return ( ( hash ^ ( hash >>> 16 ) ) & Integer.MAX_VALUE ) % lanes.length;
+	}
+
+
+	private int unkeyedLane() {
+		return ( unkeyedCount.getAndIncrement() & Integer.MAX_VALUE ) % lanes.length;
+	}
+
+
+	private static boolean submit( ThreadPoolExecutor lane, Runnable delivery ) {
+		try {
+			lane.execute( delivery );
+			return true;
+		} catch( RejectedExecutionException exception ) {
+			return false;
+		}
+	}
+
+
+	private static ThreadPoolExecutor executor( int threads, int queueCapacity, ThreadFactory threadFactory, RejectionPolicy rejectionPolicy ) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+			threads,
+			threads,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>( queueCapacity ),
+			threadFactory,
+			rejectedExecutionHandler( rejectionPolicy )
+		);
+		executor.prestartAllCoreThreads();
+		return executor;
+	}
+
+
+	private static RejectedExecutionHandler rejectedExecutionHandler( RejectionPolicy rejectionPolicy ) {
+		switch( rejectionPolicy ) {
+		case REJECT:
+			return new ThreadPoolExecutor.AbortPolicy();
+		case CALLER_RUNS:
+			// Unlike ThreadPoolExecutor.CallerRunsPolicy, which silently drops the event after shutdown
+			return ( runnable, executor ) -> {
+				if( executor.isShutdown() ) {
+					throw new RejectedExecutionException( "Dispatcher is shut down" );
+				}
+				runnable.run();
+			};
+		default:
+			return ( runnable, executor ) -> {
+				if( executor.isShutdown() ) {
+					throw new RejectedExecutionException( "Dispatcher is shut down" );
+				}
+				try {
+					executor.getQueue().put( runnable );
+					if( executor.isShutdown() && executor.remove( runnable ) ) {
+						throw new RejectedExecutionException( "Dispatcher is shut down" );
+					}
+				} catch( InterruptedException exception ) {
+					Thread.currentThread().interrupt();
+					throw new RejectedExecutionException( exception );
+				}
+			};
+		}
+	}
+
+
+	private static int valueOrDefault( Integer value, int defaultValue ) {
+		return value == null ? defaultValue : value;
+	}
+
+
+	/** @since 1.2.0 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{"
+			+ "\n  workers = [" + workers + "]"
+			+ "\n  queueCapacity = [" + queueCapacity + "]"
+			+ "\n  rejectionPolicy = [" + rejectionPolicy + "]"
+			+ "\n  ordered = [" + ( keyExtractor != null ) + "]"
+			+ "\n}";
+	}
+}
@@ -0,0 +1,55 @@
+package com.zenvia.api.sdk.webhook.dispatch;
+
+import com.zenvia.api.sdk.webhook.Event;
+import com.zenvia.api.sdk.webhook.MessageStatusEventView;
+
+
+/** Extracts from an event the key used by an ordered {@link EventDispatcher} to choose its lane.
+ *  Events with equal keys are delivered one at a time, in the order they were received.
+ *
+ *  @since 1.2.0 */
+@FunctionalInterface
+public interface EventKeyExtractor {
+	/** Keys {@link com.zenvia.api.sdk.webhook.MessageStatusEvent message status events} by
+	 *  <code>messageId</code>, so the statuses of a message are applied in order, and
+	 *  {@link com.zenvia.api.sdk.webhook.MessageEvent message events} by the sender of the
+	 *  message, so a conversation is processed in order.
+	 *
+	 *  @since 1.2.0 */
+	EventKeyExtractor DEFAULT = new EventKeyExtractor() {
+		@Override
+		public Object keyOf( Event event ) {
+			switch( event.type ) {
+			case MESSAGE:
+				return event.ofMessage().message == null ? null : event.ofMessage().message.from;
+			case MESSAGE_STATUS:
+				return event.ofMessageStatus().messageId;
+			default:
+				return null;
+			}
+		}
+
+
+		@Override
+		public Object keyOfView( MessageStatusEventView view ) {
+			return view.getMessageId();
+		}
+	};
+
+
+	/** @return The ordering key of the event. When null, the event may be delivered by any lane,
+	 *  with no ordering guarantee.
+	 *
+	 *  @since 1.2.0 */
+	Object keyOf( Event event );
+
+
+	/** @return The ordering key of a lazily decoded status event. By default, the key of the
+	 *  decoded event, so extractors keying status events by something cheaper to read than the
+	 *  whole event should override it.
+	 *
+	 *  @since 1.2.0 */
+	default Object keyOfView( MessageStatusEventView view ) {
+		return keyOf( view.toEvent() );
+	}
+}
@@ -0,0 +1,23 @@
+package com.zenvia.api.sdk.webhook.dispatch;
+
+
+/** How an {@link EventDispatcher} reacts when its queue is full.
+ *
+ *  @since 1.2.0 */
+public enum RejectionPolicy {
+	/** The thread handling the webhook call waits until there is room in the queue.
+	 *
+	 *  @since 1.2.0 */
+	BLOCK,
+
+	/** The event is refused and the webhook call is answered with <i>503 Service Unavailable</i>,
+	 *  so it is delivered again later.
+	 *
+	 *  @since 1.2.0 */
+	REJECT,
+
+	/** The thread handling the webhook call delivers the event itself, before answering.
+	 *
+	 *  @since 1.2.0 */
+	CALLER_RUNS
+}
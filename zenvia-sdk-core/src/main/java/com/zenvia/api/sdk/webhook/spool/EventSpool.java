@@ -0,0 +1,499 @@
+package com.zenvia.api.sdk.webhook.spool;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/** Append-only log of webhook event bodies, stored in memory-mapped segment files, so a webhook
+ *  call can be acknowledged as soon as its event is on disk, while the callbacks run later.
+ *  <br><br>
+ *  {@link #append(byte[])} returns once the event is durable. Concurrent appends share the same
+ *  disk sync (group commit): the first waiting thread syncs everything written so far, and the
+ *  others only wait for it.
+ *  <br><br>
+ *  A replay thread, started by {@link #replay(Consumer, Runnable)}, reads the durable events in
+ *  order, hands them over to the callbacks and periodically records a checkpoint. After a crash or
+ *  a restart, the events after the last checkpoint are delivered again, so each event is
+ *  delivered at least once. Segments entirely before the checkpoint are deleted.
+ *  <br><br>
+ *  Each record is made of the body length, the CRC32 of the body and the body itself. The length
+ *  is written last, so a record torn by a crash is detected and discarded on the next start.
+ *
+ *  @since 1.2.0 */
+public class EventSpool implements Closeable {
+	private static final Logger LOG = LoggerFactory.getLogger( EventSpool.class );
+
+	/** {@value}
+	 *
+	 *  @since 1.2.0 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	/** {@value}
+	 *
+	 *  @since 1.2.0 */
+	public static final int DEFAULT_CHECKPOINT_INTERVAL = 100;
+
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	private static final String CHECKPOINT_FILE = "checkpoint";
+
+	private static final int HEADER_SIZE = 8;
+
+	private static final int END_OF_SEGMENT = -1;
+
+	private final File directory;
+
+	private final int segmentSize;
+
+	private final int checkpointInterval;
+
+	private final TreeMap<Long,Segment> segments = new TreeMap<>();
+
+	private final FileChannel checkpointChannel;
+
+	private final Object syncMonitor = new Object();
+
+	private final List<Segment> unsynced = new ArrayList<>();
+
+	private Segment current;
+
+	private long writtenOffset;
+
+	private long syncedOffset;
+
+	private boolean syncing;
+
+	private long checkpoint;
+
+	private volatile boolean closed;
+
+	private Thread replayThread;
+
+
+	/** Opens the spool stored in the given directory, creating it if needed, and recovers the
+	 *  events not yet replayed.
+	 *
+	 *  @param directory Directory of the segment and checkpoint files, used by this spool only.
+	 *
+	 *  @param segmentSize Size in bytes of each segment file, which is also the limit of the size of
+	 *  an event body. When null, {@value #DEFAULT_SEGMENT_SIZE} is used.
+	 *
+	 *  @param checkpointInterval Amount of replayed events after which a checkpoint is recorded.
+	 *  A checkpoint is also recorded whenever the replay catches up. When null,
+	 *  {@value #DEFAULT_CHECKPOINT_INTERVAL} is used.
+	 *
+	 *  @throws IOException If the spool files cannot be created or read.
+	 *
+	 *  @since 1.2.0 */
+	@SuppressWarnings( "resource" )
+	public EventSpool( File directory, Integer segmentSize, Integer checkpointInterval ) throws IOException {
+		this.directory = directory;
+		this.segmentSize = segmentSize == null ? DEFAULT_SEGMENT_SIZE : segmentSize;
+		this.checkpointInterval = checkpointInterval == null ? DEFAULT_CHECKPOINT_INTERVAL : checkpointInterval;
+		if( this.segmentSize < 1024 ) {
+			throw new IllegalArgumentException( "segmentSize must be at least 1024" );
+		}
+		if( this.checkpointInterval < 1 ) {
+			throw new IllegalArgumentException( "checkpointInterval must be greater than zero" );
+		}
+		if( !directory.isDirectory() && !directory.mkdirs() ) {
+			throw new IOException( "Cannot create spool directory " + directory );
+		}
+
+		this.checkpointChannel = new RandomAccessFile( new File( directory, CHECKPOINT_FILE ), "rw" ).getChannel();
+		if( checkpointChannel.size() >= Long.BYTES ) {
+			ByteBuffer buffer = ByteBuffer.allocate( Long.BYTES );
+			checkpointChannel.read( buffer, 0 );
+			buffer.flip();
+			checkpoint = buffer.getLong();
+		}
+
+		File[] files = directory.listFiles( ( dir, name ) -> name.endsWith( SEGMENT_SUFFIX ) );
+		for( File file : files == null ? new File[ 0 ] : files ) {
+			long base = Long.parseLong( file.getName().substring( 0, file.getName().length() - SEGMENT_SUFFIX.length() ) );
+			segments.put( base, new Segment( file, base, this.segmentSize ) );
+		}
+		if( segments.isEmpty() ) {
+			long base = checkpoint - checkpoint % this.segmentSize;
+			current = openSegment( base );
+			writtenOffset = base;
+		} else {
+			current = segments.lastEntry().getValue();
+			writtenOffset = current.base + current.recover();
+		}
+		syncedOffset = writtenOffset;
+		if( checkpoint < segments.firstKey() ) {
+			checkpoint = segments.firstKey();
+		}
+		LOG.debug( "Spool opened on {} with {} bytes to replay", directory, writtenOffset - checkpoint );
+	}
+
+
+	/** Appends an event body to the spool, returning once it is durable.
+	 *
+	 *  @throws IOException If the body cannot be written or synced to disk.
+	 *
+	 *  @since 1.2.0 */
+	public void append( byte[] body ) throws IOException {
+		if( body.length > segmentSize - 2 * HEADER_SIZE ) {
+			throw new IOException( "Event body of " + body.length + " bytes is larger than the spool segment size" );
+		}
+		long end;
+		synchronized( this ) {
+			if( closed ) {
+				throw new IOException( "Spool is closed" );
+			}
+			int position = (int) ( writtenOffset - current.base );
+			if( position + HEADER_SIZE + body.length > segmentSize - Integer.BYTES ) {
+				if( position + Integer.BYTES <= segmentSize ) {
+					current.buffer.putInt( position, END_OF_SEGMENT );
+				}
+				unsynced.add( current );
+				current = openSegment( current.base + segmentSize );
+				position = 0;
+			}
+			CRC32 crc = new CRC32();
+			crc.update( body, 0, body.length );
+			ByteBuffer buffer = current.buffer.duplicate();
+			buffer.position( position + HEADER_SIZE );
+			buffer.put( body );
+			current.buffer.putInt( position + Integer.BYTES, (int) crc.getValue() );
+			current.buffer.putInt( position, body.length );
+			writtenOffset = current.base + position + HEADER_SIZE + body.length;
+			end = writtenOffset;
+		}
+		awaitDurable( end );
+	}
+
+
+	/** Starts the replay thread, which delivers each durable event body to the handler, in order.
+	 *
+	 *  @param handler Receives the event bodies. Exceptions thrown by it are logged and the event
+	 *  is considered delivered.
+	 *
+	 *  @param beforeCheckpoint Invoked before each checkpoint, to complete the pending deliveries,
+	 *  such as partial batches. May be null.
+	 *
+	 *  @since 1.2.0 */
+	public synchronized void replay( Consumer<byte[]> handler, Runnable beforeCheckpoint ) {
+		if( replayThread != null ) {
+			throw new IllegalStateException( "Spool is already being replayed" );
+		}
+		replayThread = new Thread( () -> replayLoop( handler, beforeCheckpoint ), "zenvia-webhook-spool" );
+		replayThread.setDaemon( true );
+		replayThread.start();
+	}
+
+
+	/** Stops accepting events, waits up to the given time for the replay to catch up and records
+	 *  a last checkpoint. Events not replayed by then are delivered after the next start.
+	 *
+	 *  @param timeout Maximum amount of milliseconds to wait for the replay.
+	 *
+	 *  @since 1.2.0 */
+	public void close( long timeout ) throws IOException {
+		Thread replayThread;
+		synchronized( this ) {
+			if( closed ) {
+				return;
+			}
+			closed = true;
+			replayThread = this.replayThread;
+		}
+		synchronized( syncMonitor ) {
+			syncMonitor.notifyAll();
+		}
+		if( replayThread != null ) {
+			try {
+				replayThread.join( timeout );
+			} catch( InterruptedException exception ) {
+				Thread.currentThread().interrupt();
+			}
+			if( replayThread.isAlive() ) {
+				LOG.warn( "Spool replay did not catch up after {} ms, remaining events are kept for the next start", timeout );
+				replayThread.interrupt();
+			}
+		}
+		synchronized( this ) {
+			for( Segment segment : segments.values() ) {
+				segment.close();
+			}
+			checkpointChannel.close();
+		}
+	}
+
+
+	/** Stops accepting events, waiting up to 10 seconds for the replay to catch up.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public void close() throws IOException {
+		close( TimeUnit.SECONDS.toMillis( 10 ) );
+	}
+
+
+	/** @since 1.2.0 */
+	public File getDirectory() {
+		return directory;
+	}
+
+
+	/** @since 1.2.0 */
+	public int getSegmentSize() {
+		return segmentSize;
+	}
+
+
+	/** Amount of bytes of durable events not yet replayed.
+	 *
+	 *  @since 1.2.0 */
+	public long getBacklog() {
+		long syncedOffset;
+		synchronized( syncMonitor ) {
+			syncedOffset = this.syncedOffset;
+		}
+		synchronized( this ) {
+			return syncedOffset - checkpoint;
+		}
+	}
+
+
+	private void awaitDurable( long offset ) throws IOException {
+		synchronized( syncMonitor ) {
+			while( syncing && syncedOffset < offset ) {
+				try {
+					syncMonitor.wait();
+				} catch( InterruptedException exception ) {
+					Thread.currentThread().interrupt();
+					throw new IOException( "Interrupted while waiting for the spool sync", exception );
+				}
+			}
+			if( syncedOffset >= offset ) {
+				return;
+			}
+			syncing = true;
+		}
+
+		long target = offset;
+		boolean synced = false;
+		try {
+			List<Segment> toSync;
+			synchronized( this ) {
+				target = writtenOffset;
+				toSync = new ArrayList<>( unsynced );
+				toSync.add( current );
+				unsynced.clear();
+			}
+			for( Segment segment : toSync ) {
+				segment.buffer.force();
+			}
+			synced = true;
+		} finally {
+			synchronized( syncMonitor ) {
+				if( synced && target > syncedOffset ) {
+					syncedOffset = target;
+				}
+				syncing = false;
+				syncMonitor.notifyAll();
+			}
+		}
+	}
+
+
+	private void replayLoop( Consumer<byte[]> handler, Runnable beforeCheckpoint ) {
+		long readOffset;
+		synchronized( this ) {
+			readOffset = checkpoint;
+		}
+		int sinceCheckpoint = 0;
+		while( true ) {
+			long limit;
+			synchronized( syncMonitor ) {
+				if( syncedOffset <= readOffset && !closed ) {
+					try {
+						syncMonitor.wait( 100 );
+					} catch( InterruptedException exception ) {
+						return;
+					}
+				}
+				limit = syncedOffset;
+			}
+
+			while( readOffset < limit ) {
+				Segment segment;
+				synchronized( this ) {
+					segment = segments.floorEntry( readOffset ).getValue();
+				}
+				int position = (int) ( readOffset - segment.base );
+				int length = position + HEADER_SIZE <= segmentSize ? segment.buffer.getInt( position ) : END_OF_SEGMENT;
+				if( length == END_OF_SEGMENT ) {
+					readOffset = segment.base + segmentSize;
+					continue;
+				}
+				byte[] body = new byte[ length ];
+				ByteBuffer buffer = segment.buffer.duplicate();
+				buffer.position( position + HEADER_SIZE );
+				buffer.get( body );
+				CRC32 crc = new CRC32();
+				crc.update( body, 0, length );
+				readOffset += HEADER_SIZE + length;
+				if( (int) crc.getValue() != segment.buffer.getInt( position + Integer.BYTES ) ) {
+					LOG.error( "Skipping corrupted spool record at offset {}", readOffset - HEADER_SIZE - length );
+					continue;
+				}
+				try {
+					handler.accept( body );
+				} catch( Exception exception ) {
+					LOG.warn( "Error on replaying spooled event", exception );
+				}
+				if( ++sinceCheckpoint >= checkpointInterval ) {
+					checkpoint( readOffset, beforeCheckpoint );
+					sinceCheckpoint = 0;
+				}
+			}
+
+			if( sinceCheckpoint > 0 ) {
+				checkpoint( readOffset, beforeCheckpoint );
+				sinceCheckpoint = 0;
+			}
+			if( closed ) {
+				synchronized( syncMonitor ) {
+					if( syncedOffset <= readOffset ) {
+						return;
+					}
+				}
+			}
+		}
+	}
+
+
+	private void checkpoint( long offset, Runnable beforeCheckpoint ) {
+		if( beforeCheckpoint != null ) {
+			try {
+				beforeCheckpoint.run();
+			} catch( Exception exception ) {
+				LOG.warn( "Error before spool checkpoint", exception );
+			}
+		}
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate( Long.BYTES );
+			buffer.putLong( offset ).flip();
+			checkpointChannel.write( buffer, 0 );
+			checkpointChannel.force( false );
+		} catch( IOException exception ) {
+			LOG.warn( "Error on recording spool checkpoint", exception );
+			return;
+		}
+
+		List<Segment> consumed = new ArrayList<>();
+		synchronized( this ) {
+			checkpoint = offset;
+			for( Map.Entry<Long,Segment> entry : segments.headMap( offset, true ).entrySet() ) {
+				if( entry.getValue() != current && entry.getKey() + segmentSize <= offset ) {
+					consumed.add( entry.getValue() );
+				}
+			}
+			for( Segment segment : consumed ) {
+				segments.remove( segment.base );
+			}
+		}
+		for( Segment segment : consumed ) {
+			segment.delete();
+		}
+	}
+
+
+	private Segment openSegment( long base ) throws IOException {
+		Segment segment = new Segment( new File( directory, String.format( "%020d%s", base, SEGMENT_SUFFIX ) ), base, segmentSize );
+		segments.put( base, segment );
+		return segment;
+	}
+
+
+	private static class Segment {
+		final File file;
+
+		final long base;
+
+		final FileChannel channel;
+
+		final MappedByteBuffer buffer;
+
+
+		@SuppressWarnings( "resource" )
+		Segment( File file, long base, int size ) throws IOException {
+			this.file = file;
+			this.base = base;
+			this.channel = new RandomAccessFile( file, "rw" ).getChannel();
+			this.buffer = channel.map( FileChannel.MapMode.READ_WRITE, 0, size );
+		}
+
+
+		/** Finds the end of the valid records, discarding a record torn by a crash.
+		 *
+		 *  @return The position after the last valid record. */
+		int recover() {
+			int position = 0;
+			while( position + HEADER_SIZE <= buffer.capacity() ) {
+				int length = buffer.getInt( position );
+				if( length == 0 || length == END_OF_SEGMENT ) {
+					break;
+				}
+				if( length < 0 || position + HEADER_SIZE + length > buffer.capacity() ) {
+					LOG.warn( "Discarding invalid spool record at position {} of {}", position, file );
+					break;
+				}
+				byte[] body = new byte[ length ];
+				ByteBuffer duplicate = buffer.duplicate();
+				duplicate.position( position + HEADER_SIZE );
+				duplicate.get( body );
+				CRC32 crc = new CRC32();
+				crc.update( body, 0, length );
+				if( (int) crc.getValue() != buffer.getInt( position + Integer.BYTES ) ) {
+					LOG.warn( "Discarding torn spool record at position {} of {}", position, file );
+					break;
+				}
+				position += HEADER_SIZE + length;
+			}
+			if( position + HEADER_SIZE <= buffer.capacity() && buffer.getInt( position ) == END_OF_SEGMENT ) {
+				return buffer.capacity();
+			}
+			for( int i = position; i < buffer.capacity(); i++ ) {
+				buffer.put( i, (byte) 0 );
+			}
+			return position;
+		}
+
+
+		void close() {
+			try {
+				channel.close();
+			} catch( IOException exception ) {
+				LOG.warn( "Error on closing {}", file, exception );
+			}
+		}
+
+
+		void delete() {
+			close();
+			if( !file.delete() ) {
+				LOG.warn( "Could not delete consumed spool segment {}", file );
+			}
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.zenvia.api.sdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class IsoTimestampParserTest {
+	private static final DateTimeFormatter PATTERN = DateTimeFormatter.ofPattern( "yyyy-MM-dd'T'HH:mm:ss[.SSS]XXX" );
+
+	private static final ZoneId UTC = ZoneId.of( "UTC" );
+
+
+	@Test
+	public void acceptedFormatsMatchTheFormatters() {
+		String[] timestamps = {
+			"2019-06-10T15:30:35-03:00",
+			"2019-06-10T15:30:35.456-03:00",
+			"2019-06-10T18:30:35.456Z",
+			"2019-06-10T18:30:35Z",
+			"2020-02-29T23:59:59.999+05:45",
+			"1999-12-31T00:00:00.000+14:00",
+			"2019-01-01T00:00:00-00:00"
+		};
+		for( String timestamp : timestamps ) {
+			assertEquals( timestamp, ZonedDateTime.parse( timestamp, PATTERN ), IsoTimestampParser.parse( timestamp, null ) );
+			assertEquals( timestamp, ZonedDateTime.parse( timestamp, DateTimeFormatter.ISO_ZONED_DATE_TIME ), IsoTimestampParser.parse( timestamp, null ) );
+			assertEquals( timestamp, ZonedDateTime.parse( timestamp, PATTERN ).withZoneSameInstant( UTC ), IsoTimestampParser.parse( timestamp, UTC ) );
+		}
+	}
+
+
+	@Test
+	public void otherFormatsAreLeftToTheFormatters() {
+		String[] timestamps = {
+			"2019-06-10T15:30:35.45-03:00",
+			"2019-06-10T15:30:35.456789Z",
+			"2019-06-10T15:30-03:00",
+			"2019-06-10T15:30:35-0300",
+			"2019-06-10T15:30:35+03:00:00",
+			"2019-06-10T15:30:35+03:00[America/Sao_Paulo]",
+			"2019-06-10 15:30:35Z",
+			" 2019-06-10T15:30:35Z",
+			"2019-06-10T15:30:35",
+			"2019-02-30T15:30:35Z",
+			"2019-06-10T24:30:35Z",
+			"2019-06-10T15:30:35+19:00",
+			"+2019-06-10T15:30:35Z"
+		};
+		for( String timestamp : timestamps ) {
+			assertNull( timestamp, IsoTimestampParser.parse( timestamp, null ) );
+		}
+	}
+
+
+	@Test
+	public void partOfABufferIsParsed() {
+		char[] buffer = "\"2019-06-10T18:30:35.456Z\"".toCharArray();
+		assertEquals(
+			ZonedDateTime.of( 2019, 6, 10, 18, 30, 35, 456000000, ZoneOffset.UTC ),
+			IsoTimestampParser.parse( buffer, 1, buffer.length - 2, null )
+		);
+	}
+
+
+	@Test
+	public void offsetsAreShared() {
+		assertSame(
+			IsoTimestampParser.parse( "2019-06-10T15:30:35-03:00", null ).getOffset(),
+			IsoTimestampParser.parse( "2020-01-01T00:00:00-03:00", null ).getOffset()
+		);
+	}
+}
@@ -0,0 +1,89 @@
+package com.zenvia.api.sdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.zenvia.api.sdk.client.subscriptions.Subscription;
+import com.zenvia.api.sdk.contents.Content;
+import com.zenvia.api.sdk.contents.TextContent;
+import com.zenvia.api.sdk.messages.MessageRequest;
+import com.zenvia.api.sdk.webhook.Event;
+import com.zenvia.api.sdk.webhook.MessageEvent;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class JsonCodecTest {
+	@Test
+	public void readersAreCreatedOnce() {
+		JsonCodec jsonCodec = JsonCodec.shared();
+		assertSame( jsonCodec, JsonCodec.shared() );
+		assertSame( jsonCodec.reader( Event.class ), jsonCodec.reader( Event.class ) );
+		assertSame( jsonCodec.reader( Subscription[].class ), jsonCodec.reader( Subscription[].class ) );
+		assertSame( jsonCodec.reader( Content.class ), jsonCodec.reader( Content.class ) );
+	}
+
+
+	@Test
+	public void readsPolymorphicTypes() throws IOException {
+		Event event = JsonCodec.shared().reader( Event.class ).readValue(
+			"{\"id\":\"some-event-id\",\"type\":\"MESSAGE\",\"channel\":\"sms\",\"message\":{\"contents\":[{\"text\":\"This is a test!\",\"type\":\"text\"}]}}"
+		);
+		assertEquals( MessageEvent.class, event.getClass() );
+		assertEquals( "This is a test!", event.ofMessage().message.contents.get( 0 ).ofText().text );
+	}
+
+
+	@Test
+	public void writerDoesNotCloseTheStream() throws IOException {
+		AtomicBoolean closed = new AtomicBoolean();
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		OutputStream stream = new OutputStream() {
+			@Override
+			public void write( int value ) {
+				buffer.write( value );
+			}
+
+			@Override
+			public void close() {
+				closed.set( true );
+			}
+		};
+		JsonCodec.shared().writer().writeValue(
+			stream,
+			new MessageRequest( "from", "to", Arrays.asList( new TextContent( "This is a test!" ) ) )
+		);
+		assertFalse( closed.get() );
+		assertEquals( "{\"from\":\"from\",\"to\":\"to\",\"contents\":[{\"text\":\"This is a test!\",\"type\":\"text\"}]}", buffer.toString( "UTF-8" ) );
+	}
+
+
+	@Test
+	public void warmUpSamplesAreValid() throws IOException {
+		for( Object[] sample : JsonCodec.SAMPLES ) {
+			Object value = JsonCodec.shared().reader( (Class<?>) sample[ 0 ] ).readValue( (String) sample[ 1 ] );
+			assertTrue( ( (Class<?>) sample[ 0 ] ).isInstance( value ) );
+			JsonCodec.shared().writer().writeValueAsBytes( value );
+		}
+	}
+
+
+	@Test
+	public void warmUpRunsOnce() {
+		JsonCodec.shared().warmUp();
+		assertTrue( JsonCodec.shared().isWarmedUp() );
+		JsonCodec.shared().warmUp();
+		assertTrue( JsonCodec.shared().isWarmedUp() );
+	}
+}
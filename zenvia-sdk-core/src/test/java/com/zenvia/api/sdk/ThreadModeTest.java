@@ -0,0 +1,57 @@
+package com.zenvia.api.sdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class ThreadModeTest {
+	@Test
+	public void platformThreadsAreNamedDaemonThreads() {
+		ThreadFactory threadFactory = ThreadMode.PLATFORM.threadFactory( "test-" );
+		Thread first = threadFactory.newThread( () -> {} );
+		Thread second = threadFactory.newThread( () -> {} );
+
+		assertEquals( "test-1", first.getName() );
+		assertEquals( "test-2", second.getName() );
+		assertTrue( first.isDaemon() );
+	}
+
+
+	@Test
+	public void virtualFallsBackToPlatformWhenUnsupported() {
+		assertEquals( ThreadMode.PLATFORM, ThreadMode.PLATFORM.effective() );
+		assertEquals( ThreadMode.isVirtualSupported() ? ThreadMode.VIRTUAL : ThreadMode.PLATFORM, ThreadMode.VIRTUAL.effective() );
+	}
+
+
+	@Test
+	public void virtualThreadsAreNamed() {
+		Thread thread = ThreadMode.VIRTUAL.threadFactory( "test-" ).newThread( () -> {} );
+
+		assertEquals( "test-1", thread.getName() );
+		assertTrue( thread.isDaemon() );
+	}
+
+
+	@Test
+	public void executorsRunTasks() throws Exception {
+		for( ThreadMode threadMode : ThreadMode.values() ) {
+			ExecutorService executor = threadMode.newExecutor( "test-", 2 );
+			Future<String> name = executor.submit( () -> Thread.currentThread().getName() );
+
+			assertTrue( name.get( 5, TimeUnit.SECONDS ).startsWith( "test-" ) );
+			executor.shutdown();
+			assertTrue( executor.awaitTermination( 5, TimeUnit.SECONDS ) );
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.zenvia.api.sdk;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.TimeZone;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenvia.api.sdk.webhook.MessageStatus;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class ZonedDateTimeDeserializerTest {
+	private static final DateTimeFormatter PATTERN = DateTimeFormatter.ofPattern( "yyyy-MM-dd'T'HH:mm:ss[.SSS]XXX" );
+
+
+	@Test
+	public void timestampsAreAdjustedToTheContextTimeZone() throws IOException {
+		assertEquals(
+			ZonedDateTime.parse( "2019-06-10T15:30:35.456-03:00", PATTERN ).withZoneSameInstant( ZoneId.of( "UTC" ) ),
+			read( new ObjectMapper(), "2019-06-10T15:30:35.456-03:00" )
+		);
+		assertEquals(
+			ZonedDateTime.parse( "2019-06-10T15:30:35-03:00", PATTERN ).withZoneSameInstant( ZoneId.of( "America/Sao_Paulo" ) ),
+			read( new ObjectMapper().setTimeZone( TimeZone.getTimeZone( "America/Sao_Paulo" ) ), "2019-06-10T15:30:35-03:00" )
+		);
+	}
+
+
+	@Test
+	public void timestampsKeepTheirOffsetWhenNotAdjusted() throws IOException {
+		ObjectMapper jsonMapper = new ObjectMapper().disable( DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE );
+		assertEquals(
+			ZonedDateTime.parse( "2019-06-10T15:30:35-03:00", PATTERN ),
+			read( jsonMapper, "2019-06-10T15:30:35-03:00" )
+		);
+	}
+
+
+	@Test( expected = JsonMappingException.class )
+	public void formatNotAcceptedByThePatternIsRefused() throws IOException {
+		read( new ObjectMapper(), "2019-06-10T15:30:35.45-03:00" );
+	}
+
+
+	private static ZonedDateTime read( ObjectMapper jsonMapper, String timestamp ) throws IOException {
+		return jsonMapper.readValue( "{\"timestamp\":\"" + timestamp + "\"}", MessageStatus.class ).timestamp;
+	}
+}
@@ -3,31 +3,53 @@ package com.zenvia.api.sdk.client;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
+import com.zenvia.api.sdk.ThreadMode;
+import com.zenvia.api.sdk.client.circuitbreaker.CircuitBreaker;
+import com.zenvia.api.sdk.client.circuitbreaker.CircuitBreakerConfig;
+import com.zenvia.api.sdk.client.circuitbreaker.CircuitState;
 import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
 import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
 import com.zenvia.api.sdk.client.exceptions.HttpIOException;
 import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.RateLimitExceededException;
 import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
 import com.zenvia.api.sdk.client.exceptions.UnsupportedChannelException;
+import com.zenvia.api.sdk.client.ratelimit.RateLimit;
+import com.zenvia.api.sdk.client.ratelimit.RateLimitMode;
+import com.zenvia.api.sdk.client.ratelimit.RateLimiter;
 import com.zenvia.api.sdk.client.subscriptions.MessageCriteria;
 import com.zenvia.api.sdk.client.subscriptions.MessageSubscription;
 import com.zenvia.api.sdk.client.subscriptions.PartialSubscription;
+import com.zenvia.api.sdk.client.subscriptions.EventType;
 import com.zenvia.api.sdk.client.subscriptions.Subscription;
+import com.zenvia.api.sdk.client.subscriptions.SubscriptionCache;
 import com.zenvia.api.sdk.client.subscriptions.SubscriptionStatus;
 import com.zenvia.api.sdk.client.subscriptions.Webhook;
+import com.zenvia.api.sdk.client.warmup.WarmUpSummary;
+import com.zenvia.api.sdk.contents.TextContent;
+import com.zenvia.api.sdk.messages.Message;
 import com.zenvia.api.sdk.messages.MessageDirection;
+import com.zenvia.api.sdk.messages.MessageRequest;
 
 
 @FixMethodOrder( MethodSorters.NAME_ASCENDING )
@@ -330,6 +352,61 @@ public class AbstractClientTest {
 	}
 
 
+	@Test
+	public void sendMessageAppliesRateLimiter() {
+		AbstractClient client = new TestClient( "API_TOKEN" );
+		client.setRateLimiter( new RateLimiter(
+			RateLimitMode.FAIL_FAST,
+			null,
+			Collections.singletonMap( ChannelType.whatsapp, new RateLimit( 0.001, 2 ) ),
+			null
+		) );
+		Channel channel = client.getChannel( ChannelType.whatsapp );
+		assertEquals( "1", channel.sendMessage( "from", "to", new TextContent( "first" ) ).id );
+		assertEquals( "1", channel.sendMessage( "other", "to", new TextContent( "second" ) ).id );
+		try {
+			channel.sendMessage( "from", "to", new TextContent( "third" ) );
+			fail();
+		} catch( RateLimitExceededException exception ) {
+			assertEquals( ChannelType.whatsapp, exception.channel );
+			assertNull( exception.from );
+		}
+
+		client.setRateLimiter( null );
+		assertNull( client.getRateLimiter() );
+		assertEquals( "1", channel.sendMessage( "from", "to", new TextContent( "fourth" ) ).id );
+		client.close();
+	}
+
+
+	@Test
+	public void circuitBreakerPermissionIsSettledOnErrors() throws Exception {
+		AbstractClient client = new TestClient( "API_TOKEN" );
+		client.setCircuitBreakerConfig( new CircuitBreakerConfig( 50, null, null, 2, 2, 1L, 1 ) );
+		Channel channel = client.getChannel( ChannelType.whatsapp );
+		for( int i = 0; i < 2; i++ ) {
+			try {
+				channel.sendMessage( "from", "fail", new TextContent( "text" ) );
+				fail();
+			} catch( HttpIOException exception ) {
+			}
+		}
+		CircuitBreaker circuitBreaker = client.getCircuitBreakers().values().iterator().next();
+		assertEquals( CircuitState.OPEN, circuitBreaker.getState() );
+		Thread.sleep( 5 );
+
+		try {
+			channel.sendMessage( "from", "error", new TextContent( "text" ) );
+			fail();
+		} catch( AssertionError error ) {
+			assertEquals( "transport error", error.getMessage() );
+		}
+		assertEquals( CircuitState.CLOSED, circuitBreaker.getState() );
+		assertEquals( "1", channel.sendMessage( "from", "to", new TextContent( "text" ) ).id );
+		client.close();
+	}
+
+
 	private static MessageSubscription subscription() {
 		return new MessageSubscription(
 			"123",
@@ -342,7 +419,117 @@ public class AbstractClientTest {
 	}
 
 
+	@Test
+	public void threadModeFallsBackWhenVirtualThreadsAreUnsupported() {
+		AbstractClient client = new TestClient( "API_TOKEN" );
+		assertEquals( ThreadMode.PLATFORM, client.getThreadMode() );
+
+		client.setThreadMode( ThreadMode.VIRTUAL );
+		assertEquals( ThreadMode.VIRTUAL.effective(), client.getThreadMode() );
+
+		client.setThreadMode( null );
+		assertEquals( ThreadMode.PLATFORM, client.getThreadMode() );
+		client.close();
+	}
+
+
+	@Test
+	public void subscriptionCacheServesReadsUntilChanges() {
+		TestClient client = new TestClient( "API_TOKEN" );
+		assertEquals( 1, client.findSubscriptions( "http://localhost", ChannelType.whatsapp, EventType.MESSAGE ).size() );
+		assertEquals( 0, client.findSubscriptions( "http://localhost", ChannelType.whatsapp, EventType.MESSAGE_STATUS ).size() );
+		assertEquals( 2, client.listCalls );
+
+		client.setSubscriptionCache( new SubscriptionCache() );
+		assertEquals( 1, client.listSubscriptions().size() );
+		assertEquals( 1, client.findSubscriptions( "http://localhost", ChannelType.whatsapp, EventType.MESSAGE ).size() );
+		assertEquals( "123", client.getSubscription( "123" ).id );
+		assertEquals( 3, client.listCalls );
+		assertEquals( 0, client.getCalls );
+
+		Subscription updated = client.updateSubscription( "123", new PartialSubscription( new Webhook( "url", null ), SubscriptionStatus.INACTIVE ) );
+		assertSame( updated, client.getSubscription( "123" ) );
+		client.listSubscriptions();
+		assertEquals( 4, client.listCalls );
+
+		client.deleteSubscription( "123" );
+		client.getSubscription( "123" );
+		assertEquals( 1, client.getCalls );
+
+		client.createSubscription( subscription() );
+		client.listSubscriptions();
+		assertEquals( 5, client.listCalls );
+
+		client.setSubscriptionCache( null );
+		assertNull( client.getSubscriptionCache() );
+		client.getSubscription( "123" );
+		assertEquals( 2, client.getCalls );
+		client.close();
+	}
+
+
+	@Test
+	public void warmUpLeavesConnectionsIdleOnThePool() throws Exception {
+		List<Socket> accepted = new CopyOnWriteArrayList<>();
+		try( ServerSocket server = new ServerSocket( 0, 50, InetAddress.getLoopbackAddress() ) ) {
+			Thread acceptor = new Thread( () -> {
+				try {
+					while( true ) {
+						accepted.add( server.accept() );
+					}
+				} catch( IOException exception ) {
+				}
+			} );
+			acceptor.setDaemon( true );
+			acceptor.start();
+
+			TestClient client = new TestClient( "API_TOKEN", "http://127.0.0.1:" + server.getLocalPort(), 3 );
+			WarmUpSummary summary = client.warmUp( 5 );
+			assertEquals( 3, summary.requested );
+			assertEquals( 3, summary.ready );
+			assertTrue( summary.isComplete() );
+			assertEquals( 3, client.getConnectionPoolStats().available );
+			assertEquals( 0, client.getConnectionPoolStats().leased );
+
+			summary = client.warmUp( 2 );
+			assertEquals( 2, summary.ready );
+			assertEquals( 3, client.getConnectionPoolStats().available );
+			for( int i = 0; i < 100 && accepted.size() < 3; i++ ) {
+				Thread.sleep( 10 );
+			}
+			assertEquals( 3, accepted.size() );
+			client.close();
+		} finally {
+			for( Socket socket : accepted ) {
+				socket.close();
+			}
+		}
+	}
+
+
+	@Test
+	public void warmUpCountsConnectionsNotOpened() throws Exception {
+		int port;
+		try( ServerSocket server = new ServerSocket( 0, 50, InetAddress.getLoopbackAddress() ) ) {
+			port = server.getLocalPort();
+		}
+		TestClient client = new TestClient( "API_TOKEN", "http://127.0.0.1:" + port, 2 );
+		WarmUpSummary summary = client.warmUp( 2 );
+		assertEquals( 0, summary.ready );
+		assertEquals( 2, summary.failed );
+		assertEquals( 0, client.getConnectionPoolStats().available );
+		assertEquals( 0, client.getConnectionPoolStats().leased );
+		assertEquals( 0, client.warmUp( 0 ).requested );
+		client.close();
+	}
+
+
 	private static class TestClient extends AbstractClient {
+		private int listCalls;
+
+		private int getCalls;
+
+
 		private TestClient( String apiToken ) {
 			super( apiToken );
 		}
@@ -446,6 +633,7 @@ public class AbstractClientTest {
 		protected <RESPONSE> RESPONSE list( String url, Class<RESPONSE> responseBodyType )
 			throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
 			if( url.equals( "https://api.zenvia.com/v1/subscriptions" ) && responseBodyType == Subscription[].class ) {
+				listCalls++;
 				return (RESPONSE) new Subscription[] { subscription() };
 			}
 			throw new IllegalArgumentException();
@@ -457,6 +645,7 @@ public class AbstractClientTest {
 		protected <RESPONSE> RESPONSE get( String url, String id, Class<RESPONSE> responseBodyType )
 			throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
 			if( url.equals( "https://api.zenvia.com/v1/subscriptions" ) && id.equals( "123" ) && responseBodyType == Subscription.class ) {
+				getCalls++;
 				return (RESPONSE) subscription();
 			}
 			throw new IllegalArgumentException();
@@ -470,6 +659,18 @@ public class AbstractClientTest {
 			if( url.equals( "https://api.zenvia.com/v1/subscriptions" ) && Subscription.class.isAssignableFrom( requestBody.getClass() ) && responseBodyType == Subscription.class ) {
 				return (RESPONSE) requestBody;
 			}
+			if( url.equals( "https://api.zenvia.com/v1/channels/whatsapp/messages" ) && requestBody instanceof MessageRequest && responseBodyType == Message.class ) {
+				MessageRequest messageRequest = (MessageRequest) requestBody;
+				return executeWithRetries( "POST", url, () -> {
+					if( "fail".equals( messageRequest.to ) ) {
+						throw new HttpIOException( url, new IOException() );
+					}
+					if( "error".equals( messageRequest.to ) ) {
+						throw new AssertionError( "transport error" );
+					}
+					return (RESPONSE) new Message( "1", messageRequest.from, messageRequest.to, MessageDirection.OUT, ChannelType.whatsapp, messageRequest.contents );
+				} );
+			}
 			throw new IllegalArgumentException();
 		}
 
@@ -0,0 +1,204 @@
+package com.zenvia.api.sdk.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import org.mockito.Mockito;
+
+import com.zenvia.api.sdk.ThreadMode;
+import com.zenvia.api.sdk.client.bulk.BulkOptions;
+import com.zenvia.api.sdk.client.bulk.BulkResult;
+import com.zenvia.api.sdk.client.bulk.BulkSummary;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+import com.zenvia.api.sdk.client.exceptions.UnsupportedContentException;
+import com.zenvia.api.sdk.contents.FileContent;
+import com.zenvia.api.sdk.contents.TextContent;
+import com.zenvia.api.sdk.messages.Message;
+import com.zenvia.api.sdk.messages.MessageDirection;
+import com.zenvia.api.sdk.messages.MessageRequest;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class ChannelBulkTest {
+	private final AbstractClient client = Mockito.mock( AbstractClient.class );
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+
+
+	@Before
+	public void before() {
+		when( client.getApiUrl() ).thenReturn( "URL" );
+		when( client.getMaxConnections() ).thenReturn( 4 );
+		when( client.sendMessage( any( Channel.class ), any( MessageRequest.class ) ) ).thenAnswer( invocation -> {
+			MessageRequest request = invocation.getArgument( 1 );
+			int current = inFlight.incrementAndGet();
+			maxObservedInFlight.accumulateAndGet( current, Math::max );
+			try {
+				Thread.sleep( ThreadLocalRandom.current().nextInt( 5 ) );
+			} finally {
+				inFlight.decrementAndGet();
+			}
+			if( "fail".equals( request.to ) ) {
+				throw new UnsuccessfulRequestException( "URL", 500, (Exception) null );
+			}
+			if( "error".equals( request.to ) ) {
+				throw new AssertionError( "sender error" );
+			}
+			return new Message( request.to, request.from, request.to, MessageDirection.OUT, ChannelType.whatsapp, request.contents );
+		} );
+	}
+
+
+	@Test
+	public void sendAllStreamUsesConnectionPoolAsWindow() {
+		Channel channel = new Channel( ChannelType.whatsapp, client );
+		BulkSummary summary = channel.sendAll( requests( 40 ).stream() );
+
+		assertEquals( 40, summary.total );
+		assertEquals( 40, summary.successful );
+		assertEquals( 0, summary.failed );
+		assertTrue( maxObservedInFlight.get() <= 4 );
+	}
+
+
+	@Test
+	public void sendAllClosesTheStream() {
+		Channel channel = new Channel( ChannelType.whatsapp, client );
+		AtomicBoolean closed = new AtomicBoolean();
+		BulkSummary summary = channel.sendAll( requests( 10 ).stream().onClose( () -> closed.set( true ) ) );
+
+		assertEquals( 10, summary.successful );
+		assertTrue( closed.get() );
+	}
+
+
+	@Test
+	public void sendAllOnVirtualThreadModeRespectsMaxInFlight() {
+		when( client.getThreadMode() ).thenReturn( ThreadMode.VIRTUAL );
+		Channel channel = new Channel( ChannelType.whatsapp, client );
+		List<BulkResult> results = Collections.synchronizedList( new ArrayList<>() );
+		BulkSummary summary = channel.sendAll( requests( 60 ), new BulkOptions( 3, false, results::add ) );
+
+		assertEquals( 60, summary.successful );
+		assertEquals( 60, results.size() );
+		assertTrue( maxObservedInFlight.get() <= 3 );
+	}
+
+
+	@Test
+	public void sendAllRespectsMaxInFlight() {
+		Channel channel = new Channel( ChannelType.whatsapp, client );
+		List<BulkResult> results = new ArrayList<>();
+		BulkSummary summary = channel.sendAll( requests( 60 ), new BulkOptions( 3, false, results::add ) );
+
+		assertEquals( 60, summary.successful );
+		assertEquals( 60, results.size() );
+		assertTrue( maxObservedInFlight.get() <= 3 );
+	}
+
+
+	@Test
+	public void sendAllOrderedDeliversInSourceOrder() {
+		Channel channel = new Channel( ChannelType.whatsapp, client );
+		List<Long> indexes = new ArrayList<>();
+		channel.sendAll( requests( 100 ), new BulkOptions( 8, true, result -> indexes.add( result.index ) ) );
+
+		assertEquals( 100, indexes.size() );
+		for( int i = 0; i < indexes.size(); i++ ) {
+			assertEquals( i, indexes.get( i ).longValue() );
+		}
+		assertTrue( maxObservedInFlight.get() <= 8 );
+	}
+
+
+	@Test
+	public void sendAllReportsFailuresPerItem() {
+		Channel channel = new Channel( ChannelType.sms, client );
+		List<MessageRequest> requests = new ArrayList<>( requests( 3 ) );
+		requests.add( new MessageRequest( "from", "fail", Collections.singletonList( new TextContent( "This is a test!" ) ) ) );
+		requests.add( new MessageRequest( "from", "file", Collections.singletonList( new FileContent( "https://zenvia.com/favicon.ico" ) ) ) );
+
+		List<BulkResult> results = new ArrayList<>();
+		BulkSummary summary = channel.sendAll( requests, new BulkOptions( 2, true, results::add ) );
+
+		assertEquals( 5, summary.total );
+		assertEquals( 3, summary.successful );
+		assertEquals( 2, summary.failed );
+
+		BulkResult unsuccessful = results.get( 3 );
+		assertNull( unsuccessful.message );
+		assertTrue( unsuccessful.exception instanceof UnsuccessfulRequestException );
+
+		BulkResult unsupported = results.get( 4 );
+		assertTrue( unsupported.exception instanceof UnsupportedContentException );
+
+		assertNotNull( results.get( 0 ).message );
+		assertEquals( "to0", results.get( 0 ).message.id );
+	}
+
+
+	@Test
+	public void sendAllSurvivesFailingHandler() {
+		Channel channel = new Channel( ChannelType.whatsapp, client );
+		BulkSummary summary = channel.sendAll( requests( 10 ), new BulkOptions( 2, false, result -> {
+			throw new IllegalStateException( "handler failure" );
+		} ) );
+
+		assertEquals( 10, summary.successful );
+	}
+
+
+	@Test( timeout = 10000 )
+	public void sendAllSurvivesErrors() {
+		Channel channel = new Channel( ChannelType.whatsapp, client );
+		List<MessageRequest> requests = new ArrayList<>( requests( 10 ) );
+		requests.add( 3, new MessageRequest( "from", "error", Collections.singletonList( new TextContent( "This is a test!" ) ) ) );
+
+		List<BulkResult> results = new ArrayList<>();
+		BulkSummary summary = channel.sendAll( requests, new BulkOptions( 2, true, result -> {
+			results.add( result );
+			if( result.index == 5 ) {
+				throw new AssertionError( "handler error" );
+			}
+		} ) );
+
+		assertEquals( 10, summary.successful );
+		assertEquals( 1, summary.failed );
+		assertEquals( 11, results.size() );
+		assertTrue( results.get( 3 ).exception instanceof ExecutionException );
+		assertTrue( results.get( 3 ).exception.getCause() instanceof AssertionError );
+	}
+
+
+	@Test( expected = IllegalArgumentException.class )
+	public void bulkOptionsRejectsNonPositiveWindow() {
+		new BulkOptions( 0, false, null );
+	}
+
+
+	private static List<MessageRequest> requests( int amount ) {
+		return IntStream.range( 0, amount )
+			.mapToObj( i -> new MessageRequest( "from", "to" + i, Collections.singletonList( new TextContent( "This is a test!" ) ) ) )
+			.collect( Collectors.toList() );
+	}
+}
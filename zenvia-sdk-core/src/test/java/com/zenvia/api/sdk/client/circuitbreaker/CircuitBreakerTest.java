@@ -0,0 +1,141 @@
+package com.zenvia.api.sdk.client.circuitbreaker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.zenvia.api.sdk.client.exceptions.CircuitBreakerOpenException;
+import com.zenvia.api.sdk.client.exceptions.HttpIOException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class CircuitBreakerTest {
+	private static final String ENDPOINT = "/v1/channels/whatsapp/messages";
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos( 10 );
+
+	private static final long SLOW = TimeUnit.SECONDS.toNanos( 2 );
+
+	private final AtomicLong clock = new AtomicLong( 1_000_000_000L );
+
+
+	@Test
+	public void opensOnFailureRate() {
+		CircuitBreaker circuitBreaker = circuitBreaker( new CircuitBreakerConfig( 50, null, null, 4, 4, 1000L, 2 ) );
+		success( circuitBreaker );
+		success( circuitBreaker );
+		failure( circuitBreaker, 0 );
+		assertEquals( CircuitState.CLOSED, circuitBreaker.getState() );
+		failure( circuitBreaker, 500 );
+		assertEquals( CircuitState.OPEN, circuitBreaker.getState() );
+		assertOpen( circuitBreaker, 1000 );
+	}
+
+
+	@Test
+	public void clientErrorsAreNotFailures() {
+		CircuitBreaker circuitBreaker = circuitBreaker( new CircuitBreakerConfig( 50, null, null, 4, 4, 1000L, 2 ) );
+		for( int i = 0; i < 10; i++ ) {
+			failure( circuitBreaker, 400 );
+		}
+		assertEquals( CircuitState.CLOSED, circuitBreaker.getState() );
+	}
+
+
+	@Test
+	public void opensOnSlowCallRate() {
+		CircuitBreaker circuitBreaker = circuitBreaker( new CircuitBreakerConfig( 50, 50, 1000L, 2, 2, 1000L, 2 ) );
+		circuitBreaker.acquirePermission();
+		circuitBreaker.onSuccess( SLOW );
+		success( circuitBreaker );
+		assertEquals( CircuitState.OPEN, circuitBreaker.getState() );
+	}
+
+
+	@Test
+	public void slidingWindowForgetsOldCalls() {
+		CircuitBreaker circuitBreaker = circuitBreaker( new CircuitBreakerConfig( 50, null, null, 4, 4, 1000L, 2 ) );
+		failure( circuitBreaker, 503 );
+		success( circuitBreaker );
+		success( circuitBreaker );
+		success( circuitBreaker );
+		success( circuitBreaker );
+		failure( circuitBreaker, 503 );
+		assertEquals( CircuitState.CLOSED, circuitBreaker.getState() );
+	}
+
+
+	@Test
+	public void halfOpenClosesOnHealthyTrials() {
+		CircuitBreaker circuitBreaker = openCircuitBreaker();
+		clock.addAndGet( TimeUnit.MILLISECONDS.toNanos( 1000 ) );
+		circuitBreaker.acquirePermission();
+		circuitBreaker.acquirePermission();
+		assertEquals( CircuitState.HALF_OPEN, circuitBreaker.getState() );
+		assertOpen( circuitBreaker, 0 );
+		circuitBreaker.onSuccess( FAST );
+		circuitBreaker.onSuccess( FAST );
+		assertEquals( CircuitState.CLOSED, circuitBreaker.getState() );
+		success( circuitBreaker );
+	}
+
+
+	@Test
+	public void halfOpenReopensOnFailedTrials() {
+		CircuitBreaker circuitBreaker = openCircuitBreaker();
+		clock.addAndGet( TimeUnit.MILLISECONDS.toNanos( 1000 ) );
+		success( circuitBreaker );
+		failure( circuitBreaker, 502 );
+		assertEquals( CircuitState.OPEN, circuitBreaker.getState() );
+		assertOpen( circuitBreaker, 1000 );
+	}
+
+
+	private CircuitBreaker openCircuitBreaker() {
+		CircuitBreaker circuitBreaker = circuitBreaker( new CircuitBreakerConfig( 50, null, null, 2, 2, 1000L, 2 ) );
+		failure( circuitBreaker, 503 );
+		failure( circuitBreaker, 503 );
+		assertEquals( CircuitState.OPEN, circuitBreaker.getState() );
+		return circuitBreaker;
+	}
+
+
+	private CircuitBreaker circuitBreaker( CircuitBreakerConfig config ) {
+		return new CircuitBreaker( ENDPOINT, config, clock::get );
+	}
+
+
+	private static void success( CircuitBreaker circuitBreaker ) {
+		circuitBreaker.acquirePermission();
+		circuitBreaker.onSuccess( FAST );
+	}
+
+
+	private static void failure( CircuitBreaker circuitBreaker, int httpStatusCode ) {
+		circuitBreaker.acquirePermission();
+		if( httpStatusCode == 0 ) {
+			circuitBreaker.onError( new HttpIOException( ENDPOINT, new IOException() ), FAST );
+		} else {
+			circuitBreaker.onError( new UnsuccessfulRequestException( ENDPOINT, httpStatusCode, null, null ), FAST );
+		}
+	}
+
+
+	private static void assertOpen( CircuitBreaker circuitBreaker, long retryAfter ) {
+		try {
+			circuitBreaker.acquirePermission();
+			fail();
+		} catch( CircuitBreakerOpenException exception ) {
+			assertEquals( ENDPOINT, exception.endpoint );
+			assertEquals( retryAfter, exception.retryAfter );
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.zenvia.api.sdk.client.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.exceptions.HttpIOException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class MicrometerClientMetricsTest {
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final ClientMetrics metrics = new MicrometerClientMetrics( meterRegistry );
+
+
+	@Test
+	public void recordsRequestTimers() {
+		String endpoint = ChannelType.whatsapp.messagePath;
+		metrics.recordRequest( "POST", endpoint, ChannelType.whatsapp, TimeUnit.MILLISECONDS.toNanos( 20 ), null );
+		metrics.recordRequest( "POST", endpoint, ChannelType.whatsapp, TimeUnit.MILLISECONDS.toNanos( 40 ), null );
+		metrics.recordRequest( "GET", "/v1/subscriptions", null, TimeUnit.MILLISECONDS.toNanos( 10 ), null );
+
+		assertEquals( 2, meterRegistry.get( MicrometerClientMetrics.REQUESTS )
+			.tag( "method", "POST" )
+			.tag( "endpoint", endpoint )
+			.tag( "channel", "whatsapp" )
+			.tag( "status", "2xx" )
+			.timer().count() );
+		assertEquals( 60, meterRegistry.get( MicrometerClientMetrics.REQUESTS ).tag( "channel", "whatsapp" ).timer().totalTime( TimeUnit.MILLISECONDS ), 0.001 );
+		assertEquals( 1, meterRegistry.get( MicrometerClientMetrics.REQUESTS ).tag( "channel", "none" ).timer().count() );
+	}
+
+
+	@Test
+	public void recordsErrorCounters() {
+		String endpoint = ChannelType.sms.messagePath;
+		metrics.recordRequest( "POST", endpoint, ChannelType.sms, 1000, new UnsuccessfulRequestException( endpoint, 503, null, null ) );
+		metrics.recordRequest( "POST", endpoint, ChannelType.sms, 1000, new HttpIOException( endpoint, new IOException() ) );
+		metrics.recordRequest( "POST", endpoint, ChannelType.sms, 1000, new HttpIOException( endpoint, new IOException() ) );
+
+		assertEquals( 1, meterRegistry.get( MicrometerClientMetrics.REQUESTS ).tag( "status", "503" ).timer().count() );
+		assertEquals( 2, meterRegistry.get( MicrometerClientMetrics.REQUESTS ).tag( "status", "NONE" ).timer().count() );
+		assertEquals( 1, meterRegistry.get( MicrometerClientMetrics.ERRORS ).tag( "exception", "UnsuccessfulRequestException" ).counter().count(), 0 );
+		assertEquals( 2, meterRegistry.get( MicrometerClientMetrics.ERRORS ).tag( "exception", "HttpIOException" ).counter().count(), 0 );
+	}
+
+
+	@Test
+	public void bindsConnectionPoolGauges() {
+		metrics.bindConnectionPool( () -> new ConnectionPoolStats( 3, 1, 5, 10 ) );
+
+		assertEquals( 3, meterRegistry.get( MicrometerClientMetrics.CONNECTIONS ).tag( "state", "leased" ).gauge().value(), 0 );
+		assertEquals( 1, meterRegistry.get( MicrometerClientMetrics.CONNECTIONS ).tag( "state", "pending" ).gauge().value(), 0 );
+		assertEquals( 5, meterRegistry.get( MicrometerClientMetrics.CONNECTIONS ).tag( "state", "available" ).gauge().value(), 0 );
+		assertEquals( 10, meterRegistry.get( MicrometerClientMetrics.CONNECTIONS ).tag( "state", "max" ).gauge().value(), 0 );
+	}
+}
@@ -0,0 +1,186 @@
+package com.zenvia.api.sdk.client.ratelimit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.exceptions.RateLimitExceededException;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class RateLimiterTest {
+	private final AtomicLong clock = new AtomicLong( 1_000_000_000L );
+
+
+	@Test
+	public void bucketAllowsBurstThenRefills() {
+		TokenBucket bucket = new TokenBucket( new RateLimit( 10, 3 ), clock::get );
+		assertTrue( bucket.tryAcquire() );
+		assertTrue( bucket.tryAcquire() );
+		assertTrue( bucket.tryAcquire() );
+		assertFalse( bucket.tryAcquire() );
+		assertEquals( TimeUnit.MILLISECONDS.toNanos( 100 ), bucket.nanosUntilAvailable() );
+
+		clock.addAndGet( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+		assertTrue( bucket.tryAcquire() );
+		assertFalse( bucket.tryAcquire() );
+
+		clock.addAndGet( TimeUnit.SECONDS.toNanos( 10 ) );
+		assertTrue( bucket.tryAcquire() );
+		assertTrue( bucket.tryAcquire() );
+		assertTrue( bucket.tryAcquire() );
+		assertFalse( bucket.tryAcquire() );
+	}
+
+
+	@Test
+	public void bucketReservesFutureTokens() {
+		TokenBucket bucket = new TokenBucket( new RateLimit( 10, 1 ), clock::get );
+		assertEquals( 0, bucket.reserve() );
+		assertEquals( TimeUnit.MILLISECONDS.toNanos( 100 ), bucket.reserve() );
+		assertEquals( TimeUnit.MILLISECONDS.toNanos( 200 ), bucket.reserve() );
+		bucket.refund();
+		bucket.refund();
+		assertEquals( TimeUnit.MILLISECONDS.toNanos( 100 ), bucket.reserve() );
+	}
+
+
+	@Test
+	public void bucketIsThreadSafe() throws Exception {
+		TokenBucket bucket = new TokenBucket( new RateLimit( 1, 1000 ), clock::get );
+		AtomicInteger acquired = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		for( int i = 0; i < 2000; i++ ) {
+			executor.execute( () -> {
+				if( bucket.tryAcquire() ) {
+					acquired.incrementAndGet();
+				}
+			} );
+		}
+		executor.shutdown();
+		assertTrue( executor.awaitTermination( 10, TimeUnit.SECONDS ) );
+		assertEquals( 1000, acquired.get() );
+	}
+
+
+	@Test
+	public void defaultBurstIsOneSecondOfPermits() {
+		assertEquals( 80, new RateLimit( 80, null ).burst );
+		assertEquals( 1, new RateLimit( 0.5, null ).burst );
+	}
+
+
+	@Test
+	public void failFastOnChannelLimit() {
+		RateLimiter rateLimiter = new RateLimiter(
+			RateLimitMode.FAIL_FAST,
+			null,
+			Collections.singletonMap( ChannelType.sms, new RateLimit( 1, 2 ) ),
+			null,
+			clock::get
+		);
+		rateLimiter.acquire( ChannelType.sms, "a" );
+		rateLimiter.acquire( ChannelType.sms, "b" );
+		try {
+			rateLimiter.acquire( ChannelType.sms, "c" );
+			fail();
+		} catch( RateLimitExceededException exception ) {
+			assertEquals( ChannelType.sms, exception.channel );
+			assertNull( exception.from );
+			assertEquals( 1000, exception.retryAfter );
+		}
+		rateLimiter.acquire( ChannelType.whatsapp, "c" );
+	}
+
+
+	@Test
+	public void failFastOnSenderLimitKeepsChannelTokens() {
+		RateLimiter rateLimiter = new RateLimiter(
+			RateLimitMode.FAIL_FAST,
+			null,
+			Collections.singletonMap( ChannelType.whatsapp, new RateLimit( 1, 2 ) ),
+			Collections.singletonMap( ChannelType.whatsapp, new RateLimit( 1, 1 ) ),
+			clock::get
+		);
+		rateLimiter.acquire( ChannelType.whatsapp, "a" );
+		try {
+			rateLimiter.acquire( ChannelType.whatsapp, "a" );
+			fail();
+		} catch( RateLimitExceededException exception ) {
+			assertEquals( "a", exception.from );
+		}
+		rateLimiter.acquire( ChannelType.whatsapp, "b" );
+	}
+
+
+	@Test
+	public void failFastOnChannelLimitGivesBackSenderToken() {
+		RateLimiter rateLimiter = new RateLimiter(
+			RateLimitMode.FAIL_FAST,
+			null,
+			Collections.singletonMap( ChannelType.whatsapp, new RateLimit( 1, 1 ) ),
+			Collections.singletonMap( ChannelType.whatsapp, new RateLimit( 1, 1 ) ),
+			clock::get
+		);
+		rateLimiter.acquire( ChannelType.whatsapp, "a" );
+		try {
+			rateLimiter.acquire( ChannelType.whatsapp, "b" );
+			fail();
+		} catch( RateLimitExceededException exception ) {
+			assertNull( exception.from );
+		}
+		clock.addAndGet( TimeUnit.SECONDS.toNanos( 1 ) );
+		rateLimiter.acquire( ChannelType.whatsapp, "b" );
+	}
+
+
+	@Test
+	public void blockWaitsForToken() {
+		RateLimiter rateLimiter = new RateLimiter(
+			RateLimitMode.BLOCK,
+			null,
+			Collections.singletonMap( ChannelType.facebook, new RateLimit( 20, 1 ) ),
+			null
+		);
+		long start = System.nanoTime();
+		rateLimiter.acquire( ChannelType.facebook, "a" );
+		rateLimiter.acquire( ChannelType.facebook, "a" );
+		rateLimiter.acquire( ChannelType.facebook, "a" );
+		assertTrue( System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos( 90 ) );
+	}
+
+
+	@Test
+	public void blockFailsWhenWaitExceedsMaximum() {
+		RateLimiter rateLimiter = new RateLimiter(
+			RateLimitMode.BLOCK,
+			50L,
+			Collections.singletonMap( ChannelType.facebook, new RateLimit( 1, 1 ) ),
+			null,
+			clock::get
+		);
+		rateLimiter.acquire( ChannelType.facebook, "a" );
+		try {
+			rateLimiter.acquire( ChannelType.facebook, "a" );
+			fail();
+		} catch( RateLimitExceededException exception ) {
+			assertEquals( 1000, exception.retryAfter );
+		}
+		clock.addAndGet( TimeUnit.SECONDS.toNanos( 1 ) );
+		rateLimiter.acquire( ChannelType.facebook, "a" );
+	}
+}
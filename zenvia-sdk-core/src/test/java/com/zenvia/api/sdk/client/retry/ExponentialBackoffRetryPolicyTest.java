@@ -0,0 +1,112 @@
+package com.zenvia.api.sdk.client.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.zenvia.api.sdk.client.exceptions.ApiException;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
+import com.zenvia.api.sdk.client.exceptions.HttpIOException;
+import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class ExponentialBackoffRetryPolicyTest {
+	private static final String URL = "http://localhost/v1/channels/whatsapp/messages";
+
+
+	@Test
+	public void delayIsCappedExponentially() {
+		RetryPolicy policy = new ExponentialBackoffRetryPolicy( 10, 100L, 1000L, () -> 0.999999 );
+		assertEquals( 100, policy.nextDelay( attempt( "GET", 1, status( 503, null ) ) ) );
+		assertEquals( 200, policy.nextDelay( attempt( "GET", 2, status( 503, null ) ) ) );
+		assertEquals( 400, policy.nextDelay( attempt( "GET", 3, status( 503, null ) ) ) );
+		assertEquals( 800, policy.nextDelay( attempt( "GET", 4, status( 503, null ) ) ) );
+		assertEquals( 1000, policy.nextDelay( attempt( "GET", 5, status( 503, null ) ) ) );
+		assertEquals( 1000, policy.nextDelay( attempt( "GET", 10, status( 503, null ) ) ) );
+	}
+
+
+	@Test
+	public void delayIsJittered() {
+		RetryPolicy policy = new ExponentialBackoffRetryPolicy( 10, 100L, 1000L, () -> 0.5 );
+		assertEquals( 50, policy.nextDelay( attempt( "GET", 1, status( 503, null ) ) ) );
+		assertEquals( 200, policy.nextDelay( attempt( "GET", 3, status( 503, null ) ) ) );
+	}
+
+
+	@Test
+	public void givesUpAfterMaxRetries() {
+		RetryPolicy policy = new ExponentialBackoffRetryPolicy( 2, 100L, 1000L );
+		assertEquals( RetryPolicy.NO_RETRY, policy.nextDelay( attempt( "GET", 3, status( 503, null ) ) ) );
+	}
+
+
+	@Test
+	public void honorsRetryAfter() {
+		RetryPolicy policy = new ExponentialBackoffRetryPolicy( 3, 100L, 5000L );
+		assertEquals( 3000, policy.nextDelay( attempt( "POST", 1, status( 429, 3000L ) ) ) );
+		assertEquals( RetryPolicy.NO_RETRY, policy.nextDelay( attempt( "POST", 1, status( 429, 6000L ) ) ) );
+	}
+
+
+	@Test
+	public void retriesIdempotentRequestsOnTransientFailures() {
+		RetryPolicy policy = new ExponentialBackoffRetryPolicy();
+		for( int status : new int[] { 429, 502, 503, 504 } ) {
+			assertRetried( policy.nextDelay( attempt( "GET", 1, status( status, null ) ) ) );
+		}
+		assertRetried( policy.nextDelay( attempt( "PATCH", 1, new HttpSocketTimeoutException( URL, new SocketTimeoutException() ) ) ) );
+		assertRetried( policy.nextDelay( attempt( "DELETE", 1, new HttpIOException( URL, new IOException() ) ) ) );
+		assertEquals( RetryPolicy.NO_RETRY, policy.nextDelay( attempt( "GET", 1, status( 500, null ) ) ) );
+		assertEquals( RetryPolicy.NO_RETRY, policy.nextDelay( attempt( "GET", 1, status( 404, null ) ) ) );
+	}
+
+
+	@Test
+	public void retriesPostOnlyWhenNotProcessed() {
+		RetryPolicy policy = new ExponentialBackoffRetryPolicy();
+		assertRetried( policy.nextDelay( attempt( "POST", 1, status( 429, null ) ) ) );
+		assertRetried( policy.nextDelay( attempt( "POST", 1, status( 503, null ) ) ) );
+		assertRetried( policy.nextDelay( attempt( "POST", 1, new HttpConnectionFailException( URL, new ConnectException() ) ) ) );
+		assertEquals( RetryPolicy.NO_RETRY, policy.nextDelay( attempt( "POST", 1, status( 502, null ) ) ) );
+		assertEquals( RetryPolicy.NO_RETRY, policy.nextDelay( attempt( "POST", 1, status( 504, null ) ) ) );
+		assertEquals( RetryPolicy.NO_RETRY, policy.nextDelay( attempt( "POST", 1, new HttpSocketTimeoutException( URL, new SocketTimeoutException() ) ) ) );
+		assertEquals( RetryPolicy.NO_RETRY, policy.nextDelay( attempt( "POST", 1, new HttpIOException( URL, new IOException() ) ) ) );
+	}
+
+
+	@Test
+	public void parsesRetryAfterHeader() {
+		assertEquals( Long.valueOf( 120000 ), RetryAfter.parse( "120" ) );
+		assertEquals( Long.valueOf( 0 ), RetryAfter.parse( " 0 " ) );
+		assertEquals( Long.valueOf( 30000 ), RetryAfter.parse( "Wed, 21 Oct 2015 07:28:30 GMT", 1445412480000L ) );
+		assertEquals( Long.valueOf( 0 ), RetryAfter.parse( "Wed, 21 Oct 2015 07:28:00 GMT", 1445412490000L ) );
+		assertNull( RetryAfter.parse( null ) );
+		assertNull( RetryAfter.parse( "soon" ) );
+	}
+
+
+	private static void assertRetried( long delay ) {
+		assertTrue( delay >= 0 );
+	}
+
+
+	private static RequestAttempt attempt( String method, int attempt, ApiException exception ) {
+		return new RequestAttempt( method, URL, attempt, exception );
+	}
+
+
+	private static UnsuccessfulRequestException status( int httpStatusCode, Long retryAfter ) {
+		return new UnsuccessfulRequestException( URL, httpStatusCode, null, null, retryAfter );
+	}
+}
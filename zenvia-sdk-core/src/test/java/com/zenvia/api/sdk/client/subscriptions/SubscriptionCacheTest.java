@@ -0,0 +1,189 @@
+package com.zenvia.api.sdk.client.subscriptions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.exceptions.HttpIOException;
+import com.zenvia.api.sdk.messages.MessageDirection;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class SubscriptionCacheTest {
+	private static final String URL = "https://example.com/webhook";
+
+	private final AtomicLong clock = new AtomicLong( 1_000_000_000L );
+
+	private final SubscriptionCache cache = new SubscriptionCache( 1000L, clock::get );
+
+	private final MessageSubscription message = new MessageSubscription( "1", new Webhook( URL ), new MessageCriteria( ChannelType.whatsapp, MessageDirection.IN ), SubscriptionStatus.ACTIVE, null, null );
+
+	private final MessageStatusSubscription messageStatus = new MessageStatusSubscription( "2", new Webhook( URL ), new Criteria( ChannelType.whatsapp ), SubscriptionStatus.ACTIVE, null, null );
+
+	private final MessageStatusSubscription otherChannel = new MessageStatusSubscription( "3", new Webhook( URL ), new Criteria( ChannelType.sms ), SubscriptionStatus.INACTIVE, null, null );
+
+	private final AtomicInteger listCalls = new AtomicInteger();
+
+	private final AtomicInteger getCalls = new AtomicInteger();
+
+
+	@Test
+	public void defaults() {
+		assertEquals( SubscriptionCache.DEFAULT_TTL, new SubscriptionCache().getTtl() );
+		assertEquals( 1000L, cache.getTtl() );
+	}
+
+
+	@Test
+	public void listIsServedFromTheSnapshotUntilItExpires() {
+		List<Subscription> first = cache.list( this::load );
+		assertEquals( 3, first.size() );
+		assertSame( first, cache.list( this::load ) );
+		assertEquals( 1, listCalls.get() );
+
+		advance( 999 );
+		cache.list( this::load );
+		assertEquals( 1, listCalls.get() );
+
+		advance( 1 );
+		cache.list( this::load );
+		assertEquals( 2, listCalls.get() );
+	}
+
+
+	@Test
+	public void findLooksUpTheIndex() {
+		assertEquals( Arrays.asList( message ), cache.find( URL, ChannelType.whatsapp, EventType.MESSAGE, this::load ) );
+		assertEquals( Arrays.asList( messageStatus ), cache.find( URL, ChannelType.whatsapp, EventType.MESSAGE_STATUS, this::load ) );
+		assertEquals( Arrays.asList( otherChannel ), cache.find( URL, ChannelType.sms, EventType.MESSAGE_STATUS, this::load ) );
+		assertTrue( cache.find( URL, ChannelType.sms, EventType.MESSAGE, this::load ).isEmpty() );
+		assertTrue( cache.find( "https://example.com/other", ChannelType.whatsapp, EventType.MESSAGE, this::load ).isEmpty() );
+		assertEquals( 1, listCalls.get() );
+	}
+
+
+	@Test
+	public void getIsServedFromTheSnapshot() {
+		cache.list( this::load );
+		assertSame( messageStatus, cache.get( "2", this::fetch ) );
+		assertEquals( 0, getCalls.get() );
+	}
+
+
+	@Test
+	public void getKeepsSubscriptionsFetchedById() {
+		assertSame( message, cache.get( "1", this::fetch ) );
+		assertSame( message, cache.get( "1", this::fetch ) );
+		assertEquals( 1, getCalls.get() );
+
+		advance( 1000 );
+		cache.get( "1", this::fetch );
+		assertEquals( 2, getCalls.get() );
+	}
+
+
+	@Test
+	public void invalidateDropsTheSnapshotAndTheSubscription() {
+		cache.list( this::load );
+		cache.get( "1", this::fetch );
+		cache.get( "4", this::fetch );
+
+		cache.invalidate( "4" );
+		cache.list( this::load );
+		cache.get( "4", this::fetch );
+		assertEquals( 2, listCalls.get() );
+		assertEquals( 2, getCalls.get() );
+
+		cache.invalidate( null );
+		cache.get( "4", this::fetch );
+		assertEquals( 2, getCalls.get() );
+
+		cache.invalidateAll();
+		cache.get( "4", this::fetch );
+		assertEquals( 3, getCalls.get() );
+	}
+
+
+	@Test
+	public void putKeepsTheSubscriptionReturnedByTheApi() {
+		cache.put( message );
+		assertSame( message, cache.get( "1", this::fetch ) );
+		assertEquals( 0, getCalls.get() );
+
+		cache.put( new MessageSubscription( new Webhook( URL ), new MessageCriteria( ChannelType.whatsapp, MessageDirection.IN ) ) );
+		cache.put( null );
+	}
+
+
+	@Test
+	public void readsStartedBeforeAnInvalidationAreNotKept() {
+		Supplier<List<Subscription>> racingLoader = () -> {
+			List<Subscription> subscriptions = load();
+			cache.invalidate( "1" );
+			return subscriptions;
+		};
+		assertEquals( 3, cache.list( racingLoader ).size() );
+		cache.list( this::load );
+		assertEquals( 2, listCalls.get() );
+
+		cache.invalidateAll();
+		cache.get( "1", ( id ) -> {
+			Subscription subscription = fetch( id );
+			cache.invalidate( id );
+			return subscription;
+		} );
+		cache.get( "1", this::fetch );
+		assertEquals( 2, getCalls.get() );
+	}
+
+
+	@Test
+	public void failuresAreNotKept() {
+		try {
+			cache.list( () -> {
+				throw new HttpIOException( "http://localhost", new IOException() );
+			} );
+			fail();
+		} catch( HttpIOException exception ) {
+		}
+		cache.list( this::load );
+		assertEquals( 1, listCalls.get() );
+	}
+
+
+	@Test( expected = IllegalArgumentException.class )
+	public void negativeTtlIsRefused() {
+		new SubscriptionCache( -1L );
+	}
+
+
+	private List<Subscription> load() {
+		listCalls.incrementAndGet();
+		return Arrays.asList( message, messageStatus, otherChannel );
+	}
+
+
+	private Subscription fetch( String id ) {
+		getCalls.incrementAndGet();
+		return "1".equals( id ) ? message : new MessageStatusSubscription( id, new Webhook( URL ), new Criteria( ChannelType.sms ), SubscriptionStatus.ACTIVE, null, null );
+	}
+
+
+	private void advance( long millis ) {
+		clock.addAndGet( TimeUnit.MILLISECONDS.toNanos( millis ) );
+	}
+}
@@ -5,13 +5,25 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.FixMethodOrder;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runners.MethodSorters;
 
 import com.zenvia.api.sdk.client.AbstractClient;
@@ -22,6 +34,7 @@ import com.zenvia.api.sdk.client.exceptions.HttpIOException;
 import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
 import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
 import com.zenvia.api.sdk.client.subscriptions.Criteria;
+import com.zenvia.api.sdk.client.subscriptions.EventType;
 import com.zenvia.api.sdk.client.subscriptions.MessageCriteria;
 import com.zenvia.api.sdk.client.subscriptions.MessageStatusSubscription;
 import com.zenvia.api.sdk.client.subscriptions.MessageSubscription;
@@ -29,10 +42,17 @@ import com.zenvia.api.sdk.client.subscriptions.Subscription;
 import com.zenvia.api.sdk.client.subscriptions.SubscriptionStatus;
 import com.zenvia.api.sdk.client.subscriptions.Webhook;
 import com.zenvia.api.sdk.messages.MessageDirection;
+import com.zenvia.api.sdk.webhook.dispatch.EventDeduplicator;
+import com.zenvia.api.sdk.webhook.dispatch.EventDispatcher;
+import com.zenvia.api.sdk.webhook.dispatch.RejectionPolicy;
+import com.zenvia.api.sdk.webhook.spool.EventSpool;
 
 
 @FixMethodOrder( MethodSorters.NAME_ASCENDING )
 public class AbstractWebhookControllerTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
 	
 	private final Field messageEventHandlerField;
 	
@@ -51,6 +71,10 @@ public class AbstractWebhookControllerTest {
 	private static boolean messageStatusSubscriptionCreated;
 	
 	private static Subscription[] subscriptions;
+
+	private static final AtomicInteger subscriptionLists = new AtomicInteger();
+
+	private static final List<Subscription> createdSubscriptions = new CopyOnWriteArrayList<>();
 	
 	private MessageEventCallback messageHandler = new MessageEventCallback() {
 		public void onMessageEvent(MessageEvent message) {}
@@ -66,6 +90,8 @@ public class AbstractWebhookControllerTest {
 		messageSubscriptionCreated = false;
 		messageStatusSubscriptionCreated = false;
 		subscriptions = new Subscription[] {}; 
+		subscriptionLists.set(0);
+		createdSubscriptions.clear();
 	}
 
 	public AbstractWebhookControllerTest() throws Exception {
@@ -196,6 +222,43 @@ public class AbstractWebhookControllerTest {
 		assertTrue(messageStatusSubscriptionCreated);
 	}
 
+	@Test
+	public void shouldCreateMissingSubscriptionsOfEveryChannelWithASingleList() throws Exception {
+		subscriptions = new Subscription[] { messageSubscription(), messageStatusSubscription() };
+		AbstractClient client = new TestClient("TOKEN");
+		AbstractWebhookController webhook = new TestWebhookController(messageHandler, messageStatusHandler, client, "http://localhost", ChannelType.whatsapp );
+		webhook.setChannels(Arrays.asList(ChannelType.sms, ChannelType.facebook));
+		assertEquals(EnumSet.of(ChannelType.whatsapp, ChannelType.sms, ChannelType.facebook), webhook.getChannels());
+		webhook.init();
+		assertEquals(1, subscriptionLists.get());
+		assertEquals(4, createdSubscriptions.size());
+		for (ChannelType channel : Arrays.asList(ChannelType.sms, ChannelType.facebook)) {
+			for (EventType eventType : EventType.values()) {
+				assertEquals(1, createdSubscriptions.stream()
+					.filter(subscription -> subscription.eventType == eventType && subscription.criteria.channel == channel && "http://localhost".equals(subscription.webhook.url))
+					.count());
+			}
+		}
+	}
+
+	@Test
+	public void shouldCreateSubscriptionsOfTheChannelsSetWithoutAConstructorChannel() throws Exception {
+		AbstractClient client = new TestClient("TOKEN");
+		AbstractWebhookController webhook = new TestWebhookController(messageStatusHandler, client, "http://localhost", null );
+		webhook.init();
+		assertFalse(subscriptionListed);
+
+		webhook.setChannels(EnumSet.of(ChannelType.sms));
+		webhook.init();
+		assertEquals(1, subscriptionLists.get());
+		assertEquals(1, createdSubscriptions.size());
+		assertEquals(EventType.MESSAGE_STATUS, createdSubscriptions.get(0).eventType);
+		assertEquals(ChannelType.sms, createdSubscriptions.get(0).criteria.channel);
+
+		webhook.setChannels(null);
+		assertTrue(webhook.getChannels().isEmpty());
+	}
+
 	@Test
 	public void constructor1() throws Exception {
 		AbstractWebhookController webhook = new TestWebhookController( messageHandler );
@@ -310,6 +373,168 @@ public class AbstractWebhookControllerTest {
 		assertEquals( ChannelType.whatsapp, channelField.get( webhook ) );
 	}
 
+	@Test
+	public void eventIsReadAndDispatchedToItsCallback() throws Exception {
+		List<Event> received = new ArrayList<>();
+		AbstractWebhookController webhook = new TestWebhookController( received::add, received::add );
+		webhook.dispatch( webhook.readEvent( new ByteArrayInputStream(
+			"{\"id\":\"some-event-id\",\"type\":\"MESSAGE_STATUS\",\"channel\":\"sms\",\"messageId\":\"some-message-id\",\"messageStatus\":{\"code\":\"SENT\"}}".getBytes( StandardCharsets.UTF_8 )
+		) ) );
+		webhook.dispatch( webhook.readEvent( new ByteArrayInputStream(
+			"{\"id\":\"other-event-id\",\"type\":\"MESSAGE\",\"channel\":\"sms\",\"direction\":\"IN\",\"message\":{\"from\":\"from\",\"to\":\"to\",\"contents\":[]}}".getBytes( StandardCharsets.UTF_8 )
+		) ) );
+
+		assertEquals( 2, received.size() );
+		assertEquals( "some-event-id", received.get( 0 ).id );
+		assertEquals( MessageStatusCode.SENT, received.get( 0 ).ofMessageStatus().messageStatus.code );
+		assertEquals( "other-event-id", received.get( 1 ).id );
+		assertEquals( "from", received.get( 1 ).ofMessage().message.from );
+	}
+
+	@Test
+	public void eventWithoutCallbackIsIgnored() throws Exception {
+		List<Event> received = new ArrayList<>();
+		AbstractWebhookController webhook = new TestWebhookController( (MessageEventCallback) received::add );
+		webhook.dispatch( webhook.readEvent( new ByteArrayInputStream(
+			"{\"id\":\"some-event-id\",\"type\":\"MESSAGE_STATUS\",\"channel\":\"sms\",\"messageId\":\"some-message-id\",\"messageStatus\":{\"code\":\"SENT\"}}".getBytes( StandardCharsets.UTF_8 )
+		) ) );
+		assertTrue( received.isEmpty() );
+	}
+
+	@Test
+	public void eventIsSubmittedToTheDispatcher() throws Exception {
+		CountDownLatch release = new CountDownLatch( 1 );
+		List<String> threads = new ArrayList<>();
+		AbstractWebhookController webhook = new TestWebhookController( (MessageStatusEventCallback) ( event ) -> {
+			try {
+				release.await();
+			} catch( InterruptedException exception ) {
+				Thread.currentThread().interrupt();
+			}
+			threads.add( Thread.currentThread().getName() );
+		} );
+		EventDispatcher eventDispatcher = new EventDispatcher( 1, 1, RejectionPolicy.REJECT );
+		webhook.setEventDispatcher( eventDispatcher );
+		Event event = webhook.readEvent( new ByteArrayInputStream(
+			"{\"id\":\"some-event-id\",\"type\":\"MESSAGE_STATUS\",\"channel\":\"sms\",\"messageId\":\"some-message-id\",\"messageStatus\":{\"code\":\"SENT\"}}".getBytes( StandardCharsets.UTF_8 )
+		) );
+
+		assertTrue( webhook.submit( event ) );
+		while( eventDispatcher.getQueueSize() > 0 ) {
+			Thread.yield();
+		}
+		assertTrue( webhook.submit( event ) );
+		assertFalse( webhook.submit( event ) );
+		assertTrue( threads.isEmpty() );
+
+		release.countDown();
+		eventDispatcher.shutdown( TimeUnit.SECONDS.toMillis( 5 ) );
+		assertEquals( 2, threads.size() );
+		assertTrue( threads.get( 0 ).startsWith( "zenvia-webhook-" ) );
+	}
+
+	@Test
+	public void eventsAreDeliveredInBatchesWhenABatchCallbackIsSet() throws Exception {
+		List<Event> received = new ArrayList<>();
+		List<List<MessageStatusEvent>> batches = new ArrayList<>();
+		AbstractWebhookController webhook = new TestWebhookController( received::add, received::add );
+		webhook.setBatchMessageStatusEventCallback( batches::add, 2, 60000L );
+		Event event = webhook.readEvent( new ByteArrayInputStream(
+			"{\"id\":\"some-event-id\",\"type\":\"MESSAGE_STATUS\",\"channel\":\"sms\",\"messageId\":\"some-message-id\",\"messageStatus\":{\"code\":\"SENT\"}}".getBytes( StandardCharsets.UTF_8 )
+		) );
+		webhook.dispatch( event );
+		webhook.dispatch( event );
+		webhook.dispatch( event );
+		assertEquals( 1, batches.size() );
+		assertEquals( 2, batches.get( 0 ).size() );
+
+		webhook.shutdown();
+		assertEquals( 2, batches.size() );
+		assertEquals( 1, batches.get( 1 ).size() );
+		assertTrue( received.isEmpty() );
+	}
+
+	@Test
+	public void duplicateEventsAreAcknowledgedWithoutReachingTheCallbacks() throws Exception {
+		List<Event> received = new ArrayList<>();
+		AbstractWebhookController webhook = new TestWebhookController( received::add, received::add );
+		webhook.setEventDeduplicator( new EventDeduplicator( null, null ) );
+		Event event = webhook.readEvent( new ByteArrayInputStream(
+			"{\"id\":\"some-event-id\",\"type\":\"MESSAGE_STATUS\",\"channel\":\"sms\",\"messageId\":\"some-message-id\",\"messageStatus\":{\"code\":\"SENT\"}}".getBytes( StandardCharsets.UTF_8 )
+		) );
+		assertTrue( webhook.submit( event ) );
+		assertTrue( webhook.submit( event ) );
+		assertEquals( 1, received.size() );
+		assertEquals( 1, webhook.getEventDeduplicator().getHits() );
+	}
+
+	@Test
+	public void spooledEventsAreReplayedToTheCallbacks() throws Exception {
+		List<Event> received = new ArrayList<>();
+		CountDownLatch delivered = new CountDownLatch( 1 );
+		AbstractWebhookController webhook = new TestWebhookController( (MessageStatusEventCallback) ( event ) -> {
+			received.add( event );
+			delivered.countDown();
+		} );
+		webhook.setEventSpool( new EventSpool( folder.newFolder(), null, null ) );
+		webhook.start();
+		assertTrue( webhook.receive( new ByteArrayInputStream(
+			"{\"id\":\"some-event-id\",\"type\":\"MESSAGE_STATUS\",\"channel\":\"sms\",\"messageId\":\"some-message-id\",\"messageStatus\":{\"code\":\"SENT\"}}".getBytes( StandardCharsets.UTF_8 )
+		) ) );
+		assertTrue( delivered.await( 5, TimeUnit.SECONDS ) );
+		webhook.shutdown();
+		assertEquals( "some-event-id", received.get( 0 ).id );
+	}
+
+	@Test
+	public void spoolReplayWaitsForTheControllerToStart() throws Exception {
+		List<Event> received = new ArrayList<>();
+		List<MessageStatusEventView> views = new ArrayList<>();
+		CountDownLatch delivered = new CountDownLatch( 1 );
+		AbstractWebhookController webhook = new TestWebhookController( (MessageStatusEventCallback) received::add );
+		webhook.setEventSpool( new EventSpool( folder.newFolder(), null, null ) );
+		assertTrue( webhook.receive( new ByteArrayInputStream(
+			"{\"id\":\"some-event-id\",\"type\":\"MESSAGE_STATUS\",\"channel\":\"sms\",\"messageId\":\"some-message-id\",\"messageStatus\":{\"code\":\"SENT\"}}".getBytes( StandardCharsets.UTF_8 )
+		) ) );
+		webhook.setMessageStatusEventViewCallback( ( view ) -> {
+			views.add( view );
+			delivered.countDown();
+		} );
+		webhook.start();
+		assertTrue( delivered.await( 5, TimeUnit.SECONDS ) );
+		webhook.shutdown();
+		assertEquals( "some-message-id", views.get( 0 ).getMessageId() );
+		assertTrue( received.isEmpty() );
+	}
+
+	@Test( expected = IllegalStateException.class )
+	public void eventSpoolCanNotBeSetOnceStarted() throws Exception {
+		AbstractWebhookController webhook = new TestWebhookController( (MessageStatusEventCallback) ( event ) -> {} );
+		webhook.start();
+		webhook.setEventSpool( new EventSpool( folder.newFolder(), null, null ) );
+	}
+
+	@Test
+	public void statusEventsAreDeliveredAsViewsWhenAViewCallbackIsSet() throws Exception {
+		List<Event> received = new ArrayList<>();
+		List<MessageStatusEventView> views = new ArrayList<>();
+		AbstractWebhookController webhook = new TestWebhookController( received::add, received::add );
+		webhook.setMessageStatusEventViewCallback( views::add );
+		webhook.setEventDeduplicator( new EventDeduplicator( null, null ) );
+		byte[] status = "{\"id\":\"some-event-id\",\"type\":\"MESSAGE_STATUS\",\"channel\":\"sms\",\"messageId\":\"some-message-id\",\"messageStatus\":{\"code\":\"SENT\"}}".getBytes( StandardCharsets.UTF_8 );
+		assertTrue( webhook.receive( new ByteArrayInputStream( status ) ) );
+		assertTrue( webhook.receive( new ByteArrayInputStream( status ) ) );
+		assertTrue( webhook.receive( new ByteArrayInputStream(
+			"{\"id\":\"other-event-id\",\"type\":\"MESSAGE\",\"channel\":\"sms\",\"direction\":\"IN\",\"message\":{\"from\":\"from\",\"to\":\"to\",\"contents\":[]}}".getBytes( StandardCharsets.UTF_8 )
+		) ) );
+
+		assertEquals( 1, views.size() );
+		assertEquals( "some-message-id", views.get( 0 ).getMessageId() );
+		assertEquals( MessageStatusCode.SENT, views.get( 0 ).getMessageStatusCode() );
+		assertEquals( 1, received.size() );
+		assertEquals( "other-event-id", received.get( 0 ).id );
+	}
+
 	private static MessageSubscription messageSubscription() {
 		return new MessageSubscription(
 			"123",
@@ -417,6 +642,7 @@ public class AbstractWebhookControllerTest {
 			throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
 			if( url.equals( "https://api.zenvia.com/v1/subscriptions" ) && responseBodyType == Subscription[].class ) {
 				subscriptionListed = true;
+				subscriptionLists.incrementAndGet();
 				return (RESPONSE) subscriptions;
 			}
 			throw new IllegalArgumentException();
@@ -434,10 +660,12 @@ public class AbstractWebhookControllerTest {
 			throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
 			if( url.equals( "https://api.zenvia.com/v1/subscriptions" ) && MessageSubscription.class.isAssignableFrom( requestBody.getClass() ) && responseBodyType == Subscription.class ) {
 				messageSubscriptionCreated = true;
+				createdSubscriptions.add((Subscription) requestBody);
 				return (RESPONSE) requestBody;
 			}
 			if( url.equals( "https://api.zenvia.com/v1/subscriptions" ) && MessageStatusSubscription.class.isAssignableFrom( requestBody.getClass() ) && responseBodyType == Subscription.class ) {
 				messageStatusSubscriptionCreated = true;
+				createdSubscriptions.add((Subscription) requestBody);
 				return (RESPONSE) requestBody;
 			}
 			throw new IllegalArgumentException();
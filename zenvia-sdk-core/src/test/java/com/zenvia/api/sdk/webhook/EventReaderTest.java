@@ -0,0 +1,108 @@
+package com.zenvia.api.sdk.webhook;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.zenvia.api.sdk.JsonCodec;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.subscriptions.EventType;
+import com.zenvia.api.sdk.messages.MessageDirection;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class EventReaderTest {
+	private final EventReader eventReader = EventReader.shared();
+
+
+	@Test
+	public void messageEventWithTypeAfterTheMessage() throws IOException {
+		Event event = eventReader.read( bytes(
+			"{\"id\":\"some-event-id\",\"timestamp\":\"2019-06-03T15:50:43-03:00\",\"message\":{\"from\":\"some-from\",\"to\":\"some-to\",\"direction\":\"IN\",\"channel\":\"whatsapp\",\"contents\":[{\"type\":\"text\",\"text\":\"This is a test!\"}]},\"subscriptionId\":\"some-subs-id\",\"channel\":\"whatsapp\",\"direction\":\"IN\",\"type\":\"MESSAGE\"}"
+		) );
+
+		assertEquals( MessageEvent.class, event.getClass() );
+		assertEquals( EventType.MESSAGE, event.type );
+		assertEquals( "some-event-id", event.id );
+		assertEquals( ZonedDateTime.parse( "2019-06-03T15:50:43-03:00" ).toInstant(), event.timestamp.toInstant() );
+		assertEquals( "some-subs-id", event.subscriptionId );
+		assertEquals( ChannelType.whatsapp, event.channel );
+		MessageEvent messageEvent = event.ofMessage();
+		assertEquals( MessageDirection.IN, messageEvent.direction );
+		assertEquals( "some-from", messageEvent.message.from );
+		assertEquals( "This is a test!", messageEvent.message.contents.get( 0 ).ofText().text );
+	}
+
+
+	@Test
+	public void messageStatusEventFromStream() throws IOException {
+		Event event = eventReader.read( new ByteArrayInputStream( bytes(
+			"{\"id\":\"some-event-id\",\"timestamp\":\"2019-06-03T15:50:43-03:00\",\"type\":\"MESSAGE_STATUS\",\"subscriptionId\":\"some-subs-id\",\"channel\":\"whatsapp\",\"messageId\":\"some-message-id\",\"contentIndex\":0,\"messageStatus\":{\"timestamp\":\"2019-06-10T15:30:35-03:00\",\"code\":\"REJECTED\",\"causes\":[{\"channelErrorCode\":500,\"reason\":\"some-reason\"}]}}"
+		) ) );
+
+		assertEquals( MessageStatusEvent.class, event.getClass() );
+		assertEquals( EventType.MESSAGE_STATUS, event.type );
+		MessageStatusEvent messageStatusEvent = event.ofMessageStatus();
+		assertEquals( "some-message-id", messageStatusEvent.messageId );
+		assertEquals( Integer.valueOf( 0 ), messageStatusEvent.contentIndex );
+		assertEquals( MessageStatusCode.REJECTED, messageStatusEvent.messageStatus.code );
+		assertEquals( "500", messageStatusEvent.messageStatus.causes.get( 0 ).channelErrorCode );
+	}
+
+
+	@Test
+	public void unknownPropertiesAreIgnored() throws IOException {
+		byte[] body = bytes(
+			"{\"id\":\"some-event-id\",\"type\":\"MESSAGE_STATUS\",\"newField\":1,\"messageId\":\"some-message-id\",\"messageStatus\":{\"code\":\"DELIVERED\",\"newField\":{\"name\":\"value\"},\"causes\":[{\"reason\":\"some-reason\",\"newField\":[]}]}}"
+		);
+
+		MessageStatusEvent event = eventReader.read( body ).ofMessageStatus();
+		assertEquals( MessageStatusCode.DELIVERED, event.messageStatus.code );
+		assertEquals( "some-reason", event.messageStatus.causes.get( 0 ).reason );
+
+		event = JsonCodec.shared().reader( Event.class ).<Event>readValue( body ).ofMessageStatus();
+		assertEquals( "some-message-id", event.messageId );
+		assertEquals( MessageStatusCode.DELIVERED, event.messageStatus.code );
+	}
+
+
+	@Test
+	public void peekTypeOnlyLooksAtTheTopLevel() throws IOException {
+		assertEquals( "MESSAGE", eventReader.peekType( bytes( "{\"id\":\"1\",\"type\":\"MESSAGE\",\"message\":{\"broken\"" ) ) );
+		assertNull( eventReader.peekType( bytes( "{\"message\":{\"contents\":[{\"type\":\"text\"}]}}" ) ) );
+		assertNull( eventReader.peekType( bytes( "{\"type\":1}" ) ) );
+		assertNull( eventReader.peekType( bytes( "[]" ) ) );
+	}
+
+
+	@Test( expected = JsonProcessingException.class )
+	public void unknownTypeIsRefused() throws IOException {
+		eventReader.read( bytes( "{\"type\":\"new\"}" ) );
+	}
+
+
+	@Test( expected = JsonProcessingException.class )
+	public void missingTypeIsRefused() throws IOException {
+		eventReader.read( bytes( "{\"id\":\"some-event-id\"}" ) );
+	}
+
+
+	@Test( expected = JsonProcessingException.class )
+	public void invalidJsonIsRefused() throws IOException {
+		eventReader.read( bytes( "{\"id\":" ) );
+	}
+
+
+	private static byte[] bytes( String json ) {
+		return json.getBytes( StandardCharsets.UTF_8 );
+	}
+}
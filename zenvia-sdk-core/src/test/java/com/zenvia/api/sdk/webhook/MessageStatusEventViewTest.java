@@ -0,0 +1,75 @@
+package com.zenvia.api.sdk.webhook;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.zenvia.api.sdk.client.ChannelType;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class MessageStatusEventViewTest {
+	private static final String STATUS = "{\"id\":\"some-event-id\",\"timestamp\":\"2019-06-03T15:50:43-03:00\",\"messageStatus\":{\"timestamp\":\"2019-06-10T15:30:35.456-03:00\",\"code\":\"REJECTED\",\"description\":\"some-description\",\"causes\":[{\"channelErrorCode\":500,\"reason\":\"some-reason\"}]},\"type\":\"MESSAGE_STATUS\",\"subscriptionId\":\"some-subs-id\",\"channel\":\"whatsapp\",\"messageId\":\"some-message-id\",\"contentIndex\":1}";
+
+
+	@Test
+	public void propertiesAreDecodedLikeTheEvent() throws IOException {
+		MessageStatusEventView view = MessageStatusEventView.of( bytes( STATUS ) );
+		MessageStatusEvent event = view.toEvent();
+
+		assertEquals( event.id, view.getId() );
+		assertEquals( event.timestamp, view.getTimestamp() );
+		assertEquals( event.subscriptionId, view.getSubscriptionId() );
+		assertEquals( ChannelType.whatsapp, view.getChannel() );
+		assertEquals( "some-message-id", view.getMessageId() );
+		assertEquals( Integer.valueOf( 1 ), view.getContentIndex() );
+		assertEquals( MessageStatusCode.REJECTED, view.getMessageStatusCode() );
+		MessageStatus messageStatus = view.getMessageStatus();
+		assertEquals( event.messageStatus.timestamp, messageStatus.timestamp );
+		assertEquals( "some-description", messageStatus.description );
+		assertEquals( "500", messageStatus.causes.get( 0 ).channelErrorCode );
+	}
+
+
+	@Test
+	public void missingPropertiesAreNull() throws IOException {
+		MessageStatusEventView view = MessageStatusEventView.of( bytes( "{\"type\":\"MESSAGE_STATUS\",\"messageId\":null}" ) );
+		assertNull( view.getId() );
+		assertNull( view.getTimestamp() );
+		assertNull( view.getChannel() );
+		assertNull( view.getMessageId() );
+		assertNull( view.getContentIndex() );
+		assertNull( view.getMessageStatusCode() );
+		assertNull( view.getMessageStatus() );
+	}
+
+
+	@Test( expected = JsonProcessingException.class )
+	public void otherTypesAreRefused() throws IOException {
+		MessageStatusEventView.of( bytes( "{\"id\":\"some-event-id\",\"type\":\"MESSAGE\"}" ) );
+	}
+
+
+	@Test( expected = JsonProcessingException.class )
+	public void missingTypeIsRefused() throws IOException {
+		MessageStatusEventView.of( bytes( "{\"id\":\"some-event-id\"}" ) );
+	}
+
+
+	@Test( expected = JsonProcessingException.class )
+	public void invalidJsonIsRefused() throws IOException {
+		MessageStatusEventView.of( bytes( "{\"type\":\"MESSAGE_STATUS\",\"messageStatus\":{\"code\":" ) );
+	}
+
+
+	private static byte[] bytes( String json ) {
+		return json.getBytes( StandardCharsets.UTF_8 );
+	}
+}
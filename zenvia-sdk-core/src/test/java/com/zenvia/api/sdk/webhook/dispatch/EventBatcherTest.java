@@ -0,0 +1,150 @@
+package com.zenvia.api.sdk.webhook.dispatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class EventBatcherTest {
+	@Test
+	public void defaults() {
+		EventBatcher<String> eventBatcher = new EventBatcher<>( ( batch ) -> {}, null, null );
+		assertEquals( EventBatcher.DEFAULT_MAX_BATCH_SIZE, eventBatcher.getMaxBatchSize() );
+		assertEquals( EventBatcher.DEFAULT_LINGER_TIME, eventBatcher.getLingerTime() );
+		eventBatcher.close();
+	}
+
+
+	@Test( expected = IllegalArgumentException.class )
+	public void maxBatchSizeMustBePositive() {
+		new EventBatcher<>( ( batch ) -> {}, 0, null );
+	}
+
+
+	@Test
+	public void fullBatchIsDeliveredByTheCaller() {
+		List<List<String>> batches = new ArrayList<>();
+		List<Thread> threads = new ArrayList<>();
+		EventBatcher<String> eventBatcher = new EventBatcher<>( ( batch ) -> {
+			batches.add( batch );
+			threads.add( Thread.currentThread() );
+		}, 3, 60000L );
+		for( int i = 0; i < 7; i++ ) {
+			eventBatcher.add( "event-" + i );
+		}
+		assertEquals( Arrays.asList(
+			Arrays.asList( "event-0", "event-1", "event-2" ),
+			Arrays.asList( "event-3", "event-4", "event-5" )
+		), batches );
+		assertEquals( Collections.nCopies( 2, Thread.currentThread() ), threads );
+
+		eventBatcher.close();
+		assertEquals( Collections.singletonList( "event-6" ), batches.get( 2 ) );
+	}
+
+
+	@Test
+	public void batchesNeverExceedTheMaxBatchSizeUnderConcurrency() throws Exception {
+		List<List<String>> batches = Collections.synchronizedList( new ArrayList<>() );
+		EventBatcher<String> eventBatcher = new EventBatcher<>( ( batch ) -> {
+			batches.add( batch );
+			try {
+				// A slow callback, while the other threads keep adding
+				Thread.sleep( 1 );
+			} catch( InterruptedException exception ) {
+				Thread.currentThread().interrupt();
+			}
+		}, 10, 60000L );
+		ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		CountDownLatch start = new CountDownLatch( 1 );
+		List<Future<?>> futures = new ArrayList<>();
+		for( int t = 0; t < 8; t++ ) {
+			int thread = t;
+			futures.add( executor.submit( () -> {
+				start.await();
+				for( int i = 0; i < 250; i++ ) {
+					eventBatcher.add( thread + "-" + i );
+				}
+				return null;
+			} ) );
+		}
+		start.countDown();
+		for( Future<?> future : futures ) {
+			future.get( 30, TimeUnit.SECONDS );
+		}
+		executor.shutdown();
+		eventBatcher.close();
+
+		Map<String,Integer> lastOfThread = new HashMap<>();
+		int delivered = 0;
+		for( List<String> batch : batches ) {
+			assertTrue( "batch of " + batch.size(), batch.size() <= 10 );
+			delivered += batch.size();
+			for( String event : batch ) {
+				String[] parts = event.split( "-" );
+				Integer last = lastOfThread.put( parts[ 0 ], Integer.valueOf( parts[ 1 ] ) );
+				assertTrue( event, last == null || last < Integer.parseInt( parts[ 1 ] ) );
+			}
+		}
+		assertEquals( 2000, delivered );
+	}
+
+
+	@Test
+	public void partialBatchIsDeliveredAfterTheLingerTime() throws Exception {
+		CountDownLatch delivered = new CountDownLatch( 1 );
+		List<List<String>> batches = Collections.synchronizedList( new ArrayList<>() );
+		EventBatcher<String> eventBatcher = new EventBatcher<>( ( batch ) -> {
+			batches.add( batch );
+			delivered.countDown();
+		}, 100, 50L );
+		long start = System.nanoTime();
+		eventBatcher.add( "event-0" );
+		eventBatcher.add( "event-1" );
+
+		assertTrue( delivered.await( 5, TimeUnit.SECONDS ) );
+		assertTrue( System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos( 50 ) );
+		assertEquals( Collections.singletonList( Arrays.asList( "event-0", "event-1" ) ), batches );
+		eventBatcher.close();
+	}
+
+
+	@Test
+	public void eventsAddedAfterCloseAreDeliveredRightAway() {
+		List<List<String>> batches = new ArrayList<>();
+		EventBatcher<String> eventBatcher = new EventBatcher<>( batches::add, 100, 60000L );
+		eventBatcher.close();
+		eventBatcher.add( "event-0" );
+		assertEquals( Collections.singletonList( Collections.singletonList( "event-0" ) ), batches );
+	}
+
+
+	@Test
+	public void callbackExceptionsAreIgnored() {
+		List<List<String>> batches = new ArrayList<>();
+		EventBatcher<String> eventBatcher = new EventBatcher<>( ( batch ) -> {
+			batches.add( batch );
+			throw new IllegalStateException( "failed" );
+		}, 1, 60000L );
+		eventBatcher.add( "event-0" );
+		eventBatcher.add( "event-1" );
+		assertEquals( 2, batches.size() );
+		eventBatcher.close();
+	}
+}
@@ -0,0 +1,86 @@
+package com.zenvia.api.sdk.webhook.dispatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class EventDeduplicatorTest {
+	private final AtomicLong clock = new AtomicLong( 1_000_000_000L );
+
+
+	@Test
+	public void duplicatesAreDetected() {
+		EventDeduplicator eventDeduplicator = new EventDeduplicator( 1000, 60000L, clock::get );
+		assertTrue( eventDeduplicator.firstSeen( "a" ) );
+		assertTrue( eventDeduplicator.firstSeen( "b" ) );
+		assertFalse( eventDeduplicator.firstSeen( "a" ) );
+		assertFalse( eventDeduplicator.firstSeen( "a" ) );
+		assertEquals( 2, eventDeduplicator.getHits() );
+		assertEquals( 2, eventDeduplicator.getMisses() );
+		assertEquals( 2, eventDeduplicator.size() );
+	}
+
+
+	@Test
+	public void idsExpireAfterTheTimeToLive() {
+		EventDeduplicator eventDeduplicator = new EventDeduplicator( 1000, 1000L, clock::get );
+		assertTrue( eventDeduplicator.firstSeen( "a" ) );
+		clock.addAndGet( TimeUnit.MILLISECONDS.toNanos( 999 ) );
+		assertFalse( eventDeduplicator.firstSeen( "a" ) );
+		clock.addAndGet( TimeUnit.MILLISECONDS.toNanos( 1 ) );
+		assertTrue( eventDeduplicator.firstSeen( "a" ) );
+	}
+
+
+	@Test
+	public void sizeIsBounded() {
+		EventDeduplicator eventDeduplicator = new EventDeduplicator( 160, 60000L, clock::get );
+		for( int i = 0; i < 10000; i++ ) {
+			eventDeduplicator.firstSeen( "event-" + i );
+		}
+		assertTrue( eventDeduplicator.size() <= 160 );
+		assertTrue( eventDeduplicator.firstSeen( "event-0" ) );
+		assertFalse( eventDeduplicator.firstSeen( "event-9999" ) );
+	}
+
+
+	@Test
+	public void forgottenIdsAreSeenAgain() {
+		EventDeduplicator eventDeduplicator = new EventDeduplicator( 1000, 60000L, clock::get );
+		assertTrue( eventDeduplicator.firstSeen( "a" ) );
+		eventDeduplicator.forget( "a" );
+		assertTrue( eventDeduplicator.firstSeen( "a" ) );
+	}
+
+
+	@Test
+	public void eachIdIsSeenFirstOnceAcrossThreads() throws Exception {
+		EventDeduplicator eventDeduplicator = new EventDeduplicator( 100000, 60000L );
+		AtomicInteger first = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		for( int i = 0; i < 8000; i++ ) {
+			String id = "event-" + ( i % 1000 );
+			executor.execute( () -> {
+				if( eventDeduplicator.firstSeen( id ) ) {
+					first.incrementAndGet();
+				}
+			} );
+		}
+		executor.shutdown();
+		assertTrue( executor.awaitTermination( 10, TimeUnit.SECONDS ) );
+		assertEquals( 1000, first.get() );
+		assertEquals( 7000, eventDeduplicator.getHits() );
+	}
+}
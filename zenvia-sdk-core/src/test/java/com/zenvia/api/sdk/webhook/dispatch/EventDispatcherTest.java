@@ -0,0 +1,240 @@
+package com.zenvia.api.sdk.webhook.dispatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.zenvia.api.sdk.JsonCodec;
+import com.zenvia.api.sdk.ThreadMode;
+import com.zenvia.api.sdk.webhook.Event;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class EventDispatcherTest {
+	@Test
+	public void defaults() {
+		EventDispatcher eventDispatcher = new EventDispatcher( null, null, null );
+		assertEquals( EventDispatcher.DEFAULT_WORKERS, eventDispatcher.getWorkers() );
+		assertEquals( EventDispatcher.DEFAULT_QUEUE_CAPACITY, eventDispatcher.getQueueCapacity() );
+		assertEquals( RejectionPolicy.BLOCK, eventDispatcher.getRejectionPolicy() );
+		assertEquals( ThreadMode.PLATFORM, eventDispatcher.getThreadMode() );
+		eventDispatcher.shutdown();
+	}
+
+
+	@Test
+	public void virtualThreadModeDeliversEvents() throws Exception {
+		CountDownLatch delivered = new CountDownLatch( 20 );
+		EventDispatcher eventDispatcher = new EventDispatcher( 4, 20, RejectionPolicy.BLOCK, EventKeyExtractor.DEFAULT, ThreadMode.VIRTUAL );
+		assertEquals( ThreadMode.VIRTUAL.effective(), eventDispatcher.getThreadMode() );
+		for( int i = 0; i < 20; i++ ) {
+			assertTrue( eventDispatcher.submit( delivered::countDown ) );
+		}
+		assertTrue( delivered.await( 5, TimeUnit.SECONDS ) );
+		eventDispatcher.shutdown();
+	}
+
+
+	@Test( expected = IllegalArgumentException.class )
+	public void workersMustBePositive() {
+		new EventDispatcher( 0, null, null );
+	}
+
+
+	@Test( expected = IllegalArgumentException.class )
+	public void queueCapacityMustBePositive() {
+		new EventDispatcher( null, 0, null );
+	}
+
+
+	@Test
+	public void blockWaitsForRoomInTheQueue() throws Exception {
+		CountDownLatch started = new CountDownLatch( 1 );
+		CountDownLatch release = new CountDownLatch( 1 );
+		EventDispatcher eventDispatcher = new EventDispatcher( 1, 1, RejectionPolicy.BLOCK );
+		assertTrue( eventDispatcher.submit( () -> {
+			started.countDown();
+			await( release );
+		} ) );
+		// The worker must have taken the first event, or the second one does not fit in the queue
+		assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+		assertTrue( eventDispatcher.submit( () -> {} ) );
+
+		AtomicBoolean submitted = new AtomicBoolean();
+		Thread caller = new Thread( () -> submitted.set( eventDispatcher.submit( () -> {} ) ) );
+		caller.start();
+		caller.join( 200 );
+		assertTrue( caller.isAlive() );
+
+		release.countDown();
+		caller.join( 5000 );
+		assertTrue( submitted.get() );
+		eventDispatcher.shutdown();
+	}
+
+
+	@Test
+	public void callerRunsWhenTheQueueIsFull() throws Exception {
+		CountDownLatch started = new CountDownLatch( 1 );
+		CountDownLatch release = new CountDownLatch( 1 );
+		EventDispatcher eventDispatcher = new EventDispatcher( 1, 1, RejectionPolicy.CALLER_RUNS );
+		assertTrue( eventDispatcher.submit( () -> {
+			started.countDown();
+			await( release );
+		} ) );
+		// The worker must have taken the first event, or the second one does not fit in the queue
+		assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+		assertTrue( eventDispatcher.submit( () -> {} ) );
+
+		AtomicReference<Thread> runner = new AtomicReference<>();
+		assertTrue( eventDispatcher.submit( () -> runner.set( Thread.currentThread() ) ) );
+		assertEquals( Thread.currentThread(), runner.get() );
+		release.countDown();
+		eventDispatcher.shutdown();
+	}
+
+
+	@Test
+	public void eventsAreRefusedAfterShutdown() {
+		for( RejectionPolicy rejectionPolicy : RejectionPolicy.values() ) {
+			AtomicBoolean delivered = new AtomicBoolean();
+			EventDispatcher eventDispatcher = new EventDispatcher( 1, 1, rejectionPolicy );
+			eventDispatcher.shutdown();
+			assertFalse( rejectionPolicy.name(), eventDispatcher.submit( () -> delivered.set( true ) ) );
+			assertFalse( rejectionPolicy.name(), delivered.get() );
+		}
+	}
+
+
+	@Test
+	public void shutdownDeliversQueuedEvents() {
+		CountDownLatch release = new CountDownLatch( 1 );
+		AtomicInteger delivered = new AtomicInteger();
+		EventDispatcher eventDispatcher = new EventDispatcher( 1, 11, RejectionPolicy.REJECT );
+		eventDispatcher.submit( () -> await( release ) );
+		for( int i = 0; i < 10; i++ ) {
+			assertTrue( eventDispatcher.submit( delivered::incrementAndGet ) );
+		}
+		release.countDown();
+		eventDispatcher.shutdown( TimeUnit.SECONDS.toMillis( 5 ) );
+		assertEquals( 10, delivered.get() );
+		assertFalse( eventDispatcher.submit( delivered::incrementAndGet ) );
+	}
+
+
+	@Test
+	public void orderedDispatcherKeepsTheOrderOfEachKey() throws Exception {
+		Map<String,List<Integer>> delivered = new HashMap<>();
+		for( int key = 0; key < 8; key++ ) {
+			delivered.put( "message-" + key, Collections.synchronizedList( new ArrayList<>() ) );
+		}
+		EventDispatcher eventDispatcher = new EventDispatcher( 4, 400, RejectionPolicy.BLOCK, EventKeyExtractor.DEFAULT );
+		for( int sequence = 0; sequence < 50; sequence++ ) {
+			for( int key = 0; key < 8; key++ ) {
+				Event event = statusEvent( "message-" + key );
+				int position = sequence;
+				assertTrue( eventDispatcher.submit( event, () -> {
+					if( position % 10 == 0 ) {
+						Thread.yield();
+					}
+					delivered.get( event.ofMessageStatus().messageId ).add( position );
+				} ) );
+			}
+		}
+		eventDispatcher.shutdown( TimeUnit.SECONDS.toMillis( 5 ) );
+
+		for( List<Integer> positions : delivered.values() ) {
+			assertEquals( 50, positions.size() );
+			for( int i = 0; i < 50; i++ ) {
+				assertEquals( i, (int) positions.get( i ) );
+			}
+		}
+	}
+
+
+	@Test
+	public void orderedDispatcherDeliversEqualKeysOnTheSameLane() throws Exception {
+		Map<Object,String> threads = new HashMap<>();
+		List<String> mismatches = Collections.synchronizedList( new ArrayList<>() );
+		EventDispatcher eventDispatcher = new EventDispatcher( 3, 300, RejectionPolicy.BLOCK, EventKeyExtractor.DEFAULT );
+		for( int i = 0; i < 100; i++ ) {
+			Event event = statusEvent( "message-" + ( i % 10 ) );
+			eventDispatcher.submit( event, () -> {
+				String thread = Thread.currentThread().getName();
+				synchronized( threads ) {
+					String previous = threads.putIfAbsent( event.ofMessageStatus().messageId, thread );
+					if( previous != null && !previous.equals( thread ) ) {
+						mismatches.add( event.ofMessageStatus().messageId );
+					}
+				}
+			} );
+		}
+		eventDispatcher.shutdown( TimeUnit.SECONDS.toMillis( 5 ) );
+		assertEquals( 10, threads.size() );
+		assertTrue( mismatches.isEmpty() );
+	}
+
+
+	@Test
+	public void orderedDispatcherDoesNotRunOnTheCaller() throws Exception {
+		CountDownLatch release = new CountDownLatch( 1 );
+		EventDispatcher eventDispatcher = new EventDispatcher( 1, 1, RejectionPolicy.CALLER_RUNS, EventKeyExtractor.DEFAULT );
+		Event event = statusEvent( "message" );
+		assertTrue( eventDispatcher.submit( event, () -> await( release ) ) );
+
+		AtomicReference<Thread> runner = new AtomicReference<>();
+		Thread caller = new Thread( () -> {
+			eventDispatcher.submit( event, () -> {} );
+			eventDispatcher.submit( event, () -> runner.set( Thread.currentThread() ) );
+		} );
+		caller.start();
+		caller.join( 200 );
+		assertTrue( caller.isAlive() );
+
+		release.countDown();
+		caller.join( 5000 );
+		eventDispatcher.shutdown();
+		assertTrue( runner.get() != caller );
+	}
+
+
+	@Test
+	public void defaultKeyExtractor() throws IOException {
+		assertEquals( "message-id", EventKeyExtractor.DEFAULT.keyOf( statusEvent( "message-id" ) ) );
+		assertEquals( "sender", EventKeyExtractor.DEFAULT.keyOf( JsonCodec.shared().reader( Event.class ).readValue(
+			"{\"id\":\"event-id\",\"type\":\"MESSAGE\",\"channel\":\"whatsapp\",\"direction\":\"IN\",\"message\":{\"from\":\"sender\",\"to\":\"to\",\"contents\":[]}}"
+		) ) );
+	}
+
+
+	private static Event statusEvent( String messageId ) throws IOException {
+		return JsonCodec.shared().reader( Event.class ).readValue(
+			"{\"id\":\"event-id\",\"type\":\"MESSAGE_STATUS\",\"channel\":\"sms\",\"messageId\":\"" + messageId + "\",\"messageStatus\":{\"code\":\"SENT\"}}"
+		);
+	}
+
+
+	private static void await( CountDownLatch latch ) {
+		try {
+			latch.await();
+		} catch( InterruptedException exception ) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
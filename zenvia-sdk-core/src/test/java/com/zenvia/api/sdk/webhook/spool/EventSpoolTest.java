@@ -0,0 +1,176 @@
+package com.zenvia.api.sdk.webhook.spool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class EventSpoolTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+
+	@Test
+	public void appendedEventsAreReplayedInOrder() throws Exception {
+		File directory = folder.newFolder();
+		List<String> replayed = Collections.synchronizedList( new ArrayList<>() );
+		CountDownLatch done = new CountDownLatch( 10 );
+		EventSpool eventSpool = new EventSpool( directory, 4096, null );
+		eventSpool.replay( ( body ) -> {
+			replayed.add( new String( body, StandardCharsets.UTF_8 ) );
+			done.countDown();
+		}, null );
+		for( int i = 0; i < 10; i++ ) {
+			eventSpool.append( ( "event-" + i ).getBytes( StandardCharsets.UTF_8 ) );
+		}
+		assertTrue( done.await( 5, TimeUnit.SECONDS ) );
+		eventSpool.close();
+
+		List<String> expected = new ArrayList<>();
+		for( int i = 0; i < 10; i++ ) {
+			expected.add( "event-" + i );
+		}
+		assertEquals( expected, replayed );
+	}
+
+
+	@Test
+	public void eventsNotReplayedAreKeptForTheNextStart() throws Exception {
+		File directory = folder.newFolder();
+		EventSpool eventSpool = new EventSpool( directory, 4096, null );
+		for( int i = 0; i < 5; i++ ) {
+			eventSpool.append( ( "event-" + i ).getBytes( StandardCharsets.UTF_8 ) );
+		}
+		eventSpool.close();
+
+		List<String> replayed = replayAll( directory );
+		assertEquals( 5, replayed.size() );
+		assertEquals( "event-0", replayed.get( 0 ) );
+		assertEquals( "event-4", replayed.get( 4 ) );
+
+		assertTrue( replayAll( directory ).isEmpty() );
+	}
+
+
+	@Test
+	public void fullSegmentsRollAndConsumedOnesAreDeleted() throws Exception {
+		File directory = folder.newFolder();
+		EventSpool eventSpool = new EventSpool( directory, 1024, 10 );
+		byte[] body = new byte[ 100 ];
+		for( int i = 0; i < 50; i++ ) {
+			body[ 0 ] = (byte) i;
+			eventSpool.append( body );
+		}
+		assertTrue( directory.listFiles( ( dir, name ) -> name.endsWith( ".log" ) ).length > 1 );
+		eventSpool.close();
+
+		List<Integer> replayed = new ArrayList<>();
+		CountDownLatch done = new CountDownLatch( 50 );
+		eventSpool = new EventSpool( directory, 1024, 10 );
+		eventSpool.replay( ( replayedBody ) -> {
+			replayed.add( (int) replayedBody[ 0 ] );
+			done.countDown();
+		}, null );
+		assertTrue( done.await( 5, TimeUnit.SECONDS ) );
+		eventSpool.close();
+
+		for( int i = 0; i < 50; i++ ) {
+			assertEquals( i, (int) replayed.get( i ) );
+		}
+		assertEquals( 1, directory.listFiles( ( dir, name ) -> name.endsWith( ".log" ) ).length );
+		assertEquals( 0, eventSpool.getBacklog() );
+	}
+
+
+	@Test
+	public void tornRecordIsDiscarded() throws Exception {
+		File directory = folder.newFolder();
+		EventSpool eventSpool = new EventSpool( directory, 4096, null );
+		eventSpool.append( "first".getBytes( StandardCharsets.UTF_8 ) );
+		eventSpool.append( "second".getBytes( StandardCharsets.UTF_8 ) );
+		eventSpool.close();
+
+		File segment = directory.listFiles( ( dir, name ) -> name.endsWith( ".log" ) )[ 0 ];
+		try( RandomAccessFile file = new RandomAccessFile( segment, "rw" ) ) {
+			file.seek( 8 + 5 + 8 + 2 );
+			file.write( 'X' );
+		}
+
+		eventSpool = new EventSpool( directory, 4096, null );
+		eventSpool.append( "third".getBytes( StandardCharsets.UTF_8 ) );
+		eventSpool.close();
+		assertEquals( Arrays.asList( "first", "third" ), replayAll( directory ) );
+	}
+
+
+	@Test
+	public void concurrentAppendsAreAllReplayed() throws Exception {
+		File directory = folder.newFolder();
+		Set<String> replayed = Collections.synchronizedSet( new HashSet<>() );
+		CountDownLatch done = new CountDownLatch( 800 );
+		EventSpool eventSpool = new EventSpool( directory, 8192, null );
+		eventSpool.replay( ( body ) -> {
+			replayed.add( new String( body, StandardCharsets.UTF_8 ) );
+			done.countDown();
+		}, null );
+		ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		for( int thread = 0; thread < 8; thread++ ) {
+			int prefix = thread;
+			executor.execute( () -> {
+				for( int i = 0; i < 100; i++ ) {
+					try {
+						eventSpool.append( ( prefix + "-" + i ).getBytes( StandardCharsets.UTF_8 ) );
+					} catch( Exception exception ) {
+						throw new IllegalStateException( exception );
+					}
+				}
+			} );
+		}
+		executor.shutdown();
+		assertTrue( executor.awaitTermination( 10, TimeUnit.SECONDS ) );
+		assertTrue( done.await( 5, TimeUnit.SECONDS ) );
+		eventSpool.close();
+		assertEquals( 800, replayed.size() );
+	}
+
+
+	@Test( expected = IOException.class )
+	public void bodyLargerThanTheSegmentIsRefused() throws Exception {
+		EventSpool eventSpool = new EventSpool( folder.newFolder(), 1024, null );
+		try {
+			eventSpool.append( new byte[ 1024 ] );
+		} finally {
+			eventSpool.close();
+		}
+	}
+
+
+	private static List<String> replayAll( File directory ) throws Exception {
+		List<String> replayed = Collections.synchronizedList( new ArrayList<>() );
+		EventSpool eventSpool = new EventSpool( directory, 4096, null );
+		eventSpool.replay( ( body ) -> replayed.add( new String( body, StandardCharsets.UTF_8 ) ), null );
+		eventSpool.close();
+		return new ArrayList<>( replayed );
+	}
+}
@@ -1,20 +1,22 @@
 package com.zenvia.api.sdk.webhook.jersey;
 
+import java.io.IOException;
+
+import javax.ws.rs.ProcessingException;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.Response;
 
 import org.glassfish.jersey.process.Inflector;
-import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.model.Resource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.zenvia.api.sdk.client.AbstractClient;
 import com.zenvia.api.sdk.client.ChannelType;
 import com.zenvia.api.sdk.client.subscriptions.EventType;
 import com.zenvia.api.sdk.webhook.AbstractWebhookController;
-import com.zenvia.api.sdk.webhook.Event;
 import com.zenvia.api.sdk.webhook.MessageEventCallback;
 import com.zenvia.api.sdk.webhook.MessageStatusEventCallback;
 
@@ -295,30 +297,17 @@ public class WebhookController extends AbstractWebhookController {
 		resourceBuilder.addMethod("POST").handledBy(new Inflector<ContainerRequestContext, Response>() {
 			@Override
 			public Response apply(ContainerRequestContext data) {
-				Event event = ((ContainerRequest) data).readEntity(Event.class);
-				switch (event.type) {
-				case MESSAGE:
-					if (messageEventHandler != null) {
-						try {
-							messageEventHandler.onMessageEvent(event.ofMessage());
-						} catch (Exception e) {
-							LOG.warn("Error on handling MESSAGE event", e);
-						}
-					}
-					break;
-
-				case MESSAGE_STATUS:
-					if (messageStatusEventHandler != null) {
-						try {
-							messageStatusEventHandler.onMessageStatusEvent(event.ofMessageStatus());
-						} catch( Exception e) {
-							LOG.warn("Error on handling MESSAGE_STATUS event", e);
-						}
-					}
-					break;
-				
-				default:
-					break;
+				boolean accepted;
+				try {
+					accepted = receive(data.getEntityStream());
+				} catch (JsonProcessingException e) {
+					LOG.warn("Invalid event received: {}", e.getOriginalMessage());
+					return Response.status(Response.Status.BAD_REQUEST).build();
+				} catch (IOException e) {
+					throw new ProcessingException(e);
+				}
+				if (!accepted) {
+					return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
 				}
 				return Response.ok().build();
 			}
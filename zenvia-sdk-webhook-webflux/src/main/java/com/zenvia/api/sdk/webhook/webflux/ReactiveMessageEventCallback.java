@@ -0,0 +1,16 @@
+package com.zenvia.api.sdk.webhook.webflux;
+
+import com.zenvia.api.sdk.client.subscriptions.EventType;
+import com.zenvia.api.sdk.webhook.MessageEvent;
+
+import reactor.core.publisher.Mono;
+
+/** The <code>ReactiveMessageEventCallback</code> interface should be implemented by any
+ * class whose instances are intended to handle {@link EventType#MESSAGE} events without
+ * blocking the thread receiving them.
+ * 
+ * @since 1.2.0 */
+@FunctionalInterface
+public interface ReactiveMessageEventCallback {
+	public Mono<Void> onMessageEvent(MessageEvent message);
+}
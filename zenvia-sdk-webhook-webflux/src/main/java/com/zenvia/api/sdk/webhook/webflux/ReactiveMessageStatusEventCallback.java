@@ -0,0 +1,16 @@
+package com.zenvia.api.sdk.webhook.webflux;
+
+import com.zenvia.api.sdk.client.subscriptions.EventType;
+import com.zenvia.api.sdk.webhook.MessageStatusEvent;
+
+import reactor.core.publisher.Mono;
+
+/** The <code>ReactiveMessageStatusEventCallback</code> interface should be implemented by any
+ * class whose instances are intended to handle {@link EventType#MESSAGE_STATUS} events without
+ * blocking the thread receiving them.
+ * 
+ * @since 1.2.0 */
+@FunctionalInterface
+public interface ReactiveMessageStatusEventCallback {
+	public Mono<Void> onMessageStatusEvent(MessageStatusEvent status);
+}
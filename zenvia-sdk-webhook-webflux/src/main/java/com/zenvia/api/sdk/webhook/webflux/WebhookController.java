@@ -0,0 +1,483 @@
+package com.zenvia.api.sdk.webhook.webflux;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.result.method.RequestMappingInfo;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.zenvia.api.sdk.client.AbstractClient;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.subscriptions.EventType;
+import com.zenvia.api.sdk.webhook.AbstractWebhookController;
+import com.zenvia.api.sdk.webhook.Event;
+import com.zenvia.api.sdk.webhook.EventReader;
+import com.zenvia.api.sdk.webhook.MessageEvent;
+import com.zenvia.api.sdk.webhook.MessageEventCallback;
+import com.zenvia.api.sdk.webhook.MessageStatusEvent;
+import com.zenvia.api.sdk.webhook.MessageStatusEventCallback;
+import com.zenvia.api.sdk.webhook.dispatch.EventDeduplicator;
+import com.zenvia.api.sdk.webhook.dispatch.EventDispatcher;
+import com.zenvia.api.sdk.webhook.dispatch.RejectionPolicy;
+import com.zenvia.api.sdk.webhook.spool.EventSpool;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/** WebhookController that is backed by <a href="https://docs.spring.io/spring/docs/current/spring-framework-reference/web-reactive.html#webflux" target="_blank">Spring WebFlux</a>.
+ *  <br><br>
+ *  The events are read on the thread receiving the request, usually a Netty event loop, and
+ *  the webhook call is answered once the {@link Mono} returned by the callback completes, so no
+ *  thread is held while the callbacks wait on their own I/O. Callbacks must therefore not block.
+ *  <br><br>
+ *  When an {@link EventDispatcher} or an {@link EventSpool} is set, the events are delivered by
+ *  their threads instead, which wait for the completion of each callback. As appending to the
+ *  spool, waiting for room on the dispatcher queue and the batch and view callbacks block, the
+ *  webhook calls are then handled on {@link Schedulers#elastic()} threads, off the event loop.
+ *  For the same reason, unordered dispatchers with the {@link RejectionPolicy#CALLER_RUNS}
+ *  policy are not supported.
+ *
+ *  @since 1.2.0 */
+public class WebhookController extends AbstractWebhookController {
+
+	private static final Logger LOG = LoggerFactory.getLogger( WebhookController.class );
+
+	private static final EventReader EVENT_READER = EventReader.shared();
+
+	protected final ReactiveMessageEventCallback reactiveMessageEventHandler;
+
+	protected final ReactiveMessageStatusEventCallback reactiveMessageStatusEventHandler;
+	
+	/** Creates the {@link WebhookController} to receive only {@link EventType#MESSAGE}
+	 *  events using the given configurations and default root
+	 *  path ({@value com.zenvia.api.sdk.webhook.AbstractWebhookController#DEFAULT_PATH}).
+	 *  
+	 *  @param handlerMapping
+	 *  Request mapping to configure the webhook controller.
+	 *
+	 *  @param messageEventHandler
+	 *  An implementation of {@link ReactiveMessageEventCallback} to receive a message event.
+	 *
+	 *  @since 1.2.0 */
+	public WebhookController(RequestMappingHandlerMapping handlerMapping, ReactiveMessageEventCallback messageEventHandler) {
+		this(handlerMapping, messageEventHandler, null, null);
+	}
+
+	/** Creates the {@link WebhookController} to receive both {@link EventType#MESSAGE} and
+	 *  {@link EventType#MESSAGE_STATUS} events using the given configurations
+	 *  and default root path ({@value com.zenvia.api.sdk.webhook.AbstractWebhookController#DEFAULT_PATH}).
+	 *
+	 *  @param handlerMapping
+	 *  Request mapping to configure the webhook controller.
+	 *
+	 *  @param messageEventHandler
+	 *  An implementation of {@link ReactiveMessageEventCallback} to receive a message event.
+	 *
+	 *  @param messageStatusEventHandler
+	 *  An implementation of {@link ReactiveMessageStatusEventCallback} to receive a message status event.
+	 *
+	 *  @since 1.2.0 */
+	public WebhookController(
+		RequestMappingHandlerMapping handlerMapping,
+		ReactiveMessageEventCallback messageEventHandler,
+		ReactiveMessageStatusEventCallback messageStatusEventHandler
+	) {
+		this(handlerMapping, messageEventHandler, messageStatusEventHandler, null, null, null, null);
+	}
+
+	/** Creates the {@link WebhookController} to receive both {@link EventType#MESSAGE} and
+	 *  {@link EventType#MESSAGE_STATUS} events using the given configurations.
+	 *
+	 *  @param handlerMapping
+	 *  Request mapping to configure the webhook controller.
+	 *
+	 *  @param messageEventHandler
+	 *  An implementation of {@link ReactiveMessageEventCallback} to receive a message event.
+	 *
+	 *  @param messageStatusEventHandler
+	 *  An implementation of {@link ReactiveMessageStatusEventCallback} to receive a message status event.
+	 *
+	 *  @param path
+	 *  Identifies the URI path to serve requests for webhook call.
+	 *  When null, the default {@value com.zenvia.api.sdk.webhook.AbstractWebhookController#DEFAULT_PATH} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public WebhookController(
+		RequestMappingHandlerMapping handlerMapping,
+		ReactiveMessageEventCallback messageEventHandler,
+		ReactiveMessageStatusEventCallback messageStatusEventHandler,
+		String path
+	) {
+		this(handlerMapping, messageEventHandler, messageStatusEventHandler, path, null, null, null);
+	}
+
+	/** Creates the {@link WebhookController} to receive only {@link EventType#MESSAGE} events
+	 *  using the given configurations.
+	 *  
+	 *  @param handlerMapping
+	 *  Request mapping to configure the webhook controller.
+	 *
+	 *  @param messageEventHandler
+	 *  An implementation of {@link ReactiveMessageEventCallback} to receive a message event.
+	 *  
+	 *  @param path
+	 *  Identifies the URI path to serve requests for webhook call.
+	 *  When null, the default {@value com.zenvia.api.sdk.webhook.AbstractWebhookController#DEFAULT_PATH} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public WebhookController(
+		RequestMappingHandlerMapping handlerMapping,
+		ReactiveMessageEventCallback messageEventHandler,
+		String path
+	) {
+		this(handlerMapping, messageEventHandler, null, path, null, null, null);
+	}
+	
+	/** Creates the {@link WebhookController} to receive only {@link EventType#MESSAGE_STATUS} events
+	 *  using the given configurations and default root
+	 *  path ({@value com.zenvia.api.sdk.webhook.AbstractWebhookController#DEFAULT_PATH}).
+	 *  
+	 *  @param handlerMapping
+	 *  Request mapping to configure the webhook controller.
+	 *
+	 *  @param messageStatusEventHandler
+	 *  An implementation of {@link ReactiveMessageStatusEventCallback} to receive a message status event.
+	 *  
+	 *  @since 1.2.0 */
+	public WebhookController(RequestMappingHandlerMapping handlerMapping,
+		ReactiveMessageStatusEventCallback messageStatusEventHandler
+	) {
+		this(handlerMapping, null, messageStatusEventHandler, null);
+	}
+
+	/** Creates the {@link WebhookController} to receive only {@link EventType#MESSAGE_STATUS} events
+	 *  using the given configurations.
+	 *  
+	 *  @param handlerMapping
+	 *  Request mapping to configure the webhook controller.
+	 *
+	 *  @param messageStatusEventHandler
+	 *  An implementation of {@link ReactiveMessageStatusEventCallback} to receive a message status event.
+	 *  
+	 *  @param path
+	 *  Identifies the URI path to serve requests for webhook call.
+	 *  When null, the default {@value com.zenvia.api.sdk.webhook.AbstractWebhookController#DEFAULT_PATH} will be used instead.
+	 *
+	 *  @since 1.2.0 */
+	public WebhookController(
+		RequestMappingHandlerMapping handlerMapping,
+		ReactiveMessageStatusEventCallback messageStatusEventHandler,
+		String path
+	) {
+		this(handlerMapping, null, messageStatusEventHandler, path);
+	}
+
+	/** Creates the {@link WebhookController} to receive only {@link EventType#MESSAGE} events
+	 *  using the given configurations and default root
+	 *  path ({@value com.zenvia.api.sdk.webhook.AbstractWebhookController#DEFAULT_PATH}).
+	 *  
+	 *  The subscription will be created if it does not exist for these configurations.
+	 *
+	 *  @param handlerMapping
+	 *  Request mapping to configure the webhook controller.
+	 *
+	 *  @param messageEventHandler
+	 *  An implementation of {@link ReactiveMessageEventCallback} to receive a message event.
+	 *
+	 *  @param client
+	 *  Zenvia API Client to automatically creates a subscription.
+	 *
+	 *  @param url
+	 *  URL to be used in subscription creation.
+	 *  
+	 *  @param channel
+	 *  {@link ChannelType} to trigger the callbacks for subscription to be created.
+	 *
+	 *  @since 1.2.0 */	
+	public WebhookController(
+		RequestMappingHandlerMapping handlerMapping,
+		ReactiveMessageEventCallback messageEventHandler,
+		AbstractClient client,
+		String url,
+		ChannelType channel
+	) {
+		this(handlerMapping, messageEventHandler, null, null, client, url, channel);
+	}
+
+	/** Creates the {@link WebhookController} to receive only {@link EventType#MESSAGE_STATUS} events
+	 *  using the given configurations and default root
+	 *  path ({@value com.zenvia.api.sdk.webhook.AbstractWebhookController#DEFAULT_PATH}).
+	 *  
+	 *  The subscription will be created if it does not exist for these configurations.
+	 *
+	 *  @param handlerMapping
+	 *  Request mapping to configure the webhook controller.
+	 *
+	 *  @param messageStatusEventHandler
+	 *  An implementation of {@link ReactiveMessageStatusEventCallback} to receive a message status event.
+	 *
+	 *  @param client
+	 *  Zenvia API Client to automatically creates a subscription.
+	 *
+	 *  @param url
+	 *  URL to be used in subscription creation.
+	 *  
+	 *  @param channel
+	 *  {@link ChannelType} to trigger the callbacks for subscription to be created.
+	 *
+	 *  @since 1.2.0 */	
+	public WebhookController(
+		RequestMappingHandlerMapping handlerMapping,
+		ReactiveMessageStatusEventCallback messageStatusEventHandler,
+		AbstractClient client,
+		String url,
+		ChannelType channel
+	) {
+		this(handlerMapping, null, messageStatusEventHandler, null, client, url, channel);
+	}
+
+	/** Creates the {@link WebhookController} to receive both {@link EventType#MESSAGE} and
+	 *  {@link EventType#MESSAGE_STATUS} events using the given configurations
+	 *  and default root path ({@value com.zenvia.api.sdk.webhook.AbstractWebhookController#DEFAULT_PATH}).
+	 *  
+	 *  The subscription will be created if it does not exist for these configurations.
+	 *
+	 *  @param handlerMapping
+	 *  Request mapping to configure the webhook controller.
+	 *
+	 *  @param messageEventHandler
+	 *  An implementation of {@link ReactiveMessageEventCallback} to receive a message event.
+	 *
+	 *  @param messageStatusEventHandler
+	 *  An implementation of {@link ReactiveMessageStatusEventCallback} to receive a message status event.
+	 *
+	 *  @param client
+	 *  Zenvia API Client to automatically creates a subscription.
+	 *
+	 *  @param url
+	 *  URL to be used in subscription creation.
+	 *  
+	 *  @param channel
+	 *  {@link ChannelType} to trigger the callbacks for subscription to be created.
+	 *
+	 *  @since 1.2.0 */
+	public WebhookController(
+		RequestMappingHandlerMapping handlerMapping,
+		ReactiveMessageEventCallback messageEventHandler,
+		ReactiveMessageStatusEventCallback messageStatusEventHandler,
+		AbstractClient client,
+		String url,
+		ChannelType channel
+	) {
+		this(handlerMapping, messageEventHandler, messageStatusEventHandler, null, client, url, channel);
+	}
+
+	/** Creates the {@link WebhookController} to receive both {@link EventType#MESSAGE} and
+	 *  {@link EventType#MESSAGE_STATUS} events using the given configurations.
+	 *  The subscription will be created if it does not exist for these configurations.
+	 *
+	 *  @param handlerMapping
+	 *  Request mapping to configure the webhook controller.
+	 *
+	 *  @param messageEventHandler
+	 *  An implementation of {@link ReactiveMessageEventCallback} to receive a message event.
+	 *
+	 *  @param messageStatusEventHandler
+	 *  An implementation of {@link ReactiveMessageStatusEventCallback} to receive a message status event.
+	 *
+	 *  @param path
+	 *  Identifies the URI path to serve requests for webhook call.
+	 *  When null, the default {@value com.zenvia.api.sdk.webhook.AbstractWebhookController#DEFAULT_PATH} will be used instead.
+	 *
+	 *  @param client
+	 *  Zenvia API Client to automatically creates a subscription.
+	 *
+	 *  @param url
+	 *  URL to be used in subscription creation.
+	 *  
+	 *  @param channel
+	 *  {@link ChannelType} to trigger the callbacks for subscription to be created.
+	 *
+	 *  @since 1.2.0 */
+	public WebhookController(
+		RequestMappingHandlerMapping handlerMapping,
+		ReactiveMessageEventCallback messageEventHandler,
+		ReactiveMessageStatusEventCallback messageStatusEventHandler,
+		String path,
+		AbstractClient client,
+		String url,
+		ChannelType channel
+	) {
+		super(blocking(messageEventHandler), blocking(messageStatusEventHandler), path, client, url, channel);
+		this.reactiveMessageEventHandler = messageEventHandler;
+		this.reactiveMessageStatusEventHandler = messageStatusEventHandler;
+		this.create(handlerMapping, this.path);
+	}
+	private void create(RequestMappingHandlerMapping handlerMapping, String path) {
+		Method method;
+		try {
+			method = WebhookController.class.getDeclaredMethod("apply", ServerHttpRequest.class);
+		} catch (NoSuchMethodException e) {
+			throw new RuntimeException(e);
+		}
+		
+		handlerMapping.registerMapping(
+			RequestMappingInfo.paths(path).methods(RequestMethod.POST).build(),
+			this,
+			method
+		);
+	}
+
+	/** Handles the webhook call, joining the request body without blocking before reading it.
+	 *
+	 *  @since 1.2.0 */
+	protected Mono<ResponseEntity<Void>> apply(ServerHttpRequest request) {
+		return DataBufferUtils.join(request.getBody())
+			.map(WebhookController::toBytes)
+			.defaultIfEmpty(new byte[0])
+			.flatMap(this::apply);
+	}
+
+	/** Reads the event with the shared {@link EventReader} and delivers it to its reactive callback,
+	 *  completing after the callback does. Replies <i>400 Bad Request</i> when the body is not a
+	 *  valid event, and <i>503 Service Unavailable</i> when the event dispatcher refuses it.
+	 *
+	 *  @since 1.2.0 */
+	protected Mono<ResponseEntity<Void>> apply(byte[] body) {
+		try {
+			if (isBlocking(body)) {
+				return Mono.fromCallable(() -> receive(new ByteArrayInputStream(body)))
+					.subscribeOn(Schedulers.elastic())
+					.map(accepted -> new ResponseEntity<Void>(accepted ? HttpStatus.NO_CONTENT : HttpStatus.SERVICE_UNAVAILABLE))
+					.onErrorResume(JsonProcessingException.class, WebhookController::badRequest);
+			}
+			return deliver(EVENT_READER.read(body)).thenReturn(new ResponseEntity<Void>(HttpStatus.NO_CONTENT));
+		} catch (JsonProcessingException e) {
+			return badRequest(e);
+		} catch (IOException e) {
+			return Mono.error(e);
+		}
+	}
+
+	/** Refuses unordered dispatchers with the {@link RejectionPolicy#CALLER_RUNS} policy, which
+	 *  would wait for the reactive callbacks on the thread handling the webhook call.
+	 *
+	 *  @since 1.2.0 */
+	@Override
+	public void setEventDispatcher(EventDispatcher eventDispatcher) {
+		if (eventDispatcher != null && eventDispatcher.getRejectionPolicy() == RejectionPolicy.CALLER_RUNS && eventDispatcher.getKeyExtractor() == null) {
+			throw new IllegalArgumentException("The " + RejectionPolicy.CALLER_RUNS + " policy is not supported by the WebFlux webhook controller");
+		}
+		super.setEventDispatcher(eventDispatcher);
+	}
+
+	private boolean isBlocking(byte[] body) throws IOException {
+		return getEventSpool() != null
+			|| getEventDispatcher() != null
+			|| getMessageEventBatcher() != null
+			|| getMessageStatusEventBatcher() != null
+			|| isView(body);
+	}
+
+	private boolean isView(byte[] body) throws IOException {
+		return getMessageStatusEventViewCallback() != null && MessageStatusEvent.TYPE.equals(EVENT_READER.peekType(body));
+	}
+
+	private static Mono<ResponseEntity<Void>> badRequest(JsonProcessingException e) {
+		LOG.warn("Invalid event received: {}", e.getOriginalMessage());
+		return Mono.just(new ResponseEntity<Void>(HttpStatus.BAD_REQUEST));
+	}
+
+	private Mono<Void> deliver(Event event) {
+		EventDeduplicator eventDeduplicator = getEventDeduplicator();
+		if (eventDeduplicator != null && event.id != null && !eventDeduplicator.firstSeen(event.id)) {
+			LOG.debug("Ignoring duplicate {} event {}", event.type, event.id);
+			return Mono.empty();
+		}
+		if (event.type == EventType.MESSAGE && reactiveMessageEventHandler != null && getMessageEventBatcher() == null) {
+			return deliver(event, () -> reactiveMessageEventHandler.onMessageEvent(event.ofMessage()));
+		}
+		if (event.type == EventType.MESSAGE_STATUS && reactiveMessageStatusEventHandler != null && getMessageStatusEventBatcher() == null) {
+			return deliver(event, () -> reactiveMessageStatusEventHandler.onMessageStatusEvent(event.ofMessageStatus()));
+		}
+		dispatch(event);
+		return Mono.empty();
+	}
+
+	private static Mono<Void> deliver(Event event, Supplier<Mono<Void>> callback) {
+		return Mono.defer(callback).onErrorResume(e -> {
+			LOG.warn("Error on handling " + event.type + " event", e);
+			return Mono.empty();
+		});
+	}
+
+	private static byte[] toBytes(DataBuffer buffer) {
+		try {
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			return bytes;
+		} finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+	private static MessageEventCallback blocking(ReactiveMessageEventCallback callback) {
+		return callback == null ? null : new BlockingMessageEventCallback(callback);
+	}
+
+	private static MessageStatusEventCallback blocking(ReactiveMessageStatusEventCallback callback) {
+		return callback == null ? null : new BlockingMessageStatusEventCallback(callback);
+	}
+
+	/** Waits for the reactive callback, on the threads of the {@link EventDispatcher} and of the
+	 *  {@link EventSpool} replay. */
+	private static final class BlockingMessageEventCallback implements MessageEventCallback {
+		private final ReactiveMessageEventCallback callback;
+
+		private BlockingMessageEventCallback(ReactiveMessageEventCallback callback) {
+			this.callback = callback;
+		}
+
+		@Override
+		public void onMessageEvent(MessageEvent message) {
+			callback.onMessageEvent(message).block();
+		}
+
+		@Override
+		public String toString() {
+			return callback.toString();
+		}
+	}
+
+	/** Waits for the reactive callback, on the threads of the {@link EventDispatcher} and of the
+	 *  {@link EventSpool} replay. */
+	private static final class BlockingMessageStatusEventCallback implements MessageStatusEventCallback {
+		private final ReactiveMessageStatusEventCallback callback;
+
+		private BlockingMessageStatusEventCallback(ReactiveMessageStatusEventCallback callback) {
+			this.callback = callback;
+		}
+
+		@Override
+		public void onMessageStatusEvent(MessageStatusEvent status) {
+			callback.onMessageStatusEvent(status).block();
+		}
+
+		@Override
+		public String toString() {
+			return callback.toString();
+		}
+	}
+
+}
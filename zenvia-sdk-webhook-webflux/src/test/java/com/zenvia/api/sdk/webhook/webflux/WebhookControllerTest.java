@@ -0,0 +1,374 @@
+package com.zenvia.api.sdk.webhook.webflux;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.result.method.RequestMappingInfo;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+import com.zenvia.api.sdk.client.AbstractClient;
+import com.zenvia.api.sdk.client.ChannelType;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionFailException;
+import com.zenvia.api.sdk.client.exceptions.HttpConnectionTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.HttpIOException;
+import com.zenvia.api.sdk.client.exceptions.HttpSocketTimeoutException;
+import com.zenvia.api.sdk.client.exceptions.UnsuccessfulRequestException;
+import com.zenvia.api.sdk.client.subscriptions.Subscription;
+import com.zenvia.api.sdk.webhook.AbstractWebhookController;
+import com.zenvia.api.sdk.webhook.Event;
+import com.zenvia.api.sdk.webhook.MessageEvent;
+import com.zenvia.api.sdk.webhook.MessageStatusEvent;
+import com.zenvia.api.sdk.webhook.dispatch.EventDeduplicator;
+import com.zenvia.api.sdk.webhook.dispatch.EventDispatcher;
+import com.zenvia.api.sdk.webhook.dispatch.RejectionPolicy;
+
+import reactor.core.publisher.Mono;
+
+
+@FixMethodOrder( MethodSorters.NAME_ASCENDING )
+public class WebhookControllerTest {
+
+	private static final String MESSAGE_STATUS_EVENT = "{\"id\":\"some-event-id\",\"type\":\"MESSAGE_STATUS\",\"channel\":\"sms\",\"messageId\":\"some-message-id\",\"messageStatus\":{\"code\":\"SENT\"}}";
+	
+	private final Field messageEventHandlerField;
+	
+	protected final Field messageStatusEventHandlerField;
+
+	private final Field pathField;
+
+	private final Field clientField;
+	
+	private final Field urlField;
+
+	private final Field channelField;
+
+	private RequestMappingHandlerMapping handlerMapping;
+	
+	private ReactiveMessageEventCallback messageHandler = new ReactiveMessageEventCallback() {
+		public Mono<Void> onMessageEvent(MessageEvent message) { return Mono.empty(); }
+	};
+	
+	private ReactiveMessageStatusEventCallback messageStatusHandler = new ReactiveMessageStatusEventCallback() {
+		public Mono<Void> onMessageStatusEvent(MessageStatusEvent status) { return Mono.empty(); }
+	};
+	
+	@Before
+	public void reset() {
+		handlerMapping = new RequestMappingHandlerMapping(); 
+	}
+
+	public WebhookControllerTest() throws Exception {
+		messageEventHandlerField = WebhookController.class.getDeclaredField( "reactiveMessageEventHandler" );
+		messageEventHandlerField.setAccessible( true );
+		
+		messageStatusEventHandlerField = WebhookController.class.getDeclaredField( "reactiveMessageStatusEventHandler" );
+		messageStatusEventHandlerField.setAccessible( true );
+		
+		pathField = AbstractWebhookController.class.getDeclaredField( "path" );
+		pathField.setAccessible( true );
+		
+		clientField = AbstractWebhookController.class.getDeclaredField( "client" );
+		clientField.setAccessible( true );
+		
+		urlField = AbstractWebhookController.class.getDeclaredField( "url" );
+		urlField.setAccessible( true );
+		
+		channelField = AbstractWebhookController.class.getDeclaredField( "channel" );
+		channelField.setAccessible( true );
+	}
+
+	@Test
+	public void constructor1() throws Exception {
+		WebhookController webhook = new WebhookController( handlerMapping, messageHandler );
+		assertEquals( messageHandler, messageEventHandlerField.get( webhook ) );
+		assertEquals( WebhookController.DEFAULT_PATH, pathField.get( webhook ) );
+		assertNull( messageStatusEventHandlerField.get( webhook ) );
+		assertNull( clientField.get( webhook ) );
+		assertNull( urlField.get( webhook ) );
+		assertNull( channelField.get( webhook ) );
+		assertResource(WebhookController.DEFAULT_PATH);
+	}
+
+	@Test
+	public void constructor2() throws Exception {
+		WebhookController webhook = new WebhookController( handlerMapping, messageHandler, messageStatusHandler );
+		assertEquals( messageHandler, messageEventHandlerField.get( webhook ) );
+		assertEquals( messageStatusHandler, messageStatusEventHandlerField.get( webhook ) );
+		assertEquals( WebhookController.DEFAULT_PATH, pathField.get( webhook ) );
+		assertNull( clientField.get( webhook ) );
+		assertNull( urlField.get( webhook ) );
+		assertNull( channelField.get( webhook ) );
+		assertResource(WebhookController.DEFAULT_PATH);
+	}
+
+	@Test
+	public void constructor3() throws Exception {
+		WebhookController webhook = new WebhookController( handlerMapping, messageHandler, messageStatusHandler, "/hook" );
+		assertEquals( messageHandler, messageEventHandlerField.get( webhook ) );
+		assertEquals( messageStatusHandler, messageStatusEventHandlerField.get( webhook ) );
+		assertEquals( "/hook", pathField.get( webhook ) );
+		assertNull( clientField.get( webhook ) );
+		assertNull( urlField.get( webhook ) );
+		assertNull( channelField.get( webhook ) );
+		assertResource("/hook");
+	}
+
+	@Test
+	public void constructor4() throws Exception {
+		WebhookController webhook = new WebhookController( handlerMapping, messageHandler, "/hook" );
+		assertEquals( messageHandler, messageEventHandlerField.get( webhook ) );
+		assertEquals( "/hook", pathField.get( webhook ) );
+		assertNull( messageStatusEventHandlerField.get( webhook ) );
+		assertNull( clientField.get( webhook ) );
+		assertNull( urlField.get( webhook ) );
+		assertNull( channelField.get( webhook ) );
+		assertResource("/hook");
+	}
+
+	@Test
+	public void constructor5() throws Exception {
+		WebhookController webhook = new WebhookController( handlerMapping, messageStatusHandler );
+		assertEquals( messageStatusHandler, messageStatusEventHandlerField.get( webhook ) );
+		assertEquals( WebhookController.DEFAULT_PATH, pathField.get( webhook ) );
+		assertNull( messageEventHandlerField.get( webhook ) );
+		assertNull( clientField.get( webhook ) );
+		assertNull( urlField.get( webhook ) );
+		assertNull( channelField.get( webhook ) );
+		assertResource(WebhookController.DEFAULT_PATH);
+	}
+
+	@Test
+	public void constructor6() throws Exception {
+		WebhookController webhook = new WebhookController( handlerMapping, messageStatusHandler, "/hook" );
+		assertEquals( messageStatusHandler, messageStatusEventHandlerField.get( webhook ) );
+		assertEquals( "/hook", pathField.get( webhook ) );
+		assertNull( messageEventHandlerField.get( webhook ) );
+		assertNull( clientField.get( webhook ) );
+		assertNull( urlField.get( webhook ) );
+		assertNull( channelField.get( webhook ) );
+		assertResource("/hook");
+	}
+	
+	@Test
+	public void constructor7() throws Exception {
+		AbstractClient client = new TestClient("TOKEN");
+		WebhookController webhook = new WebhookController( handlerMapping, messageHandler, client, "http://localhost", ChannelType.whatsapp );
+		assertEquals( messageHandler, messageEventHandlerField.get( webhook ) );
+		assertEquals( WebhookController.DEFAULT_PATH, pathField.get( webhook ) );
+		assertEquals( client, clientField.get( webhook ) );
+		assertEquals( "http://localhost", urlField.get( webhook ) );
+		assertEquals( ChannelType.whatsapp, channelField.get( webhook ) );
+		assertNull( messageStatusEventHandlerField.get( webhook ) );
+		assertResource(WebhookController.DEFAULT_PATH);
+	}
+
+	@Test
+	public void constructor8() throws Exception {
+		AbstractClient client = new TestClient("TOKEN");
+		WebhookController webhook = new WebhookController( handlerMapping, messageStatusHandler, client, "http://localhost", ChannelType.whatsapp );
+		assertEquals( messageStatusHandler, messageStatusEventHandlerField.get( webhook ) );
+		assertEquals( WebhookController.DEFAULT_PATH, pathField.get( webhook ) );
+		assertEquals( client, clientField.get( webhook ) );
+		assertEquals( "http://localhost", urlField.get( webhook ) );
+		assertEquals( ChannelType.whatsapp, channelField.get( webhook ) );
+		assertNull( messageEventHandlerField.get( webhook ) );
+		assertResource(WebhookController.DEFAULT_PATH);
+	}
+
+	@Test
+	public void constructor9() throws Exception {
+		AbstractClient client = new TestClient("TOKEN");
+		WebhookController webhook = new WebhookController( handlerMapping, messageHandler, messageStatusHandler, client, "http://localhost", ChannelType.whatsapp );
+		assertEquals( messageHandler, messageEventHandlerField.get( webhook ) );
+		assertEquals( messageStatusHandler, messageStatusEventHandlerField.get( webhook ) );
+		assertEquals( WebhookController.DEFAULT_PATH, pathField.get( webhook ) );
+		assertEquals( client, clientField.get( webhook ) );
+		assertEquals( "http://localhost", urlField.get( webhook ) );
+		assertEquals( ChannelType.whatsapp, channelField.get( webhook ) );
+		assertResource(WebhookController.DEFAULT_PATH);
+	}
+
+	@Test
+	public void constructor10() throws Exception {
+		AbstractClient client = new TestClient("TOKEN");
+		WebhookController webhook = new WebhookController( handlerMapping, messageHandler, messageStatusHandler, "/hook", client, "http://localhost", ChannelType.whatsapp );
+		assertEquals( messageHandler, messageEventHandlerField.get( webhook ) );
+		assertEquals( messageStatusHandler, messageStatusEventHandlerField.get( webhook ) );
+		assertEquals( "/hook", pathField.get( webhook ) );
+		assertEquals( client, clientField.get( webhook ) );
+		assertEquals( "http://localhost", urlField.get( webhook ) );
+		assertEquals( ChannelType.whatsapp, channelField.get( webhook ) );
+		assertResource("/hook");
+	}
+
+	@Test
+	public void eventIsAcknowledgedAfterTheReactiveCallbackCompletes() throws Exception {
+		List<String> received = Collections.synchronizedList( new ArrayList<>() );
+		try( AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext( WebFluxConfiguration.class ) ) {
+			new WebhookController(
+				context.getBean( RequestMappingHandlerMapping.class ),
+				(ReactiveMessageStatusEventCallback) ( event ) -> Mono.delay( Duration.ofMillis( 100 ) ).then( Mono.fromRunnable( () -> received.add( event.messageId ) ) )
+			);
+			post( context, MESSAGE_STATUS_EVENT ).expectStatus().isNoContent();
+			assertEquals( Collections.singletonList( "some-message-id" ), received );
+		}
+	}
+
+	@Test
+	public void invalidEventIsRefused() throws Exception {
+		try( AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext( WebFluxConfiguration.class ) ) {
+			new WebhookController( context.getBean( RequestMappingHandlerMapping.class ), messageStatusHandler );
+			post( context, "{\"id\":" ).expectStatus().isBadRequest();
+			post( context, "" ).expectStatus().isBadRequest();
+		}
+	}
+
+	@Test
+	public void callbackErrorsAreAcknowledged() throws Exception {
+		try( AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext( WebFluxConfiguration.class ) ) {
+			new WebhookController(
+				context.getBean( RequestMappingHandlerMapping.class ),
+				(ReactiveMessageStatusEventCallback) ( event ) -> Mono.error( new IllegalStateException( "some-error" ) )
+			);
+			post( context, MESSAGE_STATUS_EVENT ).expectStatus().isNoContent();
+		}
+	}
+
+	@Test
+	public void duplicateEventsAreAcknowledgedWithoutReachingTheCallbacks() throws Exception {
+		List<String> received = Collections.synchronizedList( new ArrayList<>() );
+		try( AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext( WebFluxConfiguration.class ) ) {
+			WebhookController webhook = new WebhookController(
+				context.getBean( RequestMappingHandlerMapping.class ),
+				(ReactiveMessageStatusEventCallback) ( event ) -> Mono.fromRunnable( () -> received.add( event.id ) )
+			);
+			webhook.setEventDeduplicator( new EventDeduplicator( null, null ) );
+			post( context, MESSAGE_STATUS_EVENT ).expectStatus().isNoContent();
+			post( context, MESSAGE_STATUS_EVENT ).expectStatus().isNoContent();
+			assertEquals( Collections.singletonList( "some-event-id" ), received );
+		}
+	}
+
+	@Test
+	public void eventsAreDeliveredByTheDispatcherWhenOneIsSet() throws Exception {
+		List<String> threads = Collections.synchronizedList( new ArrayList<>() );
+		CountDownLatch delivered = new CountDownLatch( 1 );
+		try( AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext( WebFluxConfiguration.class ) ) {
+			WebhookController webhook = new WebhookController(
+				context.getBean( RequestMappingHandlerMapping.class ),
+				(ReactiveMessageStatusEventCallback) ( event ) -> Mono.delay( Duration.ofMillis( 10 ) ).then( Mono.fromRunnable( () -> {
+					threads.add( Thread.currentThread().getName() );
+					delivered.countDown();
+				} ) )
+			);
+			webhook.setEventDispatcher( new EventDispatcher( 1, 1, RejectionPolicy.REJECT ) );
+			post( context, MESSAGE_STATUS_EVENT ).expectStatus().isNoContent();
+			assertTrue( delivered.await( 5, TimeUnit.SECONDS ) );
+			webhook.shutdown();
+			assertEquals( 1, threads.size() );
+		}
+	}
+
+	@Test
+	public void eventsAreHandedToTheDispatcherOffTheRequestThread() throws Exception {
+		List<String> threads = Collections.synchronizedList( new ArrayList<>() );
+		try( AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext( WebFluxConfiguration.class ) ) {
+			WebhookController webhook = new WebhookController( context.getBean( RequestMappingHandlerMapping.class ), messageStatusHandler );
+			webhook.setEventDispatcher( new EventDispatcher( 1, 1, RejectionPolicy.BLOCK ) {
+				@Override
+				public boolean submit( Event event, Runnable delivery ) {
+					threads.add( Thread.currentThread().getName() );
+					return super.submit( event, delivery );
+				}
+			} );
+			post( context, MESSAGE_STATUS_EVENT ).expectStatus().isNoContent();
+			post( context, "{\"id\":" ).expectStatus().isBadRequest();
+			webhook.shutdown();
+			assertEquals( 1, threads.size() );
+			assertTrue( threads.get( 0 ), threads.get( 0 ).startsWith( "elastic-" ) );
+		}
+	}
+
+	@Test( expected = IllegalArgumentException.class )
+	public void unorderedCallerRunsDispatcherIsRefused() {
+		WebhookController webhook = new WebhookController( handlerMapping, messageStatusHandler );
+		webhook.setEventDispatcher( new EventDispatcher( 1, 1, RejectionPolicy.CALLER_RUNS ) );
+	}
+
+	private static WebTestClient.ResponseSpec post( AnnotationConfigApplicationContext context, String body ) {
+		return WebTestClient.bindToApplicationContext( context ).build()
+			.post().uri( WebhookController.DEFAULT_PATH ).syncBody( body ).exchange();
+	}
+
+	private void assertResource(String expectedPath) {
+		assertEquals( 1, handlerMapping.getHandlerMethods().size() );
+		Entry<RequestMappingInfo, HandlerMethod> entry = handlerMapping.getHandlerMethods().entrySet().iterator().next();
+		assertEquals( 1, entry.getKey().getPatternsCondition().getPatterns().size() );
+		assertEquals( expectedPath, entry.getKey().getPatternsCondition().getPatterns().iterator().next().getPatternString() );
+		assertEquals( 1, entry.getKey().getMethodsCondition().getMethods().size() );
+		assertEquals( "POST", entry.getKey().getMethodsCondition().getMethods().iterator().next().name() );
+		assertEquals( "apply", entry.getValue().getMethod().getName() );
+		assertEquals( 1, entry.getValue().getMethodParameters().length );
+		assertEquals( ServerHttpRequest.class, entry.getValue().getMethodParameters()[0].getParameterType() );
+	}
+
+	@Configuration
+	@EnableWebFlux
+	static class WebFluxConfiguration {}
+
+	private static class TestClient extends AbstractClient {
+		private TestClient( String apiToken ) {
+			super( apiToken );
+		}
+
+		@Override
+		@SuppressWarnings( "unchecked" )
+		protected <RESPONSE> RESPONSE list( String url, Class<RESPONSE> responseBodyType )
+			throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+			return (RESPONSE) new Subscription[] {};
+		}
+
+		@Override
+		protected <RESPONSE> RESPONSE get( String url, String id, Class<RESPONSE> responseBodyType )
+			throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+			return null;
+		}
+
+		@Override
+		protected <REQUEST,RESPONSE> RESPONSE post( String url, REQUEST requestBody, Class<RESPONSE> responseBodyType )
+			throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+			return null;
+		}
+
+		@Override
+		protected <REQUEST,RESPONSE> RESPONSE patch( String url, String id, REQUEST requestBody, Class<RESPONSE> responseBodyType )
+			throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+			return null;
+		}
+
+		@Override
+		protected void delete( String url, String id )
+			throws UnsuccessfulRequestException, HttpSocketTimeoutException, HttpConnectionTimeoutException, HttpConnectionFailException, HttpIOException {
+		}
+	}
+}
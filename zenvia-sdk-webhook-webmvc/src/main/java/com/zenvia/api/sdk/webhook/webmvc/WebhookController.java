@@ -1,16 +1,18 @@
 package com.zenvia.api.sdk.webhook.webmvc;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Method;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.zenvia.api.sdk.client.AbstractClient;
 import com.zenvia.api.sdk.client.ChannelType;
 import com.zenvia.api.sdk.client.subscriptions.EventType;
@@ -292,7 +294,7 @@ public class WebhookController extends AbstractWebhookController {
 	private void create(RequestMappingHandlerMapping handlerMapping, String path) {
 		Method method;
 		try {
-			method = WebhookController.class.getDeclaredMethod("apply", Event.class);
+			method = WebhookController.class.getDeclaredMethod("apply", InputStream.class);
 		} catch (NoSuchMethodException e) {
 			throw new RuntimeException(e);
 		}
@@ -304,30 +306,41 @@ public class WebhookController extends AbstractWebhookController {
 		);
 	}
 
-	protected ResponseEntity<Void> apply(@RequestBody Event event) {
-		switch (event.type) {
-		case MESSAGE:
-			if (messageEventHandler != null) {
-				try {
-					messageEventHandler.onMessageEvent(event.ofMessage());
-				} catch (Exception e) {
-					LOG.warn("Error on handling MESSAGE event", e);
-				}
+	/** Handles the webhook call, reading the event with the shared {@link com.zenvia.api.sdk.webhook.EventReader}.
+	 *  Replies <i>400 Bad Request</i> when the body is not a valid event, and
+	 *  <i>503 Service Unavailable</i> when the event dispatcher refuses it.
+	 *
+	 *  @since 1.2.0 */
+	protected ResponseEntity<Void> apply(InputStream body) throws IOException {
+		boolean accepted;
+		try {
+			if (getEventSpool() == null && getMessageStatusEventViewCallback() == null) {
+				// Fully read events still go through apply(Event), so its overrides keep being called
+				return apply(readEvent(body));
 			}
-			break;
+			accepted = receive(body);
+		} catch (JsonProcessingException e) {
+			LOG.warn("Invalid event received: {}", e.getOriginalMessage());
+			return new ResponseEntity<Void>(HttpStatus.BAD_REQUEST);
+		}
+		if (!accepted) {
+			return new ResponseEntity<Void>(HttpStatus.SERVICE_UNAVAILABLE);
+		}
+		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
+	}
 
-		case MESSAGE_STATUS:
-			if (messageStatusEventHandler != null) {
-				try {
-					messageStatusEventHandler.onMessageStatusEvent(event.ofMessageStatus());
-				} catch( Exception e) {
-					LOG.warn("Error on handling MESSAGE_STATUS event", e);
-				}
-			}
-			break;
-	
-		default:
-			break;
+	/** Handles the event of a webhook call. Replies <i>503 Service Unavailable</i> when the
+	 *  event dispatcher refuses it.
+	 *
+	 *  @deprecated Not called for events delivered through an {@link com.zenvia.api.sdk.webhook.spool.EventSpool}
+	 *  or as {@link com.zenvia.api.sdk.webhook.MessageStatusEventView views}. Override
+	 *  {@link #apply(InputStream)} instead.
+	 *
+	 *  @since 1.1.0 */
+	@Deprecated
+	protected ResponseEntity<Void> apply(Event event) {
+		if (!submit(event)) {
+			return new ResponseEntity<Void>(HttpStatus.SERVICE_UNAVAILABLE);
 		}
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
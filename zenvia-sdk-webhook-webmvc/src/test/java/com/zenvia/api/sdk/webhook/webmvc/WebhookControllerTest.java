@@ -3,13 +3,20 @@ package com.zenvia.api.sdk.webhook.webmvc;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map.Entry;
 
 import org.junit.Before;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
@@ -204,6 +211,25 @@ public class WebhookControllerTest {
 		assertResource("/hook");
 	}
 
+	@Test
+	@SuppressWarnings( "deprecation" )
+	public void overridesOfTheEventHandlerAreStillCalled() throws Exception {
+		List<Event> applied = new ArrayList<>();
+		WebhookController webhook = new WebhookController( handlerMapping, messageHandler, messageStatusHandler ) {
+			@Override
+			protected ResponseEntity<Void> apply( Event event ) {
+				applied.add( event );
+				return super.apply( event );
+			}
+		};
+		ResponseEntity<Void> response = webhook.apply( new ByteArrayInputStream(
+			"{\"id\":\"some-event-id\",\"type\":\"MESSAGE_STATUS\",\"channel\":\"sms\",\"messageId\":\"some-message-id\",\"messageStatus\":{\"code\":\"SENT\"}}".getBytes( StandardCharsets.UTF_8 )
+		) );
+		assertEquals( HttpStatus.NO_CONTENT, response.getStatusCode() );
+		assertEquals( 1, applied.size() );
+		assertEquals( "some-event-id", applied.get( 0 ).id );
+	}
+
 	private void assertResource(String expectedPath) {
 		assertEquals( 1, handlerMapping.getHandlerMethods().size() );
 		Entry<RequestMappingInfo, HandlerMethod> entry = handlerMapping.getHandlerMethods().entrySet().iterator().next();
@@ -213,7 +239,7 @@ public class WebhookControllerTest {
 		assertEquals( "POST", entry.getKey().getMethodsCondition().getMethods().iterator().next().name() );
 		assertEquals( "apply", entry.getValue().getMethod().getName() );
 		assertEquals( 1, entry.getValue().getMethodParameters().length );
-		assertEquals( Event.class, entry.getValue().getMethodParameters()[0].getParameterType() );
+		assertEquals( InputStream.class, entry.getValue().getMethodParameters()[0].getParameterType() );
 	}
 
 	private static class TestClient extends AbstractClient {